@@ -28,4 +28,13 @@ public class InventoryMapper {
         .build();
   }
 
+  public InventoryResponse convertEntityToResponse(Inventory inventory, int quantity) {
+    return InventoryResponse.builder()
+        .inventoryId(inventory.getInventoryId())
+        .product(inventory.getProduct())
+        .quantity(quantity)
+        .lastUpdate(inventory.getLastUpdate())
+        .build();
+  }
+
 }
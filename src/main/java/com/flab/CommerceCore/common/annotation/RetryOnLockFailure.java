@@ -0,0 +1,15 @@
+package com.flab.CommerceCore.common.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 락 대기 시간 초과나 데드락으로 트랜잭션이 실패하면 메서드(트랜잭션 전체)를 다시 실행한다.
+ * 이미 시작된 트랜잭션 안에서 호출되면 재시도하지 않고 바깥 트랜잭션에 맡긴다.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface RetryOnLockFailure {
+}
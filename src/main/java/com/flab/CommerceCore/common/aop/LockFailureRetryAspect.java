@@ -0,0 +1,143 @@
+package com.flab.CommerceCore.common.aop;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.OptimisticLockException;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * {@link com.flab.CommerceCore.common.annotation.RetryOnLockFailure} 가 붙은 메서드를 락 실패 시 재시도하는 Aspect
+ *
+ * 데드락 희생자, 락 대기 시간 초과, 낙관적 락(@Version) 충돌로 실패한 트랜잭션은 이미 롤백되었으므로
+ * 트랜잭션 전체를 다시 실행해야 한다. 그래서 트랜잭션 어드바이저보다 바깥에서 실행되도록 순서를 앞에 둔다.
+ *
+ * 재시도 간격은 지수 백오프에 full jitter 를 적용해 충돌한 요청들이 같은 시점에 다시 몰리지 않게 하고,
+ * 요청마다 최대 시도 횟수와 최대 소요 시간(재시도 예산)을 넘으면 포기한다.
+ * 재시도/포기 횟수는 트랜잭션이 건드린 상품별로 기록해 전략을 바꿀 상품을 찾는 데 사용한다.
+ * 상품 ID 를 그대로 태그로 쓰면 상품 수만큼 미터가 늘어나므로, 지켜볼 상품(inventory.lock.metrics.product-ids)만
+ * 상품 ID 로 기록하고 나머지는 other 로 묶는다.
+ */
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+public class LockFailureRetryAspect {
+
+  private static final String UNKNOWN_PRODUCT = "unknown";
+  private static final String OTHER_PRODUCTS = "other";
+
+  private final MeterRegistry meterRegistry;
+  private final int maxAttempts;
+  private final long baseBackoffMillis;
+  private final long maxBackoffMillis;
+  private final long maxElapsedMillis;
+  private final Set<Long> taggedProductIds;
+
+  @Autowired
+  public LockFailureRetryAspect(MeterRegistry meterRegistry,
+      @Value("${inventory.lock.retry.max-attempts:5}") int maxAttempts,
+      @Value("${inventory.lock.retry.base-backoff-ms:10}") long baseBackoffMillis,
+      @Value("${inventory.lock.retry.max-backoff-ms:200}") long maxBackoffMillis,
+      @Value("${inventory.lock.retry.max-elapsed-ms:2000}") long maxElapsedMillis,
+      @Value("${inventory.lock.metrics.product-ids:}") List<Long> taggedProductIds) {
+    this.meterRegistry = meterRegistry;
+    this.maxAttempts = maxAttempts;
+    this.baseBackoffMillis = baseBackoffMillis;
+    this.maxBackoffMillis = maxBackoffMillis;
+    this.maxElapsedMillis = maxElapsedMillis;
+    this.taggedProductIds = new HashSet<>(taggedProductIds);
+  }
+
+  @Around("@annotation(com.flab.CommerceCore.common.annotation.RetryOnLockFailure)")
+  public Object retry(ProceedingJoinPoint joinPoint) throws Throwable {
+    // 바깥 트랜잭션에 참여하는 경우 여기서 다시 실행해도 같은 (롤백 예정) 트랜잭션이므로 재시도하지 않는다
+    if (TransactionSynchronizationManager.isActualTransactionActive() || LockRetryContext.isOpen()) {
+      return joinPoint.proceed();
+    }
+
+    LockRetryContext.open();
+    try {
+      return proceedWithRetry(joinPoint);
+    } finally {
+      LockRetryContext.close();
+    }
+  }
+
+  private Object proceedWithRetry(ProceedingJoinPoint joinPoint) throws Throwable {
+    long deadline = System.currentTimeMillis() + maxElapsedMillis;
+    int attempt = 1;
+    while (true) {
+      LockRetryContext.touchedProducts().clear();
+      long backoff = backoffMillis(attempt);
+      boolean retrying = false;
+      try {
+        return joinPoint.proceed();
+      } catch (ConcurrencyFailureException | QueryTimeoutException | OptimisticLockException error) {
+        if (attempt >= maxAttempts || System.currentTimeMillis() + backoff > deadline) {
+          increment("inventory.lock.aborts");
+          log.error("[Lock failure in {}] 재시도 예산 초과 {}/{} products: {} - Message: {}",
+              joinPoint.getSignature(), attempt, maxAttempts, LockRetryContext.touchedProducts(),
+              error.getMessage());
+          throw error;
+        }
+        retrying = true;
+        increment("inventory.lock.retries");
+        log.warn("락 충돌 재시도 {}/{} {}ms 후 products: {} - {}", attempt, maxAttempts, backoff,
+            LockRetryContext.touchedProducts(), joinPoint.getSignature());
+      } finally {
+        // 성공, 포기, 락과 무관한 예외로 끝난 트랜잭션을 모두 센다 (재시도할 시도는 다음 시도에서 센다)
+        if (!retrying) {
+          increment("inventory.lock.transactions");
+        }
+      }
+      Thread.sleep(backoff);
+      attempt++;
+    }
+  }
+
+  /**
+   * 지수 백오프 상한 안에서 무작위로 대기 시간을 고른다 (full jitter)
+   */
+  private long backoffMillis(int attempt) {
+    long ceiling = Math.min(maxBackoffMillis, baseBackoffMillis << Math.min(attempt - 1, 20));
+    return ThreadLocalRandom.current().nextLong(ceiling + 1);
+  }
+
+  private void increment(String name) {
+    Set<Long> productIds = LockRetryContext.touchedProducts();
+    if (productIds.isEmpty()) {
+      counter(name, UNKNOWN_PRODUCT).increment();
+      return;
+    }
+    // 지켜보지 않는 상품을 여러 개 건드려도 other 는 한 번만 센다
+    Set<String> tags = new LinkedHashSet<>();
+    for (Long productId : productIds) {
+      tags.add(taggedProductIds.contains(productId) ? String.valueOf(productId) : OTHER_PRODUCTS);
+    }
+    for (String tag : tags) {
+      counter(name, tag).increment();
+    }
+  }
+
+  private Counter counter(String name, String productId) {
+    return Counter.builder(name)
+        .tag("productId", productId)
+        .register(meterRegistry);
+  }
+}
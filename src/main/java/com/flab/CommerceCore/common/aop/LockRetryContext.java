@@ -0,0 +1,45 @@
+package com.flab.CommerceCore.common.aop;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 재시도 대상 트랜잭션이 어떤 상품의 재고를 건드렸는지 기록하는 스레드 로컬 컨텍스트
+ * 재시도/포기 메트릭을 상품별로 남기는 데 사용하며, 재시도 Aspect 밖에서 호출하면 아무 일도 하지 않는다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class LockRetryContext {
+
+  private static final ThreadLocal<Set<Long>> TOUCHED_PRODUCTS = new ThreadLocal<>();
+
+  /**
+   * 현재 트랜잭션에서 재고를 변경한 상품을 기록
+   *
+   * @param productId 상품 ID
+   */
+  public static void touch(Long productId) {
+    Set<Long> productIds = TOUCHED_PRODUCTS.get();
+    if (productIds != null && productId != null) {
+      productIds.add(productId);
+    }
+  }
+
+  static boolean isOpen() {
+    return TOUCHED_PRODUCTS.get() != null;
+  }
+
+  static void open() {
+    TOUCHED_PRODUCTS.set(new LinkedHashSet<>());
+  }
+
+  static Set<Long> touchedProducts() {
+    Set<Long> productIds = TOUCHED_PRODUCTS.get();
+    return productIds == null ? Set.of() : productIds;
+  }
+
+  static void close() {
+    TOUCHED_PRODUCTS.remove();
+  }
+}
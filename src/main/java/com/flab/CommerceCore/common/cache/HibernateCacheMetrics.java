@@ -0,0 +1,65 @@
+package com.flab.CommerceCore.common.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.ToLongFunction;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hibernate 2차 캐시 영역별 적중, 미스, 저장 수를 Micrometer 에 등록하는 컴포넌트
+ * hibernate.generate_statistics 가 꺼져 있으면 등록하지 않는다.
+ * 이름을 지정한 쿼리 캐시 영역은 처음 쓰일 때 만들어지므로 query-regions 에 따로 적어 둔다.
+ */
+@Component
+public class HibernateCacheMetrics {
+
+  private final Statistics statistics;
+  private final MeterRegistry meterRegistry;
+  private final List<String> queryRegions;
+
+  @Autowired
+  public HibernateCacheMetrics(EntityManagerFactory entityManagerFactory, MeterRegistry meterRegistry,
+      @Value("${cache.metrics.query-regions:}") List<String> queryRegions) {
+    this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    this.meterRegistry = meterRegistry;
+    this.queryRegions = queryRegions;
+  }
+
+  @PostConstruct
+  public void bind() {
+    if (!statistics.isStatisticsEnabled()) {
+      return;
+    }
+    Set<String> regions = new LinkedHashSet<>(Arrays.asList(statistics.getSecondLevelCacheRegionNames()));
+    regions.addAll(queryRegions);
+    for (String region : regions) {
+      register("hibernate.cache.gets", region, "hit", CacheRegionStatistics::getHitCount);
+      register("hibernate.cache.gets", region, "miss", CacheRegionStatistics::getMissCount);
+      register("hibernate.cache.puts", region, null, CacheRegionStatistics::getPutCount);
+    }
+  }
+
+  private void register(String name, String region, String result, ToLongFunction<CacheRegionStatistics> count) {
+    FunctionCounter.Builder<Statistics> builder = FunctionCounter.builder(name, statistics, stats -> {
+          // 영역 통계는 처음 조회할 때 만들어지므로 매번 이름으로 찾는다
+          CacheRegionStatistics regionStatistics = stats.getCacheRegionStatistics(region);
+          return regionStatistics == null ? 0 : count.applyAsLong(regionStatistics);
+        })
+        .tag("region", region);
+    if (result != null) {
+      builder.tag("result", result);
+    }
+    builder.register(meterRegistry);
+  }
+}
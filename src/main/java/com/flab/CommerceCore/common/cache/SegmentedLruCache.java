@@ -0,0 +1,229 @@
+package com.flab.CommerceCore.common.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * 크기와 TTL 로 제한되는 Segmented LRU 캐시
+ *
+ * 새 항목은 probation 구간에 들어가고, 한 번 더 조회되어야 protected 구간으로 올라간다.
+ * protected 가 가득 차면 가장 오래 안 쓰인 항목을 probation 으로 내리고,
+ * probation 이 가득 차면 가장 오래 안 쓰인 항목을 버린다.
+ * 한 번만 조회되고 마는 상품들이 자주 조회되는 상품을 밀어내지 않도록 하기 위한 구조이다.
+ *
+ * 로딩은 락 밖에서 하므로 같은 키가 동시에 여러 번 로딩될 수 있다.
+ * 로딩 중에 무효화가 일어나면 읽어 온 값은 오래된 값일 수 있으므로 저장하지 않는다.
+ *
+ * @param <K> 키 타입
+ * @param <V> 값 타입 (null 은 저장하지 않는다)
+ */
+public class SegmentedLruCache<K, V> {
+
+  private static final double PROTECTED_RATIO = 0.8;
+
+  private final int maxSize;
+  private final int protectedSize;
+  private final long ttlNanos;
+  private final LongSupplier clock;
+
+  private final LinkedHashMap<K, Entry<V>> probation = new LinkedHashMap<>(16, 0.75f, true);
+  private final LinkedHashMap<K, Entry<V>> protectedSegment = new LinkedHashMap<>(16, 0.75f, true);
+
+  // 무효화될 때마다 증가하며, 로딩 시작 시점과 다르면 로딩 결과를 저장하지 않는다
+  private long invalidations;
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+  private final LongAdder expirations = new LongAdder();
+  private final LongAdder loads = new LongAdder();
+  private final LongAdder loadNanos = new LongAdder();
+
+  public SegmentedLruCache(int maxSize, long ttlNanos) {
+    this(maxSize, ttlNanos, System::nanoTime);
+  }
+
+  SegmentedLruCache(int maxSize, long ttlNanos, LongSupplier clock) {
+    if (maxSize < 2 || ttlNanos <= 0) {
+      throw new IllegalArgumentException("캐시 크기는 2 이상, TTL 은 0보다 커야 합니다.");
+    }
+    this.maxSize = maxSize;
+    this.protectedSize = Math.max(1, (int) (maxSize * PROTECTED_RATIO));
+    this.ttlNanos = ttlNanos;
+    this.clock = clock;
+  }
+
+  /**
+   * 캐시된 값을 반환하고, 없거나 만료되었으면 loader 로 읽어 저장하는 메서드
+   * loader 가 예외를 던지면 아무것도 저장하지 않고 그대로 전달한다.
+   *
+   * @param key 조회할 키
+   * @param loader 캐시에 없을 때 값을 읽어 오는 함수
+   * @return 캐시된 값 또는 새로 읽은 값
+   */
+  public V get(K key, Function<K, V> loader) {
+    long version;
+    synchronized (this) {
+      V cached = find(key);
+      if (cached != null) {
+        hits.increment();
+        return cached;
+      }
+      misses.increment();
+      version = invalidations;
+    }
+
+    long startNanos = System.nanoTime();
+    V loaded = loader.apply(key);
+    loads.increment();
+    loadNanos.add(System.nanoTime() - startNanos);
+
+    if (loaded != null) {
+      synchronized (this) {
+        if (version == invalidations) {
+          put(key, loaded);
+        }
+      }
+    }
+    return loaded;
+  }
+
+  /**
+   * 키의 값을 지우는 메서드
+   * 지금 로딩 중인 값도 저장되지 않도록 한다.
+   */
+  public synchronized void invalidate(K key) {
+    invalidations++;
+    probation.remove(key);
+    protectedSegment.remove(key);
+  }
+
+  public synchronized void invalidateAll() {
+    invalidations++;
+    probation.clear();
+    protectedSegment.clear();
+  }
+
+  public synchronized int size() {
+    return probation.size() + protectedSegment.size();
+  }
+
+  public int getMaxSize() {
+    return maxSize;
+  }
+
+  public long getHitCount() {
+    return hits.sum();
+  }
+
+  public long getMissCount() {
+    return misses.sum();
+  }
+
+  /**
+   * 크기 제한 때문에 버려진 항목 수 (TTL 만료는 포함하지 않는다)
+   */
+  public long getEvictionCount() {
+    return evictions.sum();
+  }
+
+  public long getExpirationCount() {
+    return expirations.sum();
+  }
+
+  public long getLoadCount() {
+    return loads.sum();
+  }
+
+  public long getTotalLoadNanos() {
+    return loadNanos.sum();
+  }
+
+  /**
+   * 조회 중 캐시에서 바로 반환한 비율 (조회가 없으면 0)
+   */
+  public double getHitRatio() {
+    long hitCount = hits.sum();
+    long total = hitCount + misses.sum();
+    return total == 0 ? 0 : (double) hitCount / total;
+  }
+
+  private V find(K key) {
+    long now = clock.getAsLong();
+    Entry<V> entry = protectedSegment.get(key);
+    if (entry != null) {
+      if (entry.isExpired(now)) {
+        protectedSegment.remove(key);
+        expirations.increment();
+        return null;
+      }
+      return entry.value;
+    }
+
+    entry = probation.remove(key);
+    if (entry == null) {
+      return null;
+    }
+    if (entry.isExpired(now)) {
+      expirations.increment();
+      return null;
+    }
+    // 두 번째 조회이므로 protected 로 올린다
+    protectedSegment.put(key, entry);
+    if (protectedSegment.size() > protectedSize) {
+      demoteEldest();
+    }
+    return entry.value;
+  }
+
+  private void put(K key, V value) {
+    Entry<V> entry = new Entry<>(value, clock.getAsLong() + ttlNanos);
+    if (protectedSegment.containsKey(key)) {
+      protectedSegment.put(key, entry);
+      return;
+    }
+    probation.put(key, entry);
+    while (probation.size() + protectedSegment.size() > maxSize) {
+      if (!evictEldest(probation)) {
+        evictEldest(protectedSegment);
+      }
+    }
+  }
+
+  private void demoteEldest() {
+    Iterator<Map.Entry<K, Entry<V>>> iterator = protectedSegment.entrySet().iterator();
+    Map.Entry<K, Entry<V>> eldest = iterator.next();
+    iterator.remove();
+    probation.put(eldest.getKey(), eldest.getValue());
+  }
+
+  private boolean evictEldest(LinkedHashMap<K, Entry<V>> segment) {
+    Iterator<Map.Entry<K, Entry<V>>> iterator = segment.entrySet().iterator();
+    if (!iterator.hasNext()) {
+      return false;
+    }
+    iterator.next();
+    iterator.remove();
+    evictions.increment();
+    return true;
+  }
+
+  private static class Entry<V> {
+
+    private final V value;
+    private final long expiresAt;
+
+    private Entry(V value, long expiresAt) {
+      this.value = value;
+      this.expiresAt = expiresAt;
+    }
+
+    private boolean isExpired(long now) {
+      return now - expiresAt >= 0;
+    }
+  }
+}
@@ -0,0 +1,132 @@
+package com.flab.CommerceCore.common.collection;
+
+/**
+ * long 키, int 값을 박싱 없이 저장하는 해시 맵 (오픈 어드레싱, 선형 탐사)
+ *
+ * 상품 ID → 재고 수량처럼 키와 값이 모두 기본형인 조회 결과를 담는 용도로,
+ * HashMap<Long, Integer> 의 엔트리·박싱 객체 없이 배열 두 개에 저장한다.
+ * 삭제는 지원하지 않으며 스레드 안전하지 않다.
+ */
+public class LongIntHashMap {
+
+  private static final float LOAD_FACTOR = 0.5f;
+
+  private long[] keys;
+  private int[] values;
+  private boolean[] used;
+  private int mask;
+  private int size;
+
+  public LongIntHashMap() {
+    this(16);
+  }
+
+  /**
+   * @param expectedSize 예상 엔트리 수 (재해싱 없이 담을 수 있도록 용량을 잡는다)
+   */
+  public LongIntHashMap(int expectedSize) {
+    allocate(capacityFor(Math.max(expectedSize, 1)));
+  }
+
+  /**
+   * 값을 저장하는 메서드 (같은 키가 있으면 덮어쓴다)
+   */
+  public void put(long key, int value) {
+    int index = indexOf(key);
+    if (used[index]) {
+      values[index] = value;
+      return;
+    }
+    keys[index] = key;
+    values[index] = value;
+    used[index] = true;
+    if (++size > keys.length * LOAD_FACTOR) {
+      rehash(keys.length << 1);
+    }
+  }
+
+  /**
+   * 키의 값을 반환하는 메서드 (없으면 defaultValue)
+   */
+  public int getOrDefault(long key, int defaultValue) {
+    int index = indexOf(key);
+    return used[index] ? values[index] : defaultValue;
+  }
+
+  public boolean containsKey(long key) {
+    return used[indexOf(key)];
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * 키가 있는 슬롯 또는 키가 들어갈 빈 슬롯의 위치
+   */
+  private int indexOf(long key) {
+    int index = mix(key) & mask;
+    while (used[index] && keys[index] != key) {
+      index = (index + 1) & mask;
+    }
+    return index;
+  }
+
+  private void rehash(int capacity) {
+    long[] oldKeys = keys;
+    int[] oldValues = values;
+    boolean[] oldUsed = used;
+    allocate(capacity);
+    for (int i = 0; i < oldKeys.length; i++) {
+      if (oldUsed[i]) {
+        int index = indexOf(oldKeys[i]);
+        keys[index] = oldKeys[i];
+        values[index] = oldValues[i];
+        used[index] = true;
+      }
+    }
+  }
+
+  private void allocate(int capacity) {
+    keys = new long[capacity];
+    values = new int[capacity];
+    used = new boolean[capacity];
+    mask = capacity - 1;
+  }
+
+  private static int capacityFor(int expectedSize) {
+    int capacity = Integer.highestOneBit((int) Math.ceil(expectedSize / LOAD_FACTOR) - 1) << 1;
+    return Math.max(capacity, 2);
+  }
+
+  /**
+   * 연속된 ID 가 인접 슬롯에 몰리지 않도록 비트를 섞는다 (MurmurHash3 finalizer)
+   */
+  private static int mix(long key) {
+    long h = key;
+    h ^= h >>> 33;
+    h *= 0xff51afd7ed558ccdL;
+    h ^= h >>> 33;
+    h *= 0xc4ceb9fe1a85ec53L;
+    h ^= h >>> 33;
+    return (int) h;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder("{");
+    for (int i = 0; i < keys.length; i++) {
+      if (used[i]) {
+        if (builder.length() > 1) {
+          builder.append(", ");
+        }
+        builder.append(keys[i]).append('=').append(values[i]);
+      }
+    }
+    return builder.append('}').toString();
+  }
+}
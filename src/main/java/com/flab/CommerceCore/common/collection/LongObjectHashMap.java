@@ -0,0 +1,118 @@
+package com.flab.CommerceCore.common.collection;
+
+/**
+ * long 키를 박싱 없이 저장하는 해시 맵 (오픈 어드레싱, 선형 탐사)
+ *
+ * 상품 ID → 상품 엔티티처럼 키만 기본형인 조회 결과를 담는 용도로,
+ * HashMap<Long, V> 의 Long 키 객체와 엔트리 객체 없이 배열 두 개에 저장한다.
+ * null 값은 저장할 수 없고, 삭제는 지원하지 않으며 스레드 안전하지 않다.
+ *
+ * @param <V> 값 타입
+ */
+public class LongObjectHashMap<V> {
+
+  private static final float LOAD_FACTOR = 0.5f;
+
+  private long[] keys;
+  private Object[] values;
+  private int mask;
+  private int size;
+
+  public LongObjectHashMap() {
+    this(16);
+  }
+
+  /**
+   * @param expectedSize 예상 엔트리 수 (재해싱 없이 담을 수 있도록 용량을 잡는다)
+   */
+  public LongObjectHashMap(int expectedSize) {
+    allocate(capacityFor(Math.max(expectedSize, 1)));
+  }
+
+  /**
+   * 값을 저장하는 메서드 (같은 키가 있으면 덮어쓴다)
+   */
+  public void put(long key, V value) {
+    if (value == null) {
+      throw new IllegalArgumentException("null 값은 저장할 수 없습니다.");
+    }
+    int index = indexOf(key);
+    if (values[index] != null) {
+      values[index] = value;
+      return;
+    }
+    keys[index] = key;
+    values[index] = value;
+    if (++size > keys.length * LOAD_FACTOR) {
+      rehash(keys.length << 1);
+    }
+  }
+
+  /**
+   * 키의 값을 반환하는 메서드 (없으면 null)
+   */
+  @SuppressWarnings("unchecked")
+  public V get(long key) {
+    return (V) values[indexOf(key)];
+  }
+
+  public boolean containsKey(long key) {
+    return values[indexOf(key)] != null;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * 키가 있는 슬롯 또는 키가 들어갈 빈 슬롯의 위치 (빈 슬롯은 값이 null)
+   */
+  private int indexOf(long key) {
+    int index = mix(key) & mask;
+    while (values[index] != null && keys[index] != key) {
+      index = (index + 1) & mask;
+    }
+    return index;
+  }
+
+  private void rehash(int capacity) {
+    long[] oldKeys = keys;
+    Object[] oldValues = values;
+    allocate(capacity);
+    for (int i = 0; i < oldKeys.length; i++) {
+      if (oldValues[i] != null) {
+        int index = indexOf(oldKeys[i]);
+        keys[index] = oldKeys[i];
+        values[index] = oldValues[i];
+      }
+    }
+  }
+
+  private void allocate(int capacity) {
+    keys = new long[capacity];
+    values = new Object[capacity];
+    mask = capacity - 1;
+  }
+
+  private static int capacityFor(int expectedSize) {
+    int capacity = Integer.highestOneBit((int) Math.ceil(expectedSize / LOAD_FACTOR) - 1) << 1;
+    return Math.max(capacity, 2);
+  }
+
+  /**
+   * 연속된 ID 가 인접 슬롯에 몰리지 않도록 비트를 섞는다 (MurmurHash3 finalizer)
+   */
+  private static int mix(long key) {
+    long h = key;
+    h ^= h >>> 33;
+    h *= 0xff51afd7ed558ccdL;
+    h ^= h >>> 33;
+    h *= 0xc4ceb9fe1a85ec53L;
+    h ^= h >>> 33;
+    return (int) h;
+  }
+}
@@ -0,0 +1,177 @@
+package com.flab.CommerceCore.common.collection;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 키 수를 미리 몰라도 오탐률을 유지하며 커지는 Bloom 필터 (Scalable Bloom Filter)
+ *
+ * 없다고 답한 키는 확실히 넣은 적이 없는 키이고, 있다고 답한 키는 falsePositiveRate 확률로 틀릴 수 있다.
+ * 마지막 단계가 용량만큼 차면 용량을 두 배로, 오탐률을 절반으로 줄인 단계를 추가하므로
+ * 전체 오탐률은 단계 수와 관계없이 falsePositiveRate 를 넘지 않는다.
+ * 삭제는 지원하지 않으며, 추가와 조회는 락 없이 여러 스레드에서 호출할 수 있다.
+ */
+public class ScalableBloomFilter {
+
+  private static final int GROWTH = 2;
+  private static final double TIGHTENING = 0.5;
+
+  private final List<Stage> stages = new CopyOnWriteArrayList<>();
+
+  /**
+   * @param initialCapacity 첫 단계에 담을 키 수
+   * @param falsePositiveRate 전체 오탐률 (0 ~ 1)
+   */
+  public ScalableBloomFilter(int initialCapacity, double falsePositiveRate) {
+    if (initialCapacity <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+      throw new IllegalArgumentException("용량은 0보다 크고, 오탐률은 0과 1 사이여야 합니다.");
+    }
+    // 단계별 오탐률 p(1-r), p(1-r)r, p(1-r)r^2 ... 의 합이 p 가 되도록 첫 단계를 잡는다
+    stages.add(new Stage(initialCapacity, falsePositiveRate * (1 - TIGHTENING)));
+  }
+
+  /**
+   * 키를 넣은 적이 있을 수도 있는지 확인하는 메서드
+   *
+   * @return false 면 확실히 넣은 적이 없는 키
+   */
+  public boolean mightContain(String key) {
+    long hash1 = hash(key);
+    long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L);
+    for (Stage stage : stages) {
+      if (stage.mightContain(hash1, hash2)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * 키를 넣는 메서드 (이미 있다고 판단되는 키는 다시 넣지 않는다)
+   */
+  public void put(String key) {
+    long hash1 = hash(key);
+    long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L);
+    for (Stage stage : stages) {
+      if (stage.mightContain(hash1, hash2)) {
+        return;
+      }
+    }
+    Stage last = stages.get(stages.size() - 1);
+    if (last.count.get() >= last.capacity) {
+      last = grow(last);
+    }
+    last.put(hash1, hash2);
+  }
+
+  /**
+   * 넣은 키 수 (이미 있다고 판단되어 건너뛴 키는 제외한 근사값)
+   */
+  public long approximateSize() {
+    long size = 0;
+    for (Stage stage : stages) {
+      size += stage.count.get();
+    }
+    return size;
+  }
+
+  public int getStageCount() {
+    return stages.size();
+  }
+
+  /**
+   * 필터가 사용하는 비트 수
+   */
+  public long getBitCount() {
+    long bits = 0;
+    for (Stage stage : stages) {
+      bits += stage.bitCount;
+    }
+    return bits;
+  }
+
+  private synchronized Stage grow(Stage full) {
+    Stage last = stages.get(stages.size() - 1);
+    if (last != full) {
+      // 다른 스레드가 먼저 늘렸다
+      return last;
+    }
+    int capacity = (int) Math.min(Integer.MAX_VALUE, (long) full.capacity * GROWTH);
+    Stage next = new Stage(capacity, full.falsePositiveRate * TIGHTENING);
+    stages.add(next);
+    return next;
+  }
+
+  /**
+   * 문자열의 64비트 해시 (FNV-1a 후 섞기)
+   */
+  private static long hash(String key) {
+    long hash = 0xcbf29ce484222325L;
+    for (int i = 0; i < key.length(); i++) {
+      hash ^= key.charAt(i);
+      hash *= 0x100000001b3L;
+    }
+    return mix(hash);
+  }
+
+  private static long mix(long value) {
+    value ^= value >>> 33;
+    value *= 0xff51afd7ed558ccdL;
+    value ^= value >>> 33;
+    value *= 0xc4ceb9fe1a85ec53L;
+    value ^= value >>> 33;
+    return value;
+  }
+
+  /**
+   * 고정 용량 Bloom 필터 한 단계
+   * 해시 두 개를 조합(hash1 + i * hash2)해 k 개의 비트 위치를 만든다.
+   */
+  private static class Stage {
+
+    private final int capacity;
+    private final double falsePositiveRate;
+    private final long bitCount;
+    private final int hashCount;
+    private final AtomicLongArray words;
+    private final AtomicInteger count = new AtomicInteger();
+
+    private Stage(int capacity, double falsePositiveRate) {
+      this.capacity = capacity;
+      this.falsePositiveRate = falsePositiveRate;
+      // m = -n ln p / (ln 2)^2, k = m / n ln 2
+      long bits = (long) Math.ceil(-capacity * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+      this.bitCount = Math.max(64, (bits + 63) & ~63L);
+      this.hashCount = Math.max(1, (int) Math.round((double) bitCount / capacity * Math.log(2)));
+      this.words = new AtomicLongArray(Math.toIntExact(bitCount >>> 6));
+    }
+
+    private boolean mightContain(long hash1, long hash2) {
+      for (int i = 0; i < hashCount; i++) {
+        long bit = Math.floorMod(hash1 + i * hash2, bitCount);
+        if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    private void put(long hash1, long hash2) {
+      for (int i = 0; i < hashCount; i++) {
+        long bit = Math.floorMod(hash1 + i * hash2, bitCount);
+        int index = (int) (bit >>> 6);
+        long mask = 1L << bit;
+        long word;
+        do {
+          word = words.get(index);
+          if ((word & mask) != 0) {
+            break;
+          }
+        } while (!words.compareAndSet(index, word, word | mask));
+      }
+      count.incrementAndGet();
+    }
+  }
+}
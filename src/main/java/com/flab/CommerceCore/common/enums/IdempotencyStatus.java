@@ -0,0 +1,6 @@
+package com.flab.CommerceCore.common.enums;
+
+public enum IdempotencyStatus {
+  IN_PROGRESS,
+  COMPLETED;
+}
@@ -0,0 +1,23 @@
+package com.flab.CommerceCore.common.enums;
+
+/**
+ * 재고 원장에 기록되는 재고 변경 사유
+ */
+public enum InventoryLedgerReason {
+  // 원장 도입 이전부터 있던 재고의 기초 수량
+  OPENING_BALANCE,
+  // 재고 생성
+  INITIAL,
+  // 주문(예약)에 의한 차감
+  ORDER,
+  // 주문 취소에 의한 복원
+  ORDER_CANCEL,
+  // 예약 만료에 의한 복원
+  RESERVATION_EXPIRED,
+  // 관리자 재고 감소
+  MANUAL_DECREASE,
+  // 관리자 재고 증가
+  MANUAL_INCREASE,
+  // 관리자 재고 수량 변경
+  MANUAL_UPDATE
+}
@@ -0,0 +1,13 @@
+package com.flab.CommerceCore.common.enums;
+
+/**
+ * 주문 시 재고 차감에 사용할 동시성 제어 방식
+ */
+public enum InventoryLockMode {
+  // 상품마다 조건부 UPDATE 한 번으로 차감
+  ATOMIC_UPDATE,
+  // 주문에 포함된 재고 행을 상품 ID 순서로 SELECT ... FOR UPDATE 한 뒤 차감
+  PESSIMISTIC,
+  // 락 없이 읽고 커밋 시 @Version 으로 충돌을 검사, 충돌하면 트랜잭션 전체를 재시도
+  OPTIMISTIC
+}
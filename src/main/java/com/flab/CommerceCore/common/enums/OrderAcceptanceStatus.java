@@ -0,0 +1,19 @@
+package com.flab.CommerceCore.common.enums;
+
+/**
+ * 비동기로 접수된 주문의 처리 단계
+ */
+public enum OrderAcceptanceStatus {
+  // 접수되어 검증 대기 중
+  QUEUED,
+  // 유저, 상품, 재고 존재 여부 검증 중
+  VALIDATING,
+  // 검증을 통과하여 주문 처리 대기 중
+  VALIDATED,
+  // 재고 예약, 결제, 주문 저장 중 (한 트랜잭션)
+  PROCESSING,
+  // 주문 생성 완료
+  COMPLETED,
+  // 검증 또는 주문 처리 실패
+  FAILED
+}
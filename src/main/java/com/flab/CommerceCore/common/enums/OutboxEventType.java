@@ -0,0 +1,13 @@
+package com.flab.CommerceCore.common.enums;
+
+/**
+ * 아웃박스로 외부 시스템에 전달하는 주문 생애주기 이벤트 종류
+ */
+public enum OutboxEventType {
+  // 주문 생성
+  ORDER_CREATED,
+  // 주문 취소
+  ORDER_CANCELLED,
+  // 결제 완료
+  PAYMENT_COMPLETED
+}
@@ -0,0 +1,8 @@
+package com.flab.CommerceCore.common.enums;
+
+public enum ReservationStatus {
+  RESERVED,
+  CONFIRMED,
+  RELEASED,
+  EXPIRED;
+}
@@ -2,7 +2,11 @@ package com.flab.CommerceCore.common.enums;
 
 public enum Status {
     PROCESSING,
+    // 결제 결과를 알 수 없어(PG 시간 초과, 장애) 확인을 기다리는 상태
+    PENDING,
     COMPLETED,
     FAILED,
-    CANCEL;
+    CANCEL,
+    // 주문 확정에 실패해 결제를 취소해야 하지만 PG 취소가 확인되지 않은 결제 (대사 작업이 취소를 다시 요청한다)
+    REFUND_REQUIRED;
 }
@@ -20,16 +20,30 @@ public enum ErrorCode {
   INVENTORY_NOT_FOUND(HttpStatus.NOT_FOUND, "재고를 찾을 수 없습니다.", "재고 ID[{}]로 찾을수 없습니다."),
   ORDER_NOT_FOUND(HttpStatus.NOT_FOUND, "주문 정보를 찾을 수 없습니다.", "주문 ID[{}]로 찾을 수 없습니다."),
   ORDER_ALREADY_CANCELED(HttpStatus.BAD_REQUEST, "이미 취소된 주문입니다.", "주문 ID[{}]는 이미 취소된 주문입니다."),
+  ORDER_NOT_CANCELABLE(HttpStatus.BAD_REQUEST, "취소할 수 없는 주문입니다.", "주문 ID[{}]는 [{}] 상태라 취소할 수 없습니다."),
+  ORDER_QUEUE_FULL(HttpStatus.TOO_MANY_REQUESTS, "주문 요청이 많아 접수할 수 없습니다. 잠시 후 다시 시도해 주세요.", "주문 접수 대기열이 가득 찼습니다. 용량: [{}]."),
+  ORDER_TOKEN_NOT_FOUND(HttpStatus.NOT_FOUND, "주문 접수 정보를 찾을 수 없습니다.", "주문 접수 토큰[{}]으로 찾을 수 없습니다."),
 
   NEGATIVE_AMOUNT(HttpStatus.BAD_REQUEST, "결제 금액은 음수가 될 수 없습니다.", "제공된 금액이 음수입니다: [{}]."),
   INSUFFICIENT_INVENTORY(HttpStatus.BAD_REQUEST,"재고가 부족합니다.","재고 : [{}]개 ,요청 : [{}]개"),
   PAYMENT_FAILED(HttpStatus.PAYMENT_REQUIRED, "결제에 실패했습니다.",""),
+  ORDER_CONFIRM_FAILED(HttpStatus.CONFLICT, "주문을 확정하지 못해 결제를 취소했습니다. 다시 주문해 주세요.", "주문 ID[{}]의 결제 승인 후 주문 확정에 실패했습니다. 결제 상태: [{}]"),
   NEGATIVE_QUANTITY(HttpStatus.BAD_REQUEST, "재고는 음수가 될 수 없습니다.", "제공된 재고가 음수입니다: [{}]."),
+  INVENTORY_DECREMENT_TIMEOUT(HttpStatus.SERVICE_UNAVAILABLE, "재고 차감 요청이 많아 처리할 수 없습니다.", "상품 ID[{}]의 재고 차감 대기 시간이 초과되었습니다."),
+  RESERVATION_EXPIRED(HttpStatus.CONFLICT, "재고 예약 시간이 만료되었습니다.", "예약 ID{} 중 만료되었거나 이미 처리된 예약이 있습니다."),
+  INVENTORY_LEDGER_DISABLED(HttpStatus.NOT_FOUND, "재고 원장이 기록되지 않고 있습니다.", "상품 ID[{}]의 시점 재고를 조회하려면 inventory.ledger.enabled 가 필요합니다."),
+  RESERVATION_LIMIT_EXCEEDED(HttpStatus.SERVICE_UNAVAILABLE, "재고 예약 요청이 많아 처리할 수 없습니다.", "대기 중인 예약 수가 최대치({})를 넘었습니다."),
 
   DUPLICATED_USER_EMAIL(HttpStatus.BAD_REQUEST,"중복된 email 입니다.","email : [{}]"),
   DUPLICATED_PRODUCT(HttpStatus.BAD_REQUEST,"이미 등록된 상품 입니다.","product_name : [{}]"),
 
-  REQUIRED_FIELD_NULL(HttpStatus.BAD_REQUEST,"입력란이 부족합니다.","");
+  REQUIRED_FIELD_NULL(HttpStatus.BAD_REQUEST,"입력란이 부족합니다.",""),
+  INVALID_BULK_REQUEST(HttpStatus.BAD_REQUEST, "일괄 요청 본문을 읽을 수 없습니다.", "{}번째 행 이후의 요청 본문이 올바른 JSON 배열이 아닙니다."),
+  INVALID_CURSOR(HttpStatus.BAD_REQUEST, "페이지 커서가 올바르지 않습니다.", "cursor : [{}]"),
+  INVALID_SEARCH_QUERY(HttpStatus.BAD_REQUEST, "검색어가 올바르지 않습니다.", "query : [{}]"),
+  INVALID_IDEMPOTENCY_KEY(HttpStatus.BAD_REQUEST, "Idempotency-Key 가 올바르지 않습니다.", "Idempotency-Key : [{}]"),
+  IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "같은 Idempotency-Key 로 다른 요청을 보낼 수 없습니다.", "Idempotency-Key[{}] 가 다른 요청 본문으로 재사용되었습니다."),
+  IDEMPOTENCY_REQUEST_IN_PROGRESS(HttpStatus.CONFLICT, "같은 Idempotency-Key 의 요청을 처리하고 있습니다. 잠시 후 다시 시도해 주세요.", "Idempotency-Key[{}] 의 첫 요청 처리를 기다리다 시간이 초과되었습니다.");
 
 
 
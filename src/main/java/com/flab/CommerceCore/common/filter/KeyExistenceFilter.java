@@ -0,0 +1,142 @@
+package com.flab.CommerceCore.common.filter;
+
+import com.flab.CommerceCore.common.collection.ScalableBloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 중복 검사 전에 "확실히 새 키" 인 경우를 DB 조회 없이 걸러 내는 노드별 Bloom 필터
+ *
+ * 애플리케이션이 뜨면 DB 의 키를 스트리밍으로 읽어 채우고, rebuild-interval-ms 마다 새로 만들어 바꿔 끼운다.
+ * (삭제된 키와 다른 노드가 추가한 키를 반영하기 위해서)
+ * 필터가 준비되기 전이나 다시 만드는 데 실패하면 모든 키를 "있을 수 있음" 으로 답해 DB 조회로 넘긴다.
+ *
+ * 다른 노드가 방금 추가한 키는 이 노드의 필터에 없으므로 "없음" 이 틀릴 수 있다.
+ * 따라서 필터는 조회를 줄이는 용도일 뿐이며, 중복의 최종 판단은 DB 의 유니크 인덱스가 한다.
+ */
+@Slf4j
+public abstract class KeyExistenceFilter {
+
+  private final String name;
+  private final TransactionTemplate transactionTemplate;
+  private final int initialCapacity;
+  private final double falsePositiveRate;
+
+  private volatile ScalableBloomFilter filter;
+  // 다시 만드는 중인 필터 (그 사이 추가된 키도 넣어야 한다)
+  private volatile ScalableBloomFilter rebuilding;
+
+  private final Counter absentChecks;
+  private final Counter possibleChecks;
+  private final Counter falsePositives;
+
+  protected KeyExistenceFilter(String name, PlatformTransactionManager transactionManager,
+      MeterRegistry meterRegistry, int initialCapacity, double falsePositiveRate) {
+    this.name = name;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate.setReadOnly(true);
+    this.initialCapacity = initialCapacity;
+    this.falsePositiveRate = falsePositiveRate;
+
+    this.absentChecks = Counter.builder("filter.checks")
+        .tag("filter", name).tag("result", "absent")
+        .description("DB 조회 없이 새 키로 판단한 수")
+        .register(meterRegistry);
+    this.possibleChecks = Counter.builder("filter.checks")
+        .tag("filter", name).tag("result", "possible")
+        .register(meterRegistry);
+    this.falsePositives = Counter.builder("filter.false.positives")
+        .tag("filter", name)
+        .description("필터는 있을 수 있다고 했지만 DB 에 없던 수")
+        .register(meterRegistry);
+    Gauge.builder("filter.keys", this, KeyExistenceFilter::approximateSize)
+        .tag("filter", name)
+        .register(meterRegistry);
+  }
+
+  /**
+   * 키가 이미 있을 수도 있는지 확인하는 메서드
+   *
+   * @return false 면 DB 를 조회하지 않아도 되는 새 키
+   */
+  public boolean mightContain(String key) {
+    ScalableBloomFilter current = filter;
+    if (current == null || current.mightContain(key)) {
+      possibleChecks.increment();
+      return true;
+    }
+    absentChecks.increment();
+    return false;
+  }
+
+  /**
+   * 새로 저장한 키를 넣는 메서드
+   */
+  public void put(String key) {
+    // 다시 만드는 중인 필터에 먼저 넣어야 바꿔 끼우는 사이에 빠지지 않는다
+    ScalableBloomFilter next = rebuilding;
+    if (next != null) {
+      next.put(key);
+    }
+    ScalableBloomFilter current = filter;
+    if (current != null) {
+      current.put(key);
+    }
+  }
+
+  /**
+   * 필터가 있을 수 있다고 했지만 DB 에 없었음을 기록하는 메서드
+   */
+  public void recordFalsePositive() {
+    falsePositives.increment();
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void warmUp() {
+    rebuild();
+  }
+
+  /**
+   * DB 의 키를 모두 읽어 새 필터를 만들고 바꿔 끼우는 메서드
+   * 실패하면 기존 필터를 그대로 쓴다.
+   */
+  @Scheduled(fixedDelayString = "${filter.rebuild-interval-ms:3600000}",
+      initialDelayString = "${filter.rebuild-interval-ms:3600000}")
+  public synchronized void rebuild() {
+    long startNanos = System.nanoTime();
+    ScalableBloomFilter next = new ScalableBloomFilter(initialCapacity, falsePositiveRate);
+    rebuilding = next;
+    try {
+      transactionTemplate.executeWithoutResult(status -> {
+        try (Stream<String> keys = scanKeys()) {
+          keys.forEach(next::put);
+        }
+      });
+      filter = next;
+      log.info("{} 필터 생성 keys: {}, stages: {}, bits: {}, {}ms", name, next.approximateSize(),
+          next.getStageCount(), next.getBitCount(), (System.nanoTime() - startNanos) / 1_000_000);
+    } catch (RuntimeException e) {
+      log.error("{} 필터 생성 실패, 기존 필터를 유지합니다.", name, e);
+    } finally {
+      rebuilding = null;
+    }
+  }
+
+  /**
+   * 필터에 넣을 키를 DB 에서 스트리밍으로 읽는 메서드 (읽기 전용 트랜잭션 안에서 호출된다)
+   */
+  protected abstract Stream<String> scanKeys();
+
+  private double approximateSize() {
+    ScalableBloomFilter current = filter;
+    return current == null ? 0 : current.approximateSize();
+  }
+}
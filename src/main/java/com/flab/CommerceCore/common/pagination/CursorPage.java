@@ -0,0 +1,20 @@
+package com.flab.CommerceCore.common.pagination;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+
+  private List<T> content;
+  // 다음 페이지 요청의 after 값 (마지막 페이지면 null)
+  private String nextCursor;
+  private boolean hasNext;
+
+}
@@ -0,0 +1,111 @@
+package com.flab.CommerceCore.common.pagination;
+
+import com.flab.CommerceCore.common.exceptions.BusinessException;
+import com.flab.CommerceCore.common.exceptions.ErrorCode;
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+/**
+ * 키셋(seek) 페이지네이션 도우미
+ *
+ * 커서는 마지막으로 내려준 행의 기본 키를 Base64(URL-safe) 로 감싼 불투명한 문자열이다.
+ * 조회는 "id > 커서" 조건과 id 정렬로 limit + 1 개만 읽어 다음 페이지 존재 여부를 판단하므로
+ * OFFSET 스캔과 count 쿼리가 없고, 페이지 깊이와 관계없이 인덱스에서 바로 시작 위치를 찾는다.
+ */
+@Slf4j
+@Component
+public class CursorPagination {
+
+  private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+  private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+  private final int defaultLimit;
+  private final int maxLimit;
+
+  @Autowired
+  public CursorPagination(
+      @Value("${pagination.default-limit:10}") int defaultLimit,
+      @Value("${pagination.max-limit:100}") int maxLimit) {
+    if (defaultLimit <= 0 || maxLimit < defaultLimit) {
+      throw new IllegalArgumentException("페이지 크기 설정이 올바르지 않습니다.");
+    }
+    this.defaultLimit = defaultLimit;
+    this.maxLimit = maxLimit;
+  }
+
+  /**
+   * 요청한 페이지 크기를 [1, maxLimit] 범위로 맞추는 메서드 (없으면 기본 크기)
+   */
+  public int resolveLimit(Integer limit) {
+    if (limit == null || limit <= 0) {
+      return defaultLimit;
+    }
+    return Math.min(limit, maxLimit);
+  }
+
+  /**
+   * limit 보다 하나 더 읽는 조회 조건을 만드는 메서드 (OFFSET 은 항상 0)
+   */
+  public Pageable seek(int limit) {
+    return PageRequest.ofSize(limit + 1);
+  }
+
+  /**
+   * 커서를 기본 키로 복원하는 메서드 (커서가 없으면 첫 페이지를 뜻하는 0)
+   *
+   * @throws BusinessException 커서 형식이 올바르지 않을 경우 발생
+   */
+  public long decode(String cursor) {
+    if (cursor == null || cursor.isBlank()) {
+      return 0L;
+    }
+    try {
+      byte[] bytes = DECODER.decode(cursor);
+      if (bytes.length == Long.BYTES) {
+        long id = ByteBuffer.wrap(bytes).getLong();
+        if (id >= 0) {
+          return id;
+        }
+      }
+    } catch (IllegalArgumentException e) {
+      // 아래에서 INVALID_CURSOR 로 처리
+    }
+    log.error(ErrorCode.INVALID_CURSOR.getDetail(), cursor);
+    throw BusinessException.create(ErrorCode.INVALID_CURSOR);
+  }
+
+  public String encode(long id) {
+    return ENCODER.encodeToString(ByteBuffer.allocate(Long.BYTES).putLong(id).array());
+  }
+
+  /**
+   * limit + 1 개까지 읽은 행으로 페이지를 만드는 메서드
+   *
+   * @param rows seek 조건으로 조회한 행 (id 오름차순)
+   * @param limit 페이지 크기
+   * @param idExtractor 행의 기본 키
+   * @param converter 응답 변환
+   * @return 다음 커서를 포함한 페이지
+   */
+  public <E, R> CursorPage<R> toPage(List<E> rows, int limit, ToLongFunction<E> idExtractor,
+      Function<E, R> converter) {
+    boolean hasNext = rows.size() > limit;
+    List<E> pageRows = hasNext ? rows.subList(0, limit) : rows;
+    String nextCursor = hasNext ? encode(idExtractor.applyAsLong(pageRows.get(limit - 1))) : null;
+
+    return CursorPage.<R>builder()
+        .content(pageRows.stream().map(converter).toList())
+        .nextCursor(nextCursor)
+        .hasNext(hasNext)
+        .build();
+  }
+}
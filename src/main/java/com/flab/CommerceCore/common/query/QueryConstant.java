@@ -6,8 +6,157 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class QueryConstant {
 
+  // 상품 ID 목록 조회의 쿼리 캐시 영역 (application.conf 에 영역 설정이 있다)
+  public static final String PRODUCT_QUERY_REGION = "product-query";
+
   public static final String FIND_INVENTORY_BY_PRODUCT_ID =
       "select i from Inventory i where i.product.productId = :productId";
   public static final String FIND_ALL_INVENTORY_BY_PRODUCT_ID =
       "select i from Inventory i where i.product.productId in :productIds";
+  public static final String FIND_ALL_INVENTORY_BY_PRODUCT_ID_ORDERED =
+      "select i from Inventory i where i.product.productId in :productIds order by i.product.productId";
+  public static final String FIND_PRODUCTS_WITH_INVENTORY =
+      "select p from Inventory i join i.product p where p.productId in :productIds";
+  public static final String FIND_QUANTITY_BY_PRODUCT_ID =
+      "select i.quantity from Inventory i where i.product.productId = :productId";
+  public static final String FIND_QUANTITIES_BY_PRODUCT_IDS =
+      "select i.product.productId, i.quantity from Inventory i where i.product.productId in :productIds";
+  public static final String DECREASE_INVENTORY_QUANTITY =
+      "update versioned Inventory i set i.quantity = i.quantity - :quantity, i.lastUpdate = local datetime "
+          + "where i.product.productId = :productId and i.quantity >= :quantity";
+  public static final String ADJUST_INVENTORY_QUANTITY =
+      "update versioned Inventory i set i.quantity = i.quantity + :delta, i.lastUpdate = local datetime "
+          + "where i.product.productId = :productId";
+
+  public static final String TRANSITION_RESERVATION_STATUS =
+      "update InventoryReservation r set r.status = :to "
+          + "where r.reservationId = :reservationId and r.status in :from";
+  public static final String FIND_RESERVED_EXPIRIES_AFTER =
+      "select r.reservationId, r.expiresAt from InventoryReservation r "
+          + "where r.status = com.flab.CommerceCore.common.enums.ReservationStatus.RESERVED "
+          + "and r.reservationId > :after order by r.reservationId";
+  public static final String FIND_OVERDUE_RESERVATION_IDS =
+      "select r.reservationId from InventoryReservation r "
+          + "where r.status = com.flab.CommerceCore.common.enums.ReservationStatus.RESERVED "
+          + "and r.expiresAt < :now and r.reservationId > :after order by r.reservationId";
+  public static final String ASSIGN_RESERVATIONS =
+      "update InventoryReservation r set r.orderId = :orderId "
+          + "where r.reservationId in :reservationIds "
+          + "and r.status = com.flab.CommerceCore.common.enums.ReservationStatus.RESERVED";
+  public static final String CONFIRM_RESERVATIONS =
+      "update InventoryReservation r set r.status = com.flab.CommerceCore.common.enums.ReservationStatus.CONFIRMED, "
+          + "r.orderId = :orderId "
+          + "where r.reservationId in :reservationIds "
+          + "and r.status = com.flab.CommerceCore.common.enums.ReservationStatus.RESERVED";
+
+  public static final String DECREASE_BUCKET_QUANTITY =
+      "update InventoryBucket b set b.quantity = b.quantity - :quantity, b.lastUpdate = local datetime "
+          + "where b.productId = :productId and b.bucketNo = :bucketNo and b.quantity >= :quantity";
+  public static final String ADJUST_BUCKET_QUANTITY =
+      "update InventoryBucket b set b.quantity = b.quantity + :delta, b.lastUpdate = local datetime "
+          + "where b.productId = :productId and b.bucketNo = :bucketNo";
+  public static final String SUM_BUCKET_QUANTITY =
+      "select coalesce(sum(b.quantity), 0) from InventoryBucket b where b.productId = :productId";
+  public static final String SUM_BUCKET_QUANTITIES_BY_PRODUCT_IDS =
+      "select b.productId, coalesce(sum(b.quantity), 0) from InventoryBucket b "
+          + "where b.productId in :productIds group by b.productId";
+  public static final String COUNT_BUCKETS_BY_PRODUCT =
+      "select b.productId, count(b) from InventoryBucket b group by b.productId";
+  public static final String FIND_BUCKETS_FOR_UPDATE =
+      "select b from InventoryBucket b where b.productId = :productId order by b.bucketNo";
+  public static final String DELETE_BUCKETS_BY_PRODUCT =
+      "delete from InventoryBucket b where b.productId = :productId";
+
+  public static final String SUM_LEDGER_DELTA_AFTER =
+      "select coalesce(sum(l.delta), 0) from InventoryLedger l "
+          + "where l.productId = :productId and l.ledgerId > :afterLedgerId and l.createdAt <= :at";
+  public static final String FIND_MAX_LEDGER_ID_BEFORE =
+      "select max(l.ledgerId) from InventoryLedger l where l.createdAt < :before";
+  public static final String SUM_LEDGER_DELTA_BY_PRODUCT =
+      "select l.productId, sum(l.delta), max(l.createdAt) from InventoryLedger l "
+          + "where l.ledgerId > :fromLedgerId and l.ledgerId <= :toLedgerId group by l.productId";
+  public static final String FIND_MAX_SNAPSHOT_LEDGER_ID =
+      "select coalesce(max(s.lastLedgerId), 0) from InventorySnapshot s";
+
+  public static final String INSERT_INVENTORY_LEDGER =
+      "insert into inventory_ledger (product_id, delta, reason, order_id, created_at) values (?, ?, ?, ?, ?)";
+  public static final String INSERT_OPENING_BALANCE_LEDGER =
+      "insert into inventory_ledger (product_id, delta, reason, created_at) "
+          + "select i.product_id, i.quantity + coalesce((select sum(b.quantity) from inventory_bucket b "
+          + "where b.product_id = i.product_id), 0), 'OPENING_BALANCE', ? from inventory i "
+          + "where not exists (select 1 from inventory_ledger l where l.product_id = i.product_id)";
+
+  public static final String FIND_INVENTORY_QUANTITIES_FOR_UPDATE =
+      "select product_id, quantity from inventory where product_id in (:productIds) "
+          + "order by product_id for update";
+  public static final String UPDATE_INVENTORY_QUANTITY_BY_PRODUCT_ID =
+      "update inventory set quantity = ?, version = version + 1, last_update = ? where product_id = ?";
+
+  public static final String FIND_ORDER_IDS =
+      "select o.orderId from Order o order by o.orderId";
+  public static final String FIND_ORDERS_WITH_ORDER_PRODUCTS =
+      "select o from Order o left join fetch o.orderProducts op left join fetch op.product "
+          + "where o.orderId in :orderIds order by o.orderId";
+  public static final String FIND_ORDER_WITH_ORDER_PRODUCTS =
+      "select o from Order o left join fetch o.orderProducts op left join fetch op.product "
+          + "where o.orderId = :orderId";
+  public static final String FIND_ORDER_IDS_AFTER =
+      "select o.orderId from Order o where o.orderId > :after order by o.orderId";
+  public static final String UPDATE_ORDER_PAYMENT =
+      "update Order o set o.payment = :payment, o.status = :status where o.orderId = :orderId";
+  public static final String TRANSITION_ORDER_STATUS =
+      "update Order o set o.status = :to where o.orderId = :orderId and o.status = :from";
+  public static final String FIND_EXPIRED_PENDING_ORDERS =
+      "select o from Order o join fetch o.payment "
+          + "where o.status = com.flab.CommerceCore.common.enums.Status.PENDING "
+          + "and exists (select r.reservationId from InventoryReservation r where r.orderId = o.orderId "
+          + "and r.status = com.flab.CommerceCore.common.enums.ReservationStatus.EXPIRED) "
+          + "order by o.orderId";
+
+  public static final String FIND_PRODUCTS_AFTER =
+      "select p from Product p where p.productId > :after order by p.productId";
+
+  public static final String INSERT_OUTBOX_EVENT =
+      "insert into outbox_event (aggregate_type, aggregate_id, event_type, payload, created_at) values (?, ?, ?, ?, ?)";
+  public static final String CLAIM_OUTBOX_EVENTS =
+      "select event_id, aggregate_type, aggregate_id, event_type, payload, created_at from outbox_event "
+          + "order by event_id limit ? for update skip locked";
+  public static final String DELETE_OUTBOX_EVENT =
+      "delete from outbox_event where event_id = ?";
+
+  public static final String CLAIM_IDEMPOTENCY_RECORD =
+      "insert into idempotency_record (idempotency_key, status, request_hash, created_at, expires_at) "
+          + "values (?, ?, ?, ?, ?)";
+  public static final String TAKE_OVER_IDEMPOTENCY_RECORD =
+      "update idempotency_record set status = ?, request_hash = ?, response_body = null, created_at = ?, expires_at = ? "
+          + "where idempotency_key = ? and expires_at < ?";
+  public static final String COMPLETE_IDEMPOTENCY_RECORD =
+      "update idempotency_record set status = ?, response_body = ?, expires_at = ? "
+          + "where idempotency_key = ? and status = ? and created_at = ?";
+  public static final String RELEASE_IDEMPOTENCY_RECORD =
+      "delete from idempotency_record where idempotency_key = ? and status = ? and created_at = ?";
+  public static final String FIND_IDEMPOTENCY_RECORD =
+      "select status, request_hash, response_body, expires_at from idempotency_record where idempotency_key = ?";
+  public static final String DELETE_EXPIRED_IDEMPOTENCY_RECORDS =
+      "delete from idempotency_record where expires_at < ?";
+
+  public static final String INSERT_CACHE_INVALIDATION =
+      "insert into cache_invalidation (cache_name, cache_key, origin_node, created_at) values (?, ?, ?, ?)";
+  public static final String FIND_CACHE_INVALIDATIONS_AFTER =
+      "select invalidation_id, cache_name, cache_key, origin_node from cache_invalidation "
+          + "where invalidation_id > ? order by invalidation_id limit ?";
+  public static final String FIND_CACHE_INVALIDATIONS_BETWEEN =
+      "select invalidation_id, cache_name, cache_key, origin_node from cache_invalidation "
+          + "where invalidation_id between ? and ?";
+  public static final String FIND_MAX_CACHE_INVALIDATION_ID =
+      "select coalesce(max(invalidation_id), 0) from cache_invalidation";
+  public static final String DELETE_OLD_CACHE_INVALIDATIONS =
+      "delete from cache_invalidation where created_at < ?";
+
+  public static final String STREAM_USER_EMAILS =
+      "select u.email from User u";
+  public static final String STREAM_PRODUCT_NAMES =
+      "select p.productName from Product p";
+  public static final String STREAM_PRODUCT_SEARCH_DOCUMENTS =
+      "select p.productId, p.productName, p.description from Product p";
 }
@@ -0,0 +1,277 @@
+package com.flab.CommerceCore.common.timer;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 해시드 휠 타이머
+ *
+ * 시간을 tick 단위 슬롯(버킷)이 원형으로 이어진 휠로 나누고, 각 타임아웃을 만료 tick 에 해당하는 버킷에 넣는다.
+ * 등록과 취소는 O(1) 이며, 워커 스레드는 tick 마다 현재 버킷 하나만 확인하므로
+ * 대기 중인 타임아웃이 수백만 개여도 테이블이나 전체 목록을 훑지 않는다.
+ * 만료 시각의 정밀도는 tick 간격만큼이다.
+ */
+@Slf4j
+public class HashedWheelTimer {
+
+  private final long tickNanos;
+  private final Bucket[] wheel;
+  private final int mask;
+  private final long maxPendingTimeouts;
+  private final long startTime;
+
+  private final Queue<Timeout> pendingAdds = new ConcurrentLinkedQueue<>();
+  private final Queue<Timeout> pendingCancels = new ConcurrentLinkedQueue<>();
+  private final AtomicLong pendingTimeouts = new AtomicLong();
+
+  private final Thread worker;
+  private volatile boolean running = true;
+  private long tick;
+
+  /**
+   * @param name 워커 스레드 이름
+   * @param tickDuration tick 간격
+   * @param unit tick 간격 단위
+   * @param ticksPerWheel 휠의 버킷 수 (2의 거듭제곱으로 올림)
+   * @param maxPendingTimeouts 동시에 대기할 수 있는 최대 타임아웃 수
+   */
+  public HashedWheelTimer(String name, long tickDuration, TimeUnit unit, int ticksPerWheel,
+      long maxPendingTimeouts) {
+    if (tickDuration <= 0 || ticksPerWheel <= 0 || maxPendingTimeouts <= 0) {
+      throw new IllegalArgumentException("타이머 설정 값은 0보다 커야 합니다.");
+    }
+    int wheelSize = Integer.highestOneBit(ticksPerWheel - 1) << 1;
+    wheelSize = Math.max(wheelSize, 1);
+    this.wheel = new Bucket[wheelSize];
+    for (int i = 0; i < wheelSize; i++) {
+      wheel[i] = new Bucket();
+    }
+    this.mask = wheelSize - 1;
+    this.tickNanos = unit.toNanos(tickDuration);
+    this.maxPendingTimeouts = maxPendingTimeouts;
+    this.startTime = System.nanoTime();
+
+    this.worker = new Thread(this::run, name);
+    this.worker.setDaemon(true);
+    this.worker.start();
+  }
+
+  /**
+   * 지정한 지연 후 작업을 실행하도록 등록하는 메서드
+   *
+   * @param task 만료 시 실행할 작업 (워커 스레드에서 실행되므로 짧게 유지)
+   * @param delay 지연 시간
+   * @param unit 지연 시간 단위
+   * @return 취소에 사용할 타임아웃
+   * @throws RejectedExecutionException 대기 중인 타임아웃이 최대치를 넘은 경우
+   */
+  public Timeout newTimeout(Runnable task, long delay, TimeUnit unit) {
+    if (pendingTimeouts.incrementAndGet() > maxPendingTimeouts) {
+      pendingTimeouts.decrementAndGet();
+      throw new RejectedExecutionException("대기 중인 타임아웃이 최대치(" + maxPendingTimeouts + ")를 넘었습니다.");
+    }
+    long deadline = System.nanoTime() - startTime + unit.toNanos(Math.max(delay, 0));
+    Timeout timeout = new Timeout(task, deadline);
+    pendingAdds.add(timeout);
+    return timeout;
+  }
+
+  /**
+   * 대기 중인 타임아웃 수
+   */
+  public long pendingTimeouts() {
+    return pendingTimeouts.get();
+  }
+
+  /**
+   * 워커 스레드를 멈추는 메서드. 남은 타임아웃은 실행되지 않는다.
+   */
+  public void stop() {
+    running = false;
+    worker.interrupt();
+    try {
+      worker.join(TimeUnit.NANOSECONDS.toMillis(tickNanos) + 1000);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void run() {
+    while (running) {
+      if (!waitForNextTick()) {
+        continue;
+      }
+      processCancelledTimeouts();
+      transferPendingTimeouts();
+      wheel[(int) (tick & mask)].expireTimeouts();
+      tick++;
+    }
+  }
+
+  private boolean waitForNextTick() {
+    long deadline = tickNanos * (tick + 1);
+    while (running) {
+      long currentTime = System.nanoTime() - startTime;
+      long sleepMillis = TimeUnit.NANOSECONDS.toMillis(deadline - currentTime + 999_999);
+      if (sleepMillis <= 0) {
+        return true;
+      }
+      try {
+        Thread.sleep(sleepMillis);
+      } catch (InterruptedException e) {
+        if (!running) {
+          return false;
+        }
+      }
+    }
+    return false;
+  }
+
+  /**
+   * 새로 등록된 타임아웃을 만료 tick 에 해당하는 버킷으로 옮긴다.
+   * 한 tick 에 옮기는 수를 제한해 등록이 몰려도 tick 이 밀리지 않게 한다.
+   */
+  private void transferPendingTimeouts() {
+    for (int i = 0; i < 100_000; i++) {
+      Timeout timeout = pendingAdds.poll();
+      if (timeout == null) {
+        return;
+      }
+      if (timeout.state.get() == Timeout.ST_CANCELLED) {
+        continue;
+      }
+      long calculated = timeout.deadline / tickNanos;
+      timeout.remainingRounds = (calculated - tick) / wheel.length;
+      long ticks = Math.max(calculated, tick); // 이미 지난 tick 이면 현재 버킷에 넣는다
+      wheel[(int) (ticks & mask)].add(timeout);
+    }
+  }
+
+  private void processCancelledTimeouts() {
+    Timeout timeout;
+    while ((timeout = pendingCancels.poll()) != null) {
+      if (timeout.bucket != null) {
+        timeout.bucket.remove(timeout);
+      }
+    }
+  }
+
+  /**
+   * 등록된 작업 하나를 나타내는 핸들
+   */
+  public final class Timeout {
+
+    private static final int ST_INIT = 0;
+    private static final int ST_CANCELLED = 1;
+    private static final int ST_EXPIRED = 2;
+
+    private final Runnable task;
+    private final long deadline;
+    private final AtomicInteger state = new AtomicInteger(ST_INIT);
+
+    // 아래 필드는 워커 스레드에서만 접근
+    private long remainingRounds;
+    private Bucket bucket;
+    private Timeout next;
+    private Timeout prev;
+
+    private Timeout(Runnable task, long deadline) {
+      this.task = task;
+      this.deadline = deadline;
+    }
+
+    /**
+     * 타임아웃을 취소하는 메서드
+     *
+     * @return 아직 실행되지 않아 취소되었으면 true
+     */
+    public boolean cancel() {
+      if (!state.compareAndSet(ST_INIT, ST_CANCELLED)) {
+        return false;
+      }
+      pendingTimeouts.decrementAndGet();
+      pendingCancels.add(this);
+      return true;
+    }
+
+    public boolean isCancelled() {
+      return state.get() == ST_CANCELLED;
+    }
+
+    public boolean isExpired() {
+      return state.get() == ST_EXPIRED;
+    }
+
+    private void expire() {
+      if (!state.compareAndSet(ST_INIT, ST_EXPIRED)) {
+        return;
+      }
+      pendingTimeouts.decrementAndGet();
+      try {
+        task.run();
+      } catch (Throwable t) {
+        log.warn("타이머 작업 실행 중 예외 발생", t);
+      }
+    }
+  }
+
+  /**
+   * 같은 tick 에 배정된 타임아웃들의 이중 연결 리스트
+   */
+  private static final class Bucket {
+
+    private Timeout head;
+    private Timeout tail;
+
+    private void add(Timeout timeout) {
+      timeout.bucket = this;
+      if (head == null) {
+        head = tail = timeout;
+      } else {
+        tail.next = timeout;
+        timeout.prev = tail;
+        tail = timeout;
+      }
+    }
+
+    private void expireTimeouts() {
+      Timeout timeout = head;
+      while (timeout != null) {
+        Timeout next = timeout.next;
+        if (timeout.remainingRounds <= 0) {
+          remove(timeout);
+          timeout.expire();
+        } else if (timeout.isCancelled()) {
+          remove(timeout);
+        } else {
+          timeout.remainingRounds--;
+        }
+        timeout = next;
+      }
+    }
+
+    private void remove(Timeout timeout) {
+      if (timeout.bucket != this) {
+        return;
+      }
+      if (timeout.prev != null) {
+        timeout.prev.next = timeout.next;
+      } else {
+        head = timeout.next;
+      }
+      if (timeout.next != null) {
+        timeout.next.prev = timeout.prev;
+      } else {
+        tail = timeout.prev;
+      }
+      timeout.prev = null;
+      timeout.next = null;
+      timeout.bucket = null;
+    }
+  }
+}
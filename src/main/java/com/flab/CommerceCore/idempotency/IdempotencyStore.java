@@ -0,0 +1,364 @@
+package com.flab.CommerceCore.idempotency;
+
+import static com.flab.CommerceCore.common.query.QueryConstant.CLAIM_IDEMPOTENCY_RECORD;
+import static com.flab.CommerceCore.common.query.QueryConstant.COMPLETE_IDEMPOTENCY_RECORD;
+import static com.flab.CommerceCore.common.query.QueryConstant.DELETE_EXPIRED_IDEMPOTENCY_RECORDS;
+import static com.flab.CommerceCore.common.query.QueryConstant.FIND_IDEMPOTENCY_RECORD;
+import static com.flab.CommerceCore.common.query.QueryConstant.RELEASE_IDEMPOTENCY_RECORD;
+import static com.flab.CommerceCore.common.query.QueryConstant.TAKE_OVER_IDEMPOTENCY_RECORD;
+
+import com.flab.CommerceCore.common.enums.IdempotencyStatus;
+import com.flab.CommerceCore.common.exceptions.BusinessException;
+import com.flab.CommerceCore.common.exceptions.ErrorCode;
+import com.google.gson.Gson;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Idempotency-Key 로 같은 요청의 재시도를 한 번만 처리하는 저장소
+ *
+ * 첫 요청의 결과를 (요청 본문 해시 + JSON 응답)으로 메모리(크기 제한 LRU + TTL)와 DB 에 저장하고,
+ * 같은 키의 재시도는 서비스를 다시 호출하지 않고 저장된 응답을 돌려준다.
+ * 메모리에서 밀려났거나 다른 인스턴스가 처리한 키는 DB(idempotency_record)에서 찾는다.
+ * 같은 키의 요청이 동시에 들어오면 첫 요청만 실행하고 나머지는 그 결과를 기다린다.
+ * 인스턴스 안에서는 메모리의 CompletableFuture 로 기다리고, 인스턴스 사이에서는 실행 전에 DB 에
+ * IN_PROGRESS 행을 넣어 키를 선점한다. 기본 키 충돌로 선점하지 못한 요청은 행이 COMPLETED 가 될 때까지 DB 를 조회하며 기다린다.
+ * 선점한 인스턴스가 죽으면 선점 만료 시각이 지난 뒤 다른 요청이 넘겨받는다.
+ * 실패한 요청의 결과는 저장하지 않고 선점 행도 지우므로, 기다리던 같은 인스턴스의 요청은 같은 예외를 받고
+ * 다른 인스턴스에서 기다리던 요청과 이후 재시도는 다시 실행된다.
+ */
+@Slf4j
+@Component
+public class IdempotencyStore {
+
+  public static final String HEADER = "Idempotency-Key";
+
+  private static final Gson GSON = new Gson();
+  private static final int MAX_KEY_LENGTH = 100;
+  private static final int HASH_BYTES = 16;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final long ttlMillis;
+  private final long waitTimeoutMillis;
+  private final long claimTimeoutMillis;
+  private final long pollIntervalMillis;
+  private final Map<String, StoredResponse> responses;
+  private final Map<String, CompletableFuture<StoredResponse>> inFlight = new ConcurrentHashMap<>();
+
+  @Autowired
+  public IdempotencyStore(JdbcTemplate jdbcTemplate,
+      @Value("${idempotency.ttl-seconds:86400}") long ttlSeconds,
+      @Value("${idempotency.max-entries:100000}") int maxEntries,
+      @Value("${idempotency.wait-timeout-ms:30000}") long waitTimeoutMillis,
+      @Value("${idempotency.claim-timeout-ms:60000}") long claimTimeoutMillis,
+      @Value("${idempotency.poll-interval-ms:100}") long pollIntervalMillis) {
+    if (ttlSeconds <= 0 || maxEntries <= 0 || waitTimeoutMillis <= 0 || claimTimeoutMillis <= 0
+        || pollIntervalMillis <= 0) {
+      throw new IllegalArgumentException("멱등성 저장소 설정 값은 0보다 커야 합니다.");
+    }
+    this.jdbcTemplate = jdbcTemplate;
+    this.ttlMillis = TimeUnit.SECONDS.toMillis(ttlSeconds);
+    this.waitTimeoutMillis = waitTimeoutMillis;
+    this.claimTimeoutMillis = claimTimeoutMillis;
+    this.pollIntervalMillis = pollIntervalMillis;
+    // 접근 순서 LinkedHashMap 으로 가장 오래 쓰이지 않은 키부터 밀어낸다
+    this.responses = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, StoredResponse> eldest) {
+        return size() > maxEntries;
+      }
+    };
+  }
+
+  /**
+   * 키에 저장된 응답이 있으면 돌려주고, 없으면 action 을 한 번만 실행해 결과를 저장하는 메서드
+   *
+   * @param scope 요청 종류 (같은 키라도 종류가 다르면 다른 요청)
+   * @param key 클라이언트가 보낸 Idempotency-Key
+   * @param request 요청 본문 (같은 키로 다른 요청을 보냈는지 확인하는 데 사용)
+   * @param responseType 응답 타입
+   * @param action 첫 요청일 때 실행할 처리
+   * @return 첫 요청의 응답
+   * @throws BusinessException 키가 올바르지 않거나, 다른 요청 본문으로 재사용되었거나, 첫 요청을 기다리다 시간이 초과된 경우
+   */
+  public <T> T execute(String scope, String key, Object request, Class<T> responseType, Supplier<T> action) {
+    validateKey(key);
+    String storeKey = scope + ":" + key;
+    String requestHash = hash(GSON.toJson(request));
+
+    StoredResponse stored = find(storeKey);
+    if (stored != null) {
+      return replay(stored, key, requestHash, responseType);
+    }
+
+    // 같은 인스턴스에서 같은 키를 처리 중인 요청이 있으면 그 결과를 기다린다
+    CompletableFuture<StoredResponse> created = new CompletableFuture<>();
+    CompletableFuture<StoredResponse> running = inFlight.putIfAbsent(storeKey, created);
+    if (running != null) {
+      return replay(await(running, key), key, requestHash, responseType);
+    }
+
+    try {
+      // 먼저 처리한 요청이 저장을 마치고 inFlight 에서 빠진 직후일 수 있으므로 메모리를 한 번 더 확인
+      stored = findInMemory(storeKey);
+      if (stored != null) {
+        created.complete(stored);
+        return replay(stored, key, requestHash, responseType);
+      }
+
+      // 다른 인스턴스가 같은 키를 처리 중이면 DB 에서 그 결과를 기다린다
+      Timestamp claimedAt = new Timestamp(System.currentTimeMillis());
+      stored = claimOrAwait(storeKey, key, requestHash, claimedAt);
+      if (stored != null) {
+        created.complete(stored);
+        return replay(stored, key, requestHash, responseType);
+      }
+
+      T response;
+      try {
+        response = action.get();
+      } catch (RuntimeException e) {
+        release(storeKey, claimedAt);
+        throw e;
+      }
+      stored = new StoredResponse(IdempotencyStatus.COMPLETED, requestHash, GSON.toJson(response),
+          System.currentTimeMillis() + ttlMillis);
+      complete(storeKey, stored, claimedAt);
+      created.complete(stored);
+      return response;
+    } catch (RuntimeException e) {
+      created.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(storeKey, created);
+    }
+  }
+
+  /**
+   * 만료된 응답을 메모리와 DB 에서 지우는 메서드
+   */
+  @Scheduled(fixedDelayString = "${idempotency.cleanup-interval-ms:600000}")
+  public void evictExpired() {
+    long now = System.currentTimeMillis();
+    synchronized (responses) {
+      Iterator<StoredResponse> iterator = responses.values().iterator();
+      while (iterator.hasNext()) {
+        if (iterator.next().expiresAt <= now) {
+          iterator.remove();
+        }
+      }
+    }
+    int deleted = jdbcTemplate.update(DELETE_EXPIRED_IDEMPOTENCY_RECORDS, new Timestamp(now));
+    if (deleted > 0) {
+      log.info("만료된 Idempotency-Key 응답 삭제 건수: {}", deleted);
+    }
+  }
+
+  private void validateKey(String key) {
+    if (key == null || key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+      log.error(ErrorCode.INVALID_IDEMPOTENCY_KEY.getDetail(), key);
+      throw BusinessException.create(ErrorCode.INVALID_IDEMPOTENCY_KEY);
+    }
+  }
+
+  private <T> T replay(StoredResponse stored, String key, String requestHash, Class<T> responseType) {
+    if (!stored.requestHash.equals(requestHash)) {
+      log.error(ErrorCode.IDEMPOTENCY_KEY_REUSED.getDetail(), key);
+      throw BusinessException.create(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+    }
+    return GSON.fromJson(stored.responseBody, responseType);
+  }
+
+  private StoredResponse await(CompletableFuture<StoredResponse> running, String key) {
+    try {
+      return running.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw new IllegalStateException(e.getCause());
+    } catch (TimeoutException e) {
+      log.error(ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS.getDetail(), key);
+      throw BusinessException.create(ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw BusinessException.create(ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+    }
+  }
+
+  /**
+   * DB 에 IN_PROGRESS 행을 넣어 키를 선점하고, 다른 인스턴스가 선점했으면 처리가 끝날 때까지 DB 를 조회하며 기다린다.
+   * 기다리는 동안 선점 행이 지워지면(처리 실패) 다시 선점을 시도한다.
+   *
+   * @return 선점했으면 null, 다른 인스턴스가 처리를 마쳤으면 그 응답
+   * @throws BusinessException 다른 요청 본문으로 처리 중이거나, 기다리다 시간이 초과된 경우
+   */
+  private StoredResponse claimOrAwait(String storeKey, String key, String requestHash, Timestamp claimedAt) {
+    long deadline = System.currentTimeMillis() + waitTimeoutMillis;
+    while (true) {
+      if (claim(storeKey, requestHash, claimedAt)) {
+        return null;
+      }
+      StoredResponse record = findRecord(storeKey);
+      if (record != null && !record.requestHash.equals(requestHash)) {
+        log.error(ErrorCode.IDEMPOTENCY_KEY_REUSED.getDetail(), key);
+        throw BusinessException.create(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+      }
+      if (record != null && record.isCompleted() && record.expiresAt > System.currentTimeMillis()) {
+        cache(storeKey, record);
+        return record;
+      }
+      if (System.currentTimeMillis() >= deadline) {
+        log.error(ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS.getDetail(), key);
+        throw BusinessException.create(ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+      }
+      try {
+        Thread.sleep(pollIntervalMillis);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw BusinessException.create(ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+      }
+    }
+  }
+
+  /**
+   * IN_PROGRESS 행을 넣어 키를 선점한다. 기본 키가 충돌하면 만료된 행(지난 응답, 선점한 인스턴스가 죽은 행)일 때만 넘겨받는다.
+   */
+  private boolean claim(String storeKey, String requestHash, Timestamp claimedAt) {
+    Timestamp now = new Timestamp(System.currentTimeMillis());
+    Timestamp claimExpiresAt = new Timestamp(now.getTime() + claimTimeoutMillis);
+    try {
+      jdbcTemplate.update(CLAIM_IDEMPOTENCY_RECORD, storeKey, IdempotencyStatus.IN_PROGRESS.name(), requestHash,
+          claimedAt, claimExpiresAt);
+      return true;
+    } catch (DuplicateKeyException e) {
+      return jdbcTemplate.update(TAKE_OVER_IDEMPOTENCY_RECORD, IdempotencyStatus.IN_PROGRESS.name(), requestHash,
+          claimedAt, claimExpiresAt, storeKey, now) == 1;
+    }
+  }
+
+  /**
+   * 메모리에서 찾고, 없으면 DB 에서 완료된 응답을 찾아 메모리에 올린다.
+   */
+  private StoredResponse find(String storeKey) {
+    StoredResponse stored = findInMemory(storeKey);
+    if (stored != null) {
+      return stored;
+    }
+    stored = findRecord(storeKey);
+    if (stored == null || !stored.isCompleted() || stored.expiresAt <= System.currentTimeMillis()) {
+      return null;
+    }
+    cache(storeKey, stored);
+    return stored;
+  }
+
+  private StoredResponse findRecord(String storeKey) {
+    return jdbcTemplate.query(FIND_IDEMPOTENCY_RECORD, rs -> rs.next()
+        ? new StoredResponse(IdempotencyStatus.valueOf(rs.getString(1)), rs.getString(2), rs.getString(3),
+            rs.getTimestamp(4).getTime())
+        : null, storeKey);
+  }
+
+  private void cache(String storeKey, StoredResponse stored) {
+    synchronized (responses) {
+      responses.put(storeKey, stored);
+    }
+  }
+
+  private StoredResponse findInMemory(String storeKey) {
+    synchronized (responses) {
+      StoredResponse stored = responses.get(storeKey);
+      if (stored != null && stored.expiresAt <= System.currentTimeMillis()) {
+        responses.remove(storeKey);
+        return null;
+      }
+      return stored;
+    }
+  }
+
+  /**
+   * 메모리에 저장하고 선점한 DB 행에 응답을 채워 COMPLETED 로 바꾼다.
+   * DB 저장에 실패해도 이미 처리된 요청이므로 예외를 던지지 않는다.
+   */
+  private void complete(String storeKey, StoredResponse stored, Timestamp claimedAt) {
+    cache(storeKey, stored);
+    try {
+      int updated = jdbcTemplate.update(COMPLETE_IDEMPOTENCY_RECORD, IdempotencyStatus.COMPLETED.name(),
+          stored.responseBody, new Timestamp(stored.expiresAt), storeKey, IdempotencyStatus.IN_PROGRESS.name(),
+          claimedAt);
+      if (updated == 0) {
+        log.warn("선점 만료 후 다른 요청이 넘겨받아 응답을 DB 에 저장하지 못한 Idempotency-Key: {}", storeKey);
+      }
+    } catch (DataAccessException e) {
+      log.error("Idempotency-Key 응답 DB 저장 실패 key: {}", storeKey, e);
+    }
+  }
+
+  /**
+   * 처리에 실패한 요청의 선점 행을 지워 다른 인스턴스와 이후 재시도가 다시 처리할 수 있게 한다.
+   * 지우지 못해도 선점 만료 시각이 지나면 넘겨받을 수 있다.
+   */
+  private void release(String storeKey, Timestamp claimedAt) {
+    try {
+      jdbcTemplate.update(RELEASE_IDEMPOTENCY_RECORD, storeKey, IdempotencyStatus.IN_PROGRESS.name(), claimedAt);
+    } catch (DataAccessException e) {
+      log.error("Idempotency-Key 선점 해제 실패 key: {}", storeKey, e);
+    }
+  }
+
+  /**
+   * 요청 본문 JSON 의 SHA-256 해시 앞 16바이트 (Base64)
+   */
+  private static String hash(String requestBody) {
+    try {
+      byte[] digest = MessageDigest.getInstance("SHA-256").digest(requestBody.getBytes(StandardCharsets.UTF_8));
+      return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, HASH_BYTES));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * 저장된 첫 요청의 결과 (DB 에서 읽은 처리 중인 행이면 응답이 없다)
+   */
+  private static class StoredResponse {
+
+    private final IdempotencyStatus status;
+    private final String requestHash;
+    private final String responseBody;
+    private final long expiresAt;
+
+    private StoredResponse(IdempotencyStatus status, String requestHash, String responseBody, long expiresAt) {
+      this.status = status;
+      this.requestHash = requestHash;
+      this.responseBody = responseBody;
+      this.expiresAt = expiresAt;
+    }
+
+    private boolean isCompleted() {
+      return status == IdempotencyStatus.COMPLETED;
+    }
+  }
+}
@@ -0,0 +1,51 @@
+package com.flab.CommerceCore.idempotency.domain.entity;
+
+import com.flab.CommerceCore.common.enums.IdempotencyStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Idempotency-Key 로 처리한 요청의 첫 번째 결과
+ * 처리를 시작할 때 IN_PROGRESS 행을 넣어 키를 선점하고(기본 키 충돌이면 다른 인스턴스가 처리 중),
+ * 처리가 끝나면 응답을 채워 COMPLETED 로 바꾼다. 실패하면 행을 지워 다시 처리할 수 있게 한다.
+ * 메모리 저장소에서 밀려났거나 다른 인스턴스가 처리한 요청의 재시도에 사용한다.
+ * 삽입, 조회, 만료 삭제는 IdempotencyStore 가 JDBC 로 수행한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "idempotency_record", indexes = {
+    @Index(name = "idx_idempotency_expires_at", columnList = "expires_at")
+})
+public class IdempotencyRecord {
+
+    // 요청 종류(scope)와 클라이언트가 보낸 키를 합친 값
+    @Id
+    @Column(name = "idempotency_key", length = 150)
+    private String idempotencyKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private IdempotencyStatus status;
+
+    // 같은 키로 다른 요청을 보냈는지 확인하기 위한 요청 본문 해시
+    @Column(name = "request_hash", nullable = false, length = 32)
+    private String requestHash;
+
+    // JSON 으로 직렬화한 응답 (주문 상품이 많으면 커지므로 길이 제한 없이 저장, 처리 중이면 null)
+    @Lob
+    @Column(name = "response_body")
+    private String responseBody;
+
+    // 선점한 시각 (선점한 요청만 완료, 해제할 수 있도록 조건에 사용)
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // 처리 중이면 선점 만료 시각, 완료되면 응답 만료 시각
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
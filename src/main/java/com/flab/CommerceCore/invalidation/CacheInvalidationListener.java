@@ -0,0 +1,17 @@
+package com.flab.CommerceCore.invalidation;
+
+/**
+ * 다른 노드에서 기록한 무효화를 받아 로컬 캐시에서 지우는 대상
+ */
+public interface CacheInvalidationListener {
+
+  /**
+   * 키 하나를 지우는 메서드
+   */
+  void evict(long key);
+
+  /**
+   * 놓친 무효화가 있을 수 있을 때 캐시 전체를 지우는 메서드
+   */
+  void evictAll();
+}
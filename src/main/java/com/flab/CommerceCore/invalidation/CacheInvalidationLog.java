@@ -0,0 +1,243 @@
+package com.flab.CommerceCore.invalidation;
+
+import static com.flab.CommerceCore.common.query.QueryConstant.DELETE_OLD_CACHE_INVALIDATIONS;
+import static com.flab.CommerceCore.common.query.QueryConstant.FIND_CACHE_INVALIDATIONS_AFTER;
+import static com.flab.CommerceCore.common.query.QueryConstant.FIND_CACHE_INVALIDATIONS_BETWEEN;
+import static com.flab.CommerceCore.common.query.QueryConstant.FIND_MAX_CACHE_INVALIDATION_ID;
+import static com.flab.CommerceCore.common.query.QueryConstant.INSERT_CACHE_INVALIDATION;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 여러 노드의 로컬 캐시를 맞추기 위한 DB 기반 무효화 로그
+ *
+ * 데이터를 바꾼 노드는 자기 캐시를 바로 지우고, 같은 트랜잭션에서 바뀐 키를 cache_invalidation 에 남긴다.
+ * 각 노드는 poll-interval-ms 마다 마지막으로 읽은 ID(high-water mark) 이후의 로그를 묶음으로 읽어
+ * 다른 노드가 남긴 키만 지우므로, 다른 노드의 캐시는 최대 폴링 간격만큼 늦게 지워진다.
+ *
+ * IDENTITY 값은 커밋 순서대로 보이지 않으므로, 읽다가 건너뛴 ID 는 gap-timeout-ms 동안 기억해 두고 다시 확인한다.
+ * 처음 폴링하거나 로그 보관 기간보다 오래 폴링하지 못했다면 놓친 로그가 있을 수 있으므로 캐시 전체를 비운다.
+ */
+@Slf4j
+@Component
+public class CacheInvalidationLog {
+
+  private static final int MAX_TRACKED_GAPS = 1000;
+
+  private static final RowMapper<Invalidation> INVALIDATION_MAPPER = (rs, rowNum) -> new Invalidation(
+      rs.getLong("invalidation_id"),
+      rs.getString("cache_name"),
+      rs.getLong("cache_key"),
+      rs.getString("origin_node"));
+
+  private final JdbcTemplate jdbcTemplate;
+  private final String nodeId = UUID.randomUUID().toString();
+  private final Map<String, CacheInvalidationListener> listeners = new ConcurrentHashMap<>();
+
+  private final boolean enabled;
+  private final int batchSize;
+  private final long gapTimeoutMillis;
+  private final long retentionMillis;
+
+  // 아래 상태는 poll 에서만 바뀌며 poll 은 synchronized
+  private boolean initialized;
+  private long highWaterMark;
+  private long lastPolledAt;
+  // 건너뛴 ID → 처음 발견한 시각
+  private final TreeMap<Long, Long> gaps = new TreeMap<>();
+
+  private final AtomicLong applied = new AtomicLong();
+
+  @Autowired
+  public CacheInvalidationLog(JdbcTemplate jdbcTemplate,
+      @Value("${cache.invalidation.enabled:true}") boolean enabled,
+      @Value("${cache.invalidation.batch-size:500}") int batchSize,
+      @Value("${cache.invalidation.gap-timeout-ms:10000}") long gapTimeoutMillis,
+      @Value("${cache.invalidation.retention-seconds:3600}") long retentionSeconds) {
+    if (batchSize <= 0 || gapTimeoutMillis <= 0 || retentionSeconds <= 0) {
+      throw new IllegalArgumentException("캐시 무효화 설정 값은 0보다 커야 합니다.");
+    }
+    this.jdbcTemplate = jdbcTemplate;
+    this.enabled = enabled;
+    this.batchSize = batchSize;
+    this.gapTimeoutMillis = gapTimeoutMillis;
+    this.retentionMillis = TimeUnit.SECONDS.toMillis(retentionSeconds);
+  }
+
+  /**
+   * 로컬 캐시를 등록하는 메서드
+   *
+   * @param cacheName 로그에 남길 캐시 이름 (노드 간에 같아야 한다)
+   * @param listener 무효화를 받아 캐시에서 지울 대상
+   */
+  public void register(String cacheName, CacheInvalidationListener listener) {
+    listeners.put(cacheName, listener);
+  }
+
+  /**
+   * 바뀐 키를 무효화 로그에 남기는 메서드
+   * 호출자의 트랜잭션 안이면 함께 커밋되므로, 다른 노드는 커밋된 변경에 대해서만 캐시를 지운다.
+   * 자기 노드의 캐시는 호출자가 지운다.
+   *
+   * @param cacheName 캐시 이름
+   * @param key 바뀐 키
+   */
+  public void publish(String cacheName, long key) {
+    if (!enabled) {
+      return;
+    }
+    jdbcTemplate.update(INSERT_CACHE_INVALIDATION, cacheName, key, nodeId, Timestamp.valueOf(LocalDateTime.now()));
+  }
+
+  /**
+   * 마지막으로 읽은 로그 이후의 무효화를 읽어 로컬 캐시에서 지우는 메서드
+   *
+   * @return 읽은 로그 수
+   */
+  @Scheduled(fixedDelayString = "${cache.invalidation.poll-interval-ms:500}")
+  public synchronized int poll() {
+    if (!enabled) {
+      return 0;
+    }
+    long now = System.currentTimeMillis();
+    if (!initialized || now - lastPolledAt > retentionMillis) {
+      // 그 사이 지워진 로그가 있을 수 있으므로 지금까지의 로그는 건너뛰고 캐시를 전부 비운다
+      highWaterMark = jdbcTemplate.queryForObject(FIND_MAX_CACHE_INVALIDATION_ID, Long.class);
+      gaps.clear();
+      evictAll();
+      initialized = true;
+      lastPolledAt = now;
+      return 0;
+    }
+
+    int count = pollGaps(now);
+    List<Invalidation> invalidations;
+    do {
+      invalidations = jdbcTemplate.query(FIND_CACHE_INVALIDATIONS_AFTER, INVALIDATION_MAPPER, highWaterMark,
+          batchSize);
+      for (Invalidation invalidation : invalidations) {
+        trackGaps(invalidation.invalidationId, now);
+        apply(invalidation);
+        highWaterMark = invalidation.invalidationId;
+      }
+      count += invalidations.size();
+    } while (invalidations.size() == batchSize);
+
+    lastPolledAt = now;
+    return count;
+  }
+
+  /**
+   * 보관 기간이 지난 로그를 지우는 메서드
+   */
+  @Scheduled(fixedDelayString = "${cache.invalidation.cleanup-interval-ms:600000}")
+  public void deleteOld() {
+    if (!enabled) {
+      return;
+    }
+    int deleted = jdbcTemplate.update(DELETE_OLD_CACHE_INVALIDATIONS,
+        Timestamp.valueOf(LocalDateTime.now().minusNanos(TimeUnit.MILLISECONDS.toNanos(retentionMillis))));
+    if (deleted > 0) {
+      log.info("오래된 캐시 무효화 로그 삭제 count: {}", deleted);
+    }
+  }
+
+  public String getNodeId() {
+    return nodeId;
+  }
+
+  /**
+   * 다른 노드의 로그로 지운 키 수
+   */
+  public long getAppliedCount() {
+    return applied.get();
+  }
+
+  /**
+   * 앞서 건너뛴 ID 중 그 사이 커밋된 로그를 적용하고, 오래된 빈 ID 는 롤백된 것으로 보고 잊는다.
+   */
+  private int pollGaps(long now) {
+    if (gaps.isEmpty()) {
+      return 0;
+    }
+    int count = 0;
+    List<Invalidation> invalidations = jdbcTemplate.query(FIND_CACHE_INVALIDATIONS_BETWEEN, INVALIDATION_MAPPER,
+        gaps.firstKey(), gaps.lastKey());
+    for (Invalidation invalidation : invalidations) {
+      if (gaps.remove(invalidation.invalidationId) != null) {
+        apply(invalidation);
+        count++;
+      }
+    }
+    Iterator<Long> firstSeen = gaps.values().iterator();
+    while (firstSeen.hasNext()) {
+      if (now - firstSeen.next() > gapTimeoutMillis) {
+        firstSeen.remove();
+      }
+    }
+    return count;
+  }
+
+  private void trackGaps(long invalidationId, long now) {
+    long missing = invalidationId - highWaterMark - 1;
+    if (missing <= 0) {
+      return;
+    }
+    if (gaps.size() + missing > MAX_TRACKED_GAPS) {
+      // 추적할 수 없을 만큼 ID 가 비면 놓친 로그가 있을 수 있으므로 전부 비운다
+      log.warn("캐시 무효화 로그 ID 가 {}개 비어 있어 로컬 캐시를 모두 비웁니다.", missing);
+      gaps.clear();
+      evictAll();
+      return;
+    }
+    for (long id = highWaterMark + 1; id < invalidationId; id++) {
+      gaps.put(id, now);
+    }
+  }
+
+  private void apply(Invalidation invalidation) {
+    if (nodeId.equals(invalidation.originNode)) {
+      return;
+    }
+    CacheInvalidationListener listener = listeners.get(invalidation.cacheName);
+    if (listener != null) {
+      listener.evict(invalidation.cacheKey);
+      applied.incrementAndGet();
+    }
+  }
+
+  private void evictAll() {
+    listeners.values().forEach(CacheInvalidationListener::evictAll);
+  }
+
+  private static class Invalidation {
+
+    private final long invalidationId;
+    private final String cacheName;
+    private final long cacheKey;
+    private final String originNode;
+
+    private Invalidation(long invalidationId, String cacheName, long cacheKey, String originNode) {
+      this.invalidationId = invalidationId;
+      this.cacheName = cacheName;
+      this.cacheKey = cacheKey;
+      this.originNode = originNode;
+    }
+  }
+}
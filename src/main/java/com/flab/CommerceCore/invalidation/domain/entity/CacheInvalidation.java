@@ -0,0 +1,40 @@
+package com.flab.CommerceCore.invalidation.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 다른 노드의 로컬 캐시에서 지워야 할 키를 남기는 무효화 로그
+ * 삽입, 폴링, 오래된 로그 삭제는 CacheInvalidationLog 가 JDBC 로 수행한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "cache_invalidation", indexes = {
+    @Index(name = "idx_cache_invalidation_created_at", columnList = "created_at")
+})
+public class CacheInvalidation {
+
+    // 노드들이 어디까지 읽었는지 기억하는 기준 값 (high-water mark)
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "invalidation_id")
+    private Long invalidationId;
+
+    @Column(name = "cache_name", nullable = false, length = 32)
+    private String cacheName;
+
+    @Column(name = "cache_key", nullable = false)
+    private Long cacheKey;
+
+    // 무효화를 기록한 노드 (자기 노드의 로그는 이미 지웠으므로 건너뛴다)
+    @Column(name = "origin_node", nullable = false, length = 36)
+    private String originNode;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
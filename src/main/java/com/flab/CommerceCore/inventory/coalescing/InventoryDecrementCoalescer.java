@@ -0,0 +1,335 @@
+package com.flab.CommerceCore.inventory.coalescing;
+
+import com.flab.CommerceCore.common.exceptions.BusinessException;
+import com.flab.CommerceCore.common.exceptions.ErrorCode;
+import com.flab.CommerceCore.inventory.repository.InventoryRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 같은 상품에 대한 동시 재고 차감 요청을 모아 한 번의 조건부 UPDATE 로 처리하는 결합 큐 (group commit)
+ *
+ * 요청은 상품별 큐에 쌓이고, 첫 요청이 들어온 뒤 window 만큼 기다리거나 max-batch 개가 모이면
+ * 워커 스레드가 합계 수량으로 UPDATE 를 한 번 실행한 뒤 요청별 성공/실패를 호출자에게 돌려준다.
+ * 합계만큼 재고가 없으면 남은 재고 안에서 도착 순서대로 들어가는 요청만 차감한다.
+ *
+ * 묶음 차감은 호출자와 별도의 트랜잭션에서 커밋되므로, 호출자의 트랜잭션이 롤백되면 차감한 수량을 되돌린다.
+ * 워커는 별도 커넥션을 사용하므로 커넥션 풀은 워커 수만큼 여유가 있어야 한다.
+ *
+ * 되돌리기는 메모리의 afterCompletion 훅으로만 기록된다. 묶음 차감이 커밋된 뒤 호출자가 커밋하기 전에
+ * 프로세스가 죽거나, 되돌리는 UPDATE 가 실패하면 차감한 수량은 돌아오지 않는다.
+ * 재고가 실제보다 적게 남는 쪽이라 초과 판매는 없지만, 주문과 재고를 대사해 맞춰야 하므로 기본값은 꺼 둔다.
+ *
+ * 상품별 큐는 요청이 들어올 때 만들고, 비워진 뒤 예약된 처리가 없으면 지운다.
+ * 큐에 넣기와 지우기는 같은 키에 대한 ConcurrentHashMap.compute 안에서 하므로, 지운 큐에 요청이 남지 않는다.
+ */
+@Slf4j
+@Component
+public class InventoryDecrementCoalescer {
+
+  private static final int MAX_PARTIAL_ATTEMPTS = 3;
+
+  private final InventoryRepository inventoryRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final ScheduledExecutorService workers;
+  private final Map<Long, Lane> lanes = new ConcurrentHashMap<>();
+
+  private final boolean enabled;
+  private final long windowMicros;
+  private final int maxBatch;
+  private final long waitTimeoutMillis;
+
+  private final DistributionSummary batchSize;
+  private final Counter partialBatches;
+
+  @Autowired
+  public InventoryDecrementCoalescer(InventoryRepository inventoryRepository,
+      PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+      @Value("${inventory.coalescing.enabled:false}") boolean enabled,
+      @Value("${inventory.coalescing.window-micros:2000}") long windowMicros,
+      @Value("${inventory.coalescing.max-batch:64}") int maxBatch,
+      @Value("${inventory.coalescing.workers:4}") int workers,
+      @Value("${inventory.coalescing.wait-timeout-ms:5000}") long waitTimeoutMillis) {
+    this.inventoryRepository = inventoryRepository;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    this.workers = Executors.newScheduledThreadPool(workers);
+    this.enabled = enabled;
+    this.windowMicros = windowMicros;
+    this.maxBatch = maxBatch;
+    this.waitTimeoutMillis = waitTimeoutMillis;
+
+    this.batchSize = DistributionSummary.builder("inventory.decrement.batch.size")
+        .description("한 번의 UPDATE 로 묶인 재고 차감 요청 수")
+        .publishPercentileHistogram()
+        .register(meterRegistry);
+    this.partialBatches = Counter.builder("inventory.decrement.batch.partial")
+        .description("재고가 부족해 일부 요청만 차감된 묶음 수")
+        .register(meterRegistry);
+  }
+
+  @PreDestroy
+  public void stop() {
+    workers.shutdown();
+  }
+
+  /**
+   * 요청 결합이 켜져 있는지 여부
+   */
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * 재고 차감 요청을 큐에 넣고 묶음 처리 결과를 기다리는 메서드
+   * 호출자가 트랜잭션 안에 있으면 롤백 시 차감한 수량을 되돌린다.
+   *
+   * @param productId 차감할 상품 ID
+   * @param quantity 차감할 수량
+   * @throws BusinessException 재고가 부족하거나 대기 시간이 초과된 경우 발생
+   */
+  public void decrease(Long productId, int quantity) {
+    CompletableFuture<Boolean> result = submit(productId, quantity);
+
+    boolean admitted;
+    try {
+      admitted = result.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      // 아직 처리되지 않았다면 취소하고, 이미 처리되었다면 그 결과를 사용한다
+      if (result.cancel(false)) {
+        log.error(ErrorCode.INVENTORY_DECREMENT_TIMEOUT.getDetail(), productId);
+        throw BusinessException.create(ErrorCode.INVENTORY_DECREMENT_TIMEOUT);
+      }
+      admitted = result.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      result.cancel(false);
+      throw BusinessException.create(ErrorCode.INVENTORY_DECREMENT_TIMEOUT);
+    } catch (ExecutionException e) {
+      throw toRuntimeException(e.getCause());
+    }
+
+    if (!admitted) {
+      log.error("재고 차감 실패 productId: {}, 요청 : [{}]개", productId, quantity);
+      throw BusinessException.create(ErrorCode.INSUFFICIENT_INVENTORY);
+    }
+
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCompletion(int status) {
+          if (status == STATUS_ROLLED_BACK) {
+            compensate(productId, quantity);
+          }
+        }
+      });
+    }
+  }
+
+  /**
+   * 재고 차감 요청을 상품별 큐에 넣는 메서드
+   *
+   * @param productId 차감할 상품 ID
+   * @param quantity 차감할 수량
+   * @return 차감 성공 여부 (재고 부족이면 false)
+   */
+  CompletableFuture<Boolean> submit(Long productId, int quantity) {
+    Request request = new Request(quantity);
+    AtomicInteger queuedHolder = new AtomicInteger();
+    Lane lane = lanes.compute(productId, (id, current) -> {
+      Lane target = current != null ? current : new Lane(id);
+      target.queue.add(request);
+      queuedHolder.set(target.size.incrementAndGet());
+      return target;
+    });
+    int queued = queuedHolder.get();
+
+    try {
+      if (lane.scheduled.compareAndSet(false, true)) {
+        workers.schedule(() -> drain(lane), windowMicros, TimeUnit.MICROSECONDS);
+      } else if (queued >= maxBatch) {
+        // 창이 끝나기 전에 묶음이 가득 차면 바로 처리
+        workers.execute(() -> drain(lane));
+      }
+    } catch (RejectedExecutionException e) {
+      request.result.completeExceptionally(BusinessException.create(ErrorCode.INVENTORY_DECREMENT_TIMEOUT));
+    }
+    return request.result;
+  }
+
+  /**
+   * 큐에 쌓인 요청을 최대 max-batch 개씩 꺼내 처리
+   * 같은 상품의 묶음은 한 번에 하나씩만 처리된다.
+   */
+  private void drain(Lane lane) {
+    synchronized (lane) {
+      List<Request> batch = new ArrayList<>();
+      Request request;
+      while (batch.size() < maxBatch && (request = lane.queue.poll()) != null) {
+        batch.add(request);
+      }
+      lane.size.addAndGet(-batch.size());
+      if (!batch.isEmpty()) {
+        apply(lane.productId, batch);
+      }
+    }
+
+    if (!lane.queue.isEmpty()) {
+      workers.execute(() -> drain(lane));
+      return;
+    }
+    lane.scheduled.set(false);
+    // 플래그를 내리는 사이에 들어온 요청이 있으면 다시 예약
+    if (!lane.queue.isEmpty() && lane.scheduled.compareAndSet(false, true)) {
+      workers.schedule(() -> drain(lane), windowMicros, TimeUnit.MICROSECONDS);
+      return;
+    }
+    // 쉬는 큐는 지운다 (그 사이 요청이 들어왔으면 그 요청이 처리를 예약하므로 남겨 둔다)
+    lanes.computeIfPresent(lane.productId,
+        (id, current) -> current == lane && lane.queue.isEmpty() && !lane.scheduled.get() ? null : current);
+  }
+
+  /**
+   * 요청을 기다리고 있는 상품별 큐 수
+   */
+  int laneCount() {
+    return lanes.size();
+  }
+
+  /**
+   * 묶음을 조건부 UPDATE 로 차감하고 요청별 결과를 돌려주는 메서드
+   */
+  private void apply(Long productId, List<Request> batch) {
+    batch.removeIf(request -> request.result.isCancelled());
+    if (batch.isEmpty()) {
+      return;
+    }
+    batchSize.record(batch.size());
+
+    try {
+      List<Request> admitted = transactionTemplate.execute(status -> decreaseBatch(productId, batch));
+      for (Request request : batch) {
+        boolean success = admitted.contains(request);
+        // 기다리던 호출자가 이미 포기했다면 차감한 수량을 되돌린다
+        if (!request.result.complete(success) && success) {
+          compensate(productId, request.quantity);
+        }
+      }
+    } catch (RuntimeException e) {
+      log.error("재고 묶음 차감 실패 productId: {}, 요청 수: {}", productId, batch.size(), e);
+      batch.forEach(request -> request.result.completeExceptionally(e));
+    }
+  }
+
+  /**
+   * 합계 수량으로 먼저 차감을 시도하고, 재고가 부족하면 남은 재고 안에서 도착 순서대로 일부만 차감한다.
+   * 조건부 UPDATE 가 재고를 다시 확인하므로 조회와 차감 사이에 재고가 바뀌어도 음수가 되지 않는다.
+   */
+  private List<Request> decreaseBatch(Long productId, List<Request> batch) {
+    if (inventoryRepository.decreaseQuantity(productId, sum(batch)) == 1) {
+      return batch;
+    }
+    partialBatches.increment();
+
+    for (int attempt = 0; attempt < MAX_PARTIAL_ATTEMPTS; attempt++) {
+      Integer available = inventoryRepository.findQuantityByProductId(productId);
+      if (available == null) {
+        return List.of();
+      }
+      List<Request> admitted = new ArrayList<>();
+      int remaining = available;
+      for (Request request : batch) {
+        if (request.quantity <= remaining) {
+          admitted.add(request);
+          remaining -= request.quantity;
+        }
+      }
+      if (admitted.isEmpty()) {
+        return admitted;
+      }
+      if (inventoryRepository.decreaseQuantity(productId, sum(admitted)) == 1) {
+        return admitted;
+      }
+    }
+    return List.of();
+  }
+
+  private void compensate(Long productId, int quantity) {
+    try {
+      transactionTemplate.executeWithoutResult(status -> inventoryRepository.adjustQuantity(productId, quantity));
+      log.info("재고 차감 보상 productId: {}, 수량: {}", productId, quantity);
+    } catch (RuntimeException e) {
+      log.error("재고 차감 보상 실패 productId: {}, 수량: {}", productId, quantity, e);
+    }
+  }
+
+  private static int sum(List<Request> requests) {
+    int total = 0;
+    for (Request request : requests) {
+      total += request.quantity;
+    }
+    return total;
+  }
+
+  private static RuntimeException toRuntimeException(Throwable cause) {
+    if (cause instanceof RuntimeException runtimeException) {
+      return runtimeException;
+    }
+    if (cause instanceof CancellationException) {
+      return BusinessException.create(ErrorCode.INVENTORY_DECREMENT_TIMEOUT);
+    }
+    return new IllegalStateException(cause);
+  }
+
+  /**
+   * 상품별 요청 큐
+   */
+  private static final class Lane {
+
+    private final Long productId;
+    private final Queue<Request> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    private Lane(Long productId) {
+      this.productId = productId;
+    }
+  }
+
+  private static final class Request {
+
+    private final int quantity;
+    private final CompletableFuture<Boolean> result = new CompletableFuture<>();
+
+    private Request(int quantity) {
+      this.quantity = quantity;
+    }
+  }
+}
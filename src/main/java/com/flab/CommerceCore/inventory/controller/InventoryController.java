@@ -1,11 +1,22 @@
 package com.flab.CommerceCore.inventory.controller;
 
+import com.flab.CommerceCore.inventory.domain.dto.InventoryBulkResponse;
+import com.flab.CommerceCore.inventory.domain.dto.InventoryLedgerQuantityResponse;
 import com.flab.CommerceCore.inventory.domain.dto.InventoryResponse;
+import com.flab.CommerceCore.inventory.ledger.InventoryLedgerService;
+import com.flab.CommerceCore.inventory.service.InventoryBulkService;
 import com.flab.CommerceCore.inventory.service.InventoryService;
+import java.io.InputStream;
+import java.time.LocalDateTime;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -16,10 +27,15 @@ import org.springframework.web.bind.annotation.RestController;
 public class InventoryController {
 
   private final InventoryService inventoryService;
+  private final InventoryLedgerService ledgerService;
+  private final InventoryBulkService bulkService;
 
   @Autowired
-  public InventoryController(InventoryService inventoryService) {
+  public InventoryController(InventoryService inventoryService, InventoryLedgerService ledgerService,
+      InventoryBulkService bulkService) {
     this.inventoryService = inventoryService;
+    this.ledgerService = ledgerService;
+    this.bulkService = bulkService;
   }
 
   /**
@@ -48,4 +64,78 @@ public class InventoryController {
     return ResponseEntity.ok(updatedInventory);
   }
 
+  /**
+   * 상품의 재고를 인메모리 카운터 엔진으로 처리하도록 전환하는 API
+   * @param productId 전환할 상품 ID
+   * @return 처리 결과
+   */
+  @PutMapping("/counter/{productId}")
+  public ResponseEntity<Void> enableCounter(@PathVariable("productId") Long productId) {
+    inventoryService.enableCounter(productId);
+    return ResponseEntity.noContent().build();
+  }
+
+  /**
+   * 상품의 재고를 다시 DB 경로로 처리하도록 전환하는 API
+   * @param productId 전환할 상품 ID
+   * @return 처리 결과
+   */
+  @DeleteMapping("/counter/{productId}")
+  public ResponseEntity<Void> disableCounter(@PathVariable("productId") Long productId) {
+    inventoryService.disableCounter(productId);
+    return ResponseEntity.noContent().build();
+  }
+
+  /**
+   * 상품의 재고를 여러 버킷 행으로 나눠 처리하도록 전환하는 API
+   * @param productId 전환할 상품 ID
+   * @param buckets 버킷 수 (생략 시 기본값)
+   * @return 처리 결과
+   */
+  @PutMapping("/shard/{productId}")
+  public ResponseEntity<Void> enableSharding(@PathVariable("productId") Long productId,
+      @RequestParam(value = "buckets", defaultValue = "0") int buckets) {
+    inventoryService.enableSharding(productId, buckets);
+    return ResponseEntity.noContent().build();
+  }
+
+  /**
+   * 상품의 버킷 재고를 다시 재고 행 하나로 합치는 API
+   * @param productId 전환할 상품 ID
+   * @return 처리 결과
+   */
+  @DeleteMapping("/shard/{productId}")
+  public ResponseEntity<Void> disableSharding(@PathVariable("productId") Long productId) {
+    inventoryService.disableSharding(productId);
+    return ResponseEntity.noContent().build();
+  }
+
+  /**
+   * 특정 시점의 상품 재고 수량을 재고 원장으로 재구성하는 API
+   * @param productId 상품 ID
+   * @param at 조회할 시점 (ISO-8601, 생략 시 현재)
+   * @return 시점 재고 수량
+   */
+  @GetMapping("/{productId}/ledger/quantity")
+  public ResponseEntity<InventoryLedgerQuantityResponse> findQuantityAt(@PathVariable("productId") Long productId,
+      @RequestParam(value = "at", required = false)
+      @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at) {
+    return ResponseEntity.ok(ledgerService.quantityAt(productId, at == null ? LocalDateTime.now() : at));
+  }
+
+  /**
+   * 여러 상품의 재고를 한 번에 조정하는 API
+   * 본문은 [{"productId":1,"operation":"INCREASE","quantity":10}, ...] 형태의 JSON 배열이며 스트리밍으로 읽는다.
+   * @param body 요청 본문
+   * @return 행 단위 처리 결과 (본문이 중간에 깨진 경우 400 과 함께 그 앞까지의 결과)
+   */
+  @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<InventoryBulkResponse> bulkAdjust(InputStream body) {
+    InventoryBulkResponse response = bulkService.adjust(body);
+    if (response.getErrorCode() != null) {
+      return ResponseEntity.badRequest().body(response);
+    }
+    return ResponseEntity.ok(response);
+  }
+
 }
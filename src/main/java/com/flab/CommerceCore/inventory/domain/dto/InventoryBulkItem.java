@@ -0,0 +1,19 @@
+package com.flab.CommerceCore.inventory.domain.dto;
+
+import com.flab.CommerceCore.common.enums.InventoryOperation;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class InventoryBulkItem {
+
+  private Long productId;
+  private InventoryOperation operation;
+  private Integer quantity;
+
+}
@@ -0,0 +1,22 @@
+package com.flab.CommerceCore.inventory.domain.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class InventoryBulkResponse {
+
+  private int total;
+  private int succeeded;
+  private int failed;
+  // 요청 본문을 끝까지 읽지 못했을 때의 ErrorCode 이름 (앞서 처리된 행은 이미 반영되어 있다)
+  private String errorCode;
+  private List<InventoryBulkResult> results;
+
+}
@@ -0,0 +1,23 @@
+package com.flab.CommerceCore.inventory.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class InventoryBulkResult {
+
+  // 요청 배열에서의 위치 (0부터)
+  private int index;
+  private Long productId;
+  private boolean success;
+  // 성공 시 반영 후 재고 수량
+  private Integer quantity;
+  // 실패 시 ErrorCode 이름
+  private String errorCode;
+
+}
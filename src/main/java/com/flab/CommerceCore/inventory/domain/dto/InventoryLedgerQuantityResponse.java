@@ -0,0 +1,19 @@
+package com.flab.CommerceCore.inventory.domain.dto;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class InventoryLedgerQuantityResponse {
+
+  private Long productId;
+  private LocalDateTime at;
+  private long quantity;
+
+}
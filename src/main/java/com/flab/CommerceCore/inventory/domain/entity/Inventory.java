@@ -12,6 +12,7 @@ import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -20,7 +21,8 @@ import lombok.extern.slf4j.Slf4j;
 public class Inventory {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "inventory_seq_generator")
+    @SequenceGenerator(name = "inventory_seq_generator", sequenceName = "inventory_seq", allocationSize = 50)
     private Long inventoryId;
 
     @OneToOne(cascade = CascadeType.ALL)
@@ -30,6 +32,12 @@ public class Inventory {
     private Integer quantity;
     private LocalDateTime lastUpdate;
 
+    // 낙관적 락 버전 (기존 행은 0 으로 채워진다)
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     @Builder
     public Inventory(Product product, Integer quantity){
         this.product = product;
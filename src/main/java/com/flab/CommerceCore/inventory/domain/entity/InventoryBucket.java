@@ -0,0 +1,58 @@
+package com.flab.CommerceCore.inventory.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 샤딩된 상품의 재고 일부를 담는 하위 행
+ * 샤딩된 상품의 전체 재고는 버킷 수량의 합이며, 그동안 Inventory.quantity 는 0 으로 유지된다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = {
+    @UniqueConstraint(name = "uk_inventory_bucket_product_bucket", columnNames = {"product_id", "bucket_no"})
+})
+public class InventoryBucket {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long bucketId;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(name = "bucket_no", nullable = false)
+    private int bucketNo;
+
+    private int quantity;
+
+    private LocalDateTime lastUpdate;
+
+    @Builder
+    public InventoryBucket(Long productId, int bucketNo, int quantity) {
+        this.productId = productId;
+        this.bucketNo = bucketNo;
+        this.quantity = quantity;
+    }
+
+    @PrePersist
+    @PreUpdate
+    void setLastUpdate() {
+        this.lastUpdate = LocalDateTime.now();
+    }
+
+    /**
+     * 버킷 수량을 재배분 결과로 바꾸는 메서드
+     *
+     * @param quantity 새 수량
+     */
+    public void rebalance(int quantity) {
+        this.quantity = quantity;
+    }
+}
@@ -0,0 +1,34 @@
+package com.flab.CommerceCore.inventory.domain.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 노드별로 DB 에 반영이 끝난 재고 델타 저널의 마지막 세그먼트 번호
+ * 델타 반영과 같은 트랜잭션에서 갱신되므로, 복구 시 이미 반영된 세그먼트를 다시 적용하지 않는다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class InventoryJournalCheckpoint {
+
+    @Id
+    private String nodeId;
+
+    private long lastSegment;
+
+    private LocalDateTime lastUpdate;
+
+    public InventoryJournalCheckpoint(String nodeId) {
+        this.nodeId = nodeId;
+    }
+
+    public void advance(long segment) {
+        this.lastSegment = Math.max(this.lastSegment, segment);
+        this.lastUpdate = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,42 @@
+package com.flab.CommerceCore.inventory.domain.entity;
+
+import com.flab.CommerceCore.common.enums.InventoryLedgerReason;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재고 변경 내역을 기록하는 추가 전용(insert-only) 원장
+ * 행은 수정하거나 삭제하지 않으며, 삽입은 InventoryLedgerRecorder 가 JDBC 배치로 수행한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+    @Index(name = "idx_ledger_product_ledger_id", columnList = "product_id, ledger_id"),
+    @Index(name = "idx_ledger_created_at", columnList = "created_at")
+})
+public class InventoryLedger {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "ledger_id")
+    private Long ledgerId;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    private long delta;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 32)
+    private InventoryLedgerReason reason;
+
+    private Long orderId;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
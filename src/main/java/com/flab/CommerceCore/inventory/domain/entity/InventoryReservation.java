@@ -0,0 +1,54 @@
+package com.flab.CommerceCore.inventory.domain.entity;
+
+import com.flab.CommerceCore.common.enums.ReservationStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 확정 전까지 차감해 둔 재고 예약
+ * RESERVED 상태로 생성되어 주문이 확정되면 CONFIRMED, 취소되면 RELEASED, 만료 시간이 지나면 EXPIRED 가 된다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+    @Index(name = "idx_reservation_status", columnList = "status"),
+    @Index(name = "idx_reservation_status_expires_at", columnList = "status, expires_at"),
+    @Index(name = "idx_reservation_order_id", columnList = "order_id")
+})
+public class InventoryReservation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "inventory_reservation_seq_generator")
+    @SequenceGenerator(name = "inventory_reservation_seq_generator", sequenceName = "inventory_reservation_seq", allocationSize = 50)
+    private Long reservationId;
+
+    @Column(nullable = false)
+    private Long productId;
+
+    @Column(name = "order_id")
+    private Long orderId;
+
+    private int quantity;
+
+    @Enumerated(EnumType.STRING)
+    private ReservationStatus status;
+
+    private LocalDateTime expiresAt;
+
+    private LocalDateTime createTime;
+
+    @Builder
+    public InventoryReservation(Long productId, int quantity, LocalDateTime expiresAt) {
+        this.productId = productId;
+        this.quantity = quantity;
+        this.expiresAt = expiresAt;
+        this.status = ReservationStatus.RESERVED;
+        this.createTime = LocalDateTime.now();
+    }
+}
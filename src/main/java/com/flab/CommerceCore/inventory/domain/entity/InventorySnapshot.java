@@ -0,0 +1,49 @@
+package com.flab.CommerceCore.inventory.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재고 원장의 특정 지점(lastLedgerId)까지를 누적한 상품별 재고 수량 스냅샷
+ * 시점 재고는 그 시점 이전의 가장 최근 스냅샷에 이후 원장 행만 더해서 구한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+    @Index(name = "idx_snapshot_product_as_of", columnList = "product_id, as_of")
+}, uniqueConstraints = {
+    @UniqueConstraint(name = "uk_snapshot_product_ledger", columnNames = {"product_id", "last_ledger_id"})
+})
+public class InventorySnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long snapshotId;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    private long quantity;
+
+    // 스냅샷에 포함된 마지막 원장 ID
+    @Column(name = "last_ledger_id", nullable = false)
+    private long lastLedgerId;
+
+    // 스냅샷에 포함된 원장 행 중 가장 늦은 기록 시각
+    @Column(name = "as_of", nullable = false)
+    private LocalDateTime asOf;
+
+    @Builder
+    public InventorySnapshot(Long productId, long quantity, long lastLedgerId, LocalDateTime asOf) {
+        this.productId = productId;
+        this.quantity = quantity;
+        this.lastLedgerId = lastLedgerId;
+        this.asOf = asOf;
+    }
+}
@@ -0,0 +1,397 @@
+package com.flab.CommerceCore.inventory.engine;
+
+import com.flab.CommerceCore.common.exceptions.BusinessException;
+import com.flab.CommerceCore.common.exceptions.ErrorCode;
+import com.flab.CommerceCore.inventory.domain.entity.Inventory;
+import com.flab.CommerceCore.inventory.domain.entity.InventoryJournalCheckpoint;
+import com.flab.CommerceCore.inventory.repository.InventoryJournalCheckpointRepository;
+import com.flab.CommerceCore.inventory.repository.InventoryRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 플래시 세일처럼 주문이 몰리는 상품의 재고를 메모리에서 처리하는 카운터 엔진
+ *
+ * 등록된 상품의 재고는 CAS 기반 long 카운터로 관리되고, 모든 변경은 델타 저널에 먼저 기록된다.
+ * 누적된 순 변경분은 주기적으로 한 트랜잭션에서 Inventory 테이블에 반영되며,
+ * 반영된 저널 세그먼트 번호를 체크포인트로 남겨 재시작 시 남은 세그먼트만 다시 적용한다.
+ *
+ * 카운터가 재고의 기준 값이 되므로 등록된 상품은 한 노드에서만 처리되어야 한다.
+ *
+ * 등록은 재고 행을 SELECT ... FOR UPDATE 로 잠근 채 수량을 읽고 락을 풀기 전에 카운터를 공개하므로,
+ * 그 전에 커밋된 차감은 모두 초기 값에 반영된다. 등록 전에 DB 경로를 고른 요청은 락이 풀린 뒤 DB 에 반영될 수 있으므로,
+ * 첫 플러시에서 DB 수량과 초기 값의 차이를 카운터에 반영해 맞춘다.
+ */
+@Slf4j
+@Component
+public class InventoryCounterEngine {
+
+  private final InventoryRepository inventoryRepository;
+  private final InventoryJournalCheckpointRepository checkpointRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final InventoryDeltaJournal journal;
+  private final List<Long> initialProductIds;
+  private final String nodeId;
+
+  private final Map<Long, Counter> counters = new ConcurrentHashMap<>();
+  // 반영에 실패해 다음 플러시로 넘어간 델타 (flush 는 synchronized 로 직렬화)
+  private final Map<Long, Long> unflushedDeltas = new HashMap<>();
+  // 카운터 변경은 읽기 락, 저널 교체와 델타 수거는 쓰기 락으로 보호해 둘이 섞이지 않게 한다
+  private final ReentrantReadWriteLock journalLock = new ReentrantReadWriteLock();
+
+  @Autowired
+  public InventoryCounterEngine(InventoryRepository inventoryRepository,
+      InventoryJournalCheckpointRepository checkpointRepository,
+      PlatformTransactionManager transactionManager,
+      @Value("${inventory.counter.product-ids:}") List<Long> initialProductIds,
+      @Value("${inventory.counter.journal-dir:data/inventory-journal}") String journalDir,
+      @Value("${inventory.counter.journal-stripes:8}") int journalStripes,
+      @Value("${inventory.counter.node-id:local}") String nodeId) {
+    this.inventoryRepository = inventoryRepository;
+    this.checkpointRepository = checkpointRepository;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.journal = new InventoryDeltaJournal(Path.of(journalDir), journalStripes);
+    this.initialProductIds = initialProductIds;
+    this.nodeId = nodeId;
+  }
+
+  /**
+   * 이전 실행에서 반영되지 못한 저널을 복구하고, 설정된 상품들을 카운터에 등록
+   */
+  @PostConstruct
+  public void start() {
+    long checkpoint = checkpointRepository.findById(nodeId)
+        .map(InventoryJournalCheckpoint::getLastSegment)
+        .orElse(0L);
+    journal.start(checkpoint);
+    recover(checkpoint);
+    initialProductIds.forEach(this::register);
+  }
+
+  @PreDestroy
+  public void stop() {
+    flush();
+    journal.close();
+  }
+
+  /**
+   * 상품이 카운터 엔진에서 관리되는지 여부
+   *
+   * @param productId 상품 ID
+   * @return 관리 중이면 true
+   */
+  public boolean isManaged(Long productId) {
+    return counters.containsKey(productId);
+  }
+
+  /**
+   * 상품을 카운터 엔진에 등록하는 메서드
+   * 재고 행을 잠근 채 읽은 수량을 카운터의 초기 값으로 사용하고, 락이 풀리기 전에 카운터를 공개한다.
+   *
+   * @param productId 등록할 상품 ID
+   * @throws BusinessException 재고가 존재하지 않을 경우 발생
+   */
+  public void register(Long productId) {
+    transactionTemplate.executeWithoutResult(status -> {
+      List<Inventory> inventories = inventoryRepository.findAllByProductIdForUpdate(List.of(productId));
+      if (inventories.isEmpty()) {
+        log.error(ErrorCode.PRODUCT_NOT_FOUND.getDetail(), productId);
+        throw BusinessException.create(ErrorCode.PRODUCT_NOT_FOUND);
+      }
+      int quantity = inventories.get(0).getQuantity();
+      if (counters.putIfAbsent(productId, new Counter(quantity)) == null) {
+        log.info("재고 카운터 등록 productId: {}, 수량: {}", productId, quantity);
+      }
+    });
+  }
+
+  /**
+   * 상품을 카운터 엔진에서 해제하는 메서드
+   * 남은 델타를 DB 에 반영한 뒤 일반 JPA 경로로 되돌린다.
+   *
+   * @param productId 해제할 상품 ID
+   */
+  public synchronized void unregister(Long productId) {
+    journalLock.writeLock().lock();
+    try {
+      Counter counter = counters.remove(productId);
+      if (counter == null) {
+        return;
+      }
+      unflushedDeltas.merge(productId, counter.pendingDelta.getAndSet(0), Long::sum);
+    } finally {
+      journalLock.writeLock().unlock();
+    }
+    flush();
+    log.info("재고 카운터 해제 productId: {}", productId);
+  }
+
+  /**
+   * 현재 재고 수량 조회
+   *
+   * @param productId 상품 ID
+   * @return 메모리상의 재고 수량
+   */
+  public int getQuantity(Long productId) {
+    return Math.toIntExact(getCounter(productId).quantity.get());
+  }
+
+  /**
+   * 재고를 차감하는 메서드
+   * 진행 중인 트랜잭션이 있으면, 롤백 시 차감한 수량을 되돌리도록 등록한다.
+   *
+   * @param productId 상품 ID
+   * @param quantity 차감할 수량
+   * @return 차감 후 재고 수량
+   * @throws BusinessException 재고가 부족할 경우 발생
+   */
+  public int decrease(Long productId, int quantity) {
+    long remaining;
+    journalLock.readLock().lock();
+    try {
+      Counter counter = getCounter(productId);
+      long current;
+      do {
+        current = counter.quantity.get();
+        if (current < quantity) {
+          log.error(ErrorCode.INSUFFICIENT_INVENTORY.getDetail(), current, quantity);
+          throw BusinessException.create(ErrorCode.INSUFFICIENT_INVENTORY);
+        }
+      } while (!counter.quantity.compareAndSet(current, current - quantity));
+      remaining = current - quantity;
+      record(counter, productId, -quantity);
+    } finally {
+      journalLock.readLock().unlock();
+    }
+
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCompletion(int status) {
+          if (status == STATUS_ROLLED_BACK) {
+            compensate(productId, quantity);
+          }
+        }
+      });
+    }
+    return Math.toIntExact(remaining);
+  }
+
+  /**
+   * 재고를 증가시키는 메서드
+   *
+   * @param productId 상품 ID
+   * @param quantity 증가시킬 수량
+   * @return 증가 후 재고 수량
+   */
+  public int increase(Long productId, int quantity) {
+    journalLock.readLock().lock();
+    try {
+      Counter counter = getCounter(productId);
+      long updated = counter.quantity.addAndGet(quantity);
+      record(counter, productId, quantity);
+      return Math.toIntExact(updated);
+    } finally {
+      journalLock.readLock().unlock();
+    }
+  }
+
+  /**
+   * 재고를 특정 수량으로 재설정하는 메서드
+   * 다른 변경이 끼어들지 않도록 쓰기 락 안에서 현재 값과의 차이를 델타로 기록한다.
+   *
+   * @param productId 상품 ID
+   * @param quantity 설정할 수량
+   * @return 재설정 이전 재고 수량
+   */
+  public int update(Long productId, int quantity) {
+    journalLock.writeLock().lock();
+    try {
+      Counter counter = getCounter(productId);
+      long previous = counter.quantity.getAndSet(quantity);
+      record(counter, productId, quantity - previous);
+      return Math.toIntExact(previous);
+    } finally {
+      journalLock.writeLock().unlock();
+    }
+  }
+
+  @Scheduled(fixedDelayString = "${inventory.counter.flush-interval-ms:1000}")
+  public void scheduledFlush() {
+    if (!counters.isEmpty()) {
+      flush();
+    }
+  }
+
+  /**
+   * 누적된 순 변경분을 DB 에 반영하는 메서드
+   * 저널 세그먼트를 교체하면서 델타를 수거하고, 델타 반영과 체크포인트 갱신을 한 트랜잭션으로 처리한다.
+   * 등록 후 처음 반영하는 상품은 먼저 DB 수량과 초기 값을 맞춘다.
+   * 반영에 실패한 델타는 다음 플러시로 넘긴다.
+   */
+  public synchronized void flush() {
+    long segment;
+    journalLock.writeLock().lock();
+    try {
+      segment = journal.rotate();
+      counters.forEach((productId, counter) -> {
+        long delta = counter.pendingDelta.getAndSet(0);
+        if (delta != 0) {
+          unflushedDeltas.merge(productId, delta, Long::sum);
+        }
+      });
+    } finally {
+      journalLock.writeLock().unlock();
+    }
+
+    Map<Long, Long> deltas = new HashMap<>(unflushedDeltas);
+    deltas.values().removeIf(delta -> delta == 0);
+    if (deltas.isEmpty() && counters.values().stream().allMatch(counter -> counter.reconciled)) {
+      // 순 변경분이 없으면 교체된 세그먼트에도 반영할 내용이 없다
+      unflushedDeltas.clear();
+      journal.deleteUpTo(segment);
+      return;
+    }
+    try {
+      persist(deltas, segment);
+      unflushedDeltas.clear();
+      journal.deleteUpTo(segment);
+    } catch (RuntimeException e) {
+      log.error("재고 델타 반영 실패, 다음 플러시에서 재시도 segment: {}", segment, e);
+    }
+  }
+
+  /**
+   * 이전 실행에서 체크포인트 이후로 남은 저널 세그먼트를 DB 에 반영
+   */
+  private void recover(long checkpoint) {
+    long lastSegment = journal.lastClosedSegment();
+    if (lastSegment <= checkpoint) {
+      journal.deleteUpTo(lastSegment);
+      return;
+    }
+
+    Map<Long, Long> deltas = journal.readSegmentsAfter(checkpoint);
+    persist(deltas, lastSegment);
+    journal.deleteUpTo(lastSegment);
+    log.info("재고 델타 저널 복구 완료 segment: {} ~ {}, 상품 수: {}", checkpoint + 1, lastSegment, deltas.size());
+  }
+
+  private void persist(Map<Long, Long> deltas, long segment) {
+    Map<Long, Counter> unreconciled = new HashMap<>();
+    counters.forEach((productId, counter) -> {
+      if (!counter.reconciled) {
+        unreconciled.put(productId, counter);
+      }
+    });
+    transactionTemplate.executeWithoutResult(status -> {
+      unreconciled.forEach(this::reconcile);
+      deltas.forEach((productId, delta) ->
+          inventoryRepository.adjustQuantity(productId, Math.toIntExact(delta)));
+
+      InventoryJournalCheckpoint checkpoint = checkpointRepository.findById(nodeId)
+          .orElseGet(() -> new InventoryJournalCheckpoint(nodeId));
+      checkpoint.advance(segment);
+      checkpointRepository.save(checkpoint);
+    });
+    unreconciled.values().forEach(counter -> counter.reconciled = true);
+  }
+
+  /**
+   * 등록 전에 DB 경로를 고른 요청이 락이 풀린 뒤 반영한 변경을 카운터에 더하는 메서드 (첫 플러시 트랜잭션 안에서 호출)
+   * 아직 DB 에 반영한 델타가 없으므로 잠근 DB 수량과 초기 값의 차이가 곧 그 변경이다.
+   * 트랜잭션이 롤백되면 다음 플러시에서 다시 맞추도록 카운터에 더한 차이를 되돌린다.
+   */
+  private void reconcile(Long productId, Counter counter) {
+    List<Inventory> inventories = inventoryRepository.findAllByProductIdForUpdate(List.of(productId));
+    if (inventories.isEmpty()) {
+      return;
+    }
+    long drift = inventories.get(0).getQuantity() - counter.seed;
+    if (drift == 0) {
+      return;
+    }
+    long quantity = counter.quantity.addAndGet(drift);
+    counter.seed += drift;
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCompletion(int status) {
+          if (status == STATUS_ROLLED_BACK) {
+            counter.quantity.addAndGet(-drift);
+            counter.seed -= drift;
+          }
+        }
+      });
+    }
+    if (quantity < 0) {
+      log.error("재고 카운터 등록 중 DB 에서 차감된 수량이 있어 초과 판매 productId: {}, 차이: {}, 수량: {}",
+          productId, drift, quantity);
+    } else {
+      log.warn("재고 카운터 등록 중 DB 에서 바뀐 수량을 반영 productId: {}, 차이: {}, 수량: {}", productId, drift, quantity);
+    }
+  }
+
+  /**
+   * 롤백된 트랜잭션에서 차감한 재고를 되돌리는 메서드
+   * 그 사이 엔진에서 해제된 상품이면 DB 에 직접 반영한다.
+   */
+  private void compensate(Long productId, int quantity) {
+    if (isManaged(productId)) {
+      increase(productId, quantity);
+    } else {
+      transactionTemplate.executeWithoutResult(
+          status -> inventoryRepository.adjustQuantity(productId, quantity));
+    }
+  }
+
+  private void record(Counter counter, Long productId, long delta) {
+    try {
+      journal.append(productId, delta);
+    } catch (RuntimeException e) {
+      // 저널에 남기지 못한 변경은 적용하지 않는다
+      counter.quantity.addAndGet(-delta);
+      throw e;
+    }
+    counter.pendingDelta.addAndGet(delta);
+  }
+
+  private Counter getCounter(Long productId) {
+    Counter counter = counters.get(productId);
+    if (counter == null) {
+      log.error(ErrorCode.INVENTORY_NOT_FOUND.getDetail(), productId);
+      throw BusinessException.create(ErrorCode.INVENTORY_NOT_FOUND);
+    }
+    return counter;
+  }
+
+  private static final class Counter {
+
+    private final AtomicLong quantity;
+    private final AtomicLong pendingDelta = new AtomicLong();
+    // 등록 시 읽은 DB 수량 (첫 플러시에서 DB 와 맞출 때만 사용, flush 로 직렬화)
+    private long seed;
+    private volatile boolean reconciled;
+
+    private Counter(long quantity) {
+      this.quantity = new AtomicLong(quantity);
+      this.seed = quantity;
+    }
+  }
+}
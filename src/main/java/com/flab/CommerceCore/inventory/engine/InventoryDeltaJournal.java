@@ -0,0 +1,222 @@
+package com.flab.CommerceCore.inventory.engine;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 인메모리 재고 카운터의 변경분(델타)을 기록하는 추가 전용 저널
+ * 저널은 세그먼트 단위로 교체되며, DB 반영이 끝난 세그먼트는 삭제된다.
+ * 한 세그먼트는 스트라이프별 파일(journal-{seq}-{stripe}.log)로 나뉘고, 기록하는 스레드에 따라 스트라이프를 고르므로
+ * 한 상품에 주문이 몰려도 모든 기록이 하나의 락과 파일에 줄 서지 않는다. 복구는 델타를 합산하므로 스트라이프 간 순서는 상관없다.
+ * 각 기록은 OS 버퍼까지 즉시 flush 하고, 세그먼트를 닫을 때 디스크에 동기화한다.
+ */
+@Slf4j
+public class InventoryDeltaJournal {
+
+  private static final String SEGMENT_PREFIX = "journal-";
+  private static final String SEGMENT_SUFFIX = ".log";
+
+  private final Path directory;
+  private final Stripe[] stripes;
+  private volatile long activeSegment;
+
+  public InventoryDeltaJournal(Path directory, int stripeCount) {
+    if (stripeCount <= 0) {
+      throw new IllegalArgumentException("저널 스트라이프 수는 0보다 커야 합니다.");
+    }
+    this.directory = directory;
+    this.stripes = new Stripe[stripeCount];
+    for (int i = 0; i < stripeCount; i++) {
+      stripes[i] = new Stripe(i);
+    }
+    try {
+      Files.createDirectories(directory);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * 기록할 세그먼트를 여는 메서드
+   * 남아 있는 세그먼트와 체크포인트보다 큰 번호로 시작해, 반영이 끝난 번호를 재사용하지 않는다.
+   *
+   * @param checkpoint DB 에 반영이 끝난 마지막 세그먼트 번호
+   */
+  public synchronized void start(long checkpoint) {
+    long lastSegment = findSegments().stream().mapToLong(Long::longValue).max().orElse(0L);
+    this.activeSegment = Math.max(lastSegment, checkpoint) + 1;
+    for (Stripe stripe : stripes) {
+      stripe.open(activeSegment);
+    }
+  }
+
+  /**
+   * 델타 한 건을 현재 세그먼트에 기록하는 메서드
+   *
+   * @param productId 상품 ID
+   * @param delta 재고 변경량 (감소는 음수)
+   */
+  public void append(long productId, long delta) {
+    stripes[(int) (Thread.currentThread().getId() % stripes.length)].append(productId + " " + delta);
+  }
+
+  /**
+   * 현재 세그먼트를 닫고 새 세그먼트를 여는 메서드
+   * 기록과 동시에 호출되지 않아야 한다. (카운터 엔진이 쓰기 락 안에서 호출)
+   *
+   * @return 닫힌 세그먼트 번호
+   */
+  public synchronized long rotate() {
+    long closedSegment = activeSegment;
+    for (Stripe stripe : stripes) {
+      stripe.close();
+      stripe.open(closedSegment + 1);
+    }
+    activeSegment = closedSegment + 1;
+    return closedSegment;
+  }
+
+  /**
+   * 이전 실행에서 남은, 체크포인트 이후의 세그먼트들을 읽어 상품별 델타 합계를 구하는 메서드
+   *
+   * @param checkpoint DB 에 반영이 끝난 마지막 세그먼트 번호
+   * @return 상품 ID 별 델타 합계
+   */
+  public Map<Long, Long> readSegmentsAfter(long checkpoint) {
+    Map<Long, Long> deltas = new HashMap<>();
+    for (Path file : findSegmentFiles()) {
+      long segment = segmentOf(file);
+      if (segment <= checkpoint || segment >= activeSegment) {
+        continue;
+      }
+      try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+        String line;
+        while ((line = reader.readLine()) != null) {
+          String[] entry = line.split(" ");
+          // 기록 도중 종료되어 잘린 마지막 줄은 무시
+          if (entry.length == 2) {
+            deltas.merge(Long.parseLong(entry[0]), Long.parseLong(entry[1]), Long::sum);
+          }
+        }
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+    return deltas;
+  }
+
+  /**
+   * 현재 세그먼트 직전까지의 마지막 세그먼트 번호
+   */
+  public synchronized long lastClosedSegment() {
+    return activeSegment - 1;
+  }
+
+  /**
+   * DB 반영이 끝난 세그먼트를 삭제하는 메서드
+   *
+   * @param segment 삭제할 마지막 세그먼트 번호 (이 번호 이하 모두 삭제)
+   */
+  public void deleteUpTo(long segment) {
+    for (Path file : findSegmentFiles()) {
+      if (segmentOf(file) <= segment) {
+        try {
+          Files.deleteIfExists(file);
+        } catch (IOException e) {
+          log.warn("저널 세그먼트 삭제 실패 file: {}", file, e);
+        }
+      }
+    }
+  }
+
+  public synchronized void close() {
+    for (Stripe stripe : stripes) {
+      stripe.close();
+    }
+  }
+
+  private List<Long> findSegments() {
+    return findSegmentFiles().stream().map(InventoryDeltaJournal::segmentOf).distinct().toList();
+  }
+
+  private List<Path> findSegmentFiles() {
+    try (Stream<Path> files = Files.list(directory)) {
+      return files.filter(path -> {
+        String name = path.getFileName().toString();
+        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+      }).toList();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * 파일 이름에서 세그먼트 번호를 읽는다. (스트라이프가 없던 journal-{seq}.log 도 읽는다)
+   */
+  private static long segmentOf(Path file) {
+    String name = file.getFileName().toString();
+    String body = name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length());
+    int separator = body.indexOf('-');
+    return Long.parseLong(separator < 0 ? body : body.substring(0, separator));
+  }
+
+  /**
+   * 세그먼트의 스트라이프 하나에 기록하는 파일 (스트라이프마다 락이 따로 있다)
+   */
+  private final class Stripe {
+
+    private final int index;
+    private FileOutputStream outputStream;
+    private BufferedWriter writer;
+
+    private Stripe(int index) {
+      this.index = index;
+    }
+
+    private synchronized void append(String entry) {
+      try {
+        writer.write(entry);
+        writer.newLine();
+        writer.flush();
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    private synchronized void open(long segment) {
+      try {
+        Path path = directory.resolve(SEGMENT_PREFIX + segment + "-" + index + SEGMENT_SUFFIX);
+        outputStream = new FileOutputStream(path.toFile(), true);
+        writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    private synchronized void close() {
+      if (writer == null) {
+        return;
+      }
+      try {
+        writer.flush();
+        outputStream.getFD().sync();
+        writer.close();
+        writer = null;
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+  }
+}
@@ -0,0 +1,150 @@
+package com.flab.CommerceCore.inventory.ledger;
+
+import static com.flab.CommerceCore.common.query.QueryConstant.INSERT_INVENTORY_LEDGER;
+
+import com.flab.CommerceCore.common.enums.InventoryLedgerReason;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 재고 변경 내역을 원장(inventory_ledger)에 추가하는 기록기
+ *
+ * 트랜잭션 안에서 기록된 행은 트랜잭션별 버퍼에 모았다가 커밋 직전(beforeCommit)에 JDBC 배치 INSERT 로
+ * 같은 트랜잭션에서 한 번에 쓴다. 재고 변경이 롤백되면 원장 행도 함께 사라지고, 주문 하나가 여러 상품을
+ * 차감해도 원장 쓰기는 왕복 한 번으로 끝난다. 트랜잭션 밖에서 기록하면 바로 INSERT 한다.
+ *
+ * 원장 INSERT 는 재고 행 UPDATE 에 더해지는 비용이므로 inventory.ledger.enabled 를 켠 경우에만 기록한다.
+ */
+@Slf4j
+@Component
+public class InventoryLedgerRecorder {
+
+  private final JdbcTemplate jdbcTemplate;
+  private final boolean enabled;
+  private final int batchSize;
+
+  @Autowired
+  public InventoryLedgerRecorder(JdbcTemplate jdbcTemplate,
+      @Value("${inventory.ledger.enabled:false}") boolean enabled,
+      @Value("${inventory.ledger.batch-size:500}") int batchSize) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.enabled = enabled;
+    this.batchSize = batchSize;
+  }
+
+  /**
+   * 재고 변경 내역을 원장에 기록하는 메서드
+   *
+   * @param productId 상품 ID
+   * @param delta 재고 변경량 (차감은 음수)
+   * @param reason 변경 사유
+   */
+  public void record(Long productId, long delta, InventoryLedgerReason reason) {
+    if (!enabled || delta == 0) {
+      return;
+    }
+    Entry entry = new Entry(productId, delta, reason, LocalDateTime.now());
+
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      insert(List.of(entry));
+      return;
+    }
+    currentBuffer().entries.add(entry);
+  }
+
+  /**
+   * 현재 트랜잭션에서 기록된 원장 행 중 주문이 지정되지 않은 행에 주문 ID 를 채우는 메서드
+   * 주문 ID 는 재고 차감 뒤에 주문을 저장해야 알 수 있으므로, 커밋 전에 이 메서드로 묶는다.
+   *
+   * @param orderId 주문 ID
+   */
+  public void attachOrder(Long orderId) {
+    if (!TransactionSynchronizationManager.hasResource(this)) {
+      return;
+    }
+    Buffer buffer = (Buffer) TransactionSynchronizationManager.getResource(this);
+    for (Entry entry : buffer.entries) {
+      if (entry.orderId == null) {
+        entry.orderId = orderId;
+      }
+    }
+  }
+
+  /**
+   * 현재 트랜잭션의 버퍼를 반환하고, 처음이면 버퍼를 바인딩하고 커밋 전 쓰기를 등록한다.
+   */
+  private Buffer currentBuffer() {
+    Buffer buffer = (Buffer) TransactionSynchronizationManager.getResource(this);
+    if (buffer != null) {
+      return buffer;
+    }
+
+    Buffer created = new Buffer();
+    TransactionSynchronizationManager.bindResource(this, created);
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void beforeCommit(boolean readOnly) {
+        insert(created.entries);
+        created.entries.clear();
+      }
+
+      @Override
+      public void afterCompletion(int status) {
+        TransactionSynchronizationManager.unbindResourceIfPossible(InventoryLedgerRecorder.this);
+      }
+    });
+    return created;
+  }
+
+  private void insert(List<Entry> entries) {
+    if (entries.isEmpty()) {
+      return;
+    }
+    jdbcTemplate.batchUpdate(INSERT_INVENTORY_LEDGER, entries, batchSize, (ps, entry) -> {
+      ps.setLong(1, entry.productId);
+      ps.setLong(2, entry.delta);
+      ps.setString(3, entry.reason.name());
+      if (entry.orderId == null) {
+        ps.setNull(4, Types.BIGINT);
+      } else {
+        ps.setLong(4, entry.orderId);
+      }
+      ps.setTimestamp(5, Timestamp.valueOf(entry.createdAt));
+    });
+    log.debug("재고 원장 기록 행 수: {}", entries.size());
+  }
+
+  /**
+   * 트랜잭션별 원장 행 버퍼
+   */
+  private static final class Buffer {
+
+    private final List<Entry> entries = new ArrayList<>();
+  }
+
+  private static final class Entry {
+
+    private final Long productId;
+    private final long delta;
+    private final InventoryLedgerReason reason;
+    private final LocalDateTime createdAt;
+    private Long orderId;
+
+    private Entry(Long productId, long delta, InventoryLedgerReason reason, LocalDateTime createdAt) {
+      this.productId = productId;
+      this.delta = delta;
+      this.reason = reason;
+      this.createdAt = createdAt;
+    }
+  }
+}
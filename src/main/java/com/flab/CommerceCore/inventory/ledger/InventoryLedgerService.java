@@ -0,0 +1,166 @@
+package com.flab.CommerceCore.inventory.ledger;
+
+import static com.flab.CommerceCore.common.query.QueryConstant.INSERT_OPENING_BALANCE_LEDGER;
+
+import com.flab.CommerceCore.common.exceptions.BusinessException;
+import com.flab.CommerceCore.common.exceptions.ErrorCode;
+import com.flab.CommerceCore.inventory.domain.dto.InventoryLedgerQuantityResponse;
+import com.flab.CommerceCore.inventory.domain.entity.InventorySnapshot;
+import com.flab.CommerceCore.inventory.repository.InventoryLedgerRepository;
+import com.flab.CommerceCore.inventory.repository.InventorySnapshotRepository;
+import jakarta.annotation.PostConstruct;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 재고 원장의 스냅샷을 만들고, 스냅샷과 원장으로 임의 시점의 재고 수량을 계산하는 서비스
+ *
+ * 스냅샷은 원장의 전역 위치(lastLedgerId)까지 누적한 상품별 수량이다. 주기 작업은 마지막 스냅샷 이후
+ * 변경된 상품에 대해서만 새 스냅샷을 남기므로, 시점 조회는 스냅샷 한 건과 그 뒤의 원장 꼬리만 더하면 된다.
+ * 원장 ID 는 INSERT 시점에 할당되지만 커밋은 그보다 늦을 수 있어, snapshot-lag 보다 최근에 기록된 행은
+ * 다음 주기로 미룬다. (원장을 쓰는 트랜잭션은 snapshot-lag 안에 끝난다고 가정한다)
+ *
+ * 재고 수량의 기준은 여전히 Inventory.quantity 이며, 원장은 변경 이력과 시점 재구성을 위한 추가 전용 기록이다.
+ * 원장은 재고 행 UPDATE 를 대신하지 못하고 쓰기마다 INSERT 를 더하므로 기본으로 꺼져 있으며,
+ * inventory.ledger.enabled 를 켠 경우에만 기초 잔액, 스냅샷, 시점 조회가 동작한다.
+ */
+@Slf4j
+@Service
+public class InventoryLedgerService {
+
+  private final InventoryLedgerRepository ledgerRepository;
+  private final InventorySnapshotRepository snapshotRepository;
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final boolean enabled;
+  private final Duration snapshotLag;
+  private final boolean backfillOnStartup;
+
+  @Autowired
+  public InventoryLedgerService(InventoryLedgerRepository ledgerRepository,
+      InventorySnapshotRepository snapshotRepository, JdbcTemplate jdbcTemplate,
+      PlatformTransactionManager transactionManager,
+      @Value("${inventory.ledger.enabled:false}") boolean enabled,
+      @Value("${inventory.ledger.snapshot-lag-seconds:30}") long snapshotLagSeconds,
+      @Value("${inventory.ledger.backfill-on-startup:true}") boolean backfillOnStartup) {
+    this.ledgerRepository = ledgerRepository;
+    this.snapshotRepository = snapshotRepository;
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.enabled = enabled;
+    this.snapshotLag = Duration.ofSeconds(snapshotLagSeconds);
+    this.backfillOnStartup = backfillOnStartup;
+  }
+
+  /**
+   * 원장 도입 이전부터 있던 재고의 현재 수량을 기초 잔액(OPENING_BALANCE)으로 기록
+   * 원장 행이 하나도 없는 상품에만 기록하므로 여러 번 실행해도 중복되지 않는다.
+   */
+  @PostConstruct
+  public void backfillOpeningBalances() {
+    if (!enabled || !backfillOnStartup) {
+      return;
+    }
+    Integer inserted = transactionTemplate.execute(status ->
+        jdbcTemplate.update(INSERT_OPENING_BALANCE_LEDGER, Timestamp.valueOf(LocalDateTime.now())));
+    if (inserted != null && inserted > 0) {
+      log.info("재고 원장 기초 잔액 기록 상품 수: {}", inserted);
+    }
+  }
+
+  /**
+   * 마지막 스냅샷 이후 변경된 상품의 스냅샷을 만드는 메서드
+   * 여러 노드에서 동시에 실행될 수 있으므로 상품별 기준 스냅샷은 구간 시작(fromLedgerId) 이하에서만 고른다.
+   * 그 사이 다른 노드가 만든 더 뒤의 스냅샷을 기준으로 삼으면 같은 원장 구간을 두 번 더하게 된다.
+   * 같은 구간을 동시에 만든 경우는 (product_id, last_ledger_id) 유니크 제약으로 한 노드만 기록한다.
+   *
+   * @return 새로 만든 스냅샷 수
+   */
+  @Scheduled(fixedDelayString = "${inventory.ledger.snapshot-interval-ms:60000}")
+  public int snapshot() {
+    if (!enabled) {
+      return 0;
+    }
+    long fromLedgerId = snapshotRepository.findMaxLastLedgerId();
+    Long toLedgerId = ledgerRepository.findMaxLedgerIdBefore(LocalDateTime.now().minus(snapshotLag));
+    if (toLedgerId == null || toLedgerId <= fromLedgerId) {
+      return 0;
+    }
+
+    int created;
+    try {
+      created = transactionTemplate.execute(status -> createSnapshots(fromLedgerId, toLedgerId));
+    } catch (DataIntegrityViolationException e) {
+      log.info("다른 노드가 같은 원장 구간의 스냅샷을 먼저 만들었습니다. 구간: ({}, {}]", fromLedgerId, toLedgerId);
+      return 0;
+    }
+
+    log.info("재고 스냅샷 생성 원장 구간: ({}, {}], 상품 수: {}", fromLedgerId, toLedgerId, created);
+    return created;
+  }
+
+  private int createSnapshots(long fromLedgerId, long toLedgerId) {
+    List<InventorySnapshot> snapshots = new ArrayList<>();
+    for (Object[] row : ledgerRepository.sumDeltaByProduct(fromLedgerId, toLedgerId)) {
+      Long productId = (Long) row[0];
+      long delta = ((Number) row[1]).longValue();
+      LocalDateTime asOf = (LocalDateTime) row[2];
+
+      Optional<InventorySnapshot> previous =
+          snapshotRepository.findTopByProductIdAndLastLedgerIdLessThanEqualOrderByLastLedgerIdDesc(
+              productId, fromLedgerId);
+      long quantity = previous.map(InventorySnapshot::getQuantity).orElse(0L) + delta;
+      if (previous.isPresent() && previous.get().getAsOf().isAfter(asOf)) {
+        asOf = previous.get().getAsOf();
+      }
+
+      snapshots.add(InventorySnapshot.builder()
+          .productId(productId)
+          .quantity(quantity)
+          .lastLedgerId(toLedgerId)
+          .asOf(asOf)
+          .build());
+    }
+    snapshotRepository.saveAllAndFlush(snapshots);
+    return snapshots.size();
+  }
+
+  /**
+   * 특정 시점의 상품 재고 수량을 원장으로 재구성하는 메서드
+   * 그 시점 이전의 가장 최근 스냅샷에 스냅샷 이후 그 시점까지의 원장 변경량을 더한다.
+   *
+   * @param productId 상품 ID
+   * @param at 조회할 시점
+   * @return 시점 재고 수량 정보
+   * @throws BusinessException 재고 원장이 꺼져 있을 경우 발생
+   */
+  public InventoryLedgerQuantityResponse quantityAt(Long productId, LocalDateTime at) {
+    if (!enabled) {
+      log.error(ErrorCode.INVENTORY_LEDGER_DISABLED.getDetail(), productId);
+      throw BusinessException.create(ErrorCode.INVENTORY_LEDGER_DISABLED);
+    }
+    Optional<InventorySnapshot> snapshot =
+        snapshotRepository.findTopByProductIdAndAsOfLessThanEqualOrderByLastLedgerIdDesc(productId, at);
+    long base = snapshot.map(InventorySnapshot::getQuantity).orElse(0L);
+    long afterLedgerId = snapshot.map(InventorySnapshot::getLastLedgerId).orElse(0L);
+
+    return InventoryLedgerQuantityResponse.builder()
+        .productId(productId)
+        .at(at)
+        .quantity(base + ledgerRepository.sumDeltaAfter(productId, afterLedgerId, at))
+        .build();
+  }
+}
@@ -0,0 +1,61 @@
+package com.flab.CommerceCore.inventory.repository;
+
+import static com.flab.CommerceCore.common.query.QueryConstant.ADJUST_BUCKET_QUANTITY;
+import static com.flab.CommerceCore.common.query.QueryConstant.COUNT_BUCKETS_BY_PRODUCT;
+import static com.flab.CommerceCore.common.query.QueryConstant.DECREASE_BUCKET_QUANTITY;
+import static com.flab.CommerceCore.common.query.QueryConstant.DELETE_BUCKETS_BY_PRODUCT;
+import static com.flab.CommerceCore.common.query.QueryConstant.FIND_BUCKETS_FOR_UPDATE;
+import static com.flab.CommerceCore.common.query.QueryConstant.SUM_BUCKET_QUANTITIES_BY_PRODUCT_IDS;
+import static com.flab.CommerceCore.common.query.QueryConstant.SUM_BUCKET_QUANTITY;
+
+import com.flab.CommerceCore.inventory.domain.entity.InventoryBucket;
+import jakarta.persistence.LockModeType;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface InventoryBucketRepository extends JpaRepository<InventoryBucket, Long> {
+
+    /**
+     * 버킷 재고가 충분할 때만 수량을 차감하는 조건부 UPDATE
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(DECREASE_BUCKET_QUANTITY)
+    int decreaseQuantity(@Param("productId") Long productId, @Param("bucketNo") int bucketNo,
+        @Param("quantity") int quantity);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(ADJUST_BUCKET_QUANTITY)
+    int adjustQuantity(@Param("productId") Long productId, @Param("bucketNo") int bucketNo,
+        @Param("delta") int delta);
+
+    @Query(SUM_BUCKET_QUANTITY)
+    long sumQuantityByProductId(@Param("productId") Long productId);
+
+    /**
+     * 여러 샤딩 상품의 버킷 수량 합을 한 번에 조회 ([productId, sum] 배열 리스트)
+     */
+    @Query(SUM_BUCKET_QUANTITIES_BY_PRODUCT_IDS)
+    List<Object[]> sumQuantitiesByProductIdIn(@Param("productIds") Collection<Long> productIds);
+
+    /**
+     * 샤딩된 상품별 버킷 수 ([productId, count] 배열 리스트)
+     */
+    @Query(COUNT_BUCKETS_BY_PRODUCT)
+    List<Object[]> countBucketsByProduct();
+
+    /**
+     * 상품의 버킷들을 버킷 번호 순으로 잠가서 조회 (재배분, 여러 버킷에 걸친 차감에 사용)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query(FIND_BUCKETS_FOR_UPDATE)
+    List<InventoryBucket> findAllByProductIdForUpdate(@Param("productId") Long productId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(DELETE_BUCKETS_BY_PRODUCT)
+    int deleteAllByProductId(@Param("productId") Long productId);
+}
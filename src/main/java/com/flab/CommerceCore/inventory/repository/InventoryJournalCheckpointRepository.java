@@ -0,0 +1,8 @@
+package com.flab.CommerceCore.inventory.repository;
+
+import com.flab.CommerceCore.inventory.domain.entity.InventoryJournalCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface InventoryJournalCheckpointRepository extends JpaRepository<InventoryJournalCheckpoint, String> {
+
+}
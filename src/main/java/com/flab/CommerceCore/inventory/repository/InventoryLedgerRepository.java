@@ -0,0 +1,34 @@
+package com.flab.CommerceCore.inventory.repository;
+
+import static com.flab.CommerceCore.common.query.QueryConstant.FIND_MAX_LEDGER_ID_BEFORE;
+import static com.flab.CommerceCore.common.query.QueryConstant.SUM_LEDGER_DELTA_AFTER;
+import static com.flab.CommerceCore.common.query.QueryConstant.SUM_LEDGER_DELTA_BY_PRODUCT;
+
+import com.flab.CommerceCore.inventory.domain.entity.InventoryLedger;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface InventoryLedgerRepository extends JpaRepository<InventoryLedger, Long> {
+
+  /**
+   * afterLedgerId 이후 at 시점까지 기록된 상품의 재고 변경량 합
+   */
+  @Query(SUM_LEDGER_DELTA_AFTER)
+  long sumDeltaAfter(@Param("productId") Long productId, @Param("afterLedgerId") long afterLedgerId,
+      @Param("at") LocalDateTime at);
+
+  @Query(FIND_MAX_LEDGER_ID_BEFORE)
+  Long findMaxLedgerIdBefore(@Param("before") LocalDateTime before);
+
+  /**
+   * 원장 ID 구간 (from, to] 의 상품별 [productId, 변경량 합, 마지막 기록 시각]
+   */
+  @Query(SUM_LEDGER_DELTA_BY_PRODUCT)
+  List<Object[]> sumDeltaByProduct(@Param("fromLedgerId") long fromLedgerId,
+      @Param("toLedgerId") long toLedgerId);
+
+  List<InventoryLedger> findAllByProductIdOrderByLedgerIdAsc(Long productId);
+}
@@ -1,15 +1,23 @@
 package com.flab.CommerceCore.inventory.repository;
 
+import static com.flab.CommerceCore.common.query.QueryConstant.ADJUST_INVENTORY_QUANTITY;
+import static com.flab.CommerceCore.common.query.QueryConstant.DECREASE_INVENTORY_QUANTITY;
 import static com.flab.CommerceCore.common.query.QueryConstant.FIND_ALL_INVENTORY_BY_PRODUCT_ID;
 import static com.flab.CommerceCore.common.query.QueryConstant.FIND_INVENTORY_BY_PRODUCT_ID;
+import static com.flab.CommerceCore.common.query.QueryConstant.FIND_PRODUCTS_WITH_INVENTORY;
+import static com.flab.CommerceCore.common.query.QueryConstant.FIND_QUANTITIES_BY_PRODUCT_IDS;
+import static com.flab.CommerceCore.common.query.QueryConstant.FIND_QUANTITY_BY_PRODUCT_ID;
 
 import com.flab.CommerceCore.inventory.domain.entity.Inventory;
+import com.flab.CommerceCore.product.domain.entity.Product;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-public interface InventoryRepository extends JpaRepository<Inventory, Long> {
+public interface InventoryRepository extends JpaRepository<Inventory, Long>, InventoryRepositoryCustom {
 
     @Query(FIND_INVENTORY_BY_PRODUCT_ID)
     Inventory findByProductId(@Param("productId") Long productId);
@@ -18,4 +26,37 @@ public interface InventoryRepository extends JpaRepository<Inventory, Long> {
 
     @Query(FIND_ALL_INVENTORY_BY_PRODUCT_ID)
     List<Inventory> findAllByProductId(@Param("productIds") List<Long> productIds);
+
+    /**
+     * 재고가 있는 상품만 재고와 조인하여 한 번의 쿼리로 조회
+     * 상품 존재와 재고 존재를 함께 검증할 수 있으며, 수량은 차감 시 조건부 UPDATE 가 검증하므로 재고 엔티티는 로딩하지 않는다.
+     */
+    @Query(FIND_PRODUCTS_WITH_INVENTORY)
+    List<Product> findProductsWithInventory(@Param("productIds") Collection<Long> productIds);
+
+    @Query(FIND_QUANTITY_BY_PRODUCT_ID)
+    Integer findQuantityByProductId(@Param("productId") Long productId);
+
+    /**
+     * 여러 상품의 재고 수량을 한 번의 IN 쿼리로 조회 ([productId, quantity] 배열 리스트)
+     */
+    @Query(FIND_QUANTITIES_BY_PRODUCT_IDS)
+    List<Object[]> findQuantitiesByProductIdIn(@Param("productIds") Collection<Long> productIds);
+
+    /**
+     * 재고가 충분할 때만 수량을 차감하는 조건부 UPDATE
+     * 영향받은 행이 0 이면 재고 부족(또는 재고 없음)을 의미한다.
+     * 벌크 연산이므로 실행 후 영속성 컨텍스트를 비워 오래된 Inventory 엔티티가 남지 않게 한다.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(DECREASE_INVENTORY_QUANTITY)
+    int decreaseQuantity(@Param("productId") Long productId, @Param("quantity") int quantity);
+
+    /**
+     * 재고 수량에 변경량(delta)을 그대로 더하는 UPDATE
+     * 인메모리 카운터의 순 변경분 반영이나 보상(재고 복원)처럼 수량 검증이 필요 없는 경우에 사용한다.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(ADJUST_INVENTORY_QUANTITY)
+    int adjustQuantity(@Param("productId") Long productId, @Param("delta") int delta);
 }
\ No newline at end of file
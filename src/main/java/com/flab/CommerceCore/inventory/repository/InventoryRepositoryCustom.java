@@ -0,0 +1,16 @@
+package com.flab.CommerceCore.inventory.repository;
+
+import com.flab.CommerceCore.inventory.domain.entity.Inventory;
+import java.util.List;
+
+public interface InventoryRepositoryCustom {
+
+    /**
+     * 상품들의 재고 행을 상품 ID 오름차순으로 비관적 쓰기 락(SELECT ... FOR UPDATE)을 걸어 조회
+     * 모든 주문이 같은 순서로 락을 잡으므로 여러 상품을 담은 주문끼리 데드락이 생기지 않는다.
+     *
+     * @param productIds 조회할 상품 ID 리스트
+     * @return 상품 ID 순으로 정렬된 재고 리스트
+     */
+    List<Inventory> findAllByProductIdForUpdate(List<Long> productIds);
+}
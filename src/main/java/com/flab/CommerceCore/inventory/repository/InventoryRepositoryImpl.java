@@ -0,0 +1,37 @@
+package com.flab.CommerceCore.inventory.repository;
+
+import static com.flab.CommerceCore.common.query.QueryConstant.FIND_ALL_INVENTORY_BY_PRODUCT_ID_ORDERED;
+
+import com.flab.CommerceCore.inventory.domain.entity.Inventory;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+
+public class InventoryRepositoryImpl implements InventoryRepositoryCustom {
+
+    private static final String LOCK_TIMEOUT_HINT = "jakarta.persistence.lock.timeout";
+    private static final String QUERY_TIMEOUT_HINT = "jakarta.persistence.query.timeout";
+
+    private final EntityManager entityManager;
+    private final int lockTimeoutMillis;
+
+    @Autowired
+    public InventoryRepositoryImpl(EntityManager entityManager,
+        @Value("${inventory.lock.timeout-ms:3000}") int lockTimeoutMillis) {
+        this.entityManager = entityManager;
+        this.lockTimeoutMillis = lockTimeoutMillis;
+    }
+
+    @Override
+    public List<Inventory> findAllByProductIdForUpdate(List<Long> productIds) {
+        // 락 타임아웃 힌트를 지원하지 않는 DB(MySQL 등)도 있으므로 쿼리 타임아웃으로 대기 시간을 함께 제한한다
+        return entityManager.createQuery(FIND_ALL_INVENTORY_BY_PRODUCT_ID_ORDERED, Inventory.class)
+            .setParameter("productIds", productIds.stream().sorted().toList())
+            .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+            .setHint(LOCK_TIMEOUT_HINT, lockTimeoutMillis)
+            .setHint(QUERY_TIMEOUT_HINT, lockTimeoutMillis)
+            .getResultList();
+    }
+}
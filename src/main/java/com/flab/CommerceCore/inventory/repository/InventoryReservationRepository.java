@@ -0,0 +1,59 @@
+package com.flab.CommerceCore.inventory.repository;
+
+import static com.flab.CommerceCore.common.query.QueryConstant.ASSIGN_RESERVATIONS;
+import static com.flab.CommerceCore.common.query.QueryConstant.CONFIRM_RESERVATIONS;
+import static com.flab.CommerceCore.common.query.QueryConstant.FIND_OVERDUE_RESERVATION_IDS;
+import static com.flab.CommerceCore.common.query.QueryConstant.FIND_RESERVED_EXPIRIES_AFTER;
+import static com.flab.CommerceCore.common.query.QueryConstant.TRANSITION_RESERVATION_STATUS;
+
+import com.flab.CommerceCore.common.enums.ReservationStatus;
+import com.flab.CommerceCore.inventory.domain.entity.InventoryReservation;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface InventoryReservationRepository extends JpaRepository<InventoryReservation, Long> {
+
+  List<InventoryReservation> findAllByOrderId(Long orderId);
+
+  /**
+   * 커서(after) 이후의 RESERVED 예약을 ID 순서로 조회 ([reservationId, expiresAt] 배열, 재시작 시 만료 복구용)
+   */
+  @Query(FIND_RESERVED_EXPIRIES_AFTER)
+  List<Object[]> findReservedExpiriesAfter(@Param("after") Long after, Pageable pageable);
+
+  /**
+   * 만료 시각이 지났는데 아직 RESERVED 인 예약 ID 를 커서(after) 이후부터 조회
+   */
+  @Query(FIND_OVERDUE_RESERVATION_IDS)
+  List<Long> findOverdueReservationIds(@Param("now") LocalDateTime now, @Param("after") Long after,
+      Pageable pageable);
+
+  /**
+   * 현재 상태가 from 중 하나일 때만 예약 상태를 바꾸는 조건부 UPDATE
+   * 만료와 확정/해제가 동시에 일어나도 한쪽만 성공한다.
+   */
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query(TRANSITION_RESERVATION_STATUS)
+  int transitionStatus(@Param("reservationId") Long reservationId,
+      @Param("from") Collection<ReservationStatus> from, @Param("to") ReservationStatus to);
+
+  /**
+   * RESERVED 상태인 예약들을 상태는 그대로 두고 주문에만 묶음 (결제 전)
+   */
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query(ASSIGN_RESERVATIONS)
+  int assignAll(@Param("reservationIds") List<Long> reservationIds, @Param("orderId") Long orderId);
+
+  /**
+   * RESERVED 상태인 예약들을 주문에 묶어 확정
+   */
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query(CONFIRM_RESERVATIONS)
+  int confirmAll(@Param("reservationIds") List<Long> reservationIds, @Param("orderId") Long orderId);
+}
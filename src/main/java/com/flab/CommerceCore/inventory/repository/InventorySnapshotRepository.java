@@ -0,0 +1,23 @@
+package com.flab.CommerceCore.inventory.repository;
+
+import static com.flab.CommerceCore.common.query.QueryConstant.FIND_MAX_SNAPSHOT_LEDGER_ID;
+
+import com.flab.CommerceCore.inventory.domain.entity.InventorySnapshot;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+public interface InventorySnapshotRepository extends JpaRepository<InventorySnapshot, Long> {
+
+  Optional<InventorySnapshot> findTopByProductIdAndAsOfLessThanEqualOrderByLastLedgerIdDesc(
+      Long productId, LocalDateTime at);
+
+  Optional<InventorySnapshot> findTopByProductIdOrderByLastLedgerIdDesc(Long productId);
+
+  Optional<InventorySnapshot> findTopByProductIdAndLastLedgerIdLessThanEqualOrderByLastLedgerIdDesc(
+      Long productId, long lastLedgerId);
+
+  @Query(FIND_MAX_SNAPSHOT_LEDGER_ID)
+  long findMaxLastLedgerId();
+}
@@ -0,0 +1,307 @@
+package com.flab.CommerceCore.inventory.service;
+
+import static com.flab.CommerceCore.common.query.QueryConstant.FIND_INVENTORY_QUANTITIES_FOR_UPDATE;
+import static com.flab.CommerceCore.common.query.QueryConstant.UPDATE_INVENTORY_QUANTITY_BY_PRODUCT_ID;
+
+import com.flab.CommerceCore.common.enums.InventoryLedgerReason;
+import com.flab.CommerceCore.common.enums.InventoryOperation;
+import com.flab.CommerceCore.common.exceptions.BusinessException;
+import com.flab.CommerceCore.common.exceptions.ErrorCode;
+import com.flab.CommerceCore.inventory.domain.dto.InventoryBulkItem;
+import com.flab.CommerceCore.inventory.domain.dto.InventoryBulkResponse;
+import com.flab.CommerceCore.inventory.domain.dto.InventoryBulkResult;
+import com.flab.CommerceCore.inventory.engine.InventoryCounterEngine;
+import com.flab.CommerceCore.inventory.ledger.InventoryLedgerRecorder;
+import com.flab.CommerceCore.inventory.sharding.InventoryShardManager;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 여러 상품의 재고를 한 번에 조정하는 일괄 처리 서비스
+ *
+ * 요청 본문(JSON 배열)을 한 행씩 스트리밍으로 읽어 chunk-size 개씩 묶고, 묶음마다 트랜잭션 하나에서
+ * 재고 행들을 상품 ID 순으로 한 번에 잠근 뒤 메모리에서 행 단위로 검증/계산하고, 바뀐 재고만 JDBC 배치 UPDATE 로 쓴다.
+ * 행 단위 결과(성공 시 반영 후 수량, 실패 시 ErrorCode)를 요청 순서대로 돌려준다.
+ *
+ * 카운터 엔진에 등록되었거나 샤딩된 상품은 재고 행이 기준이 아니므로, 묶음이 커밋된 뒤 InventoryService 로 한 행씩 처리한다.
+ */
+@Slf4j
+@Service
+public class InventoryBulkService {
+
+  private final InventoryService inventoryService;
+  private final InventoryCounterEngine counterEngine;
+  private final InventoryShardManager shardManager;
+  private final InventoryLedgerRecorder ledgerRecorder;
+  private final JdbcTemplate jdbcTemplate;
+  private final NamedParameterJdbcTemplate lockingJdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final int chunkSize;
+
+  @Autowired
+  public InventoryBulkService(InventoryService inventoryService, InventoryCounterEngine counterEngine,
+      InventoryShardManager shardManager, InventoryLedgerRecorder ledgerRecorder, JdbcTemplate jdbcTemplate,
+      PlatformTransactionManager transactionManager,
+      @Value("${inventory.bulk.chunk-size:1000}") int chunkSize,
+      @Value("${inventory.lock.timeout-ms:3000}") int lockTimeoutMillis) {
+    this.inventoryService = inventoryService;
+    this.counterEngine = counterEngine;
+    this.shardManager = shardManager;
+    this.ledgerRecorder = ledgerRecorder;
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.chunkSize = chunkSize;
+
+    // 잠금 대기가 길어지지 않도록 잠금 조회에만 쿼리 타임아웃을 건다
+    JdbcTemplate lockingTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+    lockingTemplate.setQueryTimeout(Math.max(1, (lockTimeoutMillis + 999) / 1000));
+    this.lockingJdbcTemplate = new NamedParameterJdbcTemplate(lockingTemplate);
+  }
+
+  /**
+   * JSON 배열로 들어온 재고 조정 요청을 묶음 단위로 반영하는 메서드
+   * 본문 중간에 JSON 이 깨지면 그 앞까지 읽은 행만 반영하고 errorCode 를 채워 돌려준다.
+   *
+   * @param body [{"productId":1,"operation":"INCREASE","quantity":10}, ...] 형태의 요청 본문
+   * @return 행 단위 처리 결과
+   */
+  public InventoryBulkResponse adjust(InputStream body) {
+    List<InventoryBulkResult> results = new ArrayList<>();
+    List<InventoryBulkItem> chunk = new ArrayList<>(chunkSize);
+    String errorCode = null;
+    long startNanos = System.nanoTime();
+
+    try (JsonReader reader = new JsonReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+      reader.beginArray();
+      while (reader.hasNext()) {
+        chunk.add(readItem(reader));
+        if (chunk.size() == chunkSize) {
+          applyChunk(results.size(), chunk, results);
+          chunk.clear();
+        }
+      }
+      reader.endArray();
+    } catch (IOException | IllegalStateException | NumberFormatException e) {
+      int parsed = results.size() + chunk.size();
+      log.error(ErrorCode.INVALID_BULK_REQUEST.getDetail(), parsed, e);
+      errorCode = ErrorCode.INVALID_BULK_REQUEST.name();
+    }
+    if (!chunk.isEmpty()) {
+      applyChunk(results.size(), chunk, results);
+    }
+
+    int succeeded = (int) results.stream().filter(InventoryBulkResult::isSuccess).count();
+    log.info("재고 일괄 조정 완료 행 수: {}, 성공: {}, 소요: {}ms",
+        results.size(), succeeded, (System.nanoTime() - startNanos) / 1_000_000);
+
+    return InventoryBulkResponse.builder()
+        .total(results.size())
+        .succeeded(succeeded)
+        .failed(results.size() - succeeded)
+        .errorCode(errorCode)
+        .results(results)
+        .build();
+  }
+
+  /**
+   * 묶음 하나를 처리하고 결과를 요청 순서대로 results 에 붙인다.
+   */
+  private void applyChunk(int offset, List<InventoryBulkItem> chunk, List<InventoryBulkResult> results) {
+    InventoryBulkResult[] chunkResults = new InventoryBulkResult[chunk.size()];
+    List<Integer> rowIndexes = new ArrayList<>();
+    List<Integer> serviceIndexes = new ArrayList<>();
+
+    for (int i = 0; i < chunk.size(); i++) {
+      InventoryBulkItem item = chunk.get(i);
+      ErrorCode invalid = validate(item);
+      if (invalid != null) {
+        chunkResults[i] = failure(offset + i, item, invalid);
+      } else if (counterEngine.isManaged(item.getProductId()) || shardManager.isSharded(item.getProductId())) {
+        serviceIndexes.add(i);
+      } else {
+        rowIndexes.add(i);
+      }
+    }
+
+    if (!rowIndexes.isEmpty()) {
+      try {
+        transactionTemplate.executeWithoutResult(status ->
+            applyRows(offset, chunk, rowIndexes, chunkResults));
+      } catch (RuntimeException e) {
+        log.error("재고 일괄 조정 묶음 실패 시작 행: {}, 행 수: {}", offset, rowIndexes.size(), e);
+        ErrorCode errorCode = e instanceof BusinessException businessException
+            ? businessException.getErrorCode() : ErrorCode.DATA_ACCESS_EXCEPTION;
+        for (int i : rowIndexes) {
+          chunkResults[i] = failure(offset + i, chunk.get(i), errorCode);
+        }
+      }
+    }
+
+    for (int i : serviceIndexes) {
+      chunkResults[i] = applyThroughService(offset + i, chunk.get(i));
+    }
+
+    results.addAll(List.of(chunkResults));
+  }
+
+  /**
+   * 묶음의 재고 행을 잠그고 행 단위로 계산한 뒤, 바뀐 재고를 배치 UPDATE 로 반영한다.
+   */
+  private void applyRows(int offset, List<InventoryBulkItem> chunk, List<Integer> rowIndexes,
+      InventoryBulkResult[] chunkResults) {
+    TreeSet<Long> productIds = new TreeSet<>();
+    for (int i : rowIndexes) {
+      productIds.add(chunk.get(i).getProductId());
+    }
+
+    Map<Long, Integer> quantities = new HashMap<>();
+    lockingJdbcTemplate.query(FIND_INVENTORY_QUANTITIES_FOR_UPDATE,
+        Map.of("productIds", new ArrayList<>(productIds)),
+        rs -> {
+          quantities.put(rs.getLong(1), rs.getInt(2));
+        });
+
+    Map<Long, Integer> changed = new HashMap<>();
+    for (int i : rowIndexes) {
+      InventoryBulkItem item = chunk.get(i);
+      Long productId = item.getProductId();
+      Integer current = quantities.get(productId);
+      if (current == null) {
+        chunkResults[i] = failure(offset + i, item, ErrorCode.PRODUCT_NOT_FOUND);
+        continue;
+      }
+
+      int updated = switch (item.getOperation()) {
+        case INCREASE -> current + item.getQuantity();
+        case DECREASE -> current - item.getQuantity();
+        case UPDATE -> item.getQuantity();
+      };
+      if (updated < 0) {
+        chunkResults[i] = failure(offset + i, item, ErrorCode.INSUFFICIENT_INVENTORY);
+        continue;
+      }
+
+      quantities.put(productId, updated);
+      changed.put(productId, updated);
+      ledgerRecorder.record(productId, (long) updated - current, reasonOf(item.getOperation()));
+      chunkResults[i] = success(offset + i, productId, updated);
+    }
+
+    if (changed.isEmpty()) {
+      return;
+    }
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    List<Map.Entry<Long, Integer>> updates = new ArrayList<>(changed.entrySet());
+    jdbcTemplate.batchUpdate(UPDATE_INVENTORY_QUANTITY_BY_PRODUCT_ID, updates, chunkSize, (ps, entry) -> {
+      ps.setInt(1, entry.getValue());
+      ps.setTimestamp(2, now);
+      ps.setLong(3, entry.getKey());
+    });
+  }
+
+  /**
+   * 카운터 엔진/샤딩 상품은 각자의 경로를 타도록 InventoryService 로 한 행씩 처리한다.
+   */
+  private InventoryBulkResult applyThroughService(int index, InventoryBulkItem item) {
+    Long productId = item.getProductId();
+    try {
+      int quantity = switch (item.getOperation()) {
+        case INCREASE -> {
+          inventoryService.increaseStock(productId, item.getQuantity(), InventoryLedgerReason.MANUAL_INCREASE);
+          yield inventoryService.findQuantityByProductId(productId);
+        }
+        case DECREASE -> inventoryService.reduceQuantity(productId, item.getQuantity()).getQuantity();
+        case UPDATE -> inventoryService.updateQuantity(productId, item.getQuantity()).getQuantity();
+      };
+      return success(index, productId, quantity);
+    } catch (BusinessException e) {
+      return failure(index, item, e.getErrorCode());
+    } catch (RuntimeException e) {
+      log.error("재고 일괄 조정 실패 productId: {}", productId, e);
+      return failure(index, item, ErrorCode.DATA_ACCESS_EXCEPTION);
+    }
+  }
+
+  private InventoryBulkItem readItem(JsonReader reader) throws IOException {
+    InventoryBulkItem.InventoryBulkItemBuilder builder = InventoryBulkItem.builder();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String name = reader.nextName();
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        continue;
+      }
+      switch (name) {
+        case "productId" -> builder.productId(reader.nextLong());
+        case "operation" -> builder.operation(parseOperation(reader.nextString()));
+        case "quantity" -> builder.quantity(reader.nextInt());
+        default -> reader.skipValue();
+      }
+    }
+    reader.endObject();
+    return builder.build();
+  }
+
+  private static InventoryOperation parseOperation(String operation) {
+    try {
+      return InventoryOperation.valueOf(operation);
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
+  }
+
+  private static ErrorCode validate(InventoryBulkItem item) {
+    if (item.getProductId() == null || item.getOperation() == null || item.getQuantity() == null) {
+      return ErrorCode.REQUIRED_FIELD_NULL;
+    }
+    if (item.getQuantity() < 0) {
+      return ErrorCode.NEGATIVE_QUANTITY;
+    }
+    return null;
+  }
+
+  private static InventoryLedgerReason reasonOf(InventoryOperation operation) {
+    return switch (operation) {
+      case INCREASE -> InventoryLedgerReason.MANUAL_INCREASE;
+      case DECREASE -> InventoryLedgerReason.MANUAL_DECREASE;
+      case UPDATE -> InventoryLedgerReason.MANUAL_UPDATE;
+    };
+  }
+
+  private static InventoryBulkResult success(int index, Long productId, int quantity) {
+    return InventoryBulkResult.builder()
+        .index(index)
+        .productId(productId)
+        .success(true)
+        .quantity(quantity)
+        .build();
+  }
+
+  private static InventoryBulkResult failure(int index, InventoryBulkItem item, ErrorCode errorCode) {
+    return InventoryBulkResult.builder()
+        .index(index)
+        .productId(item.getProductId())
+        .success(false)
+        .errorCode(errorCode.name())
+        .build();
+  }
+}
@@ -0,0 +1,341 @@
+package com.flab.CommerceCore.inventory.service;
+
+import com.flab.CommerceCore.common.annotation.RetryOnLockFailure;
+import com.flab.CommerceCore.common.enums.InventoryLedgerReason;
+import com.flab.CommerceCore.common.enums.ReservationStatus;
+import com.flab.CommerceCore.common.exceptions.BusinessException;
+import com.flab.CommerceCore.common.exceptions.ErrorCode;
+import com.flab.CommerceCore.common.timer.HashedWheelTimer;
+import com.flab.CommerceCore.inventory.domain.entity.InventoryReservation;
+import com.flab.CommerceCore.inventory.ledger.InventoryLedgerRecorder;
+import com.flab.CommerceCore.inventory.repository.InventoryReservationRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 재고 예약(reserve → confirm / release) 서비스
+ *
+ * 예약 시 재고를 차감하고 만료 시간이 있는 예약을 남긴다. 만료는 해시드 휠 타이머가 예약별로 처리하고,
+ * 만료된 예약은 조건부 상태 변경에 성공한 경우에만 재고를 되돌린다.
+ * 타이머는 메모리에만 있으므로 노드가 죽거나 타이머가 가득 차 놓친 예약은 sweep-interval-ms 마다
+ * 만료 시각이 지난 RESERVED 예약을 훑어 만료시킨다. (여러 노드가 함께 훑어도 조건부 상태 변경으로 한 번만 처리된다)
+ */
+@Slf4j
+@Service
+public class InventoryReservationService {
+
+  private static final Set<ReservationStatus> RELEASABLE =
+      EnumSet.of(ReservationStatus.RESERVED, ReservationStatus.CONFIRMED);
+  private static final Set<ReservationStatus> EXPIRABLE = EnumSet.of(ReservationStatus.RESERVED);
+  private static final int SCAN_PAGE_SIZE = 1000;
+
+  private final InventoryReservationRepository reservationRepository;
+  private final InventoryService inventoryService;
+  private final InventoryLedgerRecorder ledgerRecorder;
+  private final TransactionTemplate transactionTemplate;
+  private final HashedWheelTimer expiryTimer;
+  private final ExecutorService expiryExecutor;
+  private final Map<Long, HashedWheelTimer.Timeout> expiryTimeouts = new ConcurrentHashMap<>();
+  private final Duration ttl;
+  private final long maxPending;
+
+  @Autowired
+  public InventoryReservationService(InventoryReservationRepository reservationRepository,
+      InventoryService inventoryService, InventoryLedgerRecorder ledgerRecorder,
+      PlatformTransactionManager transactionManager,
+      @Value("${inventory.reservation.ttl-seconds:600}") long ttlSeconds,
+      @Value("${inventory.reservation.tick-ms:100}") long tickMillis,
+      @Value("${inventory.reservation.ticks-per-wheel:512}") int ticksPerWheel,
+      @Value("${inventory.reservation.max-pending:1000000}") long maxPending) {
+    this.reservationRepository = reservationRepository;
+    this.inventoryService = inventoryService;
+    this.ledgerRecorder = ledgerRecorder;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.ttl = Duration.ofSeconds(ttlSeconds);
+    this.maxPending = maxPending;
+    this.expiryTimer = new HashedWheelTimer("reservation-expiry-timer", tickMillis,
+        TimeUnit.MILLISECONDS, ticksPerWheel, maxPending);
+    // 만료 처리(DB 작업)는 타이머 스레드가 아닌 별도 스레드에서 수행해 tick 이 밀리지 않게 한다
+    this.expiryExecutor = Executors.newFixedThreadPool(2);
+  }
+
+  /**
+   * 재시작 전에 남아 있던 예약들의 만료를 다시 등록
+   * 예약 ID 순서로 나눠 읽고, 만료 시각이 이미 지난 예약은 타이머를 거치지 않고 바로 만료시킨다.
+   * 타이머가 가득 차면 기동을 멈추지 않고 건너뛰며, 건너뛴 예약은 주기적 만료 스캔이 처리한다.
+   */
+  @PostConstruct
+  public void recoverPendingReservations() {
+    LocalDateTime now = LocalDateTime.now();
+    int scheduled = 0;
+    int expired = 0;
+    int skipped = 0;
+    long after = 0L;
+    List<Object[]> page;
+    do {
+      page = reservationRepository.findReservedExpiriesAfter(after, PageRequest.of(0, SCAN_PAGE_SIZE));
+      for (Object[] row : page) {
+        Long reservationId = (Long) row[0];
+        LocalDateTime expiresAt = (LocalDateTime) row[1];
+        after = reservationId;
+        if (!expiresAt.isAfter(now)) {
+          expire(reservationId);
+          expired++;
+        } else if (tryScheduleExpiry(reservationId, Duration.between(now, expiresAt))) {
+          scheduled++;
+        } else {
+          skipped++;
+        }
+      }
+    } while (page.size() == SCAN_PAGE_SIZE);
+    if (skipped > 0) {
+      log.warn("만료 타이머가 가득 차 등록하지 못한 예약 수: {} (주기적 만료 스캔이 처리)", skipped);
+    }
+    log.info("재고 예약 만료 복구 완료 타이머 등록: {}, 바로 만료: {}", scheduled, expired);
+  }
+
+  /**
+   * 만료 시각이 지났는데 아직 RESERVED 인 예약을 만료시키는 메서드
+   * 죽은 노드의 타이머나 가득 찬 타이머 때문에 놓친 예약의 재고를 되돌린다.
+   */
+  @Scheduled(fixedDelayString = "${inventory.reservation.sweep-interval-ms:60000}")
+  public void expireOverdueReservations() {
+    LocalDateTime now = LocalDateTime.now();
+    int expired = 0;
+    long after = 0L;
+    List<Long> reservationIds;
+    do {
+      reservationIds = reservationRepository.findOverdueReservationIds(now, after,
+          PageRequest.of(0, SCAN_PAGE_SIZE));
+      for (Long reservationId : reservationIds) {
+        after = reservationId;
+        try {
+          expire(reservationId);
+          expired++;
+        } catch (RuntimeException e) {
+          log.error("만료 시각이 지난 예약 처리 실패 reservationId: {}", reservationId, e);
+        }
+      }
+    } while (reservationIds.size() == SCAN_PAGE_SIZE);
+    if (expired > 0) {
+      log.info("만료 시각이 지난 예약 처리 건수: {}", expired);
+    }
+  }
+
+  @PreDestroy
+  public void stop() {
+    expiryTimer.stop();
+    expiryExecutor.shutdown();
+  }
+
+  /**
+   * 상품별 수량만큼 재고를 차감하고 예약을 생성하는 메서드
+   *
+   * @param productQuantities 상품 ID 별 예약 수량
+   * @return 생성된 예약 ID 리스트
+   * @throws BusinessException 재고가 부족하거나 대기 중인 예약이 최대치를 넘은 경우 발생
+   */
+  @Transactional
+  @RetryOnLockFailure
+  public List<Long> reserve(Map<Long, Integer> productQuantities) {
+    inventoryService.decreaseStocks(productQuantities);
+
+    List<Long> reservationIds = new ArrayList<>();
+    LocalDateTime expiresAt = LocalDateTime.now().plus(ttl);
+
+    productQuantities.forEach((productId, quantity) -> {
+      InventoryReservation reservation = reservationRepository.save(InventoryReservation.builder()
+          .productId(productId)
+          .quantity(quantity)
+          .expiresAt(expiresAt)
+          .build());
+      Long reservationId = reservation.getReservationId();
+
+      scheduleExpiry(reservationId, ttl);
+      runAfterRollback(() -> cancelExpiry(reservationId));
+      reservationIds.add(reservationId);
+    });
+
+    return reservationIds;
+  }
+
+  /**
+   * 예약들을 확정하지 않고 주문에만 묶는 메서드 (결제 전)
+   * 예약은 RESERVED 상태로 남아 결제 전에 장애가 나도 만료 타이머가 재고를 되돌리고,
+   * 결제에 실패하면 {@link #releaseByOrderId(Long)} 로 해제할 수 있다.
+   * 같은 트랜잭션에서 예약하며 기록한 재고 원장 행에도 주문 ID 를 채운다.
+   *
+   * @param reservationIds 주문에 묶을 예약 ID 리스트
+   * @param orderId 예약을 묶을 주문 ID
+   * @throws BusinessException 만료되었거나 이미 처리된 예약이 있을 경우 발생
+   */
+  @Transactional
+  public void assign(List<Long> reservationIds, Long orderId) {
+    if (reservationIds.isEmpty()) {
+      return;
+    }
+    if (reservationRepository.assignAll(reservationIds, orderId) != reservationIds.size()) {
+      log.error(ErrorCode.RESERVATION_EXPIRED.getDetail(), reservationIds);
+      throw BusinessException.create(ErrorCode.RESERVATION_EXPIRED);
+    }
+    ledgerRecorder.attachOrder(orderId);
+  }
+
+  /**
+   * 예약들을 주문에 묶어 확정하는 메서드
+   * 같은 트랜잭션에서 예약하며 기록한 재고 원장 행에도 주문 ID 를 채운다.
+   *
+   * @param reservationIds 확정할 예약 ID 리스트
+   * @param orderId 예약을 묶을 주문 ID
+   * @throws BusinessException 만료되었거나 이미 처리된 예약이 있을 경우 발생
+   */
+  @Transactional
+  public void confirm(List<Long> reservationIds, Long orderId) {
+    if (reservationIds.isEmpty()) {
+      return;
+    }
+    if (reservationRepository.confirmAll(reservationIds, orderId) != reservationIds.size()) {
+      log.error(ErrorCode.RESERVATION_EXPIRED.getDetail(), reservationIds);
+      throw BusinessException.create(ErrorCode.RESERVATION_EXPIRED);
+    }
+    ledgerRecorder.attachOrder(orderId);
+    runAfterCommit(() -> reservationIds.forEach(this::cancelExpiry));
+  }
+
+  /**
+   * {@link #assign(List, Long)} 로 주문에 묶어 둔 예약들을 확정하는 메서드 (결제 승인 후)
+   *
+   * @param orderId 예약이 묶인 주문 ID
+   * @throws BusinessException 결제를 기다리는 동안 만료되었거나 이미 처리된 예약이 있을 경우 발생
+   */
+  @Transactional
+  public void confirmByOrderId(Long orderId) {
+    List<Long> reservationIds = reservationRepository.findAllByOrderId(orderId).stream()
+        .map(InventoryReservation::getReservationId)
+        .toList();
+    confirm(reservationIds, orderId);
+  }
+
+  /**
+   * 주문에 묶인 예약을 해제하고 재고를 되돌리는 메서드
+   *
+   * @param orderId 해제할 주문 ID
+   */
+  @Transactional
+  public void releaseByOrderId(Long orderId) {
+    for (InventoryReservation reservation : reservationRepository.findAllByOrderId(orderId)) {
+      restore(reservation, RELEASABLE, ReservationStatus.RELEASED, InventoryLedgerReason.ORDER_CANCEL);
+    }
+    ledgerRecorder.attachOrder(orderId);
+  }
+
+  /**
+   * 만료 시간이 지난 예약을 처리하는 메서드 (타이머에서 호출)
+   * 아직 RESERVED 상태인 경우에만 EXPIRED 로 바꾸고 재고를 되돌린다.
+   *
+   * @param reservationId 만료된 예약 ID
+   */
+  public void expire(Long reservationId) {
+    expiryTimeouts.remove(reservationId);
+    transactionTemplate.executeWithoutResult(status ->
+        reservationRepository.findById(reservationId)
+            .ifPresent(reservation -> restore(reservation, EXPIRABLE, ReservationStatus.EXPIRED,
+                InventoryLedgerReason.RESERVATION_EXPIRED)));
+  }
+
+  /**
+   * 예약 상태를 조건부로 바꾸고, 바꾼 경우에만 재고를 되돌린다.
+   */
+  private void restore(InventoryReservation reservation, Set<ReservationStatus> from, ReservationStatus to,
+      InventoryLedgerReason reason) {
+    Long reservationId = reservation.getReservationId();
+    if (reservationRepository.transitionStatus(reservationId, from, to) == 1) {
+      inventoryService.increaseStock(reservation.getProductId(), reservation.getQuantity(), reason);
+      runAfterCommit(() -> cancelExpiry(reservationId));
+      log.info("재고 예약 {} 처리 reservationId: {}, productId: {}, 수량: {}",
+          to, reservationId, reservation.getProductId(), reservation.getQuantity());
+    }
+  }
+
+  private void scheduleExpiry(Long reservationId, Duration delay) {
+    if (!tryScheduleExpiry(reservationId, delay)) {
+      log.error(ErrorCode.RESERVATION_LIMIT_EXCEEDED.getDetail(), maxPending);
+      throw BusinessException.create(ErrorCode.RESERVATION_LIMIT_EXCEEDED);
+    }
+  }
+
+  private boolean tryScheduleExpiry(Long reservationId, Duration delay) {
+    try {
+      expiryTimeouts.put(reservationId, expiryTimer.newTimeout(
+          () -> submitExpiry(reservationId), delay.toMillis(), TimeUnit.MILLISECONDS));
+      return true;
+    } catch (RejectedExecutionException e) {
+      return false;
+    }
+  }
+
+  private void submitExpiry(Long reservationId) {
+    try {
+      expiryExecutor.execute(() -> expire(reservationId));
+    } catch (RejectedExecutionException e) {
+      log.warn("종료 중이므로 예약 만료를 처리하지 않음 reservationId: {}", reservationId);
+    }
+  }
+
+  private void cancelExpiry(Long reservationId) {
+    HashedWheelTimer.Timeout timeout = expiryTimeouts.remove(reservationId);
+    if (timeout != null) {
+      timeout.cancel();
+    }
+  }
+
+  private void runAfterCommit(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        action.run();
+      }
+    });
+  }
+
+  private void runAfterRollback(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCompletion(int status) {
+        if (status == STATUS_ROLLED_BACK) {
+          action.run();
+        }
+      }
+    });
+  }
+}
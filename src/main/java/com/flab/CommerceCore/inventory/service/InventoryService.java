@@ -1,16 +1,30 @@
 package com.flab.CommerceCore.inventory.service;
 
 import com.flab.CommerceCore.common.Mapper.InventoryMapper;
+import com.flab.CommerceCore.common.annotation.RetryOnLockFailure;
+import com.flab.CommerceCore.common.collection.LongIntHashMap;
+import com.flab.CommerceCore.common.aop.LockRetryContext;
+import com.flab.CommerceCore.common.enums.InventoryLedgerReason;
+import com.flab.CommerceCore.common.enums.InventoryLockMode;
 import com.flab.CommerceCore.common.enums.InventoryOperation;
 import com.flab.CommerceCore.common.exceptions.BusinessException;
 import com.flab.CommerceCore.common.exceptions.ErrorCode;
 import com.flab.CommerceCore.inventory.domain.dto.InventoryResponse;
+import com.flab.CommerceCore.inventory.coalescing.InventoryDecrementCoalescer;
 import com.flab.CommerceCore.inventory.domain.entity.Inventory;
+import com.flab.CommerceCore.inventory.engine.InventoryCounterEngine;
+import com.flab.CommerceCore.inventory.ledger.InventoryLedgerRecorder;
 import com.flab.CommerceCore.inventory.repository.InventoryRepository;
+import com.flab.CommerceCore.inventory.sharding.InventoryShardManager;
 import com.flab.CommerceCore.product.domain.entity.Product;
 import jakarta.transaction.Transactional;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -19,11 +33,24 @@ public class InventoryService {
 
   private final InventoryRepository inventoryRepository;
   private final InventoryMapper mapper;
+  private final InventoryCounterEngine counterEngine;
+  private final InventoryDecrementCoalescer decrementCoalescer;
+  private final InventoryShardManager shardManager;
+  private final InventoryLedgerRecorder ledgerRecorder;
+  private final InventoryLockMode lockMode;
 
 
-  public InventoryService(InventoryRepository inventoryRepository, InventoryMapper mapper) {
+  public InventoryService(InventoryRepository inventoryRepository, InventoryMapper mapper,
+      InventoryCounterEngine counterEngine, InventoryDecrementCoalescer decrementCoalescer,
+      InventoryShardManager shardManager, InventoryLedgerRecorder ledgerRecorder,
+      @Value("${inventory.lock-mode:ATOMIC_UPDATE}") InventoryLockMode lockMode) {
     this.inventoryRepository = inventoryRepository;
     this.mapper = mapper;
+    this.counterEngine = counterEngine;
+    this.decrementCoalescer = decrementCoalescer;
+    this.shardManager = shardManager;
+    this.ledgerRecorder = ledgerRecorder;
+    this.lockMode = lockMode;
   }
 
 
@@ -41,6 +68,7 @@ public class InventoryService {
     Inventory inventory = mapper.toEntity(product, quantity);
 
     Inventory savedInventory = inventoryRepository.save(inventory);
+    ledgerRecorder.record(product.getProductId(), savedInventory.getQuantity(), InventoryLedgerReason.INITIAL);
 
     return savedInventory.getQuantity();
   }
@@ -48,16 +76,65 @@ public class InventoryService {
 
   /**
    * 상품에 대한 재고 수량 조회 메서드
+   * 샤딩된 상품은 버킷 수량의 합을 반환한다.
    *
    * @param productId 조회할 상품 ID
    * @return 상품에 대한 재고 수량
    */
   public int findQuantityByProductId(Long productId) {
+    if (counterEngine.isManaged(productId)) {
+      return counterEngine.getQuantity(productId);
+    }
+    if (shardManager.isSharded(productId)) {
+      getInventoryOrThrowByProductId(productId);
+      return shardManager.getQuantity(productId);
+    }
     Inventory inventory = getInventoryOrThrowByProductId(productId);
     return inventory.getQuantity();
   }
 
 
+  /**
+   * 여러 상품의 재고 수량을 한 번에 조회하는 메서드
+   * 재고 행은 IN 쿼리 한 번으로 읽고, 카운터 엔진 상품은 메모리 값으로,
+   * 샤딩된 상품은 버킷 합계 쿼리 한 번으로 덮어쓴다. (상품 수와 관계없이 최대 두 번)
+   *
+   * @param productIds 조회할 상품 ID 목록
+   * @return 상품 ID → 재고 수량
+   * @throws BusinessException 재고가 없는 상품이 있을 경우 발생
+   */
+  public LongIntHashMap findQuantitiesByProductIds(List<Long> productIds) {
+    LongIntHashMap quantities = new LongIntHashMap(productIds.size());
+    if (productIds.isEmpty()) {
+      return quantities;
+    }
+
+    List<Long> shardedProductIds = new ArrayList<>();
+    for (Object[] row : inventoryRepository.findQuantitiesByProductIdIn(productIds)) {
+      Long productId = (Long) row[0];
+      if (counterEngine.isManaged(productId)) {
+        quantities.put(productId, counterEngine.getQuantity(productId));
+      } else {
+        quantities.put(productId, ((Number) row[1]).intValue());
+        if (shardManager.isSharded(productId)) {
+          shardedProductIds.add(productId);
+        }
+      }
+    }
+    if (!shardedProductIds.isEmpty()) {
+      shardManager.collectQuantities(shardedProductIds, quantities);
+    }
+
+    for (Long productId : productIds) {
+      if (!quantities.containsKey(productId)) {
+        log.error(ErrorCode.PRODUCT_NOT_FOUND.getMessage(), productId);
+        throw new BusinessException(ErrorCode.PRODUCT_NOT_FOUND);
+      }
+    }
+    return quantities;
+  }
+
+
   /**
    * 모든 재고 목록을 조회하는 메서드
    *
@@ -90,14 +167,136 @@ public class InventoryService {
    * @throws BusinessException 해당 상품이 존재하지 않을 경우
    */
   @Transactional
+  @RetryOnLockFailure
   public InventoryResponse reduceQuantity(Long productId, int quantity) {
+    LockRetryContext.touch(productId);
     Inventory inventory = getInventoryOrThrowByProductId(productId);
+    if (counterEngine.isManaged(productId)) {
+      validateQuantity(quantity);
+      int remaining = counterEngine.decrease(productId, quantity);
+      ledgerRecorder.record(productId, -quantity, InventoryLedgerReason.MANUAL_DECREASE);
+      return mapper.convertEntityToResponse(inventory, remaining);
+    }
+    if (shardManager.isSharded(productId)) {
+      validateQuantity(quantity);
+      shardManager.decrease(productId, quantity);
+      ledgerRecorder.record(productId, -quantity, InventoryLedgerReason.MANUAL_DECREASE);
+      return mapper.convertEntityToResponse(inventory, shardManager.getQuantity(productId));
+    }
     inventory.modifyQuantity(quantity, InventoryOperation.DECREASE);
+    ledgerRecorder.record(productId, -quantity, InventoryLedgerReason.MANUAL_DECREASE);
 
     return mapper.convertEntityToResponse(inventory);
   }
 
 
+  /**
+   * 조건부 UPDATE 한 번으로 재고를 차감하는 메서드
+   * 재고 행을 읽어 와서 수정하지 않고 DB 가 수량 비교와 차감을 함께 수행하므로,
+   * 여러 노드(영속성 컨텍스트)에서 동시에 호출해도 재고가 음수가 되지 않는다.
+   * 카운터 엔진에 등록된 상품은 메모리에서, 샤딩된 상품은 버킷에서 차감하고, 요청 결합이 켜져 있으면 같은 상품의 동시 차감을 묶어서 처리한다.
+   * 차감에 성공하면 주문 차감(ORDER)으로 재고 원장에 기록한다.
+   *
+   * @param productId 차감할 상품 ID
+   * @param quantity 차감할 수량
+   * @throws BusinessException 수량이 음수이거나 재고가 부족할 경우 발생
+   */
+  @Transactional
+  public void decreaseStock(Long productId, int quantity) {
+    validateQuantity(quantity);
+    LockRetryContext.touch(productId);
+
+    if (counterEngine.isManaged(productId)) {
+      counterEngine.decrease(productId, quantity);
+    } else if (shardManager.isSharded(productId)) {
+      shardManager.decrease(productId, quantity);
+    } else if (decrementCoalescer.isEnabled()) {
+      decrementCoalescer.decrease(productId, quantity);
+    } else if (inventoryRepository.decreaseQuantity(productId, quantity) == 0) {
+      log.error("재고 차감 실패 productId: {}, 요청 : [{}]개", productId, quantity);
+      throw BusinessException.create(ErrorCode.INSUFFICIENT_INVENTORY);
+    }
+
+    ledgerRecorder.record(productId, -quantity, InventoryLedgerReason.ORDER);
+  }
+
+
+  /**
+   * 주문에 포함된 여러 상품의 재고를 한 번에 차감하는 메서드
+   * 항상 상품 ID 오름차순으로 처리해, 같은 상품들을 다른 순서로 담은 주문끼리 행 락을 엇갈려 잡지 않게 한다.
+   * PESSIMISTIC 모드에서는 재고 행을 SELECT ... FOR UPDATE 로 한 번에 잠근 뒤 차감하고,
+   * OPTIMISTIC 모드에서는 락 없이 읽어 차감한 뒤 커밋 시 버전 충돌을 검사한다.
+   *
+   * @param productQuantities 상품 ID 별 차감 수량
+   * @throws BusinessException 수량이 음수이거나 재고가 없거나 부족할 경우 발생
+   */
+  @Transactional
+  public void decreaseStocks(Map<Long, Integer> productQuantities) {
+    SortedMap<Long, Integer> sortedQuantities = new TreeMap<>(productQuantities);
+    sortedQuantities.values().forEach(this::validateQuantity);
+
+    if (lockMode != InventoryLockMode.PESSIMISTIC && lockMode != InventoryLockMode.OPTIMISTIC) {
+      sortedQuantities.forEach(this::decreaseStock);
+      return;
+    }
+
+    // 카운터 엔진에 등록된 상품과 샤딩된 상품은 재고 행을 잠그지 않고 각자의 경로로 차감
+    SortedMap<Long, Integer> lockedQuantities = new TreeMap<>();
+    sortedQuantities.forEach((productId, quantity) -> {
+      if (counterEngine.isManaged(productId) || shardManager.isSharded(productId)) {
+        decreaseStock(productId, quantity);
+      } else {
+        LockRetryContext.touch(productId);
+        lockedQuantities.put(productId, quantity);
+      }
+    });
+    if (lockedQuantities.isEmpty()) {
+      return;
+    }
+
+    List<Long> productIds = new ArrayList<>(lockedQuantities.keySet());
+    List<Inventory> inventories = lockMode == InventoryLockMode.PESSIMISTIC
+        ? inventoryRepository.findAllByProductIdForUpdate(productIds)
+        : inventoryRepository.findAllByProductId(productIds);
+    if (inventories.size() != lockedQuantities.size()) {
+      log.error(ErrorCode.INVENTORY_NOT_FOUND.getDetail(), lockedQuantities.keySet());
+      throw BusinessException.create(ErrorCode.INVENTORY_NOT_FOUND);
+    }
+    for (Inventory inventory : inventories) {
+      Long productId = inventory.getProduct().getProductId();
+      int quantity = lockedQuantities.get(productId);
+      inventory.modifyQuantity(quantity, InventoryOperation.DECREASE);
+      ledgerRecorder.record(productId, -quantity, InventoryLedgerReason.ORDER);
+    }
+  }
+
+
+  /**
+   * 상품 ID로 재고를 되돌리는(증가시키는) 메서드
+   * 예약 해제나 주문 취소처럼 이미 차감했던 수량을 돌려줄 때 사용하며, 재고 행을 읽지 않고 UPDATE 한 번으로 반영한다.
+   *
+   * @param productId 증가시킬 상품 ID
+   * @param quantity 증가시킬 수량
+   * @param reason 재고 원장에 기록할 복원 사유
+   * @throws BusinessException 수량이 음수이거나 재고가 존재하지 않을 경우 발생
+   */
+  @Transactional
+  public void increaseStock(Long productId, int quantity, InventoryLedgerReason reason) {
+    validateQuantity(quantity);
+
+    if (counterEngine.isManaged(productId)) {
+      counterEngine.increase(productId, quantity);
+    } else if (shardManager.isSharded(productId)) {
+      shardManager.increase(productId, quantity);
+    } else if (inventoryRepository.adjustQuantity(productId, quantity) == 0) {
+      log.error(ErrorCode.INVENTORY_NOT_FOUND.getDetail(), productId);
+      throw BusinessException.create(ErrorCode.INVENTORY_NOT_FOUND);
+    }
+
+    ledgerRecorder.record(productId, quantity, reason);
+  }
+
+
   /**
    * 재고를 증가 시키는 메서드
    *
@@ -107,9 +306,27 @@ public class InventoryService {
    * @throws BusinessException 재고가 존재하지 않을 경우 발생
    */
   @Transactional
+  @RetryOnLockFailure
   public InventoryResponse increaseQuantity(Long inventoryId, int quantity) {
     Inventory inventory = getInventoryOrThrow(inventoryId);
+    Long productId = inventory.getProduct().getProductId();
+    LockRetryContext.touch(productId);
+    if (counterEngine.isManaged(productId)) {
+      validateQuantity(quantity);
+      int increased = counterEngine.increase(productId, quantity);
+      ledgerRecorder.record(productId, quantity, InventoryLedgerReason.MANUAL_INCREASE);
+      return mapper.convertEntityToResponse(inventory, increased);
+    }
+    if (shardManager.isSharded(productId)) {
+      validateQuantity(quantity);
+      boolean toBuckets = shardManager.increase(productId, quantity);
+      ledgerRecorder.record(productId, quantity, InventoryLedgerReason.MANUAL_INCREASE);
+      int increased = toBuckets ? shardManager.getQuantity(productId)
+          : getInventoryOrThrowByProductId(productId).getQuantity();
+      return mapper.convertEntityToResponse(inventory, increased);
+    }
     inventory.modifyQuantity(quantity, InventoryOperation.INCREASE);
+    ledgerRecorder.record(productId, quantity, InventoryLedgerReason.MANUAL_INCREASE);
 
     return mapper.convertEntityToResponse(inventory);
   }
@@ -124,15 +341,75 @@ public class InventoryService {
    * @throws BusinessException 재고가 존재하지 않을 경우 발생
    */
   @Transactional
+  @RetryOnLockFailure
   public InventoryResponse updateQuantity(Long productId, int quantity){
+    LockRetryContext.touch(productId);
     Inventory inventory = getInventoryOrThrowByProductId(productId);
+    if (counterEngine.isManaged(productId)) {
+      validateQuantity(quantity);
+      int previous = counterEngine.update(productId, quantity);
+      ledgerRecorder.record(productId, (long) quantity - previous, InventoryLedgerReason.MANUAL_UPDATE);
+      return mapper.convertEntityToResponse(inventory, quantity);
+    }
+    if (shardManager.isSharded(productId)) {
+      validateQuantity(quantity);
+      int previous = shardManager.update(productId, quantity);
+      ledgerRecorder.record(productId, (long) quantity - previous, InventoryLedgerReason.MANUAL_UPDATE);
+      return mapper.convertEntityToResponse(inventory, quantity);
+    }
+    int previous = inventory.getQuantity();
     inventory.modifyQuantity(quantity, InventoryOperation.UPDATE);
+    ledgerRecorder.record(productId, (long) quantity - previous, InventoryLedgerReason.MANUAL_UPDATE);
 
 
     return mapper.convertEntityToResponse(inventory);
   }
 
 
+  /**
+   * 상품의 재고를 인메모리 카운터 엔진에서 처리하도록 전환하는 메서드
+   *
+   * @param productId 전환할 상품 ID
+   * @throws BusinessException 재고가 존재하지 않을 경우 발생
+   */
+  public void enableCounter(Long productId) {
+    counterEngine.register(productId);
+  }
+
+
+  /**
+   * 상품의 재고를 다시 DB(JPA) 경로로 처리하도록 전환하는 메서드
+   * 메모리에 남은 변경분은 DB 에 반영된다.
+   *
+   * @param productId 전환할 상품 ID
+   */
+  public void disableCounter(Long productId) {
+    counterEngine.unregister(productId);
+  }
+
+
+  /**
+   * 상품의 재고를 여러 버킷 행으로 나눠 처리하도록 전환하는 메서드
+   *
+   * @param productId 전환할 상품 ID
+   * @param buckets 버킷 수 (0 이하이면 기본값)
+   * @throws BusinessException 재고가 존재하지 않을 경우 발생
+   */
+  public void enableSharding(Long productId, int buckets) {
+    shardManager.shard(productId, buckets);
+  }
+
+
+  /**
+   * 상품의 버킷 재고를 다시 재고 행 하나로 합치는 메서드
+   *
+   * @param productId 전환할 상품 ID
+   */
+  public void disableSharding(Long productId) {
+    shardManager.unshard(productId);
+  }
+
+
   /**
    * 중복된 상품이 있는지 확인하는 메서드
    *
@@ -147,6 +424,20 @@ public class InventoryService {
   }
 
 
+  /**
+   * 재고가 음수인지 검사하는 메서드
+   *
+   * @param quantity 검사할 수량
+   * @throws BusinessException 수량이 음수일경우
+   */
+  private void validateQuantity(int quantity) {
+    if (quantity < 0) {
+      log.error(ErrorCode.NEGATIVE_QUANTITY.getDetail(), quantity);
+      throw BusinessException.create(ErrorCode.NEGATIVE_QUANTITY);
+    }
+  }
+
+
   /**
    * 주어진 재고 ID로 재고 정보를 검색
    *
@@ -0,0 +1,309 @@
+package com.flab.CommerceCore.inventory.sharding;
+
+import com.flab.CommerceCore.common.collection.LongIntHashMap;
+import com.flab.CommerceCore.common.enums.InventoryOperation;
+import com.flab.CommerceCore.common.exceptions.BusinessException;
+import com.flab.CommerceCore.common.exceptions.ErrorCode;
+import com.flab.CommerceCore.inventory.domain.entity.Inventory;
+import com.flab.CommerceCore.inventory.domain.entity.InventoryBucket;
+import com.flab.CommerceCore.inventory.repository.InventoryBucketRepository;
+import com.flab.CommerceCore.inventory.repository.InventoryRepository;
+import jakarta.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 주문이 몰리는 상품의 재고를 여러 하위 행(버킷)에 나눠 저장하는 샤딩 관리자
+ *
+ * 재고 행 하나의 락이 쓰기 처리량의 상한이 되므로, 샤딩된 상품의 차감은 무작위 버킷에서 시작해
+ * 재고가 남은 버킷을 찾아 조건부 UPDATE 로 처리한다. 동시 차감이 서로 다른 행으로 흩어져 락 경합이 줄어든다.
+ * 조회는 버킷 수량의 합을 반환하고, 주기적인 재배분이 버킷 간 편차를 줄여 한쪽 버킷만 먼저 비지 않게 한다.
+ *
+ * 샤딩 여부는 버킷 행의 존재로 판단하며, 다른 노드에서 전환한 상품은 재배분 주기마다 다시 읽어 반영한다.
+ */
+@Slf4j
+@Component
+public class InventoryShardManager {
+
+  private final InventoryRepository inventoryRepository;
+  private final InventoryBucketRepository bucketRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final int defaultBuckets;
+
+  // 샤딩된 상품 ID 별 버킷 수
+  private final Map<Long, Integer> bucketCounts = new ConcurrentHashMap<>();
+
+  @Autowired
+  public InventoryShardManager(InventoryRepository inventoryRepository,
+      InventoryBucketRepository bucketRepository, PlatformTransactionManager transactionManager,
+      @Value("${inventory.sharding.default-buckets:8}") int defaultBuckets) {
+    this.inventoryRepository = inventoryRepository;
+    this.bucketRepository = bucketRepository;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.defaultBuckets = defaultBuckets;
+  }
+
+  @PostConstruct
+  public void refresh() {
+    Map<Long, Integer> loaded = new HashMap<>();
+    for (Object[] row : bucketRepository.countBucketsByProduct()) {
+      loaded.put((Long) row[0], ((Number) row[1]).intValue());
+    }
+    bucketCounts.putAll(loaded);
+    bucketCounts.keySet().retainAll(loaded.keySet());
+  }
+
+  /**
+   * 상품이 샤딩되어 있는지 여부
+   *
+   * @param productId 상품 ID
+   * @return 샤딩되어 있으면 true
+   */
+  public boolean isSharded(Long productId) {
+    return bucketCounts.containsKey(productId);
+  }
+
+  /**
+   * 상품의 재고를 버킷들로 나누는 메서드
+   * 재고 행을 잠근 상태에서 현재 수량을 버킷에 고르게 나누고 재고 행의 수량은 0 으로 둔다.
+   *
+   * @param productId 샤딩할 상품 ID
+   * @param buckets 버킷 수 (0 이하이면 기본값)
+   * @throws BusinessException 재고가 존재하지 않을 경우 발생
+   */
+  public void shard(Long productId, int buckets) {
+    if (isSharded(productId)) {
+      return;
+    }
+    int bucketCount = buckets > 0 ? buckets : defaultBuckets;
+
+    transactionTemplate.executeWithoutResult(status -> {
+      List<Inventory> inventories = inventoryRepository.findAllByProductIdForUpdate(List.of(productId));
+      if (inventories.isEmpty()) {
+        log.error(ErrorCode.PRODUCT_NOT_FOUND.getDetail(), productId);
+        throw BusinessException.create(ErrorCode.PRODUCT_NOT_FOUND);
+      }
+      Inventory inventory = inventories.get(0);
+      int[] quantities = split(inventory.getQuantity(), bucketCount);
+
+      List<InventoryBucket> inventoryBuckets = new ArrayList<>();
+      for (int bucketNo = 0; bucketNo < bucketCount; bucketNo++) {
+        inventoryBuckets.add(InventoryBucket.builder()
+            .productId(productId)
+            .bucketNo(bucketNo)
+            .quantity(quantities[bucketNo])
+            .build());
+      }
+      bucketRepository.saveAll(inventoryBuckets);
+      inventory.modifyQuantity(0, InventoryOperation.UPDATE);
+    });
+
+    bucketCounts.put(productId, bucketCount);
+    log.info("재고 샤딩 productId: {}, 버킷 수: {}", productId, bucketCount);
+  }
+
+  /**
+   * 버킷들의 재고를 다시 재고 행 하나로 합치는 메서드
+   *
+   * @param productId 샤딩을 해제할 상품 ID
+   */
+  public void unshard(Long productId) {
+    if (!isSharded(productId)) {
+      return;
+    }
+
+    transactionTemplate.executeWithoutResult(status -> {
+      int total = bucketRepository.findAllByProductIdForUpdate(productId).stream()
+          .mapToInt(InventoryBucket::getQuantity)
+          .sum();
+      bucketRepository.deleteAllByProductId(productId);
+      inventoryRepository.adjustQuantity(productId, total);
+    });
+
+    bucketCounts.remove(productId);
+    log.info("재고 샤딩 해제 productId: {}", productId);
+  }
+
+  /**
+   * 샤딩된 상품의 전체 재고 수량 (버킷 수량의 합)
+   *
+   * @param productId 상품 ID
+   * @return 전체 재고 수량
+   */
+  public int getQuantity(Long productId) {
+    return Math.toIntExact(bucketRepository.sumQuantityByProductId(productId));
+  }
+
+  /**
+   * 여러 샤딩 상품의 전체 재고 수량을 한 번의 쿼리로 조회해 quantities 에 넣는 메서드
+   *
+   * @param productIds 샤딩된 상품 ID 목록
+   * @param quantities 상품 ID → 재고 수량을 채울 맵
+   */
+  public void collectQuantities(Collection<Long> productIds, LongIntHashMap quantities) {
+    for (Object[] row : bucketRepository.sumQuantitiesByProductIdIn(productIds)) {
+      quantities.put((Long) row[0], Math.toIntExact(((Number) row[1]).longValue()));
+    }
+  }
+
+  /**
+   * 샤딩된 상품의 재고를 차감하는 메서드
+   * 무작위 버킷부터 차례로 조건부 UPDATE 를 시도하고, 한 버킷으로 부족하면 버킷들을 잠가 나눠서 차감한다.
+   *
+   * @param productId 차감할 상품 ID
+   * @param quantity 차감할 수량
+   * @throws BusinessException 전체 재고가 부족할 경우 발생
+   */
+  @Transactional
+  public void decrease(Long productId, int quantity) {
+    int buckets = bucketCount(productId);
+    int start = ThreadLocalRandom.current().nextInt(buckets);
+    for (int i = 0; i < buckets; i++) {
+      if (bucketRepository.decreaseQuantity(productId, (start + i) % buckets, quantity) == 1) {
+        return;
+      }
+    }
+
+    // 한 버킷에 충분한 재고가 없으면 버킷 번호 순으로 잠근 뒤 여러 버킷에서 나눠서 차감
+    List<InventoryBucket> lockedBuckets = bucketRepository.findAllByProductIdForUpdate(productId);
+    int total = lockedBuckets.stream().mapToInt(InventoryBucket::getQuantity).sum();
+    if (total < quantity) {
+      log.error(ErrorCode.INSUFFICIENT_INVENTORY.getDetail(), total, quantity);
+      throw BusinessException.create(ErrorCode.INSUFFICIENT_INVENTORY);
+    }
+    int remaining = quantity;
+    for (InventoryBucket bucket : lockedBuckets) {
+      int taken = Math.min(bucket.getQuantity(), remaining);
+      bucket.rebalance(bucket.getQuantity() - taken);
+      remaining -= taken;
+    }
+  }
+
+  /**
+   * 샤딩된 상품의 재고를 무작위 버킷에 더하는 메서드
+   * 동시에 실행된 샤딩 해제나 다른 노드의 해제로 버킷이 사라졌으면 재고 행에 더한다.
+   * 해제는 버킷을 잠그고 합친 뒤 지우므로, 버킷 UPDATE 가 0건이면 해제가 끝난 뒤이고 재고 행에 더해도 빠지지 않는다.
+   *
+   * @param productId 증가시킬 상품 ID
+   * @param quantity 증가시킬 수량
+   * @return 버킷에 더했으면 true, 샤딩이 해제되어 재고 행에 더했으면 false
+   * @throws BusinessException 재고가 존재하지 않을 경우 발생
+   */
+  @Transactional
+  public boolean increase(Long productId, int quantity) {
+    int bucketNo = ThreadLocalRandom.current().nextInt(bucketCount(productId));
+    if (bucketRepository.adjustQuantity(productId, bucketNo, quantity) == 1) {
+      return true;
+    }
+    // 다른 노드에서 더 적은 버킷 수로 다시 샤딩했을 수 있으므로 항상 있는 0번 버킷에 한 번 더 시도
+    if (bucketNo != 0 && bucketRepository.adjustQuantity(productId, 0, quantity) == 1) {
+      return true;
+    }
+
+    bucketCounts.remove(productId);
+    log.warn("샤딩이 해제된 상품의 재고를 재고 행에 반영 productId: {}, 수량: {}", productId, quantity);
+    if (inventoryRepository.adjustQuantity(productId, quantity) == 0) {
+      log.error(ErrorCode.INVENTORY_NOT_FOUND.getDetail(), productId);
+      throw BusinessException.create(ErrorCode.INVENTORY_NOT_FOUND);
+    }
+    return false;
+  }
+
+  /**
+   * 샤딩된 상품의 전체 재고를 지정한 수량으로 바꾸고 버킷에 고르게 나누는 메서드
+   *
+   * @param productId 수정할 상품 ID
+   * @param quantity 새 전체 재고 수량
+   * @return 변경 이전 전체 재고 수량
+   */
+  @Transactional
+  public int update(Long productId, int quantity) {
+    List<InventoryBucket> lockedBuckets = bucketRepository.findAllByProductIdForUpdate(productId);
+    int previous = lockedBuckets.stream().mapToInt(InventoryBucket::getQuantity).sum();
+    int[] quantities = split(quantity, lockedBuckets.size());
+    for (int i = 0; i < lockedBuckets.size(); i++) {
+      lockedBuckets.get(i).rebalance(quantities[i]);
+    }
+    return previous;
+  }
+
+  /**
+   * 버킷 간 재고 편차가 커진 상품의 재고를 고르게 재배분
+   * 공정 몫의 절반보다 적게 남은 버킷이 있을 때만 버킷들을 잠그고 다시 나눈다.
+   * 샤딩 전환을 아직 모르는 노드가 재고 행에 더한 수량도 이때 버킷으로 옮긴다.
+   */
+  @Scheduled(fixedDelayString = "${inventory.sharding.rebalance-interval-ms:5000}")
+  public void rebalance() {
+    refresh();
+    for (Long productId : bucketCounts.keySet()) {
+      try {
+        transactionTemplate.executeWithoutResult(status -> rebalanceProduct(productId));
+      } catch (RuntimeException e) {
+        log.error("재고 버킷 재배분 실패 productId: {}", productId, e);
+      }
+    }
+  }
+
+  private void rebalanceProduct(Long productId) {
+    List<InventoryBucket> lockedBuckets = bucketRepository.findAllByProductIdForUpdate(productId);
+    if (lockedBuckets.isEmpty()) {
+      return;
+    }
+    int total = lockedBuckets.stream().mapToInt(InventoryBucket::getQuantity).sum();
+
+    // 샤딩된 상품의 재고 행은 0 이어야 하므로 남아 있는 수량은 버킷에 더한다 (해제와 같은 버킷 → 재고 행 잠금 순서)
+    int stray = 0;
+    for (Inventory inventory : inventoryRepository.findAllByProductIdForUpdate(List.of(productId))) {
+      if (inventory.getQuantity() > 0) {
+        stray = inventory.getQuantity();
+        inventory.modifyQuantity(0, InventoryOperation.UPDATE);
+      }
+    }
+    total += stray;
+
+    int fairShare = total / lockedBuckets.size();
+    int min = lockedBuckets.stream().mapToInt(InventoryBucket::getQuantity).min().orElse(0);
+    if (stray == 0 && min * 2 >= fairShare) {
+      return;
+    }
+
+    int[] quantities = split(total, lockedBuckets.size());
+    for (int i = 0; i < lockedBuckets.size(); i++) {
+      lockedBuckets.get(i).rebalance(quantities[i]);
+    }
+    log.info("재고 버킷 재배분 productId: {}, 전체 수량: {}", productId, total);
+  }
+
+  private int bucketCount(Long productId) {
+    Integer buckets = bucketCounts.get(productId);
+    if (buckets == null) {
+      log.error(ErrorCode.INVENTORY_NOT_FOUND.getDetail(), productId);
+      throw BusinessException.create(ErrorCode.INVENTORY_NOT_FOUND);
+    }
+    return buckets;
+  }
+
+  /**
+   * 수량을 버킷 수만큼 고르게 나눈다 (나머지는 앞 버킷부터 하나씩)
+   */
+  static int[] split(int total, int buckets) {
+    int[] quantities = new int[buckets];
+    for (int i = 0; i < buckets; i++) {
+      quantities[i] = total / buckets + (i < total % buckets ? 1 : 0);
+    }
+    return quantities;
+  }
+}
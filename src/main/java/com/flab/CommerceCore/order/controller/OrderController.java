@@ -1,8 +1,13 @@
 package com.flab.CommerceCore.order.controller;
 
+import com.flab.CommerceCore.common.pagination.CursorPage;
+import com.flab.CommerceCore.idempotency.IdempotencyStore;
+import com.flab.CommerceCore.order.domain.dto.OrderAcceptanceResponse;
 import com.flab.CommerceCore.order.domain.dto.OrderRequest;
 import com.flab.CommerceCore.order.domain.dto.OrderResponse;
+import com.flab.CommerceCore.order.pipeline.OrderAcceptancePipeline;
 import com.flab.CommerceCore.order.service.OrderService;
+import java.net.URI;
 import java.util.List;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -11,6 +16,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -18,17 +24,46 @@ import org.springframework.web.bind.annotation.RestController;
 public class OrderController {
 
   private final OrderService orderService;
+  private final OrderAcceptancePipeline orderAcceptancePipeline;
+  private final IdempotencyStore idempotencyStore;
 
-  public OrderController(OrderService orderService) {
+  public OrderController(OrderService orderService, OrderAcceptancePipeline orderAcceptancePipeline,
+      IdempotencyStore idempotencyStore) {
     this.orderService = orderService;
+    this.orderAcceptancePipeline = orderAcceptancePipeline;
+    this.idempotencyStore = idempotencyStore;
   }
 
+  /**
+   * 비동기 주문 모드면 접수만 하고 202 와 상태 조회 토큰을, 아니면 주문을 생성하고 201 을 반환
+   * Idempotency-Key 헤더가 있으면 같은 키의 재시도에는 주문을 다시 만들지 않고 첫 응답을 돌려준다.
+   */
   @PostMapping("/order")
-  public ResponseEntity<OrderResponse> createOrder(@RequestBody OrderRequest orderRequest) {
-    OrderResponse orderResponse = orderService.createOrder(orderRequest);
+  public ResponseEntity<?> createOrder(
+      @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey,
+      @RequestBody OrderRequest orderRequest) {
+    if (orderAcceptancePipeline.isEnabled()) {
+      OrderAcceptanceResponse acceptance = idempotencyKey == null
+          ? orderAcceptancePipeline.submit(orderRequest)
+          : idempotencyStore.execute("ORDER_ACCEPTANCE", idempotencyKey, orderRequest,
+              OrderAcceptanceResponse.class, () -> orderAcceptancePipeline.submit(orderRequest));
+      return ResponseEntity.accepted()
+          .location(URI.create("/order/status/" + acceptance.getToken()))
+          .body(acceptance);
+    }
+    OrderResponse orderResponse = idempotencyKey == null
+        ? orderService.createOrder(orderRequest)
+        : idempotencyStore.execute("ORDER", idempotencyKey, orderRequest,
+            OrderResponse.class, () -> orderService.createOrder(orderRequest));
     return ResponseEntity.status(201).body(orderResponse);
   }
 
+  @GetMapping("/order/status/{token}")
+  public ResponseEntity<OrderAcceptanceResponse> getOrderStatus(@PathVariable("token") String token) {
+    OrderAcceptanceResponse acceptance = orderAcceptancePipeline.getStatus(token);
+    return ResponseEntity.ok(acceptance);
+  }
+
   @GetMapping
   public ResponseEntity<OrderResponse> getOrder(@RequestParam(defaultValue = "0") Long orderId) {
     OrderResponse orderResponse = orderService.findOrderById(orderId);
@@ -41,6 +76,14 @@ public class OrderController {
     return ResponseEntity.ok(list);
   }
 
+  @GetMapping("/orders/scroll")
+  public ResponseEntity<CursorPage<OrderResponse>> scrollOrders(
+      @RequestParam(required = false, name = "after") String after,
+      @RequestParam(required = false, name = "limit") Integer limit) {
+    CursorPage<OrderResponse> orderPage = orderService.findOrders(after, limit);
+    return ResponseEntity.ok(orderPage);
+  }
+
   @DeleteMapping("/order/{orderId}")
   public ResponseEntity<OrderResponse> cancelOrder(@PathVariable("orderId") Long orderId) {
     OrderResponse orderResponse = orderService.cancelOrder(orderId);
@@ -0,0 +1,21 @@
+package com.flab.CommerceCore.order.domain.dto;
+
+import com.flab.CommerceCore.common.enums.OrderAcceptanceStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderAcceptanceResponse {
+    // 상태 조회에 사용하는 주문 접수 토큰
+    private String token;
+    private OrderAcceptanceStatus status;
+    // 주문 생성이 완료된 경우에만 존재
+    private Long orderId;
+    // 실패한 경우의 ErrorCode 이름
+    private String errorCode;
+}
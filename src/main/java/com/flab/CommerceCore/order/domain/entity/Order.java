@@ -19,10 +19,11 @@ import java.util.List;
 public class Order {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_seq_generator")
+    @SequenceGenerator(name = "order_seq_generator", sequenceName = "orders_seq", allocationSize = 50)
     private Long orderId;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
 
@@ -35,21 +36,36 @@ public class Order {
     @OneToMany(mappedBy = "order")
     private List<OrderProduct> orderProducts;
 
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "payment_id")
     private Payment payment;
 
+    /**
+     * 주문의 유저는 연관관계의 주인(Order.user)에만 설정한다.
+     * 역방향 컬렉션(User.orders)에 추가하면 유저의 주문 이력 전체가 로딩되므로 건드리지 않는다.
+     * 주문 상품은 연관관계의 주인(OrderProduct.order)에 주문을 설정해야 order_id 가 저장된다.
+     */
     @Builder
     public Order(User user, List<OrderProduct> orderProducts, Payment payment) {
         this.user = user;
-        user.getOrders().add(this);
         this.orderProducts = orderProducts;
         this.payment = payment;
         this.status = payment != null ? payment.getStatus() : Status.PROCESSING;
         this.orderDate = LocalDateTime.now();
+        if (orderProducts != null) {
+            orderProducts.forEach(orderProduct -> orderProduct.assignOrder(this));
+        }
     }
 
     public void cancelOrder(Status status) {
         this.status = status;
     }
+
+    /**
+     * 결제 결과를 주문에 반영 (결제 상태가 곧 주문 상태)
+     */
+    public void completePayment(Payment payment) {
+        this.payment = payment;
+        this.status = payment.getStatus();
+    }
 }
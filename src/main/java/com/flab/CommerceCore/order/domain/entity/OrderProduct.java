@@ -14,14 +14,15 @@ import java.math.BigDecimal;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class OrderProduct {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_product_seq_generator")
+    @SequenceGenerator(name = "order_product_seq_generator", sequenceName = "order_product_seq", allocationSize = 50)
     private Long orderProductId;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name="order_id")
     private Order order;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name="product_id")
     private Product product;
 
@@ -36,5 +37,12 @@ public class OrderProduct {
         this.totalPrice = this.product.getPrice().multiply(BigDecimal.valueOf(quantity));
     }
 
+    /**
+     * 주문 상품이 속한 주문을 설정하는 메서드 (Order 생성 시에만 호출)
+     */
+    void assignOrder(Order order) {
+        this.order = order;
+    }
+
 
 }
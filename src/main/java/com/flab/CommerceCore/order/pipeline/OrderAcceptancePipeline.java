@@ -0,0 +1,274 @@
+package com.flab.CommerceCore.order.pipeline;
+
+import com.flab.CommerceCore.common.enums.OrderAcceptanceStatus;
+import com.flab.CommerceCore.common.exceptions.BusinessException;
+import com.flab.CommerceCore.common.exceptions.ErrorCode;
+import com.flab.CommerceCore.order.domain.dto.OrderAcceptanceResponse;
+import com.flab.CommerceCore.order.domain.dto.OrderRequest;
+import com.flab.CommerceCore.order.domain.dto.OrderResponse;
+import com.flab.CommerceCore.order.service.OrderService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주문 요청을 바로 접수하고 단계별 워커가 뒤에서 처리하는 비동기 주문 파이프라인
+ *
+ * 접수 → [검증 큐] → 검증 워커 → [처리 큐] → 처리 워커(재고 예약 → 결제 → 주문 저장) 순으로 흐른다.
+ * 요청 스레드는 큐에 넣고 토큰만 돌려주므로 Tomcat 스레드와 DB 커넥션을 붙잡지 않는다.
+ * 두 큐는 모두 크기가 정해져 있어, 처리 큐가 차면 검증 워커가 멈추고 검증 큐가 차면 접수를 거절(429)한다.
+ * 처리 워커 수가 동시에 쓰는 DB 커넥션 수의 상한이므로 커넥션 풀보다 작게 둔다.
+ * 접수 상태는 메모리에만 있으므로 인스턴스가 재시작되면 처리 전의 요청은 사라진다.
+ */
+@Slf4j
+@Component
+public class OrderAcceptancePipeline {
+
+  private static final long POLL_TIMEOUT_MILLIS = 100;
+
+  private final OrderService orderService;
+  private final boolean enabled;
+  private final int queueCapacity;
+  private final int validateWorkers;
+  private final int checkoutWorkers;
+  private final long resultTtlMillis;
+
+  private final BlockingQueue<Ticket> validateQueue;
+  private final BlockingQueue<Ticket> checkoutQueue;
+  private final Map<String, Ticket> tickets = new ConcurrentHashMap<>();
+
+  private ExecutorService executor;
+  private volatile boolean running;
+
+  @Autowired
+  public OrderAcceptancePipeline(OrderService orderService,
+      @Value("${order.async.enabled:false}") boolean enabled,
+      @Value("${order.async.queue-capacity:1000}") int queueCapacity,
+      @Value("${order.async.validate-workers:2}") int validateWorkers,
+      @Value("${order.async.checkout-workers:4}") int checkoutWorkers,
+      @Value("${order.async.result-ttl-seconds:600}") long resultTtlSeconds) {
+    if (queueCapacity <= 0 || validateWorkers <= 0 || checkoutWorkers <= 0) {
+      throw new IllegalArgumentException("주문 파이프라인 설정 값은 0보다 커야 합니다.");
+    }
+    this.orderService = orderService;
+    this.enabled = enabled;
+    this.queueCapacity = queueCapacity;
+    this.validateWorkers = validateWorkers;
+    this.checkoutWorkers = checkoutWorkers;
+    this.resultTtlMillis = TimeUnit.SECONDS.toMillis(resultTtlSeconds);
+    this.validateQueue = new ArrayBlockingQueue<>(queueCapacity);
+    // 처리 큐는 처리 워커 수만큼만 앞서 검증해 두면 충분하다
+    this.checkoutQueue = new ArrayBlockingQueue<>(checkoutWorkers);
+  }
+
+  @PostConstruct
+  public synchronized void start() {
+    if (!enabled || running) {
+      return;
+    }
+    running = true;
+    AtomicInteger sequence = new AtomicInteger();
+    executor = Executors.newFixedThreadPool(validateWorkers + checkoutWorkers, runnable -> {
+      Thread thread = new Thread(runnable, "order-pipeline-" + sequence.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+    for (int i = 0; i < validateWorkers; i++) {
+      executor.execute(this::validateLoop);
+    }
+    for (int i = 0; i < checkoutWorkers; i++) {
+      executor.execute(this::checkoutLoop);
+    }
+    log.info("비동기 주문 파이프라인 시작 queueCapacity: {}, validateWorkers: {}, checkoutWorkers: {}",
+        queueCapacity, validateWorkers, checkoutWorkers);
+  }
+
+  @PreDestroy
+  public synchronized void stop() {
+    if (!running) {
+      return;
+    }
+    running = false;
+    executor.shutdown();
+    try {
+      if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+        executor.shutdownNow();
+      }
+    } catch (InterruptedException e) {
+      executor.shutdownNow();
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * 비동기 주문 모드가 켜져 있는지 여부
+   */
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * 주문 요청을 검증 큐에 넣고 접수 토큰을 반환하는 메서드
+   *
+   * @param orderRequest 주문 요청
+   * @return 접수 토큰과 현재 상태
+   * @throws BusinessException 검증 큐가 가득 찬 경우 발생 (429)
+   */
+  public OrderAcceptanceResponse submit(OrderRequest orderRequest) {
+    Ticket ticket = new Ticket(UUID.randomUUID().toString(), orderRequest);
+    tickets.put(ticket.token, ticket);
+    if (!validateQueue.offer(ticket)) {
+      tickets.remove(ticket.token);
+      log.error(ErrorCode.ORDER_QUEUE_FULL.getDetail(), queueCapacity);
+      throw BusinessException.create(ErrorCode.ORDER_QUEUE_FULL);
+    }
+    return ticket.toResponse();
+  }
+
+  /**
+   * 접수 토큰으로 주문 처리 상태를 조회하는 메서드
+   *
+   * @param token 접수 토큰
+   * @return 현재 상태 (완료 시 주문 ID, 실패 시 ErrorCode 포함)
+   * @throws BusinessException 토큰이 없거나 결과 보관 기간이 지난 경우 발생
+   */
+  public OrderAcceptanceResponse getStatus(String token) {
+    Ticket ticket = tickets.get(token);
+    if (ticket == null) {
+      log.error(ErrorCode.ORDER_TOKEN_NOT_FOUND.getDetail(), token);
+      throw BusinessException.create(ErrorCode.ORDER_TOKEN_NOT_FOUND);
+    }
+    return ticket.toResponse();
+  }
+
+  /**
+   * 결과 보관 기간이 지난 완료/실패 접수 정보를 지우는 메서드
+   *
+   * @return 지운 접수 정보 수
+   */
+  @Scheduled(fixedDelayString = "${order.async.cleanup-interval-ms:60000}")
+  public int evictExpired() {
+    long threshold = System.currentTimeMillis() - resultTtlMillis;
+    int before = tickets.size();
+    tickets.values().removeIf(ticket -> ticket.isFinished() && ticket.finishedAt < threshold);
+    return before - tickets.size();
+  }
+
+  /**
+   * 검증 워커: 존재 여부만 읽기 전용으로 검증한 뒤 처리 큐에 넣는다 (처리 큐가 차 있으면 기다린다)
+   */
+  private void validateLoop() {
+    while (running) {
+      try {
+        Ticket ticket = validateQueue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        if (ticket == null) {
+          continue;
+        }
+        ticket.status = OrderAcceptanceStatus.VALIDATING;
+        if (run(ticket, () -> orderService.validateOrder(ticket.orderRequest))) {
+          ticket.status = OrderAcceptanceStatus.VALIDATED;
+          checkoutQueue.put(ticket);
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+    }
+  }
+
+  /**
+   * 처리 워커: 재고 예약, 결제, 주문 확정을 수행한다 (트랜잭션 경계는 {@link OrderService#createOrder} 가 나눈다)
+   */
+  private void checkoutLoop() {
+    while (running || !checkoutQueue.isEmpty()) {
+      try {
+        Ticket ticket = checkoutQueue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        if (ticket == null) {
+          continue;
+        }
+        ticket.status = OrderAcceptanceStatus.PROCESSING;
+        run(ticket, () -> {
+          OrderResponse orderResponse = orderService.createOrder(ticket.orderRequest);
+          ticket.complete(orderResponse.getOrderId());
+        });
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+    }
+  }
+
+  /**
+   * 단계를 실행하고, 실패하면 접수 정보를 실패로 표시하는 메서드
+   *
+   * @return 단계 성공 여부
+   */
+  private boolean run(Ticket ticket, Runnable stage) {
+    try {
+      stage.run();
+      return true;
+    } catch (BusinessException e) {
+      ticket.fail(e.getErrorCode());
+    } catch (RuntimeException e) {
+      log.error("비동기 주문 처리 실패 token: {}", ticket.token, e);
+      ticket.fail(ErrorCode.DATA_ACCESS_EXCEPTION);
+    }
+    return false;
+  }
+
+  /**
+   * 접수된 주문 한 건의 처리 상태 (상태는 워커 스레드가 바꾸고 요청 스레드가 읽는다)
+   */
+  private static class Ticket {
+
+    private final String token;
+    private final OrderRequest orderRequest;
+    private volatile OrderAcceptanceStatus status = OrderAcceptanceStatus.QUEUED;
+    private volatile Long orderId;
+    private volatile ErrorCode errorCode;
+    private volatile long finishedAt;
+
+    private Ticket(String token, OrderRequest orderRequest) {
+      this.token = token;
+      this.orderRequest = orderRequest;
+    }
+
+    private void complete(Long orderId) {
+      this.orderId = orderId;
+      this.finishedAt = System.currentTimeMillis();
+      this.status = OrderAcceptanceStatus.COMPLETED;
+    }
+
+    private void fail(ErrorCode errorCode) {
+      this.errorCode = errorCode;
+      this.finishedAt = System.currentTimeMillis();
+      this.status = OrderAcceptanceStatus.FAILED;
+    }
+
+    private boolean isFinished() {
+      return status == OrderAcceptanceStatus.COMPLETED || status == OrderAcceptanceStatus.FAILED;
+    }
+
+    private OrderAcceptanceResponse toResponse() {
+      return OrderAcceptanceResponse.builder()
+          .token(token)
+          .status(status)
+          .orderId(orderId)
+          .errorCode(errorCode == null ? null : errorCode.name())
+          .build();
+    }
+  }
+}
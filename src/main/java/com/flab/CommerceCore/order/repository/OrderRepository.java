@@ -1,12 +1,70 @@
 package com.flab.CommerceCore.order.repository;
 
+import static com.flab.CommerceCore.common.query.QueryConstant.FIND_EXPIRED_PENDING_ORDERS;
+import static com.flab.CommerceCore.common.query.QueryConstant.FIND_ORDERS_WITH_ORDER_PRODUCTS;
+import static com.flab.CommerceCore.common.query.QueryConstant.FIND_ORDER_IDS;
+import static com.flab.CommerceCore.common.query.QueryConstant.FIND_ORDER_IDS_AFTER;
+import static com.flab.CommerceCore.common.query.QueryConstant.FIND_ORDER_WITH_ORDER_PRODUCTS;
+import static com.flab.CommerceCore.common.query.QueryConstant.TRANSITION_ORDER_STATUS;
+import static com.flab.CommerceCore.common.query.QueryConstant.UPDATE_ORDER_PAYMENT;
+
 import com.flab.CommerceCore.common.annotation.LogRepositoryError;
+import com.flab.CommerceCore.common.enums.Status;
 import com.flab.CommerceCore.order.domain.entity.Order;
+import com.flab.CommerceCore.payment.domain.entity.Payment;
 import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 @LogRepositoryError
 public interface OrderRepository extends JpaRepository<Order, Long> {
   List<Order> findAllByUserEmail(String userEmail);
   Order findByOrderId(Long orderId);
+
+  /**
+   * 페이지에 해당하는 주문 ID 만 조회 (컬렉션 fetch join 과 페이징을 함께 쓰면 메모리에서 페이징되므로 분리)
+   * 반환 타입이 List 이므로 count 쿼리는 실행되지 않는다.
+   */
+  @Query(FIND_ORDER_IDS)
+  List<Long> findOrderIds(Pageable pageable);
+
+  /**
+   * 커서(after) 이후의 주문 ID 를 기본 키 순서로 조회 (OFFSET, count 없이 인덱스에서 바로 시작)
+   */
+  @Query(FIND_ORDER_IDS_AFTER)
+  List<Long> findOrderIdsAfter(@Param("after") Long after, Pageable pageable);
+
+  /**
+   * 주문 상품과 상품까지 한 번의 쿼리로 조회 (유저는 ID 만 쓰므로 프록시로 둔다)
+   */
+  @Query(FIND_ORDERS_WITH_ORDER_PRODUCTS)
+  List<Order> findAllWithOrderProductsByOrderIdIn(@Param("orderIds") List<Long> orderIds);
+
+  @Query(FIND_ORDER_WITH_ORDER_PRODUCTS)
+  Order findWithOrderProductsByOrderId(@Param("orderId") Long orderId);
+
+  /**
+   * 결제 결과를 주문에 반영 (주문과 주문 상품을 다시 로딩하지 않도록 UPDATE 한 번으로 처리)
+   * 같은 트랜잭션에서 저장한 결제가 먼저 INSERT 되도록 실행 전에 flush 한다.
+   */
+  @Modifying(flushAutomatically = true)
+  @Query(UPDATE_ORDER_PAYMENT)
+  int updatePayment(@Param("orderId") Long orderId, @Param("payment") Payment payment,
+      @Param("status") Status status);
+
+  /**
+   * 주문이 아직 from 상태일 때만 to 로 변경 (변경된 행 수로 경합에서 이겼는지 판단)
+   */
+  @Modifying
+  @Query(TRANSITION_ORDER_STATUS)
+  int transitionStatus(@Param("orderId") Long orderId, @Param("from") Status from, @Param("to") Status to);
+
+  /**
+   * 예약이 만료되었는데 아직 결제 대기(PENDING)인 주문을 결제와 함께 조회
+   */
+  @Query(FIND_EXPIRED_PENDING_ORDERS)
+  List<Order> findExpiredPendingOrders(Pageable pageable);
 }
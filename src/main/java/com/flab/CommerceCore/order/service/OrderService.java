@@ -1,12 +1,16 @@
 package com.flab.CommerceCore.order.service;
 
 import com.flab.CommerceCore.common.Mapper.OrderMapper;
-import com.flab.CommerceCore.common.enums.InventoryOperation;
+import com.flab.CommerceCore.common.annotation.RetryOnLockFailure;
+import com.flab.CommerceCore.common.collection.LongObjectHashMap;
+import com.flab.CommerceCore.common.enums.OutboxEventType;
 import com.flab.CommerceCore.common.enums.Status;
 import com.flab.CommerceCore.common.exceptions.BusinessException;
 import com.flab.CommerceCore.common.exceptions.ErrorCode;
-import com.flab.CommerceCore.inventory.domain.entity.Inventory;
+import com.flab.CommerceCore.common.pagination.CursorPage;
+import com.flab.CommerceCore.common.pagination.CursorPagination;
 import com.flab.CommerceCore.inventory.repository.InventoryRepository;
+import com.flab.CommerceCore.inventory.service.InventoryReservationService;
 import com.flab.CommerceCore.order.domain.dto.OrderProductRequest;
 import com.flab.CommerceCore.order.domain.dto.OrderRequest;
 import com.flab.CommerceCore.order.domain.dto.OrderResponse;
@@ -14,21 +18,26 @@ import com.flab.CommerceCore.order.domain.entity.Order;
 import com.flab.CommerceCore.order.domain.entity.OrderProduct;
 import com.flab.CommerceCore.order.repository.OrderProductRepository;
 import com.flab.CommerceCore.order.repository.OrderRepository;
+import com.flab.CommerceCore.outbox.OutboxEventRecorder;
+import com.flab.CommerceCore.payment.domain.entity.Payment;
 import com.flab.CommerceCore.payment.service.PaymentService;
 import com.flab.CommerceCore.product.domain.entity.Product;
 import com.flab.CommerceCore.product.repository.ProductRepository;
 import com.flab.CommerceCore.user.domain.entity.User;
 import com.flab.CommerceCore.user.repository.UserRepository;
 import java.math.BigDecimal;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.function.Function;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.bind.annotation.RequestBody;
 import java.util.List;
 
@@ -36,74 +45,107 @@ import java.util.List;
 @Slf4j
 public class OrderService {
 
+    private static final String ORDER_AGGREGATE = "ORDER";
+    private static final int EXPIRED_PENDING_BATCH_SIZE = 100;
 
     private final UserRepository userRepository;
     private final ProductRepository productRepository;
     private final InventoryRepository inventoryRepository;
+    private final InventoryReservationService reservationService;
     private final PaymentService paymentService;
     private final OrderRepository orderRepository;
     private final OrderProductRepository orderProductRepository;
     private final OrderMapper mapper;
+    private final CursorPagination cursorPagination;
+    private final OutboxEventRecorder outboxEventRecorder;
+    private final TransactionTemplate transactionTemplate;
 
 
 
     @Autowired
     public OrderService(UserRepository userRepository, ProductRepository productRepository,
-        InventoryRepository inventoryRepository, PaymentService paymentService,
-        OrderRepository orderRepository, OrderProductRepository orderProductRepository,
-        OrderMapper mapper){
+        InventoryRepository inventoryRepository, InventoryReservationService reservationService,
+        PaymentService paymentService, OrderRepository orderRepository,
+        OrderProductRepository orderProductRepository, OrderMapper mapper,
+        CursorPagination cursorPagination, OutboxEventRecorder outboxEventRecorder,
+        PlatformTransactionManager transactionManager){
         this.userRepository = userRepository;
         this.productRepository = productRepository;
         this.inventoryRepository = inventoryRepository;
+        this.reservationService = reservationService;
         this.paymentService = paymentService;
         this.orderRepository = orderRepository;
         this.orderProductRepository = orderProductRepository;
         this.mapper = mapper;
+        this.cursorPagination = cursorPagination;
+        this.outboxEventRecorder = outboxEventRecorder;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
 
     /**
      * 사용자의 주문을 생성하는 메서드
-     * 유저의 유효성을 검사하고, 주문 상품 및 재고를 확인한 뒤 주문을 생성
-     * 결제까지 완료한 후, 주문 정보를 반환
+     * 결제 API 호출이 DB 커넥션과 재고 락을 붙잡지 않도록 세 단계로 나눠 처리한다.
+     * 1. 예약 트랜잭션: 유저/상품/재고를 검증하고 재고를 예약한 뒤 PROCESSING 주문을 저장
+     * 2. 트랜잭션 밖에서 결제 승인 요청 (PG 응답 지연 동안 커넥션을 점유하지 않는다)
+     * 3. 확정 트랜잭션: 승인된 결제를 먼저 따로 저장한 뒤 예약을 확정 / 결제 실패 시 보상 트랜잭션에서 예약을 해제하고 주문을 FAILED 로 변경
+     *    PG 장애로 결제 결과를 알 수 없으면(PENDING) 주문을 결제 대기로 저장하고 예약은 RESERVED 로 남긴다.
+     *    예약이 만료된 결제 대기 주문은 {@link #failExpiredPendingOrders()} 가 FAILED 로 바꾸고 결제를 환불 대상으로 넘긴다.
+     *    승인 뒤 확정이 실패하면(예약 만료, DB 오류) 결제를 취소하고 주문을 FAILED 로 바꾼다.
+     * 2 와 3 사이에 프로세스가 죽으면 예약은 RESERVED 로 남아 있으므로 만료 타이머가 재고를 되돌린다.
      *
      * @param orderRequest 주문 생성에 필요한 요청 정보
      * @return 생성된 주문의 정보
-     * @throws BusinessException 유효하지 않은 유저 ID 또는 상품/재고 문제 시 발생
+     * @throws BusinessException 유효하지 않은 유저 ID 또는 상품/재고 문제, 결제 실패 시 발생
      */
-    @Transactional
+    @RetryOnLockFailure
     public OrderResponse createOrder(@RequestBody OrderRequest orderRequest){
 
-        // 알맞은 유저인지 검사
-        User user = validateUser(orderRequest.getUserId());
-        log.info("유저 검증 성공 userId: {}", user.getUserId());
-
-        // 주문할 상품들 및 재고 정보 생성 및 검증
-        List<OrderProduct> orderProductList = createOrderProducts(orderRequest.getOrderProductRequests());
-        log.info("주문 상품 생성 성공 userId: {}", user.getUserId());
-
-        // 주문 상품 리스트를 일괄 저장
-        orderProductRepository.saveAll(orderProductList); // 일괄 저장
-        log.info("주문 상품 DB 저장 성공 userId: {}", user.getUserId());
-
-        // 주문 상품들의 총 금액 계산
-        BigDecimal totalAmount = getTotalAmount(orderProductList);
-
-        // order 생성
-        Order order = Order.builder()
-            .user(user)
-            .orderProducts(orderProductList)
-            .payment(paymentService.payment(totalAmount)) // 결제 처리
-            .build();
+        // 1. 예약 트랜잭션 (락 충돌 시 이 단계까지만 재시도된다)
+        Order order = transactionTemplate.execute(status -> reserveOrder(orderRequest));
+
+        // 2. 결제 승인 (트랜잭션 밖, PG 호출 자체가 실패해도 예약을 해제)
+        BigDecimal totalAmount = getTotalAmount(order.getOrderProducts());
+        Payment payment;
+        try {
+            payment = paymentService.authorize(totalAmount);
+        } catch (RuntimeException e) {
+            Payment failedPayment = Payment.builder().amount(totalAmount).build();
+            failedPayment.changeStatus(Status.FAILED);
+            completeOrder(order, failedPayment);
+            throw e;
+        }
 
-        // order 영속화
-        orderRepository.save(order);
+        // 3. 확정 또는 보상 트랜잭션
+        completeOrder(order, payment);
+        if (payment.getStatus() == Status.FAILED) {
+            log.error(ErrorCode.PAYMENT_FAILED.getDetail());
+            throw BusinessException.create(ErrorCode.PAYMENT_FAILED);
+        }
         log.info("주문 생성 완료 orderId : {}", order.getOrderId());
 
-        // 주문 생성 후 주문 조회 페이지로 리다이렉트할 URL 반환
         return mapper.convertEntityToResponse(order);
     }
 
+    /**
+     * 주문 요청의 유저, 상품, 재고 존재 여부만 읽기 전용으로 검증하는 메서드
+     * 비동기 주문 파이프라인의 검증 단계에서 사용하며, 재고 수량은 주문 생성 시 차감하면서 확인한다.
+     *
+     * @param orderRequest 검증할 주문 요청
+     * @throws BusinessException 유효하지 않은 유저 ID 또는 상품/재고가 없는 경우 발생
+     */
+    @Transactional(readOnly = true)
+    public void validateOrder(OrderRequest orderRequest){
+        validateUser(orderRequest.getUserId());
+        if(orderRequest.getOrderProductRequests() == null || orderRequest.getOrderProductRequests().isEmpty()){
+            log.error(ErrorCode.REQUIRED_FIELD_NULL.getDetail(), "orderProductRequests");
+            throw BusinessException.create(ErrorCode.REQUIRED_FIELD_NULL);
+        }
+        validateProductsWithInventory(orderRequest.getOrderProductRequests().stream()
+            .map(OrderProductRequest::getProductId)
+            .toList());
+    }
+
     /**
      * 주문 ID로 주문 정보를 조회하는 메서드
      *
@@ -113,7 +155,7 @@ public class OrderService {
      */
     @Transactional(readOnly = true)
     public OrderResponse findOrderById(Long orderId){
-        Order order = orderRepository.findByOrderId(orderId);
+        Order order = orderRepository.findWithOrderProductsByOrderId(orderId);
         if(order == null){
             log.error(ErrorCode.ORDER_NOT_FOUND.getDetail(),orderId);
             throw BusinessException.create(ErrorCode.ORDER_NOT_FOUND);
@@ -123,6 +165,9 @@ public class OrderService {
 
     /**
      * 페이징 처리된 모든 주문 목록을 조회하는 메서드
+     * OFFSET 방식이라 뒤 페이지일수록 느려지므로 새 클라이언트는 {@link #findOrders(String, Integer)} 를 사용한다.
+     * 페이지의 주문 ID 를 먼저 조회한 뒤 주문 상품과 상품을 한 번에 fetch join 하여
+     * 주문 수와 관계없이 쿼리 두 번으로 응답을 만든다.
      *
      * @param page 조회할 페이지 번호
      * @return List<OrderResponse> 주문에 대한 응답 리스트
@@ -132,18 +177,55 @@ public class OrderService {
         int pageSize = 10;  // 기본 10개씩
         Pageable pageable = PageRequest.of(page, pageSize);  // 페이지 요청 생성
 
-        // 주문 페이지를 조회
-        Page<Order> orderPage = orderRepository.findAll(pageable);
+        // 주문 페이지의 ID 를 조회
+        List<Long> orderIds = orderRepository.findOrderIds(pageable);
+        if (orderIds.isEmpty()) {
+            return List.of();
+        }
 
         // 조회한 주문들을 OrderResponse로 변환하여 리스트로 반환
-        return orderPage.getContent().stream()
+        return orderRepository.findAllWithOrderProductsByOrderIdIn(orderIds).stream()
             .map(mapper::convertEntityToResponse)
             .toList();
     }
 
 
+    /**
+     * 커서 이후의 주문 목록을 조회하는 메서드 (키셋 페이지네이션)
+     * 주문 ID 를 limit + 1 개만 seek 조회한 뒤 주문 상품과 상품을 fetch join 하므로
+     * 페이지 깊이와 관계없이 쿼리 두 번, 일정한 지연으로 응답한다.
+     *
+     * @param after 이전 페이지의 nextCursor (첫 페이지면 null)
+     * @param limit 페이지 크기 (최대 크기로 제한)
+     * @return 주문 응답과 다음 커서
+     * @throws BusinessException 커서 형식이 올바르지 않을 경우 발생
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<OrderResponse> findOrders(String after, Integer limit) {
+        int pageSize = cursorPagination.resolveLimit(limit);
+        List<Long> orderIds = orderRepository.findOrderIdsAfter(
+            cursorPagination.decode(after), cursorPagination.seek(pageSize));
+        CursorPage<Long> idPage = cursorPagination.toPage(orderIds, pageSize, Long::longValue, Function.identity());
+
+        List<OrderResponse> content = idPage.getContent().isEmpty()
+            ? List.of()
+            : orderRepository.findAllWithOrderProductsByOrderIdIn(idPage.getContent()).stream()
+                .map(mapper::convertEntityToResponse)
+                .toList();
+
+        return CursorPage.<OrderResponse>builder()
+            .content(content)
+            .nextCursor(idPage.getNextCursor())
+            .hasNext(idPage.isHasNext())
+            .build();
+    }
+
+
     /**
      * 주문을 취소하는 메서드
+     * 결제가 승인되었거나 결과를 알 수 없는(PENDING) 주문은 결제를 REFUND_REQUIRED 로 바꿔
+     * {@link PaymentService#retryRefunds()} 가 PG 에 취소를 요청하게 한다.
+     * 주문 상태는 조건부로 바꾸므로 만료된 결제 대기 주문 정리와 동시에 실행되어도 한 쪽만 반영된다.
      *
      * @param orderId 취소할 주문 ID
      * @return OrderResponse 취소된 주문에 대한 응답 객체
@@ -152,29 +234,54 @@ public class OrderService {
     @Transactional
     public OrderResponse cancelOrder(Long orderId) {
         // 주문 조회
-        Order order = orderRepository.findByOrderId(orderId);
+        Order order = orderRepository.findWithOrderProductsByOrderId(orderId);
         if(order == null){
             log.error(ErrorCode.ORDER_NOT_FOUND.getDetail(),orderId);
             throw BusinessException.create(ErrorCode.ORDER_NOT_FOUND);
         }
 
         // 이미 취소된 주문은 다시 취소할 수 없음
-        if (order.getStatus() == Status.CANCEL) {
+        Status status = order.getStatus();
+        if (status == Status.CANCEL) {
             log.error(ErrorCode.ORDER_ALREADY_CANCELED.getDetail(),orderId);
             throw BusinessException.create(ErrorCode.ORDER_ALREADY_CANCELED);
         }
 
+        // 실패한 주문은 재고와 결제가 이미 정리되었으므로 취소할 수 없음
+        if (status == Status.FAILED
+            || orderRepository.transitionStatus(orderId, status, Status.CANCEL) == 0) {
+            log.error(ErrorCode.ORDER_NOT_CANCELABLE.getDetail(), orderId, status);
+            throw BusinessException.create(ErrorCode.ORDER_NOT_CANCELABLE);
+        }
+
         // 주문 상태를 CANCEL 로 변경
         order.cancelOrder(Status.CANCEL);
 
+        // 승인되었거나 승인되었을 수 있는 결제는 환불 대상으로 넘김
+        Payment payment = order.getPayment();
+        if (payment != null && (payment.getStatus() == Status.COMPLETED || payment.getStatus() == Status.PENDING)) {
+            payment.changeStatus(Status.REFUND_REQUIRED);
+            paymentService.save(payment);
+        }
+
+        // 주문에 묶인 예약을 해제하고 재고를 되돌림
+        reservationService.releaseByOrderId(orderId);
+
+        // 주문 취소 이벤트를 같은 트랜잭션에서 아웃박스에 기록
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("orderId", orderId);
+        payload.put("userId", order.getUser().getUserId());
+        payload.put("status", Status.CANCEL.name());
+        outboxEventRecorder.record(ORDER_AGGREGATE, orderId, OutboxEventType.ORDER_CANCELLED, payload);
+
         // 취소된 주문 정보를 반환
         return mapper.convertEntityToResponse(order);
     }
 
 
     /**
-     * 주문 상품 목록을 생성하고, 각 상품의 재고를 수정하는 메서드
-     * 상품 ID와 수량을 확인하여 주문 상품 객체를 생성합
+     * 주문 상품 목록을 생성하는 메서드
+     * 상품 ID와 재고 존재 여부를 확인하여 주문 상품 객체를 생성 (재고 차감은 예약 시 수행)
      *
      * @param orderProductRequests 주문할 상품 요청 리스트
      * @return 생성된 주문 상품 리스트
@@ -187,95 +294,308 @@ public class OrderService {
             .map(OrderProductRequest::getProductId)
             .toList();
 
-        // 등록된 상품 및 재고 정보 확인
-        Map<Long, Product> products = validateProducts(productIds);
-        Map<Long, Inventory> inventories = validateInventories(productIds);
+        // 등록된 상품 및 재고 정보를 한 번에 확인
+        LongObjectHashMap<Product> products = validateProductsWithInventory(productIds);
 
-        // 각 주문 상품 및 재고를 확인 후 주문 상품 객체 생성
+        // 주문 상품 객체 생성
         return orderProductRequests.stream()
-            .map(request -> {
-                Inventory inventory = inventories.get(request.getProductId());
-                Product product = products.get(request.getProductId());
-
-                // 재고 감소
-                inventory.modifyQuantity(request.getQuantity(), InventoryOperation.DECREASE);
-
-                // OrderProduct 생성
-                return OrderProduct.builder()
-                    .product(product)
-                    .quantity(request.getQuantity())
-                    .build();
-            }).toList();
+            .map(request -> OrderProduct.builder()
+                .product(products.get(request.getProductId()))
+                .quantity(request.getQuantity())
+                .build())
+            .toList();
 
     }
 
 
     /**
      * 유저 ID가 유효한지 검증하는 메서드
+     * 유저는 2차 캐시에 있으므로 같은 유저의 주문이 반복되면 DB 를 조회하지 않는다.
      *
      * @param userId 검증할 유저의 ID
-     * @return 유효한 유저 객체
      * @throws BusinessException 유저가 존재하지 않을 경우 예외 발생
      */
-    private User validateUser(Long userId){
-        User user = userRepository.findByUserId(userId);
-
-        if(user == null){
+    private void validateUser(Long userId){
+        if(userId == null || userRepository.findById(userId).isEmpty()){
           log.error(ErrorCode.USERID_NOT_FOUND.getDetail(),userId);
           throw BusinessException.create(ErrorCode.USERID_NOT_FOUND);
         }
-        return user;
     }
 
     /**
-     * 주문할 상품들의 재고 정보를 검증하는 메서드
-     * 요청된 상품 ID 리스트에 해당하는 재고가 있는지 확인
+     * 주문할 상품과 재고가 모두 존재하는지 검증하는 메서드
+     * 재고와 상품을 조인한 쿼리 한 번으로 재고가 있는 상품만 조회한다.
+     * 수량 검증은 차감 시 조건부 UPDATE 가 수행하므로 재고 엔티티는 로딩하지 않는다.
      *
      * @param productIds 상품 ID 리스트
-     * @return 유효한 재고 정보가 담긴 Map
-     * @throws BusinessException 재고가 없거나 상품이 유효하지 않은 경우 예외 발생
+     * @return 상품 ID 로 찾을 수 있는 상품 맵
+     * @throws BusinessException 상품이 없거나 재고가 없는 경우 예외 발생
      */
-    private Map<Long, Inventory> validateInventories(List<Long> productIds){
+    private LongObjectHashMap<Product> validateProductsWithInventory(List<Long> productIds){
+        List<Product> products = inventoryRepository.findProductsWithInventory(productIds);
 
-        List<Inventory> inventories = inventoryRepository.findAllByProductId(productIds);
+        // 상품 리스트를 상품 ID 맵으로 변환
+        LongObjectHashMap<Product> productMap = new LongObjectHashMap<>(products.size());
+        for(Product product : products){
+            productMap.put(product.getProductId(), product);
+        }
 
-        // 조회된 재고 개수와 요청한 productIds 의 개수가 맞지 않으면 예외 발생
-        if(inventories.size() != productIds.size()){
-          log.error(ErrorCode.PRODUCT_NOT_FOUND.getDetail(),productIds);
-          throw BusinessException.create(ErrorCode.INVENTORY_NOT_FOUND);
+        // 조회되지 않은 상품이 있으면 상품이 없는지, 재고만 없는지 구분하여 예외 발생 (실패 경로에서만 추가 조회)
+        List<Long> missingProductIds = productIds.stream()
+            .filter(productId -> productId == null || !productMap.containsKey(productId))
+            .toList();
+        if(!missingProductIds.isEmpty()){
+            log.error(ErrorCode.PRODUCT_NOT_FOUND.getDetail(),missingProductIds);
+            boolean productsExist = productRepository.findAllByProductIdIn(missingProductIds).size()
+                == missingProductIds.stream().distinct().count();
+            throw BusinessException.create(productsExist ? ErrorCode.INVENTORY_NOT_FOUND : ErrorCode.PRODUCT_NOT_FOUND);
         }
 
-        // 재고 리스트를 Map 형태로 변환하여 반환
-        Map<Long, Inventory> inventoryMap = new HashMap<>();
-        for(Inventory inventory : inventories){
-            inventoryMap.put(inventory.getProduct().getProductId(), inventory);
+        return productMap;
+    }
+
+
+    /**
+     * 예약 트랜잭션: 주문을 검증하고 재고를 예약한 뒤, 결제 전(PROCESSING) 주문과 주문 상품을 저장하는 메서드
+     *
+     * @param orderRequest 주문 생성에 필요한 요청 정보
+     * @return 저장된 PROCESSING 주문
+     */
+    private Order reserveOrder(OrderRequest orderRequest){
+
+        // 알맞은 유저인지 검사 (없는 유저의 주문은 재고를 건드리기 전에 거절)
+        validateUser(orderRequest.getUserId());
+        log.info("유저 검증 성공 userId: {}", orderRequest.getUserId());
+
+        // 주문할 상품들 및 재고 정보 생성 및 검증
+        List<OrderProduct> orderProductList = createOrderProducts(orderRequest.getOrderProductRequests());
+        log.info("주문 상품 생성 성공 userId: {}", orderRequest.getUserId());
+
+        // 재고 예약 (재고 차감 + 만료 시간이 있는 예약 생성)
+        List<Long> reservationIds = reservationService.reserve(
+            getProductQuantities(orderRequest.getOrderProductRequests()));
+        log.info("재고 예약 성공 userId: {}, reservationIds: {}", orderRequest.getUserId(), reservationIds);
+
+        // 주문에는 외래 키만 필요하므로 유저는 조회하지 않고 참조(프록시)만 얻는다
+        // 재고 차감(벌크 UPDATE)이 영속성 컨텍스트를 비우므로 참조는 예약 이후에 얻는다
+        User user = userRepository.getReferenceById(orderRequest.getUserId());
+
+        // 결제 전 주문 생성 (주문 상품에 주문이 설정되고, 결제가 없으므로 PROCESSING)
+        Order order = Order.builder()
+            .user(user)
+            .orderProducts(orderProductList)
+            .build();
+
+        // order 영속화 후 주문 상품 리스트를 일괄 저장 (order_id 가 채워진 채로 INSERT)
+        orderRepository.save(order);
+        orderProductRepository.saveAll(orderProductList); // 일괄 저장
+
+        // 예약을 확정하지 않고 주문에만 묶어 둔다 (결제 실패 시 주문 ID 로 해제)
+        reservationService.assign(reservationIds, order.getOrderId());
+        return order;
+    }
+
+    /**
+     * 결제 결과에 따라 확정, 결제 대기 또는 보상 트랜잭션을 실행하는 메서드
+     * 결제 이후에는 락 실패 등으로 주문 전체가 재시도되어 결제가 다시 일어나지 않도록 업무 예외로 바꾼다.
+     * 승인되지 않은 결제의 처리가 실패하면 예약은 RESERVED 로 남아 만료 타이머가 재고를 되돌린다.
+     *
+     * @param order 예약 트랜잭션에서 저장한 주문
+     * @param payment 결제 결과
+     */
+    private void completeOrder(Order order, Payment payment){
+        if (payment.getStatus() == Status.COMPLETED) {
+            confirmApprovedOrder(order, payment);
+            return;
+        }
+        try {
+            if (payment.getStatus() == Status.PENDING) {
+                transactionTemplate.executeWithoutResult(status -> holdOrder(order, payment));
+            } else {
+                transactionTemplate.executeWithoutResult(status -> compensateOrder(order, payment));
+            }
+        } catch (BusinessException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            log.error("결제 후 주문 처리 실패 orderId: {}, payment: {}", order.getOrderId(), payment.getStatus(), e);
+            throw BusinessException.create(ErrorCode.DATA_ACCESS_EXCEPTION);
         }
-        return inventoryMap;
     }
 
     /**
-     * 상품 ID 리스트를 기반으로 유효한 상품들을 검증하는 메서드
+     * 승인된 결제로 주문을 확정하는 메서드
+     * 결제는 확정과 별도 트랜잭션에서 먼저 저장하므로, 확정 트랜잭션이 롤백되어도 승인 기록은 남는다.
+     * 확정이 실패하면(결제를 기다리는 동안 예약 만료, DB 오류) 결제를 취소하고 주문을 FAILED 로 바꾼 뒤 예약을 해제한다.
+     * PG 취소가 확인되지 않은 결제는 REFUND_REQUIRED 로 남아 대사 작업이 취소를 다시 요청한다.
      *
-     * @param productIds 상품 ID 리스트
-     * @return 유효한 상품 정보가 담긴 Map
-     * @throws BusinessException 상품이 없거나 유효하지 않은 경우 예외 발생
+     * @param order 예약 트랜잭션에서 저장한 주문
+     * @param payment 승인된 결제
+     * @throws BusinessException 확정에 실패해 결제를 취소한 경우 발생
+     */
+    private void confirmApprovedOrder(Order order, Payment payment){
+        try {
+            transactionTemplate.executeWithoutResult(status -> paymentService.save(payment));
+            transactionTemplate.executeWithoutResult(status -> confirmOrder(order, payment));
+        } catch (RuntimeException e) {
+            log.error("결제 승인 후 주문 확정 실패 orderId: {}, amount: {}", order.getOrderId(), payment.getAmount(), e);
+            refundOrder(order, payment);
+            log.error(ErrorCode.ORDER_CONFIRM_FAILED.getDetail(), order.getOrderId(), payment.getStatus());
+            throw BusinessException.create(ErrorCode.ORDER_CONFIRM_FAILED);
+        }
+    }
+
+    /**
+     * 확정 트랜잭션: 먼저 저장한 승인 결제를 주문에 반영한 뒤 예약을 확정하는 메서드
+     *
+     * @param order 예약 트랜잭션에서 저장한 주문
+     * @param payment 저장된 승인 결제
      */
-    private Map<Long, Product> validateProducts(List<Long> productIds){
-        List<Product> products = productRepository.findAllByProductIdIn(productIds);
+    private void confirmOrder(Order order, Payment payment){
+        orderRepository.updatePayment(order.getOrderId(), payment, payment.getStatus());
+        order.completePayment(payment);
+
+        // 주문에 묶어 둔 예약을 확정 (만료 타이머는 커밋 후 해제)
+        reservationService.confirmByOrderId(order.getOrderId());
+
+        // 외부 시스템에 보낼 주문 생성, 결제 완료 이벤트를 같은 트랜잭션에서 아웃박스에 기록
+        recordOrderCreated(order);
+        recordPaymentCompleted(order);
+    }
 
-        // 조회된 상품 개수와 요청한 productIds의 개수가 맞지 않으면 예외 발생
-        if(products.size() != productIds.size()){
-            log.error(ErrorCode.PRODUCT_NOT_FOUND.getDetail(),productIds);
-            throw BusinessException.create(ErrorCode.PRODUCT_NOT_FOUND);
+    /**
+     * 환불 보상: 승인된 결제의 취소를 PG 에 요청하고(트랜잭션 밖), 결제 상태를 남긴 뒤 주문을 FAILED 로 바꾸고 예약을 해제하는 메서드
+     * 만료 타이머가 이미 되돌린 예약은 해제되지 않으므로 재고가 두 번 돌아오지 않는다.
+     * 이 트랜잭션마저 실패하면 취소 결과를 로그로만 남기고, 예약은 만료 타이머가 되돌린다.
+     *
+     * @param order 예약 트랜잭션에서 저장한 주문
+     * @param payment 확정하지 못한 승인 결제
+     */
+    private void refundOrder(Order order, Payment payment){
+        payment.changeStatus(paymentService.cancel(payment));
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                paymentService.save(payment);
+                orderRepository.updatePayment(order.getOrderId(), payment, Status.FAILED);
+                reservationService.releaseByOrderId(order.getOrderId());
+            });
+        } catch (RuntimeException e) {
+            log.error("결제 취소 후 주문 실패 처리 실패 orderId: {}, amount: {}, payment: {}",
+                order.getOrderId(), payment.getAmount(), payment.getStatus(), e);
         }
+    }
 
-        // 상품 리스트를 Map 형태로 변환하여 반환
-        Map<Long, Product> productMap = new HashMap<>();
-        for(Product product : products){
-            productMap.put(product.getProductId(), product);
+    /**
+     * 결제 대기 트랜잭션: 결과를 알 수 없는 결제를 PENDING 으로 저장하고 주문도 결제 대기로 바꾸는 메서드
+     * 예약은 확정하지 않고 RESERVED 로 남겨, 결제가 확인되지 않으면 만료 타이머가 재고를 되돌린다.
+     * 만료 뒤 주문과 결제는 {@link #failExpiredPendingOrders()} 가 정리한다.
+     *
+     * @param order 예약 트랜잭션에서 저장한 주문
+     * @param payment 결과를 알 수 없는 결제
+     */
+    private void holdOrder(Order order, Payment payment){
+        paymentService.save(payment);
+        orderRepository.updatePayment(order.getOrderId(), payment, payment.getStatus());
+        order.completePayment(payment);
+        log.warn("결제 대기 주문 orderId: {}, amount: {}", order.getOrderId(), payment.getAmount());
+    }
+
+    /**
+     * 보상 트랜잭션: 실패한 결제를 저장하고 주문을 FAILED 로 바꾼 뒤 예약을 해제해 재고를 되돌리는 메서드
+     *
+     * @param order 예약 트랜잭션에서 저장한 주문
+     * @param payment 실패한 결제
+     */
+    private void compensateOrder(Order order, Payment payment){
+        paymentService.save(payment);
+        orderRepository.updatePayment(order.getOrderId(), payment, payment.getStatus());
+        reservationService.releaseByOrderId(order.getOrderId());
+    }
+
+    /**
+     * 예약이 만료된 결제 대기 주문을 정리하는 대사 작업
+     * 만료 타이머가 재고를 이미 되돌렸으므로 주문은 FAILED 로 바꾸고, PG 가 실제로 승인했을 수 있는 결제는
+     * REFUND_REQUIRED 로 넘겨 {@link PaymentService#retryRefunds()} 가 취소를 요청하게 한다.
+     * 주문 상태를 조건부로 바꾸므로 여러 노드에서 동시에 실행되어도 한 번만 처리된다.
+     */
+    @Scheduled(fixedDelayString = "${order.pending.reconcile-interval-ms:60000}")
+    public void failExpiredPendingOrders(){
+        List<Order> orders = orderRepository.findExpiredPendingOrders(PageRequest.of(0, EXPIRED_PENDING_BATCH_SIZE));
+        for (Order order : orders) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> failExpiredPendingOrder(order));
+            } catch (RuntimeException e) {
+                log.error("만료된 결제 대기 주문 정리 실패, 다음 주기에 다시 처리 orderId: {}", order.getOrderId(), e);
+            }
+        }
+    }
+
+    private void failExpiredPendingOrder(Order order){
+        if (orderRepository.transitionStatus(order.getOrderId(), Status.PENDING, Status.FAILED) == 0) {
+            return;
         }
+        Payment payment = order.getPayment();
+        payment.changeStatus(Status.REFUND_REQUIRED);
+        paymentService.save(payment);
+        log.warn("예약이 만료된 결제 대기 주문을 FAILED 로 변경, 결제는 환불 대상 orderId: {}, amount: {}",
+            order.getOrderId(), payment.getAmount());
+    }
 
-        return productMap;
+
+    /**
+     * 주문 상품 요청을 상품 ID 별 수량으로 변환하는 메서드 (요청 순서 유지)
+     *
+     * @param orderProductRequests 주문할 상품 요청 리스트
+     * @return 상품 ID 별 수량
+     */
+    private Map<Long, Integer> getProductQuantities(List<OrderProductRequest> orderProductRequests){
+        Map<Long, Integer> productQuantities = new LinkedHashMap<>();
+        for(OrderProductRequest request : orderProductRequests){
+            productQuantities.merge(request.getProductId(), request.getQuantity(), Integer::sum);
+        }
+        return productQuantities;
+    }
+
+
+    /**
+     * 주문 생성 이벤트를 아웃박스에 기록하는 메서드
+     *
+     * @param order 생성된 주문
+     */
+    private void recordOrderCreated(Order order){
+        List<Map<String, Object>> products = order.getOrderProducts().stream()
+            .map(orderProduct -> {
+                Map<String, Object> product = new LinkedHashMap<>();
+                product.put("productId", orderProduct.getProduct().getProductId());
+                product.put("quantity", orderProduct.getQuantity());
+                product.put("totalPrice", orderProduct.getTotalPrice());
+                return product;
+            })
+            .toList();
+
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("orderId", order.getOrderId());
+        payload.put("userId", order.getUser().getUserId());
+        payload.put("status", order.getStatus().name());
+        payload.put("totalAmount", getTotalAmount(order.getOrderProducts()));
+        payload.put("orderProducts", products);
+        outboxEventRecorder.record(ORDER_AGGREGATE, order.getOrderId(), OutboxEventType.ORDER_CREATED, payload);
+    }
+
+    /**
+     * 결제 완료 이벤트를 아웃박스에 기록하는 메서드 (주문을 기준으로 기록)
+     * 릴레이 워커가 여러 개이면 같은 주문의 ORDER_CREATED 보다 먼저 전달될 수 있으므로,
+     * 소비자는 이벤트 순서에 기대지 말고 orderId 와 status 로 처리해야 한다.
+     *
+     * @param order 결제가 완료된 주문
+     */
+    private void recordPaymentCompleted(Order order){
+        Payment payment = order.getPayment();
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("paymentId", payment.getPaymentId());
+        payload.put("orderId", order.getOrderId());
+        payload.put("amount", payment.getAmount());
+        payload.put("status", payment.getStatus().name());
+        outboxEventRecorder.record(ORDER_AGGREGATE, order.getOrderId(), OutboxEventType.PAYMENT_COMPLETED, payload);
     }
 
 
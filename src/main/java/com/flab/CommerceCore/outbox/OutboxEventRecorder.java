@@ -0,0 +1,55 @@
+package com.flab.CommerceCore.outbox;
+
+import static com.flab.CommerceCore.common.query.QueryConstant.INSERT_OUTBOX_EVENT;
+
+import com.flab.CommerceCore.common.enums.OutboxEventType;
+import com.google.gson.Gson;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 주문 생애주기 이벤트를 아웃박스(outbox_event)에 기록하는 기록기
+ *
+ * 이벤트는 호출자의 트랜잭션에서 INSERT 되므로 주문/결제가 커밋될 때만 남고, 롤백되면 함께 사라진다.
+ * 외부 시스템으로의 전달은 OutboxRelay 가 트랜잭션 밖에서 비동기로 수행하므로 주문 처리 시간에 포함되지 않는다.
+ */
+@Component
+public class OutboxEventRecorder {
+
+  private static final Gson GSON = new Gson();
+
+  private final JdbcTemplate jdbcTemplate;
+  private final boolean enabled;
+
+  @Autowired
+  public OutboxEventRecorder(JdbcTemplate jdbcTemplate,
+      @Value("${outbox.enabled:true}") boolean enabled) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.enabled = enabled;
+  }
+
+  /**
+   * 이벤트를 아웃박스에 기록하는 메서드
+   *
+   * @param aggregateType 이벤트 대상 종류 (예: ORDER)
+   * @param aggregateId 이벤트 대상 ID
+   * @param eventType 이벤트 종류
+   * @param payload JSON 으로 직렬화할 이벤트 내용
+   * @throws IllegalStateException 트랜잭션 밖에서 호출한 경우 (업무 데이터와 원자적으로 기록할 수 없음)
+   */
+  public void record(String aggregateType, Long aggregateId, OutboxEventType eventType, Object payload) {
+    if (!enabled) {
+      return;
+    }
+    if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+      throw new IllegalStateException("아웃박스 이벤트는 트랜잭션 안에서만 기록할 수 있습니다.");
+    }
+    jdbcTemplate.update(INSERT_OUTBOX_EVENT, aggregateType, aggregateId, eventType.name(),
+        GSON.toJson(payload), Timestamp.valueOf(LocalDateTime.now()));
+  }
+}
@@ -0,0 +1,28 @@
+package com.flab.CommerceCore.outbox.domain.dto;
+
+import com.flab.CommerceCore.common.enums.OutboxEventType;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 릴레이가 아웃박스에서 꺼내 싱크로 전달하는 이벤트
+ * 전달은 최소 한 번(at-least-once)이므로 수신 측은 eventId 로 중복을 걸러야 한다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxMessage {
+
+  private Long eventId;
+  private String aggregateType;
+  private Long aggregateId;
+  private OutboxEventType eventType;
+  // JSON 문자열
+  private String payload;
+  private LocalDateTime createdAt;
+
+}
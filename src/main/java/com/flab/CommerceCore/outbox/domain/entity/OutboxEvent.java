@@ -0,0 +1,43 @@
+package com.flab.CommerceCore.outbox.domain.entity;
+
+import com.flab.CommerceCore.common.enums.OutboxEventType;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 외부 시스템에 전달할 이벤트를 업무 데이터와 같은 트랜잭션에 저장하는 아웃박스
+ * 삽입은 OutboxEventRecorder 가 JDBC 로, 전달과 삭제는 OutboxRelay 가 수행한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "outbox_event")
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "event_id")
+    private Long eventId;
+
+    @Column(name = "aggregate_type", nullable = false, length = 32)
+    private String aggregateType;
+
+    @Column(name = "aggregate_id", nullable = false)
+    private Long aggregateId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 32)
+    private OutboxEventType eventType;
+
+    // 주문 상품 수에 비례해 길어지므로 길이 제한이 없는 타입을 쓴다
+    @Lob
+    @Column(nullable = false)
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,170 @@
+package com.flab.CommerceCore.outbox.relay;
+
+import static com.flab.CommerceCore.common.query.QueryConstant.CLAIM_OUTBOX_EVENTS;
+import static com.flab.CommerceCore.common.query.QueryConstant.DELETE_OUTBOX_EVENT;
+
+import com.flab.CommerceCore.common.enums.OutboxEventType;
+import com.flab.CommerceCore.outbox.domain.dto.OutboxMessage;
+import com.flab.CommerceCore.outbox.sink.OutboxSink;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 아웃박스에 쌓인 이벤트를 묶음 단위로 싱크에 전달하고 삭제하는 릴레이
+ *
+ * 워커마다 트랜잭션 안에서 가장 오래된 이벤트를 batch-size 개 잠가서(FOR UPDATE SKIP LOCKED) 가져오므로,
+ * 워커끼리 같은 행을 기다리거나 중복 전달하지 않고 서로 다른 묶음을 나눠 가진다.
+ * 싱크 전달이 성공하면 같은 트랜잭션에서 묶음을 삭제하고 커밋하며, 실패하면 롤백되어 잠금이 풀린 행을 다음 폴링에서 다시 보낸다.
+ * 커밋 직전에 실패하면 같은 이벤트가 다시 전달될 수 있다. (at-least-once)
+ * 묶음은 워커별로 따로 전달되므로 같은 집합(aggregate)의 이벤트라도 순서가 바뀌어 전달될 수 있다.
+ * 처리량은 워커 수와 묶음 크기에 비례하며, 워커는 각자 커넥션을 사용하므로 커넥션 풀은 워커 수만큼 여유가 있어야 한다.
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+  private static final RowMapper<OutboxMessage> MESSAGE_MAPPER = (rs, rowNum) -> OutboxMessage.builder()
+      .eventId(rs.getLong("event_id"))
+      .aggregateType(rs.getString("aggregate_type"))
+      .aggregateId(rs.getLong("aggregate_id"))
+      .eventType(OutboxEventType.valueOf(rs.getString("event_type")))
+      .payload(rs.getString("payload"))
+      .createdAt(rs.getTimestamp("created_at").toLocalDateTime())
+      .build();
+
+  private final JdbcTemplate jdbcTemplate;
+  private final OutboxSink sink;
+  private final TransactionTemplate transactionTemplate;
+
+  private final boolean enabled;
+  private final int workers;
+  private final int batchSize;
+  private final long pollIntervalMillis;
+
+  private final AtomicLong relayed = new AtomicLong();
+  private ExecutorService executor;
+  private volatile boolean running;
+
+  @Autowired
+  public OutboxRelay(JdbcTemplate jdbcTemplate, OutboxSink sink, PlatformTransactionManager transactionManager,
+      @Value("${outbox.relay.enabled:false}") boolean enabled,
+      @Value("${outbox.relay.workers:2}") int workers,
+      @Value("${outbox.relay.batch-size:100}") int batchSize,
+      @Value("${outbox.relay.poll-interval-ms:500}") long pollIntervalMillis) {
+    if (workers <= 0 || batchSize <= 0) {
+      throw new IllegalArgumentException("릴레이 워커 수와 묶음 크기는 0보다 커야 합니다.");
+    }
+    this.jdbcTemplate = jdbcTemplate;
+    this.sink = sink;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    this.enabled = enabled;
+    this.workers = workers;
+    this.batchSize = batchSize;
+    this.pollIntervalMillis = pollIntervalMillis;
+  }
+
+  /**
+   * 워커 스레드를 시작하는 메서드 (비활성화 상태면 시작하지 않는다)
+   */
+  @PostConstruct
+  public synchronized void start() {
+    if (!enabled || running) {
+      return;
+    }
+    running = true;
+    AtomicInteger sequence = new AtomicInteger();
+    executor = Executors.newFixedThreadPool(workers, runnable -> {
+      Thread thread = new Thread(runnable, "outbox-relay-" + sequence.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+    for (int i = 0; i < workers; i++) {
+      executor.execute(this::pollLoop);
+    }
+    log.info("아웃박스 릴레이 시작 workers: {}, batchSize: {}", workers, batchSize);
+  }
+
+  @PreDestroy
+  public synchronized void stop() {
+    if (!running) {
+      return;
+    }
+    running = false;
+    executor.shutdown();
+    try {
+      if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+        executor.shutdownNow();
+      }
+    } catch (InterruptedException e) {
+      executor.shutdownNow();
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * 이벤트 한 묶음을 잠가서 싱크로 전달하고 삭제하는 메서드
+   *
+   * @return 전달한 이벤트 수 (남은 이벤트가 없으면 0)
+   */
+  public int relayOnce() {
+    Integer count = transactionTemplate.execute(status -> {
+      List<OutboxMessage> messages = jdbcTemplate.query(CLAIM_OUTBOX_EVENTS, MESSAGE_MAPPER, batchSize);
+      if (messages.isEmpty()) {
+        return 0;
+      }
+      sink.publish(messages);
+      jdbcTemplate.batchUpdate(DELETE_OUTBOX_EVENT, messages, messages.size(),
+          (ps, message) -> ps.setLong(1, message.getEventId()));
+      return messages.size();
+    });
+    int relayedCount = count == null ? 0 : count;
+    relayed.addAndGet(relayedCount);
+    return relayedCount;
+  }
+
+  /**
+   * 지금까지 전달한 이벤트 수
+   */
+  public long getRelayedCount() {
+    return relayed.get();
+  }
+
+  /**
+   * 묶음이 가득 차 있으면 쉬지 않고 다음 묶음을 가져오고, 덜 찼으면 폴링 간격만큼 쉰다.
+   */
+  private void pollLoop() {
+    while (running) {
+      int count;
+      try {
+        count = relayOnce();
+      } catch (RuntimeException e) {
+        log.error("아웃박스 이벤트 전달 실패, 다음 폴링에서 다시 시도합니다.", e);
+        count = 0;
+      }
+      if (count < batchSize) {
+        try {
+          Thread.sleep(pollIntervalMillis);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+      }
+    }
+  }
+}
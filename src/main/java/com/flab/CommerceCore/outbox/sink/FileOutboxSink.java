@@ -0,0 +1,84 @@
+package com.flab.CommerceCore.outbox.sink;
+
+import com.flab.CommerceCore.outbox.domain.dto.OutboxMessage;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이벤트를 JSON Lines 파일에 추가하는 기본 싱크
+ * 메시지 브로커가 붙기 전까지 사용하며, 다른 싱크를 쓰려면 outbox.sink.type 을 file 이외의 값으로 두고 OutboxSink 빈을 등록한다.
+ *
+ * 릴레이 작업자는 SKIP LOCKED 트랜잭션을 연 채로 publish 를 호출하므로, 작업자끼리 락을 나누지 않도록
+ * 호출한 스레드(작업자)마다 다른 파일에 쓴다. 파일은 날짜별로 나뉘며(events-outbox-relay-1-2024-01-01.jsonl),
+ * 지난 파일의 보관과 삭제는 운영에서 관리한다.
+ */
+@Component
+@ConditionalOnProperty(name = "outbox.sink.type", havingValue = "file", matchIfMissing = true)
+public class FileOutboxSink implements OutboxSink {
+
+  private static final String EXTENSION = ".jsonl";
+
+  private final Path directory;
+  private final String prefix;
+
+  @Autowired
+  public FileOutboxSink(@Value("${outbox.sink.file-path:data/outbox/events.jsonl}") String filePath) {
+    Path path = Path.of(filePath);
+    String fileName = path.getFileName().toString();
+    this.directory = path.getParent();
+    this.prefix = fileName.endsWith(EXTENSION)
+        ? fileName.substring(0, fileName.length() - EXTENSION.length()) : fileName;
+  }
+
+  /**
+   * 묶음을 호출한 작업자의 오늘 파일 끝에 한 줄씩 쓰고 디스크로 내린 뒤 반환하는 메서드
+   */
+  @Override
+  public void publish(List<OutboxMessage> messages) {
+    Path file = resolveFile(Thread.currentThread().getName(), LocalDate.now());
+    try {
+      if (directory != null) {
+        Files.createDirectories(directory);
+      }
+      try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+          StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.WRITE,
+          StandardOpenOption.SYNC)) {
+        for (OutboxMessage message : messages) {
+          writer.write(toJson(message));
+          writer.newLine();
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  Path resolveFile(String worker, LocalDate date) {
+    String fileName = prefix + "-" + worker.replaceAll("[^A-Za-z0-9._-]", "_") + "-" + date + EXTENSION;
+    return directory == null ? Path.of(fileName) : directory.resolve(fileName);
+  }
+
+  private String toJson(OutboxMessage message) {
+    JsonObject json = new JsonObject();
+    json.addProperty("eventId", message.getEventId());
+    json.addProperty("aggregateType", message.getAggregateType());
+    json.addProperty("aggregateId", message.getAggregateId());
+    json.addProperty("eventType", message.getEventType().name());
+    json.add("payload", JsonParser.parseString(message.getPayload()));
+    json.addProperty("createdAt", message.getCreatedAt().toString());
+    return json.toString();
+  }
+}
@@ -0,0 +1,20 @@
+package com.flab.CommerceCore.outbox.sink;
+
+import com.flab.CommerceCore.outbox.domain.dto.OutboxMessage;
+import java.util.List;
+
+/**
+ * 아웃박스 이벤트를 외부 시스템으로 내보내는 출구
+ *
+ * 릴레이는 publish 가 정상 반환된 묶음만 아웃박스에서 삭제하고, 예외가 나면 묶음 전체를 다음 폴링에서 다시 보낸다.
+ * 따라서 구현체는 묶음 단위로 전달을 끝낸 뒤 반환해야 하며, 같은 이벤트를 다시 받을 수 있다.
+ */
+public interface OutboxSink {
+
+  /**
+   * 이벤트 묶음을 전달하는 메서드 (eventId 오름차순)
+   *
+   * @param messages 전달할 이벤트 묶음
+   */
+  void publish(List<OutboxMessage> messages);
+}
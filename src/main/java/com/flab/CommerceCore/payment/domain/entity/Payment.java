@@ -10,13 +10,15 @@ import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Payment {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "payment_seq_generator")
+    @SequenceGenerator(name = "payment_seq_generator", sequenceName = "payment_seq", allocationSize = 50)
     private Long paymentId;
 
     private BigDecimal amount;
@@ -26,9 +28,24 @@ public class Payment {
 
     private LocalDateTime paymentTime;
 
+    /**
+     * PG 에 보내는 가맹점 주문번호
+     * 결제 ID 는 저장할 때 정해지므로, PG 호출 전에 알 수 있도록 결제를 만들 때 발급한다.
+     * 이 컬럼이 추가되기 전의 결제 행에는 값이 없으므로 NOT NULL 은 두지 않는다.
+     */
+    @Column(unique = true, length = 36)
+    private String merchantUid;
+
+    /**
+     * PG 가 승인하면서 발급한 거래 ID (승인 결과를 알 수 없거나 거절된 결제는 null)
+     */
+    @Column(length = 100)
+    private String transactionId;
+
     @Builder
     public Payment(BigDecimal amount) {
         this.amount = amount;
+        this.merchantUid = UUID.randomUUID().toString();
         this.paymentTime = LocalDateTime.now();
         this.status = Status.COMPLETED;
     }
@@ -38,4 +55,8 @@ public class Payment {
         this.status = status;
     }
 
+    public void assignTransactionId(String transactionId) {
+        this.transactionId = transactionId;
+    }
+
 }
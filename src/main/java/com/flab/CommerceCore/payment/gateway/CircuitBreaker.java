@@ -0,0 +1,134 @@
+package com.flab.CommerceCore.payment.gateway;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 실패율 기반 서킷 브레이커
+ *
+ * 최근 windowSize 번 호출의 성공/실패를 원형 버퍼에 기록하고, minimumCalls 이상 호출된 상태에서
+ * 실패율이 기준 이상이면 OPEN 으로 바꿔 openDuration 동안 호출을 바로 거절한다.
+ * 시간이 지나면 HALF_OPEN 으로 바꿔 halfOpenCalls 번만 시험 호출을 허용하고,
+ * 모두 성공하면 CLOSED 로, 하나라도 실패하면 다시 OPEN 으로 돌아간다.
+ * 호출 수가 많지 않은 외부 API 용이므로 상태 변경은 단순하게 synchronized 로 보호한다.
+ */
+public class CircuitBreaker {
+
+  public enum State {
+    CLOSED,
+    OPEN,
+    HALF_OPEN
+  }
+
+  private final boolean[] window;
+  private final int minimumCalls;
+  private final int failureRateThreshold;
+  private final long openDurationMillis;
+  private final int halfOpenCalls;
+  private final LongSupplier clock;
+
+  private State state = State.CLOSED;
+  private int position;
+  private int recorded;
+  private int failures;
+  private long openedAt;
+  private int halfOpenPermitted;
+  private int halfOpenSucceeded;
+
+  /**
+   * @param windowSize 실패율을 계산할 최근 호출 수
+   * @param minimumCalls 실패율을 판단하기 위한 최소 호출 수
+   * @param failureRateThreshold OPEN 으로 바꿀 실패율 (%)
+   * @param openDurationMillis OPEN 상태를 유지할 시간
+   * @param halfOpenCalls HALF_OPEN 상태에서 허용할 시험 호출 수
+   * @param clock 현재 시각(ms) 공급자
+   */
+  public CircuitBreaker(int windowSize, int minimumCalls, int failureRateThreshold, long openDurationMillis,
+      int halfOpenCalls, LongSupplier clock) {
+    if (windowSize <= 0 || minimumCalls <= 0 || halfOpenCalls <= 0
+        || failureRateThreshold <= 0 || failureRateThreshold > 100) {
+      throw new IllegalArgumentException("서킷 브레이커 설정 값이 올바르지 않습니다.");
+    }
+    this.window = new boolean[windowSize];
+    this.minimumCalls = Math.min(minimumCalls, windowSize);
+    this.failureRateThreshold = failureRateThreshold;
+    this.openDurationMillis = openDurationMillis;
+    this.halfOpenCalls = halfOpenCalls;
+    this.clock = clock;
+  }
+
+  /**
+   * 호출해도 되는지 확인하는 메서드 (HALF_OPEN 이면 시험 호출 수만큼만 허용)
+   *
+   * @return 호출 허용 여부
+   */
+  public synchronized boolean tryAcquirePermission() {
+    if (state == State.OPEN) {
+      if (clock.getAsLong() - openedAt < openDurationMillis) {
+        return false;
+      }
+      state = State.HALF_OPEN;
+      halfOpenPermitted = 0;
+      halfOpenSucceeded = 0;
+    }
+    if (state == State.HALF_OPEN) {
+      if (halfOpenPermitted >= halfOpenCalls) {
+        return false;
+      }
+      halfOpenPermitted++;
+    }
+    return true;
+  }
+
+  public synchronized void onSuccess() {
+    if (state == State.HALF_OPEN) {
+      if (++halfOpenSucceeded >= halfOpenCalls) {
+        close();
+      }
+      return;
+    }
+    record(false);
+  }
+
+  public synchronized void onFailure() {
+    if (state == State.HALF_OPEN) {
+      open();
+      return;
+    }
+    record(true);
+    if (state == State.CLOSED && recorded >= minimumCalls
+        && failures * 100 >= failureRateThreshold * recorded) {
+      open();
+    }
+  }
+
+  public synchronized State getState() {
+    return state;
+  }
+
+  private void record(boolean failure) {
+    if (recorded == window.length) {
+      if (window[position]) {
+        failures--;
+      }
+    } else {
+      recorded++;
+    }
+    window[position] = failure;
+    if (failure) {
+      failures++;
+    }
+    position = (position + 1) % window.length;
+  }
+
+  private void open() {
+    state = State.OPEN;
+    openedAt = clock.getAsLong();
+  }
+
+  private void close() {
+    state = State.CLOSED;
+    position = 0;
+    recorded = 0;
+    failures = 0;
+  }
+}
@@ -0,0 +1,36 @@
+package com.flab.CommerceCore.payment.gateway;
+
+import java.math.BigDecimal;
+
+/**
+ * 외부 PG(결제 대행사)에 결제 승인을 요청하는 클라이언트
+ *
+ * 네트워크 호출이므로 DB 트랜잭션 밖에서 호출해야 한다.
+ */
+public interface PaymentGateway {
+
+  /**
+   * 결제 승인을 요청한다.
+   * 가맹점 주문번호는 결제마다 유일하며, PG 는 같은 주문번호의 승인 요청을 한 번만 처리해야 한다.
+   *
+   * @param merchantUid 가맹점 주문번호
+   * @param amount 결제 금액
+   * @return 승인되면 PG 거래 ID 를 가진 {@link PaymentGatewayResult#approved}, 거절되면 {@link PaymentGatewayResult#declined}
+   */
+  PaymentGatewayResult approve(String merchantUid, BigDecimal amount);
+
+  /**
+   * 승인된 결제의 취소(환불)를 요청한다.
+   * 같은 거래에 대한 취소는 멱등이어야 한다. 승인 응답을 받지 못해 거래 ID 가 없으면(null) 가맹점 주문번호로
+   * 거래를 찾아 취소하고, 승인 기록이 없으면 취소된 것으로 응답한다.
+   * 취소를 지원하지 않는 게이트웨이는 false 를 반환하며, 이 경우 결제는 대사 대상으로 남는다.
+   *
+   * @param merchantUid 가맹점 주문번호
+   * @param transactionId 승인 때 받은 PG 거래 ID (없으면 null)
+   * @param amount 취소할 결제 금액
+   * @return 취소 여부
+   */
+  default boolean cancel(String merchantUid, String transactionId, BigDecimal amount) {
+    return false;
+  }
+}
@@ -0,0 +1,160 @@
+package com.flab.CommerceCore.payment.gateway;
+
+import com.flab.CommerceCore.common.enums.Status;
+import jakarta.annotation.PreDestroy;
+import java.math.BigDecimal;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 느리거나 장애가 난 PG 가 주문 처리 스레드를 붙잡지 않도록 감싸는 결제 게이트웨이 클라이언트
+ *
+ * - 벌크헤드: 동시에 PG 를 호출하는 수를 세마포어로 제한하고, 자리가 없으면 기다리지 않고 실패 처리한다.
+ *   허가는 PG 호출이 실제로 끝났을 때 반납하므로 시간 초과 뒤에도 응답하지 않는 호출까지 자리를 차지한다.
+ * - 시간 초과: 호출은 전용 스레드에서 실행하고 호출한 스레드는 정해진 시간까지만 기다린다.
+ * - 서킷 브레이커: 최근 호출의 실패율이 높으면 일정 시간 동안 PG 를 호출하지 않고 바로 실패 처리한다.
+ *
+ * 거절은 PG 가 정상 응답한 것이므로 FAILED 로 반환하고 서킷 브레이커에는 성공으로 기록한다.
+ * 시간 초과, 오류, 벌크헤드/서킷 거절은 결제 여부를 알 수 없거나 시도하지 못한 경우이므로
+ * 주문을 실패시키지 않고 결제 대기(PENDING)로 반환한다.
+ */
+@Slf4j
+@Component
+public class PaymentGatewayClient {
+
+  private final PaymentGateway paymentGateway;
+  private final CircuitBreaker circuitBreaker;
+  private final Semaphore bulkhead;
+  private final ExecutorService executor;
+  private final long timeoutMillis;
+
+  @Autowired
+  public PaymentGatewayClient(PaymentGateway paymentGateway,
+      @Value("${payment.gateway.timeout-ms:2000}") long timeoutMillis,
+      @Value("${payment.gateway.max-concurrent-calls:20}") int maxConcurrentCalls,
+      @Value("${payment.gateway.circuit.window-size:50}") int windowSize,
+      @Value("${payment.gateway.circuit.minimum-calls:20}") int minimumCalls,
+      @Value("${payment.gateway.circuit.failure-rate-threshold:50}") int failureRateThreshold,
+      @Value("${payment.gateway.circuit.open-duration-ms:10000}") long openDurationMillis,
+      @Value("${payment.gateway.circuit.half-open-calls:5}") int halfOpenCalls) {
+    if (timeoutMillis <= 0 || maxConcurrentCalls <= 0) {
+      throw new IllegalArgumentException("결제 게이트웨이 설정 값은 0보다 커야 합니다.");
+    }
+    this.paymentGateway = paymentGateway;
+    this.timeoutMillis = timeoutMillis;
+    this.bulkhead = new Semaphore(maxConcurrentCalls);
+    this.circuitBreaker = new CircuitBreaker(windowSize, minimumCalls, failureRateThreshold,
+        openDurationMillis, halfOpenCalls, System::currentTimeMillis);
+    // 동시 호출 수는 벌크헤드가 제한하므로 스레드도 그 수만큼만 만든다 (큐 없이 바로 넘긴다)
+    AtomicInteger sequence = new AtomicInteger();
+    this.executor = new ThreadPoolExecutor(maxConcurrentCalls, maxConcurrentCalls, 0L, TimeUnit.MILLISECONDS,
+        new SynchronousQueue<>(), runnable -> {
+          Thread thread = new Thread(runnable, "payment-gateway-" + sequence.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        });
+  }
+
+  @PreDestroy
+  public void stop() {
+    executor.shutdownNow();
+  }
+
+  /**
+   * PG 에 결제 승인을 요청하는 메서드
+   *
+   * @param merchantUid 가맹점 주문번호
+   * @param amount 결제 금액
+   * @return COMPLETED(승인, PG 거래 ID 포함), FAILED(거절), PENDING(결과를 알 수 없거나 호출하지 못함)
+   */
+  public PaymentGatewayResult approve(String merchantUid, BigDecimal amount) {
+    PaymentGatewayResult result = call("승인", () -> paymentGateway.approve(merchantUid, amount), amount);
+    return result == null ? PaymentGatewayResult.unknown() : result;
+  }
+
+  /**
+   * PG 에 승인된 결제의 취소(환불)를 요청하는 메서드
+   * 승인과 같은 벌크헤드, 시간 초과, 서킷 브레이커를 거친다.
+   *
+   * @param merchantUid 가맹점 주문번호
+   * @param transactionId 승인 때 받은 PG 거래 ID (승인 결과를 알 수 없던 결제는 null)
+   * @param amount 취소할 결제 금액
+   * @return CANCEL(취소됨), PENDING(취소되지 않았거나 결과를 알 수 없거나 호출하지 못함)
+   */
+  public Status cancel(String merchantUid, String transactionId, BigDecimal amount) {
+    Boolean canceled = call("취소", () -> paymentGateway.cancel(merchantUid, transactionId, amount), amount);
+    return Boolean.TRUE.equals(canceled) ? Status.CANCEL : Status.PENDING;
+  }
+
+  /**
+   * PG 요청을 보호 장치를 거쳐 실행하는 메서드
+   *
+   * @return PG 응답, 결과를 알 수 없거나 호출하지 못하면 null
+   */
+  private <T> T call(String action, Callable<T> request, BigDecimal amount) {
+    if (!circuitBreaker.tryAcquirePermission()) {
+      log.warn("결제 게이트웨이 서킷 OPEN - {} 결과를 알 수 없음으로 처리 amount: {}", action, amount);
+      return null;
+    }
+    if (!bulkhead.tryAcquire()) {
+      // 호출하지 않았으므로 서킷 브레이커에 기록하지 않는다 (HALF_OPEN 시험 호출이면 실패로 본다)
+      if (circuitBreaker.getState() == CircuitBreaker.State.HALF_OPEN) {
+        circuitBreaker.onFailure();
+      }
+      log.warn("결제 게이트웨이 동시 호출 한도 초과 - {} 결과를 알 수 없음으로 처리 amount: {}", action, amount);
+      return null;
+    }
+
+    Future<T> future;
+    try {
+      future = executor.submit(() -> {
+        try {
+          return request.call();
+        } finally {
+          bulkhead.release();
+        }
+      });
+    } catch (RuntimeException e) {
+      bulkhead.release();
+      circuitBreaker.onFailure();
+      log.error("결제 게이트웨이 {} 호출 실패 amount: {}", action, amount, e);
+      return null;
+    }
+
+    try {
+      T response = future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+      circuitBreaker.onSuccess();
+      return response;
+    } catch (TimeoutException e) {
+      future.cancel(true);
+      circuitBreaker.onFailure();
+      log.warn("결제 게이트웨이 {} 응답 시간 초과 {}ms - 결과를 알 수 없음으로 처리 amount: {}", action, timeoutMillis, amount);
+      return null;
+    } catch (ExecutionException e) {
+      circuitBreaker.onFailure();
+      log.error("결제 게이트웨이 {} 오류 - 결과를 알 수 없음으로 처리 amount: {}", action, amount, e.getCause());
+      return null;
+    } catch (InterruptedException e) {
+      future.cancel(true);
+      circuitBreaker.onFailure();
+      Thread.currentThread().interrupt();
+      return null;
+    }
+  }
+
+  public CircuitBreaker.State getCircuitState() {
+    return circuitBreaker.getState();
+  }
+}
@@ -0,0 +1,45 @@
+package com.flab.CommerceCore.payment.gateway;
+
+import com.flab.CommerceCore.common.enums.Status;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * PG 승인 요청의 결과
+ *
+ * 승인된 경우에만 PG 가 발급한 거래 ID 를 가진다. 이후 취소(환불)는 이 거래 ID 로 요청한다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class PaymentGatewayResult {
+
+  private final Status status;
+  private final String transactionId;
+
+  /**
+   * PG 가 승인한 결과
+   *
+   * @param transactionId PG 거래 ID
+   */
+  public static PaymentGatewayResult approved(String transactionId) {
+    if (transactionId == null || transactionId.isBlank()) {
+      throw new IllegalArgumentException("승인된 결제에는 PG 거래 ID 가 있어야 합니다.");
+    }
+    return new PaymentGatewayResult(Status.COMPLETED, transactionId);
+  }
+
+  /**
+   * PG 가 거절한 결과
+   */
+  public static PaymentGatewayResult declined() {
+    return new PaymentGatewayResult(Status.FAILED, null);
+  }
+
+  /**
+   * 시간 초과, 오류 등으로 승인 여부를 알 수 없는 결과
+   */
+  public static PaymentGatewayResult unknown() {
+    return new PaymentGatewayResult(Status.PENDING, null);
+  }
+}
@@ -0,0 +1,72 @@
+package com.flab.CommerceCore.payment.gateway;
+
+import java.math.BigDecimal;
+import java.util.concurrent.ThreadLocalRandom;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 실제 PG 연동 전까지 사용하는 로컬 결제 게이트웨이
+ *
+ * 설정한 지연 시간만큼 기다린 뒤 승인한다. 지연 시간과 오류/거절 비율을 바꿔 PG 가 느리거나
+ * 장애가 났을 때 커넥션 풀 점유와 {@link PaymentGatewayClient} 의 보호 동작을 확인하는 데 사용한다.
+ * 테스트에서 실행 중에 바꿀 수 있도록 설정 값은 volatile 로 둔다.
+ */
+@Component
+public class StubPaymentGateway implements PaymentGateway {
+
+  private volatile long latencyMillis;
+  private volatile double errorRate;
+  private volatile double declineRate;
+
+  @Autowired
+  public StubPaymentGateway(@Value("${payment.gateway.stub.latency-ms:0}") long latencyMillis,
+      @Value("${payment.gateway.stub.error-rate:0}") double errorRate,
+      @Value("${payment.gateway.stub.decline-rate:0}") double declineRate) {
+    this.latencyMillis = latencyMillis;
+    this.errorRate = errorRate;
+    this.declineRate = declineRate;
+  }
+
+  @Override
+  public PaymentGatewayResult approve(String merchantUid, BigDecimal amount) {
+    simulateCall();
+    if (declineRate > 0 && ThreadLocalRandom.current().nextDouble() < declineRate) {
+      return PaymentGatewayResult.declined();
+    }
+    return PaymentGatewayResult.approved("stub-" + merchantUid);
+  }
+
+  @Override
+  public boolean cancel(String merchantUid, String transactionId, BigDecimal amount) {
+    simulateCall();
+    return true;
+  }
+
+  private void simulateCall() {
+    if (latencyMillis > 0) {
+      try {
+        Thread.sleep(latencyMillis);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException("PG 응답 대기 중 중단되었습니다.", e);
+      }
+    }
+    if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+      throw new IllegalStateException("PG 오류 (주입된 장애)");
+    }
+  }
+
+  public void setLatencyMillis(long latencyMillis) {
+    this.latencyMillis = latencyMillis;
+  }
+
+  public void setErrorRate(double errorRate) {
+    this.errorRate = errorRate;
+  }
+
+  public void setDeclineRate(double declineRate) {
+    this.declineRate = declineRate;
+  }
+}
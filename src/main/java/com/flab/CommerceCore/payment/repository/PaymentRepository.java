@@ -1,10 +1,14 @@
 package com.flab.CommerceCore.payment.repository;
 
 import com.flab.CommerceCore.common.annotation.LogRepositoryError;
+import com.flab.CommerceCore.common.enums.Status;
 import com.flab.CommerceCore.payment.domain.entity.Payment;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 @LogRepositoryError
 public interface PaymentRepository extends JpaRepository<Payment, Long> {
   Payment findByPaymentId(Long paymentId);
+
+  List<Payment> findTop100ByStatusOrderByPaymentIdAsc(Status status);
 }
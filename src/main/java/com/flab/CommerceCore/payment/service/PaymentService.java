@@ -4,21 +4,28 @@ import com.flab.CommerceCore.common.enums.Status;
 import com.flab.CommerceCore.common.exceptions.BusinessException;
 import com.flab.CommerceCore.common.exceptions.ErrorCode;
 import com.flab.CommerceCore.payment.domain.entity.Payment;
+import com.flab.CommerceCore.payment.gateway.PaymentGatewayClient;
+import com.flab.CommerceCore.payment.gateway.PaymentGatewayResult;
 import com.flab.CommerceCore.payment.repository.PaymentRepository;
 import java.math.BigDecimal;
+import java.util.List;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
 @Service
 public class PaymentService {
 
     private final PaymentRepository paymentRepository;
+    private final PaymentGatewayClient paymentGatewayClient;
 
     @Autowired
-    public PaymentService(PaymentRepository paymentRepository){
+    public PaymentService(PaymentRepository paymentRepository, PaymentGatewayClient paymentGatewayClient){
         this.paymentRepository = paymentRepository;
+        this.paymentGatewayClient = paymentGatewayClient;
     }
 
     /**
@@ -28,19 +35,82 @@ public class PaymentService {
      */
     public Payment payment(BigDecimal totalAmount){
 
+        Payment payment = authorize(totalAmount);
+
+        if (payment.getStatus() == Status.FAILED) {
+            processFailedPayment(payment);
+        }
+
+        return paymentRepository.save(payment);
+    }
+
+    /**
+     * 외부 결제 API 로 승인만 받고, 저장하지 않은 결제 객체를 반환
+     * DB 를 사용하지 않으므로 트랜잭션 밖에서 호출해 PG 응답을 기다리는 동안 커넥션을 점유하지 않는다.
+     * 결제를 만들 때 발급한 가맹점 주문번호로 승인을 요청하고, 승인되면 PG 거래 ID 를 결제에 남긴다.
+     *
+     * @param totalAmount 총 결제 금액
+     * @return 승인 결과가 상태(COMPLETED / FAILED / PENDING)와 PG 거래 ID 로 반영된 결제 객체
+     */
+    public Payment authorize(BigDecimal totalAmount){
+
         validateAmount(totalAmount);
 
         Payment payment = Payment.builder()
             .amount(totalAmount)
             .build();
 
-        if (!callPaymentAPI(payment)) {
-            processFailedPayment(payment);
-        }
+        payment.changeStatus(callPaymentAPI(payment));
 
+        return payment;
+    }
+
+    /**
+     * 승인 결과가 반영된 결제 객체를 저장
+     * @param payment 결제 객체
+     * @return 저장된 결제 객체
+     */
+    @Transactional
+    public Payment save(Payment payment){
         return paymentRepository.save(payment);
     }
 
+    /**
+     * 승인된 결제의 취소(환불)를 PG 에 요청하는 메서드
+     * DB 를 사용하지 않으므로 트랜잭션 밖에서 호출한다.
+     * 승인 때 받은 PG 거래 ID 로 취소하고, 승인 결과를 알 수 없어 거래 ID 가 없으면 가맹점 주문번호로 취소한다.
+     *
+     * @param payment 취소할 결제
+     * @return CANCEL(취소됨) 또는 REFUND_REQUIRED(취소를 확인하지 못해 대사 작업이 다시 요청해야 함)
+     */
+    public Status cancel(Payment payment){
+        Status status = paymentGatewayClient.cancel(payment.getMerchantUid(), payment.getTransactionId(),
+            payment.getAmount());
+        return status == Status.CANCEL
+            ? Status.CANCEL : Status.REFUND_REQUIRED;
+    }
+
+    /**
+     * 취소가 확인되지 않은 결제(REFUND_REQUIRED)의 취소를 다시 요청하는 대사 작업
+     * 여러 노드에서 동시에 실행되면 같은 결제에 취소가 두 번 요청될 수 있으나, 취소는 결제에 저장된 PG 거래 ID
+     * (없으면 가맹점 주문번호)로 요청하므로 PG 가 같은 거래의 중복 취소로 처리한다.
+     */
+    @Scheduled(fixedDelayString = "${payment.refund.retry-interval-ms:60000}")
+    public void retryRefunds(){
+        List<Payment> payments = paymentRepository.findTop100ByStatusOrderByPaymentIdAsc(Status.REFUND_REQUIRED);
+        for (Payment payment : payments) {
+            if (cancel(payment) == Status.CANCEL) {
+                payment.changeStatus(Status.CANCEL);
+                paymentRepository.save(payment);
+                log.info("결제 취소 대사 완료 paymentId: {}, transactionId: {}, amount: {}",
+                    payment.getPaymentId(), payment.getTransactionId(), payment.getAmount());
+            } else {
+                log.warn("결제 취소 대사 실패, 다음 주기에 다시 요청 paymentId: {}, merchantUid: {}",
+                    payment.getPaymentId(), payment.getMerchantUid());
+            }
+        }
+    }
+
     /**
      * 총 결제 금액을 검증
      * @param totalAmount 총 결제 금액
@@ -68,11 +138,14 @@ public class PaymentService {
 
 
     /**
-     * 외부 결제 API를 호출
+     * 외부 결제 API를 호출 (시간 초과, 서킷 브레이커, 벌크헤드가 적용된 클라이언트 사용)
+     * 승인되면 PG 거래 ID 를 결제 객체에 남긴다.
      * @param payment 결제 객체
-     * @return 결제 성공 여부
+     * @return 결제 결과 (COMPLETED: 승인, FAILED: 거절, PENDING: 결과를 알 수 없음)
      */
-    public boolean callPaymentAPI(Payment payment){
-        return true;  // 실제 외부 API 호출이 필요할 경우 이 부분을 구현
+    public Status callPaymentAPI(Payment payment){
+        PaymentGatewayResult result = paymentGatewayClient.approve(payment.getMerchantUid(), payment.getAmount());
+        payment.assignTransactionId(result.getTransactionId());
+        return result.getStatus();
     }
 }
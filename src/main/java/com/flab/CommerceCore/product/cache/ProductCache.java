@@ -0,0 +1,152 @@
+package com.flab.CommerceCore.product.cache;
+
+import static com.flab.CommerceCore.common.query.QueryConstant.PRODUCT_QUERY_REGION;
+
+import com.flab.CommerceCore.common.cache.SegmentedLruCache;
+import com.flab.CommerceCore.invalidation.CacheInvalidationListener;
+import com.flab.CommerceCore.invalidation.CacheInvalidationLog;
+import com.flab.CommerceCore.product.domain.entity.Product;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 상품 상세 조회용 캐시
+ *
+ * 거의 바뀌지 않는 상품 정보(catalog)와 주문마다 바뀌는 재고 수량(stock)을 따로 캐시한다.
+ * 상품 정보는 길게 두고 수정, 삭제 시 바로 지우며,
+ * 재고 수량은 주문, 재고 API 등 여러 경로에서 바뀌므로 짧은 TTL 로만 맞춘다.
+ *
+ * 상품 정보는 조회가 끝난 준영속 엔티티를 그대로 보관하므로 꺼낸 엔티티를 수정하면 안 된다.
+ *
+ * 다른 노드의 캐시는 무효화 로그(CacheInvalidationLog)로 지운다.
+ * 상품 엔티티는 Hibernate 2차 캐시에도 있으므로, 지울 때는 2차 캐시를 먼저 지워
+ * 이 캐시를 다시 채우는 요청이 2차 캐시의 이전 값을 읽지 않도록 한다.
+ * 쿼리 캐시(product-query)는 이 노드의 상품 테이블 변경으로만 무효화되므로,
+ * 다른 노드의 변경을 받을 때도 함께 지운다.
+ */
+@Component
+public class ProductCache implements CacheInvalidationListener {
+
+  public static final String CACHE_NAME = "product";
+
+  private final CacheInvalidationLog invalidationLog;
+  private final EntityManagerFactory entityManagerFactory;
+  private final SegmentedLruCache<Long, Product> catalog;
+  private final SegmentedLruCache<Long, Integer> stock;
+
+  @Autowired
+  public ProductCache(CacheInvalidationLog invalidationLog, EntityManagerFactory entityManagerFactory,
+      MeterRegistry meterRegistry,
+      @Value("${product.cache.catalog.max-size:10000}") int catalogMaxSize,
+      @Value("${product.cache.catalog.ttl-seconds:600}") long catalogTtlSeconds,
+      @Value("${product.cache.stock.max-size:10000}") int stockMaxSize,
+      @Value("${product.cache.stock.ttl-ms:1000}") long stockTtlMillis) {
+    this.invalidationLog = invalidationLog;
+    this.entityManagerFactory = entityManagerFactory;
+    this.catalog = new SegmentedLruCache<>(catalogMaxSize, TimeUnit.SECONDS.toNanos(catalogTtlSeconds));
+    this.stock = new SegmentedLruCache<>(stockMaxSize, TimeUnit.MILLISECONDS.toNanos(stockTtlMillis));
+    bindMetrics(meterRegistry, "product.catalog", catalog);
+    bindMetrics(meterRegistry, "product.stock", stock);
+  }
+
+  @PostConstruct
+  public void registerInvalidation() {
+    invalidationLog.register(CACHE_NAME, this);
+  }
+
+  /**
+   * 캐시된 상품을 반환하고, 없으면 loader 로 읽어 저장하는 메서드
+   */
+  public Product getProduct(Long productId, Function<Long, Product> loader) {
+    return catalog.get(productId, loader);
+  }
+
+  /**
+   * 캐시된 재고 수량을 반환하고, 없으면 loader 로 읽어 저장하는 메서드
+   */
+  public int getQuantity(Long productId, ToIntFunction<Long> loader) {
+    return stock.get(productId, loader::applyAsInt);
+  }
+
+  /**
+   * 상품의 캐시를 지우고 다른 노드에도 알리는 메서드
+   * 트랜잭션 안이면 커밋 전에 다른 요청이 이전 값을 다시 채울 수 있으므로 커밋 후에 한 번 더 지운다.
+   * 무효화 로그도 같은 트랜잭션에 기록되어, 롤백되면 다른 노드에 전달되지 않는다.
+   *
+   * @param productId 수정 또는 삭제된 상품 ID
+   */
+  public void invalidate(Long productId) {
+    evict(productId);
+    invalidationLog.publish(CACHE_NAME, productId);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCompletion(int status) {
+          evict(productId);
+        }
+      });
+    }
+  }
+
+  /**
+   * 이 노드의 캐시에서만 상품을 지우는 메서드 (다른 노드의 무효화 로그를 받을 때도 사용)
+   */
+  @Override
+  public void evict(long productId) {
+    entityManagerFactory.getCache().evict(Product.class, productId);
+    evictQueryRegion();
+    catalog.invalidate(productId);
+    stock.invalidate(productId);
+  }
+
+  @Override
+  public void evictAll() {
+    entityManagerFactory.getCache().evict(Product.class);
+    evictQueryRegion();
+    catalog.invalidateAll();
+    stock.invalidateAll();
+  }
+
+  private void evictQueryRegion() {
+    entityManagerFactory.getCache().unwrap(org.hibernate.Cache.class).evictQueryRegion(PRODUCT_QUERY_REGION);
+  }
+
+  private static void bindMetrics(MeterRegistry meterRegistry, String name, SegmentedLruCache<?, ?> cache) {
+    FunctionCounter.builder("cache.gets", cache, SegmentedLruCache::getHitCount)
+        .tag("cache", name).tag("result", "hit")
+        .register(meterRegistry);
+    FunctionCounter.builder("cache.gets", cache, SegmentedLruCache::getMissCount)
+        .tag("cache", name).tag("result", "miss")
+        .register(meterRegistry);
+    FunctionCounter.builder("cache.evictions", cache, SegmentedLruCache::getEvictionCount)
+        .tag("cache", name)
+        .description("크기 제한으로 버려진 항목 수")
+        .register(meterRegistry);
+    FunctionCounter.builder("cache.expirations", cache, SegmentedLruCache::getExpirationCount)
+        .tag("cache", name)
+        .register(meterRegistry);
+    Gauge.builder("cache.hit.ratio", cache, SegmentedLruCache::getHitRatio)
+        .tag("cache", name)
+        .register(meterRegistry);
+    Gauge.builder("cache.size", cache, SegmentedLruCache::size)
+        .tag("cache", name)
+        .register(meterRegistry);
+    FunctionTimer.builder("cache.load", cache, SegmentedLruCache::getLoadCount,
+            SegmentedLruCache::getTotalLoadNanos, TimeUnit.NANOSECONDS)
+        .tag("cache", name)
+        .description("캐시 미스 시 DB 에서 읽어 오는 데 걸린 시간")
+        .register(meterRegistry);
+  }
+}
@@ -1,7 +1,9 @@
 package com.flab.CommerceCore.product.controller;
 
+import com.flab.CommerceCore.common.pagination.CursorPage;
 import com.flab.CommerceCore.product.domain.dto.ProductRequest;
 import com.flab.CommerceCore.product.domain.dto.ProductResponse;
+import com.flab.CommerceCore.product.domain.dto.ProductSearchResponse;
 import com.flab.CommerceCore.product.service.ProductService;
 import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -64,6 +66,37 @@ public class ProductController {
 
   }
 
+  /**
+   * 커서 기반 상품 목록 조회 API (응답의 nextCursor 를 다음 요청의 after 로 전달)
+   *
+   * @param after 이전 페이지의 nextCursor (첫 페이지면 생략)
+   * @param limit 페이지 크기 (최대 크기로 제한)
+   * @return 조회된 상품들과 다음 커서
+   */
+  @GetMapping("/scroll")
+  public ResponseEntity<CursorPage<ProductResponse>> scrollProducts(
+      @RequestParam(required = false, name = "after") String after,
+      @RequestParam(required = false, name = "limit") Integer limit) {
+    CursorPage<ProductResponse> productPage = productService.findProducts(after, limit);
+    return ResponseEntity.ok(productPage);
+  }
+
+  /**
+   * 상품명과 설명으로 상품을 검색하는 API (관련도 순)
+   *
+   * @param query 검색어
+   * @param page 조회할 페이지 번호
+   * @param size 페이지 크기 (최대 크기로 제한)
+   * @return 관련도 순 상품 목록과 다음 페이지 여부
+   */
+  @GetMapping("/search")
+  public ResponseEntity<ProductSearchResponse> searchProducts(@RequestParam(name = "q") String query,
+      @RequestParam(defaultValue = "0", name = "page") int page,
+      @RequestParam(required = false, name = "size") Integer size) {
+    ProductSearchResponse searchResponse = productService.searchProducts(query, page, size);
+    return ResponseEntity.ok(searchResponse);
+  }
+
   /**
    * 상품 삭제 API
    *
@@ -0,0 +1,21 @@
+package com.flab.CommerceCore.product.domain.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductSearchResponse {
+
+  // 관련도가 높은 순서
+  private List<ProductResponse> content;
+  private int page;
+  private int size;
+  private boolean hasNext;
+
+}
@@ -0,0 +1,33 @@
+package com.flab.CommerceCore.product.filter;
+
+import com.flab.CommerceCore.common.filter.KeyExistenceFilter;
+import com.flab.CommerceCore.product.repository.ProductRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.stream.Stream;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 상품 등록 시 상품명 중복 조회를 줄이기 위한 상품명 Bloom 필터
+ */
+@Component
+public class ProductNameFilter extends KeyExistenceFilter {
+
+  private final ProductRepository productRepository;
+
+  @Autowired
+  public ProductNameFilter(ProductRepository productRepository, PlatformTransactionManager transactionManager,
+      MeterRegistry meterRegistry,
+      @Value("${filter.product-name.initial-capacity:100000}") int initialCapacity,
+      @Value("${filter.false-positive-rate:0.01}") double falsePositiveRate) {
+    super("product.name", transactionManager, meterRegistry, initialCapacity, falsePositiveRate);
+    this.productRepository = productRepository;
+  }
+
+  @Override
+  protected Stream<String> scanKeys() {
+    return productRepository.streamAllProductNames();
+  }
+}
@@ -1,14 +1,58 @@
 package com.flab.CommerceCore.product.repository;
 
+import static com.flab.CommerceCore.common.query.QueryConstant.FIND_PRODUCTS_AFTER;
+import static com.flab.CommerceCore.common.query.QueryConstant.PRODUCT_QUERY_REGION;
+import static com.flab.CommerceCore.common.query.QueryConstant.STREAM_PRODUCT_NAMES;
+import static com.flab.CommerceCore.common.query.QueryConstant.STREAM_PRODUCT_SEARCH_DOCUMENTS;
+
 import com.flab.CommerceCore.common.annotation.LogRepositoryError;
 import com.flab.CommerceCore.product.domain.entity.Product;
+import jakarta.persistence.QueryHint;
 import java.util.List;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 @LogRepositoryError
 public interface ProductRepository extends JpaRepository<Product, Integer> {
   Product findByProductId(Long productId);
   Product findByProductName(String productName);
 
+  /**
+   * 상품명 존재 여부만 확인 (유니크 인덱스 조회, 엔티티를 로딩하지 않는다)
+   */
+  boolean existsByProductName(String productName);
+
+  /**
+   * 모든 상품명을 스트리밍으로 조회 (트랜잭션 안에서 사용하고 반드시 닫아야 한다)
+   */
+  @Query(STREAM_PRODUCT_NAMES)
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+  Stream<String> streamAllProductNames();
+
+  /**
+   * 검색 색인용으로 모든 상품을 스트리밍으로 조회 ([productId, productName, description] 배열, 반드시 닫아야 한다)
+   */
+  @Query(STREAM_PRODUCT_SEARCH_DOCUMENTS)
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+  Stream<Object[]> streamAllSearchDocuments();
+
+  /**
+   * 상품 ID 목록으로 상품을 조회 (쿼리 캐시 product-query 영역, 상품 테이블이 바뀌면 무효화된다)
+   */
+  @QueryHints({
+      @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+      @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = PRODUCT_QUERY_REGION)
+  })
   List<Product> findAllByProductIdIn(List<Long> productIds);
+
+  /**
+   * 커서(after) 이후의 상품을 기본 키 순서로 조회 (OFFSET, count 없이 인덱스에서 바로 시작)
+   */
+  @Query(FIND_PRODUCTS_AFTER)
+  List<Product> findAllAfter(@Param("after") Long after, Pageable pageable);
 }
@@ -0,0 +1,756 @@
+package com.flab.CommerceCore.product.search;
+
+import com.flab.CommerceCore.common.collection.LongIntHashMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 상품명과 설명에 대한 역색인 (BM25 순위)
+ *
+ * 단어마다 그 단어가 나온 문서 번호와 빈도를 문서 번호 순으로 모은 목록(posting)을 둔다.
+ * 문서 번호는 색인할 때마다 새로 붙이므로 목록 끝에 붙이기만 해도 정렬이 유지되고,
+ * 상품이 수정되면 이전 문서는 삭제 표시만 하고 새 번호로 다시 색인한다.
+ * 삭제 표시된 문서는 검색에서 건너뛰며, 색인을 주기적으로 새로 만들어 정리한다.
+ *
+ * 검색어의 단어들은 OR 로 묶고 BM25 점수의 합으로 순위를 매긴다. 상품명의 단어는 NAME_WEIGHT 번 나온 것으로 센다.
+ * 단어가 색인에 없거나 한글 단어이면, 상품명의 n-gram 이 모두 들어 있는 상품도 낮은 가중치로 함께 찾는다.
+ *
+ * 흔한 단어가 섞인 검색어도 빠르게 처리하기 위해 MaxScore 방식으로 건너뛴다.
+ * 단어별 최대 점수를 미리 구해 두고, 그 합으로도 현재 상위 k 번째 점수를 넘을 수 없는 단어들만 맞는 문서는 보지 않는다.
+ * posting 을 BLOCK_SIZE 개씩 묶은 블록마다도 최대 점수를 구할 수 있게 해, 넘을 수 없는 블록은 통째로 건너뛴다.
+ * 또 가장 드문 단어의 문서를 먼저 점수 매겨 두어, 흔한 단어를 훑기 전부터 k 번째 점수가 높아지게 한다.
+ * 그래서 전체 결과 수는 세지 않고 다음 페이지가 있는지만 알려 준다.
+ *
+ * 검색은 읽기 락, 색인 변경은 쓰기 락으로 보호하므로 검색끼리는 동시에 실행된다.
+ */
+class InvertedIndex {
+
+  static final int NAME_WEIGHT = 3;
+
+  private static final float K1 = 1.2f;
+  private static final float B = 0.75f;
+  private static final float GRAM_WEIGHT = 0.5f;
+  private static final int MAX_QUERY_WORDS = 8;
+  private static final int MAX_FREQUENCY = 255;
+  private static final int REMOVED = -1;
+  private static final int NO_MORE_DOCS = Integer.MAX_VALUE;
+  // advance 에서 이진 탐색 전에 차례로 확인할 posting 수
+  private static final int LINEAR_SCAN = 8;
+  private static final int BLOCK_SIZE = 128;
+  // 이 수 이하의 posting 을 가진 단어가 있으면 그 문서들로 상위 k 개를 먼저 채운다
+  private static final int SEED_MAX_POSTINGS = 4096;
+  // n-gram 은 단어와 같은 사전에 두되 겹치지 않도록 앞에 붙인다
+  private static final char GRAM_PREFIX = '\u0001';
+
+  private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+  private final Map<String, Postings> postings = new HashMap<>();
+  // 상품 ID → 문서 번호 (삭제된 상품은 REMOVED)
+  private final LongIntHashMap docByProduct = new LongIntHashMap();
+  private final BitSet removed = new BitSet();
+
+  private long[] productIds = new long[1024];
+  private int[] wordLengths = new int[1024];
+  private int[] gramLengths = new int[1024];
+  private int docCount;
+  private int liveCount;
+  private long totalWordLength;
+  private long totalGramLength;
+
+  /**
+   * 상품을 색인하는 메서드 (이미 색인된 상품이면 이전 내용을 지우고 다시 색인한다)
+   */
+  void index(long productId, String productName, String description) {
+    // 토큰화는 락 밖에서 한다
+    Map<String, Integer> frequencies = new HashMap<>();
+    int wordLength = addWords(frequencies, productName, NAME_WEIGHT) + addWords(frequencies, description, 1);
+    Map<String, Integer> gramFrequencies = new HashMap<>();
+    int gramLength = addGrams(gramFrequencies, productName);
+
+    lock.writeLock().lock();
+    try {
+      removeDoc(productId);
+      int doc = docCount++;
+      ensureCapacity(docCount);
+      productIds[doc] = productId;
+      wordLengths[doc] = wordLength;
+      gramLengths[doc] = gramLength;
+      docByProduct.put(productId, doc);
+      liveCount++;
+      totalWordLength += wordLength;
+      totalGramLength += gramLength;
+      frequencies.forEach((term, frequency) -> addPosting(term, doc, frequency, wordLength));
+      gramFrequencies.forEach((gram, frequency) -> addPosting(GRAM_PREFIX + gram, doc, frequency, gramLength));
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * 상품을 색인에서 지우는 메서드
+   */
+  void remove(long productId) {
+    lock.writeLock().lock();
+    try {
+      removeDoc(productId);
+      docByProduct.put(productId, REMOVED);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * 색인되었거나 삭제된 적이 있는 상품인지 확인하는 메서드
+   * 색인을 새로 만드는 동안 이미 반영된 변경을 DB 스캔의 이전 값으로 덮어쓰지 않기 위해 사용한다.
+   */
+  boolean contains(long productId) {
+    lock.readLock().lock();
+    try {
+      return docByProduct.containsKey(productId);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * 검색어와 관련도가 높은 순서로 상품 ID 를 반환하는 메서드
+   *
+   * @param query 검색어
+   * @param offset 건너뛸 결과 수
+   * @param limit 반환할 최대 결과 수
+   * @return 순위 구간의 상품 ID 와 다음 결과가 있는지 여부
+   */
+  SearchResult search(String query, int offset, int limit) {
+    Set<String> words = new LinkedHashSet<>(SearchTokenizer.words(query));
+    lock.readLock().lock();
+    try {
+      List<Scorer> scorers = createScorers(words);
+      if (scorers.isEmpty() || limit <= 0) {
+        return SearchResult.empty();
+      }
+      // 다음 페이지가 있는지 알기 위해 하나 더 찾는다
+      TopHits top = new TopHits(offset + limit + 1);
+      int[] seeded = seed(createScorers(words), top);
+      collect(scorers, top, seeded);
+
+      int[] ranked = top.sortedDocs();
+      boolean hasNext = ranked.length > offset + limit;
+      List<Long> ids = new ArrayList<>(limit);
+      for (int i = offset; i < Math.min(ranked.length, offset + limit); i++) {
+        ids.add(productIds[ranked[i]]);
+      }
+      return new SearchResult(ids, hasNext);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * 검색할 수 있는 상품 수
+   */
+  int size() {
+    lock.readLock().lock();
+    try {
+      return liveCount;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * 삭제 표시만 되어 있는 문서 수 (색인을 새로 만들면 0 이 된다)
+   */
+  int removedCount() {
+    lock.readLock().lock();
+    try {
+      return docCount - liveCount;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * 드문 단어(posting 이 SEED_MAX_POSTINGS 이하)가 맞는 문서들의 점수를 먼저 매겨 상위 k 개에 넣는 메서드
+   * 드문 단어가 맞는 문서가 흔한 단어 목록의 뒤쪽에 있어도 처음부터 k 번째 점수가 높아져,
+   * 이후 collect 에서 흔한 단어의 목록을 대부분 건너뛸 수 있다.
+   *
+   * @return 미리 넣은 문서 번호 (오름차순, collect 에서 다시 넣지 않도록 한다)
+   */
+  private int[] seed(List<Scorer> scorers, TopHits top) {
+    List<Scorer> leads = scorers.stream()
+        .filter(scorer -> scorer.cost() <= SEED_MAX_POSTINGS)
+        .toList();
+    if (leads.isEmpty() || leads.size() == scorers.size()) {
+      // 모두 드문 단어면 collect 만으로도 빠르다
+      return new int[0];
+    }
+    int[] seeded = new int[leads.stream().mapToInt(Scorer::cost).sum()];
+    int count = 0;
+    for (Scorer lead : leads) {
+      lead.nextDoc();
+    }
+    while (true) {
+      int doc = NO_MORE_DOCS;
+      for (Scorer lead : leads) {
+        doc = Math.min(doc, lead.doc);
+      }
+      if (doc == NO_MORE_DOCS) {
+        break;
+      }
+      float score = 0;
+      for (Scorer scorer : scorers) {
+        if (scorer.advance(doc) == doc) {
+          score += scorer.score();
+        }
+      }
+      for (Scorer lead : leads) {
+        if (lead.doc == doc) {
+          lead.nextDoc();
+        }
+      }
+      if (!removed.get(doc)) {
+        top.offer(doc, score);
+        seeded[count++] = doc;
+      }
+    }
+    return Arrays.copyOf(seeded, count);
+  }
+
+  /**
+   * 문서 번호 순으로 scorer 들을 함께 훑으며 상위 문서를 모으는 메서드 (MaxScore)
+   *
+   * scorer 를 최대 점수 오름차순으로 두고, 앞에서부터 최대 점수 합이 현재 k 번째 점수 이하인 구간은
+   * 후보를 만들지 않는다(non-essential). 나머지가 만든 후보에 대해서만 그 구간의 점수를 더하고,
+   * 더해도 k 번째 점수를 넘을 수 없으면 중간에 멈춘다.
+   */
+  private void collect(List<Scorer> scorerList, TopHits top, int[] seeded) {
+    Scorer[] scorers = scorerList.toArray(new Scorer[0]);
+    Arrays.sort(scorers, Comparator.comparingDouble(Scorer::maxScore));
+    // maxScoreSums[i] = scorers[0..i] 의 최대 점수 합
+    float[] maxScoreSums = new float[scorers.length];
+    float sum = 0;
+    for (int i = 0; i < scorers.length; i++) {
+      sum += scorers[i].maxScore();
+      maxScoreSums[i] = sum;
+      scorers[i].nextDoc();
+    }
+
+    int firstEssential = 0;
+    while (firstEssential < scorers.length && maxScoreSums[firstEssential] <= top.minScore()) {
+      firstEssential++;
+    }
+    int nextSeeded = 0;
+    while (firstEssential < scorers.length) {
+      float minScore = top.minScore();
+      int doc = NO_MORE_DOCS;
+      for (int i = firstEssential; i < scorers.length; i++) {
+        // 다른 scorer 가 모두 최대 점수를 더해도 k 번째 점수를 넘지 못하는 블록은 건너뛴다
+        scorers[i].skipNonCompetitive(minScore - (sum - scorers[i].maxScore()));
+        doc = Math.min(doc, scorers[i].doc);
+      }
+      if (doc == NO_MORE_DOCS) {
+        return;
+      }
+      float score = 0;
+      for (int i = firstEssential; i < scorers.length; i++) {
+        if (scorers[i].doc == doc) {
+          score += scorers[i].score();
+          scorers[i].nextDoc();
+        }
+      }
+      while (nextSeeded < seeded.length && seeded[nextSeeded] < doc) {
+        nextSeeded++;
+      }
+      if (removed.get(doc) || (nextSeeded < seeded.length && seeded[nextSeeded] == doc)) {
+        continue;
+      }
+      for (int i = firstEssential - 1; i >= 0; i--) {
+        // 앞서 모은 문서보다 번호가 크므로 점수가 같아도 들어갈 수 없다
+        if (score + maxScoreSums[i] <= minScore) {
+          break;
+        }
+        if (scorers[i].advance(doc) == doc) {
+          score += scorers[i].score();
+        }
+      }
+      if (top.offer(doc, score)) {
+        while (firstEssential < scorers.length && maxScoreSums[firstEssential] <= top.minScore()) {
+          firstEssential++;
+        }
+      }
+    }
+  }
+
+  private List<Scorer> createScorers(Set<String> words) {
+    List<Scorer> scorers = new ArrayList<>();
+    if (liveCount == 0) {
+      return scorers;
+    }
+    float averageWordLength = Math.max(1f, (float) totalWordLength / liveCount);
+    float averageGramLength = Math.max(1f, (float) totalGramLength / liveCount);
+
+    int count = 0;
+    for (String word : words) {
+      if (count++ == MAX_QUERY_WORDS) {
+        break;
+      }
+      String stem = SearchTokenizer.stem(word);
+      boolean matched = addTermScorer(scorers, word, averageWordLength);
+      if (stem != null) {
+        matched |= addTermScorer(scorers, stem, averageWordLength);
+      }
+      // 한글은 붙여 쓴 복합어가 많아 단어가 있어도 n-gram 으로 함께 찾는다
+      if (!matched || SearchTokenizer.isHangul(word)) {
+        addGramScorer(scorers, stem != null ? stem : word, averageGramLength);
+      }
+    }
+    return scorers;
+  }
+
+  private boolean addTermScorer(List<Scorer> scorers, String word, float averageLength) {
+    Postings list = postings.get(word);
+    if (list == null) {
+      return false;
+    }
+    scorers.add(new TermScorer(list, idf(list.size), 1f, wordLengths, averageLength));
+    return true;
+  }
+
+  /**
+   * 단어의 n-gram 이 모두 들어 있는 상품을 찾는 scorer 를 추가하는 메서드
+   * 점수는 n-gram 점수의 평균에 GRAM_WEIGHT 를 곱해 단어가 그대로 맞은 경우보다 낮게 둔다.
+   */
+  private void addGramScorer(List<Scorer> scorers, String word, float averageLength) {
+    Set<String> grams = SearchTokenizer.grams(word);
+    if (grams.isEmpty()) {
+      return;
+    }
+    TermScorer[] gramScorers = new TermScorer[grams.size()];
+    int i = 0;
+    for (String gram : grams) {
+      Postings list = postings.get(GRAM_PREFIX + gram);
+      if (list == null) {
+        // 없는 n-gram 이 하나라도 있으면 맞는 상품이 없다
+        return;
+      }
+      gramScorers[i++] = new TermScorer(list, idf(list.size), GRAM_WEIGHT / grams.size(), gramLengths,
+          averageLength);
+    }
+    scorers.add(gramScorers.length == 1 ? gramScorers[0] : new ConjunctionScorer(gramScorers));
+  }
+
+  private float idf(int documentFrequency) {
+    // 삭제 표시된 문서도 빈도에 포함되므로 음수가 되지 않도록 막는다
+    double idf = Math.log(1 + (liveCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+    return (float) Math.max(idf, 0.01);
+  }
+
+  private void addPosting(String term, int doc, int frequency, int length) {
+    postings.computeIfAbsent(term, key -> new Postings()).add(doc, Math.min(frequency, MAX_FREQUENCY), length);
+  }
+
+  private void removeDoc(long productId) {
+    int doc = docByProduct.getOrDefault(productId, REMOVED);
+    if (doc == REMOVED) {
+      return;
+    }
+    removed.set(doc);
+    liveCount--;
+    totalWordLength -= wordLengths[doc];
+    totalGramLength -= gramLengths[doc];
+  }
+
+  private void ensureCapacity(int capacity) {
+    if (capacity <= productIds.length) {
+      return;
+    }
+    int newCapacity = Math.max(capacity, productIds.length * 2);
+    productIds = Arrays.copyOf(productIds, newCapacity);
+    wordLengths = Arrays.copyOf(wordLengths, newCapacity);
+    gramLengths = Arrays.copyOf(gramLengths, newCapacity);
+  }
+
+  /**
+   * 단어(와 어간)의 빈도를 weight 만큼 더하고, 문서 길이에 더할 값을 반환하는 메서드
+   */
+  private static int addWords(Map<String, Integer> frequencies, String text, int weight) {
+    int length = 0;
+    for (String word : SearchTokenizer.words(text)) {
+      frequencies.merge(word, weight, Integer::sum);
+      String stem = SearchTokenizer.stem(word);
+      if (stem != null) {
+        frequencies.merge(stem, weight, Integer::sum);
+      }
+      length += weight;
+    }
+    return length;
+  }
+
+  /**
+   * 상품명의 n-gram 빈도를 더하고, n-gram 수를 반환하는 메서드
+   */
+  private static int addGrams(Map<String, Integer> frequencies, String productName) {
+    int length = 0;
+    for (String word : SearchTokenizer.words(productName)) {
+      for (String gram : SearchTokenizer.grams(word)) {
+        frequencies.merge(gram, 1, Integer::sum);
+        length++;
+      }
+    }
+    return length;
+  }
+
+  /**
+   * 한 단어의 문서 번호(오름차순)와 빈도 목록
+   */
+  private static class Postings {
+
+    private int[] docs = new int[4];
+    private byte[] frequencies = new byte[4];
+    private int size;
+    // 점수 상한 계산용 (가장 높은 빈도, 가장 짧은 문서 길이)
+    private int maxFrequency;
+    private int minLength = Integer.MAX_VALUE;
+    private int[] blockMaxFrequencies = new int[1];
+    private int[] blockMinLengths = {Integer.MAX_VALUE};
+
+    private void add(int doc, int frequency, int length) {
+      if (size == docs.length) {
+        docs = Arrays.copyOf(docs, size * 2);
+        frequencies = Arrays.copyOf(frequencies, size * 2);
+      }
+      docs[size] = doc;
+      frequencies[size] = (byte) frequency;
+      size++;
+      maxFrequency = Math.max(maxFrequency, frequency);
+      minLength = Math.min(minLength, length);
+
+      int block = (size - 1) / BLOCK_SIZE;
+      if (block == blockMaxFrequencies.length) {
+        blockMaxFrequencies = Arrays.copyOf(blockMaxFrequencies, block * 2);
+        blockMinLengths = Arrays.copyOf(blockMinLengths, block * 2);
+        Arrays.fill(blockMinLengths, block, blockMinLengths.length, Integer.MAX_VALUE);
+      }
+      blockMaxFrequencies[block] = Math.max(blockMaxFrequencies[block], frequency);
+      blockMinLengths[block] = Math.min(blockMinLengths[block], length);
+    }
+  }
+
+  /**
+   * 문서 번호 순으로 맞는 문서를 하나씩 넘기며 점수를 계산하는 반복자
+   */
+  private abstract static class Scorer {
+
+    protected int doc = -1;
+
+    /**
+     * 다음 문서로 이동 (없으면 NO_MORE_DOCS)
+     */
+    abstract int nextDoc();
+
+    /**
+     * target 이상인 첫 문서로 이동 (이미 target 이상이면 그대로)
+     */
+    abstract int advance(int target);
+
+    abstract float score();
+
+    /**
+     * 이 scorer 가 줄 수 있는 점수의 상한
+     */
+    abstract float maxScore();
+
+    /**
+     * 점수 상한이 minScore 이하인 구간을 건너뛰는 메서드 (블록 정보가 없으면 그대로 둔다)
+     * 건너뛴 문서는 이 scorer 의 점수가 빠진 채로 계산되지만, 어차피 상위 k 개에 들 수 없는 문서이다.
+     */
+    void skipNonCompetitive(float minScore) {
+    }
+
+    abstract int cost();
+  }
+
+  private static class TermScorer extends Scorer {
+
+    private final int[] docs;
+    private final byte[] frequencies;
+    private final int size;
+    private final float weight;
+    private final int[] lengths;
+    private final float averageLength;
+    private final float maxScore;
+    private final int[] blockMaxFrequencies;
+    private final int[] blockMinLengths;
+    private int index = -1;
+    // 마지막으로 확인한 블록과 그 점수 상한
+    private int boundBlock = -1;
+    private float blockMaxScore;
+
+    private TermScorer(Postings postings, float idf, float boost, int[] lengths, float averageLength) {
+      this.docs = postings.docs;
+      this.frequencies = postings.frequencies;
+      this.size = postings.size;
+      this.weight = idf * boost * (K1 + 1);
+      this.lengths = lengths;
+      this.averageLength = averageLength;
+      this.blockMaxFrequencies = postings.blockMaxFrequencies;
+      this.blockMinLengths = postings.blockMinLengths;
+      // 빈도는 가장 높고 문서 길이는 가장 짧다고 가정한 점수
+      float minNorm = K1 * (1 - B + B * postings.minLength / averageLength);
+      this.maxScore = weight * postings.maxFrequency / (postings.maxFrequency + minNorm);
+    }
+
+    @Override
+    int nextDoc() {
+      index++;
+      return doc = index < size ? docs[index] : NO_MORE_DOCS;
+    }
+
+    @Override
+    int advance(int target) {
+      if (doc >= target) {
+        return doc;
+      }
+      // 가까우면 차례로 넘기고, 멀면 구간을 두 배씩 넓혀 범위를 찾은 뒤 이진 탐색한다
+      int from = index + 1;
+      int linearEnd = Math.min(from + LINEAR_SCAN, size);
+      for (int i = from; i < linearEnd; i++) {
+        if (docs[i] >= target) {
+          index = i;
+          return doc = docs[i];
+        }
+      }
+      if (linearEnd == size) {
+        index = size;
+        return doc = NO_MORE_DOCS;
+      }
+      from = linearEnd;
+      int bound = 1;
+      while (from + bound < size && docs[from + bound] < target) {
+        bound <<= 1;
+      }
+      int found = Arrays.binarySearch(docs, from, Math.min(from + bound + 1, size), target);
+      index = found >= 0 ? found : -found - 1;
+      return doc = index < size ? docs[index] : NO_MORE_DOCS;
+    }
+
+    @Override
+    float score() {
+      int frequency = frequencies[index] & 0xFF;
+      float norm = K1 * (1 - B + B * lengths[doc] / averageLength);
+      return weight * frequency / (frequency + norm);
+    }
+
+    @Override
+    float maxScore() {
+      return maxScore;
+    }
+
+    @Override
+    void skipNonCompetitive(float minScore) {
+      while (index < size) {
+        int block = index / BLOCK_SIZE;
+        if (block != boundBlock) {
+          int frequency = blockMaxFrequencies[block];
+          float norm = K1 * (1 - B + B * blockMinLengths[block] / averageLength);
+          blockMaxScore = weight * frequency / (frequency + norm);
+          boundBlock = block;
+        }
+        if (blockMaxScore > minScore) {
+          return;
+        }
+        index = Math.min((block + 1) * BLOCK_SIZE, size);
+        doc = index < size ? docs[index] : NO_MORE_DOCS;
+      }
+    }
+
+    @Override
+    int cost() {
+      return size;
+    }
+  }
+
+  /**
+   * 모든 scorer 에 들어 있는 문서만 넘기는 scorer (가장 짧은 목록을 기준으로 나머지를 건너뛴다)
+   */
+  private static class ConjunctionScorer extends Scorer {
+
+    private final Scorer[] scorers;
+    private final Scorer lead;
+
+    private ConjunctionScorer(Scorer[] scorers) {
+      this.scorers = scorers;
+      Arrays.sort(this.scorers, Comparator.comparingInt(Scorer::cost));
+      this.lead = this.scorers[0];
+    }
+
+    @Override
+    int nextDoc() {
+      return doNext(lead.nextDoc());
+    }
+
+    @Override
+    int advance(int target) {
+      if (doc >= target) {
+        return doc;
+      }
+      return doNext(lead.advance(target));
+    }
+
+    @Override
+    void skipNonCompetitive(float minScore) {
+      if (doc == NO_MORE_DOCS) {
+        return;
+      }
+      int current = lead.doc;
+      lead.skipNonCompetitive(minScore - (maxScore() - lead.maxScore()));
+      if (lead.doc != current) {
+        doNext(lead.doc);
+      }
+    }
+
+    private int doNext(int target) {
+      outer:
+      while (target != NO_MORE_DOCS) {
+        for (int i = 1; i < scorers.length; i++) {
+          int next = scorers[i].advance(target);
+          if (next > target) {
+            target = lead.advance(next);
+            continue outer;
+          }
+        }
+        return doc = target;
+      }
+      return doc = NO_MORE_DOCS;
+    }
+
+    @Override
+    float score() {
+      float score = 0;
+      for (Scorer scorer : scorers) {
+        score += scorer.score();
+      }
+      return score;
+    }
+
+    @Override
+    float maxScore() {
+      float maxScore = 0;
+      for (Scorer scorer : scorers) {
+        maxScore += scorer.maxScore();
+      }
+      return maxScore;
+    }
+
+    @Override
+    int cost() {
+      return lead.cost();
+    }
+  }
+
+  /**
+   * 점수 상위 k 개 문서를 유지하는 최소 힙 (점수가 같으면 먼저 색인된 문서가 앞선다)
+   */
+  private static class TopHits {
+
+    private final int[] docs;
+    private final float[] scores;
+    private int size;
+
+    private TopHits(int capacity) {
+      this.docs = new int[capacity];
+      this.scores = new float[capacity];
+    }
+
+    /**
+     * 상위 k 개에 들면 넣는 메서드
+     *
+     * @return 힙이 가득 찬 상태에서 k 번째 점수가 바뀌었는지 여부
+     */
+    private boolean offer(int doc, float score) {
+      if (size < docs.length) {
+        docs[size] = doc;
+        scores[size] = score;
+        siftUp(size++);
+        return size == docs.length;
+      }
+      if (isWorse(docs[0], scores[0], doc, score)) {
+        docs[0] = doc;
+        scores[0] = score;
+        siftDown(0);
+        return true;
+      }
+      return false;
+    }
+
+    /**
+     * 상위 k 개에 들기 위해 넘어야 하는 점수 (아직 k 개가 안 되면 음의 무한대)
+     */
+    private float minScore() {
+      return size < docs.length ? Float.NEGATIVE_INFINITY : scores[0];
+    }
+
+    /**
+     * 점수가 높은 순서로 문서 번호를 반환 (힙은 비워진다)
+     */
+    private int[] sortedDocs() {
+      int[] sorted = new int[size];
+      for (int i = size - 1; i >= 0; i--) {
+        sorted[i] = docs[0];
+        size--;
+        docs[0] = docs[size];
+        scores[0] = scores[size];
+        siftDown(0);
+      }
+      return sorted;
+    }
+
+    private void siftUp(int i) {
+      while (i > 0) {
+        int parent = (i - 1) >>> 1;
+        if (!isWorse(docs[i], scores[i], docs[parent], scores[parent])) {
+          return;
+        }
+        swap(i, parent);
+        i = parent;
+      }
+    }
+
+    private void siftDown(int i) {
+      while (true) {
+        int child = 2 * i + 1;
+        if (child >= size) {
+          return;
+        }
+        if (child + 1 < size && isWorse(docs[child + 1], scores[child + 1], docs[child], scores[child])) {
+          child++;
+        }
+        if (!isWorse(docs[child], scores[child], docs[i], scores[i])) {
+          return;
+        }
+        swap(i, child);
+        i = child;
+      }
+    }
+
+    private void swap(int i, int j) {
+      int doc = docs[i];
+      float score = scores[i];
+      docs[i] = docs[j];
+      scores[i] = scores[j];
+      docs[j] = doc;
+      scores[j] = score;
+    }
+
+    private static boolean isWorse(int doc, float score, int otherDoc, float otherScore) {
+      return score < otherScore || (score == otherScore && doc > otherDoc);
+    }
+  }
+}
@@ -0,0 +1,286 @@
+package com.flab.CommerceCore.product.search;
+
+import com.flab.CommerceCore.common.exceptions.BusinessException;
+import com.flab.CommerceCore.common.exceptions.ErrorCode;
+import com.flab.CommerceCore.invalidation.CacheInvalidationListener;
+import com.flab.CommerceCore.invalidation.CacheInvalidationLog;
+import com.flab.CommerceCore.product.domain.entity.Product;
+import com.flab.CommerceCore.product.repository.ProductRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 상품명과 설명으로 상품을 찾는 노드별 검색 색인
+ *
+ * 애플리케이션이 뜨면 모든 상품을 스트리밍으로 읽어 색인을 만들고, 이후 상품 생성, 수정, 삭제는 커밋된 뒤에 바로 반영한다.
+ * 다른 노드의 변경은 무효화 로그(CacheInvalidationLog)로 전달받아 해당 상품을 DB 에서 다시 읽어 반영한다.
+ * 수정, 삭제로 남은 이전 문서를 정리하고 놓친 변경을 바로잡기 위해 rebuild-interval-ms 마다 색인을 새로 만들어 바꿔 끼운다.
+ * 재색인은 한 번에 하나만 실행하며(색인 두 벌이 메모리에 함께 있으므로), 실행 중에 들어온 재색인 요청은 건너뛴다.
+ * 무효화 로그가 요청한 재색인은 폴링 스레드를 막지 않도록 별도 스레드에서 실행한다.
+ *
+ * 색인이 만들어지기 전에는 검색 결과가 비어 있다.
+ */
+@Slf4j
+@Component
+public class ProductSearchIndex implements CacheInvalidationListener {
+
+  public static final String CACHE_NAME = "product-search";
+
+  private final ProductRepository productRepository;
+  private final CacheInvalidationLog invalidationLog;
+  private final TransactionTemplate transactionTemplate;
+  private final int maxResults;
+  private final int maxQueryLength;
+  private final Timer searchTimer;
+
+  private volatile InvertedIndex index = new InvertedIndex();
+  // 다시 만드는 중인 색인 (그 사이 바뀐 상품도 반영해야 한다)
+  private volatile InvertedIndex rebuilding;
+  // 마지막 재색인을 시작한 시각 (System.nanoTime, buildIndex 에서만 바뀐다)
+  private long lastRebuildStartedAt = Long.MIN_VALUE;
+  // 재색인이 실행 중이거나 실행 대기 중인지 여부
+  private final AtomicBoolean rebuildInProgress = new AtomicBoolean();
+  private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+    Thread thread = new Thread(runnable, "product-search-rebuild");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  @Autowired
+  public ProductSearchIndex(ProductRepository productRepository, CacheInvalidationLog invalidationLog,
+      PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+      @Value("${product.search.max-results:1000}") int maxResults,
+      @Value("${product.search.max-query-length:100}") int maxQueryLength) {
+    if (maxResults <= 0 || maxQueryLength <= 0) {
+      throw new IllegalArgumentException("검색 결과 수와 검색어 길이는 0보다 커야 합니다.");
+    }
+    this.productRepository = productRepository;
+    this.invalidationLog = invalidationLog;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate.setReadOnly(true);
+    this.maxResults = maxResults;
+    this.maxQueryLength = maxQueryLength;
+
+    this.searchTimer = Timer.builder("product.search")
+        .description("검색 색인 조회 시간 (상품 정보 조회 제외)")
+        .publishPercentileHistogram()
+        .register(meterRegistry);
+    Gauge.builder("product.search.documents", this, searchIndex -> searchIndex.index.size())
+        .description("검색할 수 있는 상품 수")
+        .register(meterRegistry);
+    Gauge.builder("product.search.removed", this, searchIndex -> searchIndex.index.removedCount())
+        .description("다음 재색인까지 남아 있는 수정, 삭제 전 문서 수")
+        .register(meterRegistry);
+  }
+
+  @PostConstruct
+  public void registerInvalidation() {
+    invalidationLog.register(CACHE_NAME, this);
+  }
+
+  @PreDestroy
+  public void stop() {
+    rebuildExecutor.shutdownNow();
+  }
+
+  /**
+   * 검색어와 관련도가 높은 순서로 상품 ID 를 반환하는 메서드
+   * max-results 보다 뒤의 순위는 찾지 않는다.
+   *
+   * @param query 검색어
+   * @param offset 건너뛸 결과 수
+   * @param limit 반환할 최대 결과 수
+   * @return 순위 구간의 상품 ID 와 다음 결과가 있는지 여부
+   * @throws BusinessException 검색어가 비어 있거나 너무 길 경우 발생
+   */
+  public SearchResult search(String query, int offset, int limit) {
+    if (query == null || query.isBlank() || query.length() > maxQueryLength) {
+      log.error(ErrorCode.INVALID_SEARCH_QUERY.getDetail(), query);
+      throw BusinessException.create(ErrorCode.INVALID_SEARCH_QUERY);
+    }
+    if (offset < 0 || offset >= maxResults || limit <= 0) {
+      return SearchResult.empty();
+    }
+    int boundedLimit = Math.min(limit, maxResults - offset);
+    SearchResult result = searchTimer.record(() -> index.search(query, offset, boundedLimit));
+    if (result.isHasNext() && offset + boundedLimit >= maxResults) {
+      return new SearchResult(result.getProductIds(), false);
+    }
+    return result;
+  }
+
+  /**
+   * 생성, 수정된 상품을 색인에 반영하고 다른 노드에도 알리는 메서드
+   * 트랜잭션 안이면 커밋된 뒤에 반영하며, 무효화 로그도 같은 트랜잭션에 기록되어 롤백되면 전달되지 않는다.
+   */
+  public void index(Product product) {
+    long productId = product.getProductId();
+    String productName = product.getProductName();
+    String description = product.getDescription();
+    invalidationLog.publish(CACHE_NAME, productId);
+    afterCommit(() -> apply(productId, productName, description));
+  }
+
+  /**
+   * 삭제된 상품을 색인에서 지우고 다른 노드에도 알리는 메서드
+   */
+  public void remove(Long productId) {
+    invalidationLog.publish(CACHE_NAME, productId);
+    afterCommit(() -> applyRemove(productId));
+  }
+
+  /**
+   * 다른 노드가 바꾼 상품을 DB 에서 다시 읽어 반영하는 메서드 (무효화 로그를 받을 때 사용)
+   */
+  @Override
+  public void evict(long productId) {
+    Product product = productRepository.findByProductId(productId);
+    if (product == null) {
+      applyRemove(productId);
+    } else {
+      apply(productId, product.getProductName(), product.getDescription());
+    }
+  }
+
+  /**
+   * 놓친 변경이 있을 수 있으므로 색인을 새로 만드는 메서드 (무효화 로그 폴링 스레드에서 호출)
+   * 재색인은 별도 스레드에 넘기고 바로 반환하며, 이미 재색인 중이면 건너뛴다.
+   * 요청 이후에 시작한 재색인이 있으면 그 재색인이 이미 반영했으므로 다시 만들지 않는다.
+   */
+  @Override
+  public void evictAll() {
+    long requestedAt = System.nanoTime();
+    if (!rebuildInProgress.compareAndSet(false, true)) {
+      log.info("상품 검색 색인을 이미 다시 만들고 있어 재색인 요청을 건너뜁니다.");
+      return;
+    }
+    try {
+      rebuildExecutor.execute(() -> {
+        try {
+          rebuildIfStartedBefore(requestedAt);
+        } finally {
+          rebuildInProgress.set(false);
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      rebuildInProgress.set(false);
+      log.warn("종료 중이므로 상품 검색 색인을 다시 만들지 않음");
+    }
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void warmUp() {
+    // 무효화 로그의 첫 폴링이 먼저 만들었거나 만들고 있으면 다시 만들지 않는다
+    if (!rebuildInProgress.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      rebuildIfStartedBefore(Long.MIN_VALUE + 1);
+    } finally {
+      rebuildInProgress.set(false);
+    }
+  }
+
+  /**
+   * 주기적으로 색인을 새로 만드는 메서드 (이미 재색인 중이면 건너뛴다)
+   */
+  @Scheduled(fixedDelayString = "${product.search.rebuild-interval-ms:3600000}",
+      initialDelayString = "${product.search.rebuild-interval-ms:3600000}")
+  public void rebuild() {
+    if (!rebuildInProgress.compareAndSet(false, true)) {
+      log.info("상품 검색 색인을 이미 다시 만들고 있어 주기 재색인을 건너뜁니다.");
+      return;
+    }
+    try {
+      buildIndex();
+    } finally {
+      rebuildInProgress.set(false);
+    }
+  }
+
+  /**
+   * DB 의 모든 상품을 읽어 새 색인을 만들고 바꿔 끼우는 메서드
+   * 실패하면 기존 색인을 그대로 쓴다.
+   */
+  private synchronized void buildIndex() {
+    long startNanos = System.nanoTime();
+    lastRebuildStartedAt = startNanos;
+    InvertedIndex next = new InvertedIndex();
+    rebuilding = next;
+    try {
+      transactionTemplate.executeWithoutResult(status -> {
+        try (Stream<Object[]> documents = productRepository.streamAllSearchDocuments()) {
+          documents.forEach(document -> {
+            long productId = (Long) document[0];
+            // 스캔 중에 바뀐 상품은 이미 새 값으로 반영되었으므로 스캔한 이전 값으로 덮어쓰지 않는다
+            if (!next.contains(productId)) {
+              next.index(productId, (String) document[1], (String) document[2]);
+            }
+          });
+        }
+      });
+      index = next;
+      log.info("상품 검색 색인 생성 documents: {}, {}ms", next.size(), (System.nanoTime() - startNanos) / 1_000_000);
+    } catch (RuntimeException e) {
+      log.error("상품 검색 색인 생성 실패, 기존 색인을 유지합니다.", e);
+    } finally {
+      rebuilding = null;
+    }
+  }
+
+  private synchronized void rebuildIfStartedBefore(long requestedAt) {
+    if (lastRebuildStartedAt >= requestedAt) {
+      return;
+    }
+    buildIndex();
+  }
+
+  private void apply(long productId, String productName, String description) {
+    // 다시 만드는 중인 색인에 먼저 넣어야 바꿔 끼우는 사이에 빠지지 않는다
+    InvertedIndex next = rebuilding;
+    if (next != null) {
+      next.index(productId, productName, description);
+    }
+    index.index(productId, productName, description);
+  }
+
+  private void applyRemove(long productId) {
+    InvertedIndex next = rebuilding;
+    if (next != null) {
+      next.remove(productId);
+    }
+    index.remove(productId);
+  }
+
+  private static void afterCommit(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        action.run();
+      }
+    });
+  }
+}
@@ -0,0 +1,22 @@
+package com.flab.CommerceCore.product.search;
+
+import java.util.Collections;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 상품 검색 결과 (요청한 순위 구간의 상품 ID 와 다음 결과가 있는지 여부)
+ */
+@Getter
+@AllArgsConstructor
+public class SearchResult {
+
+  // 관련도가 높은 순서
+  private final List<Long> productIds;
+  private final boolean hasNext;
+
+  static SearchResult empty() {
+    return new SearchResult(Collections.emptyList(), false);
+  }
+}
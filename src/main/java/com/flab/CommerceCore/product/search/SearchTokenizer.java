@@ -0,0 +1,116 @@
+package com.flab.CommerceCore.product.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품 검색용 토크나이저
+ *
+ * 문자열을 NFKC 로 정규화하고 소문자로 바꾼 뒤, 글자와 숫자가 이어진 구간을 단어로 자른다.
+ * 한글과 그 밖의 문자(영문, 숫자)가 바뀌는 곳에서도 자르므로 "아이폰15케이스" 는 "아이폰", "15", "케이스" 가 된다.
+ *
+ * 형태소 분석기 없이 한국어를 다루기 위해 두 가지를 더한다.
+ * - 어간: 단어 끝의 흔한 조사(을, 를, 에서 ...)나 영어 복수형 s 를 뗀 형태도 같은 단어로 색인한다.
+ * - n-gram: 붙여 쓴 복합어("무선이어폰")나 단어 일부로도 찾을 수 있도록 상품명을 한글 2-gram, 영문 3-gram 으로도 색인한다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class SearchTokenizer {
+
+  static final int MAX_WORD_LENGTH = 32;
+
+  private static final int HANGUL_GRAM = 2;
+  private static final int OTHER_GRAM = 3;
+
+  // 긴 조사부터 확인한다
+  private static final String[] PARTICLES = {
+      "에서는", "에게서", "으로", "에서", "에게", "까지", "부터", "이나", "처럼", "보다", "하고", "이랑",
+      "을", "를", "이", "가", "은", "는", "의", "에", "로", "와", "과", "도", "만", "랑"
+  };
+
+  /**
+   * 문자열을 단어로 자르는 메서드 (순서를 유지하며 같은 단어도 그대로 반복된다)
+   * 너무 긴 단어는 앞부분만 사용한다.
+   */
+  static List<String> words(String text) {
+    List<String> words = new ArrayList<>();
+    if (text == null || text.isEmpty()) {
+      return words;
+    }
+    String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+
+    int start = -1;
+    boolean startHangul = false;
+    for (int i = 0; i < normalized.length(); ) {
+      int codePoint = normalized.codePointAt(i);
+      if (Character.isLetterOrDigit(codePoint)) {
+        boolean hangul = isHangul(codePoint);
+        if (start >= 0 && hangul != startHangul) {
+          addWord(words, normalized, start, i);
+          start = -1;
+        }
+        if (start < 0) {
+          start = i;
+          startHangul = hangul;
+        }
+      } else if (start >= 0) {
+        addWord(words, normalized, start, i);
+        start = -1;
+      }
+      i += Character.charCount(codePoint);
+    }
+    if (start >= 0) {
+      addWord(words, normalized, start, normalized.length());
+    }
+    return words;
+  }
+
+  /**
+   * 단어 끝의 조사나 복수형을 뗀 어간을 반환하는 메서드 (뗄 것이 없으면 null)
+   * 어간이 너무 짧아지는 경우("가을" → "가")는 떼지 않는다.
+   */
+  static String stem(String word) {
+    if (isHangul(word.codePointAt(0))) {
+      for (String particle : PARTICLES) {
+        if (word.length() - particle.length() >= 2 && word.endsWith(particle)) {
+          return word.substring(0, word.length() - particle.length());
+        }
+      }
+      return null;
+    }
+    if (word.length() >= 4 && word.endsWith("s") && !word.endsWith("ss") && Character.isLetter(word.charAt(0))) {
+      return word.substring(0, word.length() - 1);
+    }
+    return null;
+  }
+
+  /**
+   * 단어의 n-gram 을 중복 없이 반환하는 메서드 (한글은 2-gram, 그 밖에는 3-gram)
+   * n 보다 짧은 단어는 n-gram 이 없다.
+   */
+  static Set<String> grams(String word) {
+    int n = isHangul(word.codePointAt(0)) ? HANGUL_GRAM : OTHER_GRAM;
+    Set<String> grams = new LinkedHashSet<>();
+    for (int i = 0; i + n <= word.length(); i++) {
+      grams.add(word.substring(i, i + n));
+    }
+    return grams;
+  }
+
+  static boolean isHangul(String word) {
+    return isHangul(word.codePointAt(0));
+  }
+
+  private static boolean isHangul(int codePoint) {
+    return Character.UnicodeScript.of(codePoint) == Character.UnicodeScript.HANGUL;
+  }
+
+  private static void addWord(List<String> words, String text, int start, int end) {
+    words.add(text.substring(start, Math.min(end, start + MAX_WORD_LENGTH)));
+  }
+}
@@ -1,8 +1,10 @@
 package com.flab.CommerceCore.product.service;
 
 import com.flab.CommerceCore.common.exceptions.BusinessException;
+import com.flab.CommerceCore.common.pagination.CursorPage;
 import com.flab.CommerceCore.product.domain.dto.ProductRequest;
 import com.flab.CommerceCore.product.domain.dto.ProductResponse;
+import com.flab.CommerceCore.product.domain.dto.ProductSearchResponse;
 import java.util.List;
 
 public interface ProductService {
@@ -33,6 +35,27 @@ public interface ProductService {
    */
   List<ProductResponse> findAllProducts(int page);
 
+  /**
+   * 커서 이후의 상품 목록을 조회 (키셋 페이지네이션, count 쿼리 없음)
+   *
+   * @param after 이전 페이지의 nextCursor (첫 페이지면 null)
+   * @param limit 페이지 크기 (최대 크기로 제한)
+   * @return 상품 목록과 다음 커서
+   * @throws BusinessException 커서 형식이 올바르지 않을 경우 발생
+   */
+  CursorPage<ProductResponse> findProducts(String after, Integer limit);
+
+  /**
+   * 상품명과 설명으로 상품을 검색 (관련도 순)
+   *
+   * @param query 검색어
+   * @param page 조회할 페이지 번호
+   * @param size 페이지 크기 (최대 크기로 제한)
+   * @return 관련도 순 상품 목록과 다음 페이지 여부
+   * @throws BusinessException 검색어가 비어 있거나 너무 길 경우 발생
+   */
+  ProductSearchResponse searchProducts(String query, int page, Integer size);
+
   /**
    * 상품을 삭제하는 메서드
    *
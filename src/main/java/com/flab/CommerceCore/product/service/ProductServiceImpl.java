@@ -1,18 +1,29 @@
 package com.flab.CommerceCore.product.service;
 
 import com.flab.CommerceCore.common.Mapper.ProductMapper;
+import com.flab.CommerceCore.common.collection.LongIntHashMap;
+import com.flab.CommerceCore.common.collection.LongObjectHashMap;
 import com.flab.CommerceCore.common.exceptions.BusinessException;
 import com.flab.CommerceCore.common.exceptions.ErrorCode;
+import com.flab.CommerceCore.common.pagination.CursorPage;
+import com.flab.CommerceCore.common.pagination.CursorPagination;
 import com.flab.CommerceCore.inventory.domain.dto.InventoryResponse;
 import com.flab.CommerceCore.inventory.service.InventoryService;
+import com.flab.CommerceCore.product.cache.ProductCache;
 import com.flab.CommerceCore.product.domain.dto.ProductRequest;
 import com.flab.CommerceCore.product.domain.dto.ProductResponse;
+import com.flab.CommerceCore.product.domain.dto.ProductSearchResponse;
 import com.flab.CommerceCore.product.domain.entity.Product;
+import com.flab.CommerceCore.product.filter.ProductNameFilter;
 import com.flab.CommerceCore.product.repository.ProductRepository;
+import com.flab.CommerceCore.product.search.ProductSearchIndex;
+import com.flab.CommerceCore.product.search.SearchResult;
 import jakarta.validation.Valid;
+import java.util.ArrayList;
 import java.util.List;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -26,12 +37,22 @@ public class ProductServiceImpl implements ProductService {
   private final ProductRepository productRepository;
   private final InventoryService inventoryService;
   private final ProductMapper mapper;
+  private final CursorPagination cursorPagination;
+  private final ProductCache productCache;
+  private final ProductNameFilter productNameFilter;
+  private final ProductSearchIndex productSearchIndex;
 
   @Autowired
-  public ProductServiceImpl(ProductRepository productRepository, ProductMapper productMapper, InventoryService inventoryService) {
+  public ProductServiceImpl(ProductRepository productRepository, ProductMapper productMapper,
+      InventoryService inventoryService, CursorPagination cursorPagination, ProductCache productCache,
+      ProductNameFilter productNameFilter, ProductSearchIndex productSearchIndex) {
     this.productRepository = productRepository;
     this.mapper = productMapper;
     this.inventoryService = inventoryService;
+    this.cursorPagination = cursorPagination;
+    this.productCache = productCache;
+    this.productNameFilter = productNameFilter;
+    this.productSearchIndex = productSearchIndex;
   }
 
 
@@ -51,8 +72,10 @@ public class ProductServiceImpl implements ProductService {
     // 중복 상품명 확인
     validateDuplicateProduct(product.getProductName());
 
-    // 상품을 저장
-    Product savedProduct = productRepository.save(product);
+    // 상품을 저장 (필터가 놓친 중복은 상품명 유니크 제약으로 걸러낸다)
+    Product savedProduct = saveAndFlush(product);
+    productNameFilter.put(savedProduct.getProductName());
+    productSearchIndex.index(savedProduct);
 
     // 재고 생성 서비스 호출
     int quantity = inventoryService.createInventory(product, productRequest.getQuantity());
@@ -64,6 +87,7 @@ public class ProductServiceImpl implements ProductService {
 
   /**
    * 상품 ID로 상품 정보 조회
+   * 상품 정보와 재고 수량은 각각 캐시에서 읽고, 없을 때만 DB 에서 조회한다.
    *
    * @param productId 조회할 상품 ID
    * @return 조회된 상품과 재고 수량을 포함한 응답 정보
@@ -73,10 +97,10 @@ public class ProductServiceImpl implements ProductService {
   @Transactional(readOnly = true)
   public ProductResponse findProductById(Long productId) {
     // 상품이 존재하는지 확인하고 조회
-    Product findProduct = validateNotNullProduct(productId);
+    Product findProduct = productCache.getProduct(productId, this::validateNotNullProduct);
 
     // 해당 상품의 재고 수량 조회
-    int quantity = inventoryService.findQuantityByProductId(productId);
+    int quantity = productCache.getQuantity(productId, inventoryService::findQuantityByProductId);
 
     // 조회한 상품과 재고 정보를 반환
     return mapper.convertEntityToResponse(findProduct,quantity);
@@ -85,6 +109,7 @@ public class ProductServiceImpl implements ProductService {
 
   /**
    * 페이징된 모든 상품 목록을 조회
+   * OFFSET 방식이라 뒤 페이지일수록 느려지므로 새 클라이언트는 {@link #findProducts(String, Integer)} 를 사용한다.
    *
    * @param page 조회할 페이지 번호
    * @return 페이징된 상품 목록 응답 정보
@@ -99,10 +124,78 @@ public class ProductServiceImpl implements ProductService {
     Page<Product> productPage = productRepository.findAll(pageable);
 
     // 각 상품에 대한 응답 객체로 변환
-    return productPage.getContent().stream()
-        .map(product -> mapper.convertEntityToResponse(
-            product, inventoryService.findQuantityByProductId(product.getProductId())))
-        .toList();
+    return toResponses(productPage.getContent());
+  }
+
+
+  /**
+   * 커서 이후의 상품 목록을 조회 (키셋 페이지네이션)
+   *
+   * @param after 이전 페이지의 nextCursor (첫 페이지면 null)
+   * @param limit 페이지 크기 (최대 크기로 제한)
+   * @return 상품 목록과 다음 커서
+   * @throws BusinessException 커서 형식이 올바르지 않을 경우 발생
+   */
+  @Override
+  @Transactional(readOnly = true)
+  public CursorPage<ProductResponse> findProducts(String after, Integer limit) {
+    int pageSize = cursorPagination.resolveLimit(limit);
+
+    // 커서 이후의 상품을 limit + 1 개만 조회 (OFFSET, count 없음)
+    List<Product> products = productRepository.findAllAfter(
+        cursorPagination.decode(after), cursorPagination.seek(pageSize));
+
+    // 다음 페이지 판단용으로 더 읽은 한 개는 재고를 조회하지 않는다
+    LongIntHashMap quantities = inventoryService.findQuantitiesByProductIds(
+        getProductIds(products.subList(0, Math.min(products.size(), pageSize))));
+
+    return cursorPagination.toPage(products, pageSize, Product::getProductId,
+        product -> mapper.convertEntityToResponse(product,
+            quantities.getOrDefault(product.getProductId(), 0)));
+  }
+
+
+  /**
+   * 상품명과 설명으로 상품을 검색 (관련도 순)
+   * 검색 색인에서 상품 ID 만 찾고, 상품 정보와 재고 수량은 각각 한 번에 조회한다.
+   * 색인에는 있지만 그 사이 삭제된 상품은 결과에서 빠진다.
+   *
+   * @param query 검색어
+   * @param page 조회할 페이지 번호
+   * @param size 페이지 크기 (최대 크기로 제한)
+   * @return 관련도 순 상품 목록과 다음 페이지 여부
+   * @throws BusinessException 검색어가 비어 있거나 너무 길 경우 발생
+   */
+  @Override
+  @Transactional(readOnly = true)
+  public ProductSearchResponse searchProducts(String query, int page, Integer size) {
+    int pageSize = cursorPagination.resolveLimit(size);
+    int pageNumber = Math.max(page, 0);
+
+    // 관련도 순 상품 ID 조회 (최대 결과 수를 넘는 페이지는 빈 결과)
+    int offset = (int) Math.min((long) pageNumber * pageSize, Integer.MAX_VALUE);
+    SearchResult result = productSearchIndex.search(query, offset, pageSize);
+
+    // 상품을 한 번에 조회한 뒤 검색 순서대로 정렬
+    List<Product> products = new ArrayList<>(result.getProductIds().size());
+    if (!result.getProductIds().isEmpty()) {
+      LongObjectHashMap<Product> productsById = new LongObjectHashMap<>(result.getProductIds().size());
+      productRepository.findAllByProductIdIn(result.getProductIds())
+          .forEach(product -> productsById.put(product.getProductId(), product));
+      for (Long productId : result.getProductIds()) {
+        Product product = productsById.get(productId);
+        if (product != null) {
+          products.add(product);
+        }
+      }
+    }
+
+    return ProductSearchResponse.builder()
+        .content(toResponses(products))
+        .page(pageNumber)
+        .size(pageSize)
+        .hasNext(result.isHasNext())
+        .build();
   }
 
 
@@ -119,6 +212,10 @@ public class ProductServiceImpl implements ProductService {
 
     // 상품 삭제
     productRepository.delete(product);
+
+    // 캐시된 상품 정보와 검색 색인에서 삭제
+    productCache.invalidate(productId);
+    productSearchIndex.remove(productId);
   }
 
 
@@ -128,6 +225,7 @@ public class ProductServiceImpl implements ProductService {
    * @param productId 수정할 상품 ID
    * @param productRequest 수정할 상품 정보
    * @return 수정된 상품에 대한 응답 정보
+   * @throws BusinessException 등록되지 않은 상품이거나 다른 상품의 이름으로 바꾸려는 경우 발생
    */
   @Override
   @Transactional
@@ -135,26 +233,98 @@ public class ProductServiceImpl implements ProductService {
     // 상품이 존재하는지 확인
     Product product = validateNotNullProduct(productId);
 
-    // 상품 정보 업데이트
+    // 상품명을 바꾸는 경우 중복 상품명 확인
+    if (!product.getProductName().equals(productRequest.getProductName())) {
+      validateDuplicateProduct(productRequest.getProductName());
+    }
+
+    // 상품 정보 업데이트 (필터가 놓친 중복은 상품명 유니크 제약으로 걸러낸다)
     Product updateProduct = product.updateProduct(productRequest);
+    flush(updateProduct.getProductName());
+    productNameFilter.put(updateProduct.getProductName());
 
     // 재고 정보 업데이트
     InventoryResponse inventoryResponse = inventoryService.updateQuantity(productId,
         productRequest.getQuantity());
 
+    // 캐시된 상품 정보 삭제 (커밋 후에도 한 번 더 지운다)
+    productCache.invalidate(productId);
+
+    // 검색 색인 갱신 (커밋 후 반영)
+    productSearchIndex.index(updateProduct);
+
     // 수정된 상품과 재고 정보를 반환
     return mapper.convertEntityToResponse(updateProduct, inventoryResponse.getQuantity());
   }
 
 
+  /**
+   * 상품 목록을 응답으로 변환하는 메서드
+   * 재고 수량은 상품마다 조회하지 않고 한 번에 조회한 맵에서 꺼낸다.
+   *
+   * @param products 변환할 상품 목록
+   * @return 재고 수량을 포함한 상품 응답 목록
+   */
+  private List<ProductResponse> toResponses(List<Product> products) {
+    LongIntHashMap quantities = inventoryService.findQuantitiesByProductIds(getProductIds(products));
+    return products.stream()
+        .map(product -> mapper.convertEntityToResponse(product,
+            quantities.getOrDefault(product.getProductId(), 0)))
+        .toList();
+  }
+
+  private List<Long> getProductIds(List<Product> products) {
+    return products.stream()
+        .map(Product::getProductId)
+        .toList();
+  }
+
+
   /**
    * 상품명 중복 여부를 확인
+   * 상품명 필터가 있을 수 있다고 답한 경우에만 DB 에서 존재 여부를 조회한다.
    *
    * @param productName 확인할 상품명
    * @throws BusinessException 중복된 상품명이 있을 경우 발생
    */
   private void validateDuplicateProduct(String productName) {
-    if (productRepository.findByProductName(productName) != null) {
+    if (!productNameFilter.mightContain(productName)) {
+      return;
+    }
+    if (productRepository.existsByProductName(productName)) {
+      log.error(ErrorCode.DUPLICATED_PRODUCT.getDetail(), productName);
+      throw BusinessException.create(ErrorCode.DUPLICATED_PRODUCT);
+    }
+    productNameFilter.recordFalsePositive();
+  }
+
+  /**
+   * 상품을 저장하고 바로 INSERT 해 상품명 유니크 제약 위반을 중복 상품 예외로 바꾸는 메서드
+   * 상품명 필터는 노드마다 따로 있고 재구성 중 들어온 상품을 놓칠 수 있으므로, 최종 판단은 유니크 제약으로 한다.
+   *
+   * @param product 저장할 상품
+   * @return 저장된 상품
+   * @throws BusinessException 중복된 상품명이 있을 경우 발생
+   */
+  private Product saveAndFlush(Product product) {
+    try {
+      return productRepository.saveAndFlush(product);
+    } catch (DataIntegrityViolationException e) {
+      log.error(ErrorCode.DUPLICATED_PRODUCT.getDetail(), product.getProductName());
+      throw BusinessException.create(ErrorCode.DUPLICATED_PRODUCT);
+    }
+  }
+
+  /**
+   * 변경 내용을 바로 반영해 상품명 유니크 제약 위반을 중복 상품 예외로 바꾸는 메서드
+   *
+   * @param productName 변경된 상품명
+   * @throws BusinessException 중복된 상품명이 있을 경우 발생
+   */
+  private void flush(String productName) {
+    try {
+      productRepository.flush();
+    } catch (DataIntegrityViolationException e) {
       log.error(ErrorCode.DUPLICATED_PRODUCT.getDetail(), productName);
       throw BusinessException.create(ErrorCode.DUPLICATED_PRODUCT);
     }
@@ -0,0 +1,70 @@
+package com.flab.CommerceCore.user.cache;
+
+import com.flab.CommerceCore.invalidation.CacheInvalidationListener;
+import com.flab.CommerceCore.invalidation.CacheInvalidationLog;
+import com.flab.CommerceCore.user.domain.entity.User;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 유저 엔티티의 Hibernate 2차 캐시(user 영역)를 노드 간에 맞추는 컴포넌트
+ *
+ * 2차 캐시는 노드마다 따로 있어 다른 노드의 수정을 알지 못하므로, 수정한 노드가 무효화 로그에 남기고
+ * 다른 노드는 로그를 받아 자기 2차 캐시에서 지운다. 그러지 않으면 주문 시 유저 조회가 영역의 만료 시간까지 이전 값을 읽는다.
+ */
+@Component
+public class UserCache implements CacheInvalidationListener {
+
+  public static final String CACHE_NAME = "user";
+
+  private final CacheInvalidationLog invalidationLog;
+  private final EntityManagerFactory entityManagerFactory;
+
+  @Autowired
+  public UserCache(CacheInvalidationLog invalidationLog, EntityManagerFactory entityManagerFactory) {
+    this.invalidationLog = invalidationLog;
+    this.entityManagerFactory = entityManagerFactory;
+  }
+
+  @PostConstruct
+  public void registerInvalidation() {
+    invalidationLog.register(CACHE_NAME, this);
+  }
+
+  /**
+   * 유저의 2차 캐시를 지우고 다른 노드에도 알리는 메서드
+   * 무효화 로그는 호출자의 트랜잭션에 함께 기록되어, 롤백되면 다른 노드에 전달되지 않는다.
+   * 이 노드는 커밋 후에 한 번 더 지워 커밋 전에 다시 채워진 이전 값을 없앤다.
+   *
+   * @param userId 수정 또는 삭제된 유저 ID
+   */
+  public void invalidate(Long userId) {
+    evict(userId);
+    invalidationLog.publish(CACHE_NAME, userId);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCompletion(int status) {
+          evict(userId);
+        }
+      });
+    }
+  }
+
+  /**
+   * 이 노드의 2차 캐시에서만 유저를 지우는 메서드 (다른 노드의 무효화 로그를 받을 때도 사용)
+   */
+  @Override
+  public void evict(long userId) {
+    entityManagerFactory.getCache().evict(User.class, userId);
+  }
+
+  @Override
+  public void evictAll() {
+    entityManagerFactory.getCache().evict(User.class);
+  }
+}
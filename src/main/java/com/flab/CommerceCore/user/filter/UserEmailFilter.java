@@ -0,0 +1,33 @@
+package com.flab.CommerceCore.user.filter;
+
+import com.flab.CommerceCore.common.filter.KeyExistenceFilter;
+import com.flab.CommerceCore.user.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.stream.Stream;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 가입 시 이메일 중복 조회를 줄이기 위한 이메일 Bloom 필터
+ */
+@Component
+public class UserEmailFilter extends KeyExistenceFilter {
+
+  private final UserRepository userRepository;
+
+  @Autowired
+  public UserEmailFilter(UserRepository userRepository, PlatformTransactionManager transactionManager,
+      MeterRegistry meterRegistry,
+      @Value("${filter.user-email.initial-capacity:100000}") int initialCapacity,
+      @Value("${filter.false-positive-rate:0.01}") double falsePositiveRate) {
+    super("user.email", transactionManager, meterRegistry, initialCapacity, falsePositiveRate);
+    this.userRepository = userRepository;
+  }
+
+  @Override
+  protected Stream<String> scanKeys() {
+    return userRepository.streamAllEmails();
+  }
+}
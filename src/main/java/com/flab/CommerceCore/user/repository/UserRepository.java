@@ -1,8 +1,15 @@
 package com.flab.CommerceCore.user.repository;
 
+import static com.flab.CommerceCore.common.query.QueryConstant.STREAM_USER_EMAILS;
+
 import com.flab.CommerceCore.common.annotation.LogRepositoryError;
 import com.flab.CommerceCore.user.domain.entity.User;
+import jakarta.persistence.QueryHint;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 @LogRepositoryError
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -10,4 +17,16 @@ public interface UserRepository extends JpaRepository<User, Long> {
   User findByUserId(Long userId);
   User findByEmail(String email);
 
+  /**
+   * 이메일 존재 여부만 확인 (유니크 인덱스 조회, 엔티티를 로딩하지 않는다)
+   */
+  boolean existsByEmail(String email);
+
+  /**
+   * 모든 이메일을 스트리밍으로 조회 (트랜잭션 안에서 사용하고 반드시 닫아야 한다)
+   */
+  @Query(STREAM_USER_EMAILS)
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+  Stream<String> streamAllEmails();
+
 }
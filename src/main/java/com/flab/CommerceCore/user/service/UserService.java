@@ -3,13 +3,16 @@ package com.flab.CommerceCore.user.service;
 import com.flab.CommerceCore.common.Mapper.UserMapper;
 import com.flab.CommerceCore.common.exceptions.BusinessException;
 import com.flab.CommerceCore.common.exceptions.ErrorCode;
+import com.flab.CommerceCore.user.cache.UserCache;
 import com.flab.CommerceCore.user.domain.dto.UserRequest;
 import com.flab.CommerceCore.user.domain.dto.UserResponse;
 import com.flab.CommerceCore.user.domain.entity.User;
+import com.flab.CommerceCore.user.filter.UserEmailFilter;
 import com.flab.CommerceCore.user.repository.UserRepository;
 import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
 @Slf4j
@@ -17,16 +20,23 @@ import org.springframework.stereotype.Service;
 public class UserService {
 
   @Autowired
-  public UserService(UserRepository userRepository, UserMapper mapper){
+  public UserService(UserRepository userRepository, UserMapper mapper, UserEmailFilter emailFilter,
+      UserCache userCache){
     this.userRepository = userRepository;
     this.mapper = mapper;
+    this.emailFilter = emailFilter;
+    this.userCache = userCache;
   }
 
   private final UserRepository userRepository;
   private final UserMapper mapper;
+  private final UserEmailFilter emailFilter;
+  private final UserCache userCache;
 
   /**
    * User 생성 메서드
+   * 이메일 필터에 없는 이메일은 이 노드가 본 적 없는 이메일이므로 중복 조회를 생략한다.
+   * 필터는 노드마다 따로 있고 재구성 중 들어온 가입을 놓칠 수 있으므로, 최종 판단은 이메일 유니크 제약으로 한다.
    *
    * @param userRequest 사용자 생성 요청 정보
    * @return 생성된 사용자 정보를 포함한 UserResponse DTO
@@ -34,13 +44,11 @@ public class UserService {
    */
   @Transactional
   public UserResponse createUser(UserRequest userRequest){
-    if(userRepository.findByEmail(userRequest.getEmail()) != null){
-      log.error(ErrorCode.DUPLICATED_USER_EMAIL.getDetail(),userRequest.getEmail());
-        throw new BusinessException(ErrorCode.DUPLICATED_USER_EMAIL);
-    }
+    validateDuplicateEmail(userRequest.getEmail());
 
     User user = mapper.convertRequestToEntity(userRequest);
-    User saveUser = userRepository.save(user);
+    User saveUser = saveAndFlush(user);
+    emailFilter.put(userRequest.getEmail());
 
     return mapper.convertEntityToResponse(saveUser);
   }
@@ -71,7 +79,7 @@ public class UserService {
    * @param userId        수정할 사용자 ID
    * @param userRequest   수정할 사용자 정보
    * @return 수정된 사용자 정보를 포함한 UserResponse DTO
-   * @throws BusinessException 사용자 ID를 찾을 수 없는 경우
+   * @throws BusinessException 사용자 ID를 찾을 수 없거나 다른 사용자의 이메일로 바꾸려는 경우
    */
   @Transactional
   public UserResponse updateUser(Long userId, UserRequest userRequest){
@@ -81,7 +89,62 @@ public class UserService {
       throw new BusinessException(ErrorCode.USERID_NOT_FOUND);
     }
 
-    return mapper.convertEntityToResponse(findUser.updateUser(userRequest));
+    User updateUser = findUser.updateUser(userRequest);
+    flush(updateUser.getEmail());
+    emailFilter.put(updateUser.getEmail());
+    // 다른 노드의 2차 캐시에 남은 이전 값 삭제 (커밋 후에도 한 번 더 지운다)
+    userCache.invalidate(userId);
+
+    return mapper.convertEntityToResponse(updateUser);
+  }
+
+  /**
+   * 이메일 중복 여부를 확인하는 메서드
+   * 필터가 있을 수 있다고 답한 경우에만 DB 에서 존재 여부를 조회한다.
+   *
+   * @param email 확인할 이메일
+   * @throws BusinessException 이메일이 중복된 경우
+   */
+  private void validateDuplicateEmail(String email){
+    if(!emailFilter.mightContain(email)){
+      return;
+    }
+    if(userRepository.existsByEmail(email)){
+      log.error(ErrorCode.DUPLICATED_USER_EMAIL.getDetail(),email);
+      throw new BusinessException(ErrorCode.DUPLICATED_USER_EMAIL);
+    }
+    emailFilter.recordFalsePositive();
+  }
+
+  /**
+   * 사용자를 저장하고 바로 INSERT 해 이메일 유니크 제약 위반을 중복 이메일 예외로 바꾸는 메서드
+   *
+   * @param user 저장할 사용자
+   * @return 저장된 사용자
+   * @throws BusinessException 이메일이 중복된 경우
+   */
+  private User saveAndFlush(User user){
+    try {
+      return userRepository.saveAndFlush(user);
+    } catch (DataIntegrityViolationException e) {
+      log.error(ErrorCode.DUPLICATED_USER_EMAIL.getDetail(), user.getEmail());
+      throw new BusinessException(ErrorCode.DUPLICATED_USER_EMAIL);
+    }
+  }
+
+  /**
+   * 변경 내용을 바로 반영해 이메일 유니크 제약 위반을 중복 이메일 예외로 바꾸는 메서드
+   *
+   * @param email 변경된 이메일
+   * @throws BusinessException 이메일이 중복된 경우
+   */
+  private void flush(String email){
+    try {
+      userRepository.flush();
+    } catch (DataIntegrityViolationException e) {
+      log.error(ErrorCode.DUPLICATED_USER_EMAIL.getDetail(), email);
+      throw new BusinessException(ErrorCode.DUPLICATED_USER_EMAIL);
+    }
   }
 
 }
@@ -0,0 +1,30 @@
+-- 기존 MySQL 스키마에 시퀀스 ID 를 도입할 때 한 번 실행하는 스크립트
+--
+-- MySQL 에는 시퀀스가 없어 Hibernate 가 *_seq 테이블(next_val 한 행)로 흉내 낸다.
+-- ddl-auto=update 는 이 테이블을 1 부터 시작하도록 만들기 때문에, 이미 데이터가 있으면 첫 INSERT 에서 기본 키가 충돌한다.
+-- 애플리케이션을 한 번 띄워 *_seq 테이블이 만들어진 뒤, 첫 요청을 받기 전에 실행한다.
+--
+-- pooled 옵티마이저는 next_val 을 읽어 (next_val - 49) ~ next_val 구간을 쓰므로 (allocationSize = 50)
+-- 현재 최대 ID 에 allocationSize + 1 을 더해 둔다. 엔티티의 allocationSize 를 바꾸면 이 값도 바꾼다.
+-- 최대 ID 보다 작아지지 않게만 올리므로 여러 번 실행해도 된다.
+
+update users_seq
+set next_val = greatest(next_val, (select coalesce(max(user_id), 0) + 51 from users));
+
+update product_seq
+set next_val = greatest(next_val, (select coalesce(max(product_id), 0) + 51 from product));
+
+update inventory_seq
+set next_val = greatest(next_val, (select coalesce(max(inventory_id), 0) + 51 from inventory));
+
+update orders_seq
+set next_val = greatest(next_val, (select coalesce(max(order_id), 0) + 51 from orders));
+
+update order_product_seq
+set next_val = greatest(next_val, (select coalesce(max(order_product_id), 0) + 51 from order_product));
+
+update payment_seq
+set next_val = greatest(next_val, (select coalesce(max(payment_id), 0) + 51 from payment));
+
+update inventory_reservation_seq
+set next_val = greatest(next_val, (select coalesce(max(reservation_id), 0) + 51 from inventory_reservation));
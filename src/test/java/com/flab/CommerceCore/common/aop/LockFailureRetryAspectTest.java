@@ -0,0 +1,110 @@
+package com.flab.CommerceCore.common.aop;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+@ExtendWith(MockitoExtension.class)
+class LockFailureRetryAspectTest {
+
+  @Mock
+  private ProceedingJoinPoint proceedingJoinPoint;
+
+  private SimpleMeterRegistry meterRegistry;
+
+  private LockFailureRetryAspect aspect;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    // 1, 2번 상품만 상품 ID 로 기록한다
+    aspect = new LockFailureRetryAspect(meterRegistry, 3, 1, 5, 1000, List.of(1L, 2L));
+  }
+
+  @Test
+  @DisplayName("낙관적 락 충돌 시 트랜잭션을 다시 실행하고 상품별 재시도 횟수를 기록")
+  void retryOnOptimisticLockFailure() throws Throwable {
+    // given: 첫 시도는 1번 상품을 건드린 뒤 버전 충돌, 두 번째 시도는 성공
+    when(proceedingJoinPoint.proceed())
+        .thenAnswer(invocation -> {
+          LockRetryContext.touch(1L);
+          throw new ObjectOptimisticLockingFailureException("Inventory", 1L);
+        })
+        .thenAnswer(invocation -> {
+          LockRetryContext.touch(1L);
+          return "Success";
+        });
+
+    // when
+    Object result = aspect.retry(proceedingJoinPoint);
+
+    // then
+    assertEquals("Success", result);
+    verify(proceedingJoinPoint, times(2)).proceed();
+    assertEquals(1.0, meterRegistry.get("inventory.lock.retries").tag("productId", "1").counter().count());
+    assertEquals(1.0, meterRegistry.get("inventory.lock.transactions").tag("productId", "1").counter().count());
+  }
+
+  @Test
+  @DisplayName("재시도 예산을 넘기면 예외를 던지고 상품별 포기 횟수를 기록")
+  void abortWhenRetryBudgetExhausted() throws Throwable {
+    // given
+    when(proceedingJoinPoint.proceed()).thenAnswer(invocation -> {
+      LockRetryContext.touch(2L);
+      throw new ObjectOptimisticLockingFailureException("Inventory", 2L);
+    });
+
+    // when & then
+    assertThrows(ObjectOptimisticLockingFailureException.class, () -> aspect.retry(proceedingJoinPoint));
+    verify(proceedingJoinPoint, times(3)).proceed();
+    assertEquals(2.0, meterRegistry.get("inventory.lock.retries").tag("productId", "2").counter().count());
+    assertEquals(1.0, meterRegistry.get("inventory.lock.aborts").tag("productId", "2").counter().count());
+  }
+
+  @Test
+  @DisplayName("지켜보지 않는 상품은 other 로 묶어 기록")
+  void untaggedProductsShareOtherTag() throws Throwable {
+    // given: 지켜보지 않는 3, 4번 상품을 건드린 트랜잭션
+    when(proceedingJoinPoint.proceed()).thenAnswer(invocation -> {
+      LockRetryContext.touch(3L);
+      LockRetryContext.touch(4L);
+      return "Success";
+    });
+
+    // when
+    aspect.retry(proceedingJoinPoint);
+
+    // then: 상품 ID 태그는 만들지 않고 other 로 한 번만 센다
+    assertEquals(1.0, meterRegistry.get("inventory.lock.transactions").tag("productId", "other").counter().count());
+    assertTrue(meterRegistry.find("inventory.lock.transactions").tag("productId", "3").counters().isEmpty());
+  }
+
+  @Test
+  @DisplayName("락과 무관한 예외로 끝난 트랜잭션도 트랜잭션 수에 포함")
+  void countTransactionFailedWithOtherException() throws Throwable {
+    // given
+    when(proceedingJoinPoint.proceed()).thenAnswer(invocation -> {
+      LockRetryContext.touch(1L);
+      throw new IllegalStateException("재고 부족");
+    });
+
+    // when & then
+    assertThrows(IllegalStateException.class, () -> aspect.retry(proceedingJoinPoint));
+    verify(proceedingJoinPoint, times(1)).proceed();
+    assertEquals(1.0, meterRegistry.get("inventory.lock.transactions").tag("productId", "1").counter().count());
+  }
+}
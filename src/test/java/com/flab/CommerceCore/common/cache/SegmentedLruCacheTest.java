@@ -0,0 +1,95 @@
+package com.flab.CommerceCore.common.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SegmentedLruCacheTest {
+
+  private final AtomicLong clock = new AtomicLong();
+  private final AtomicInteger loads = new AtomicInteger();
+
+  @Test
+  @DisplayName("캐시된 값은 다시 읽지 않고, TTL 이 지나면 다시 읽는다")
+  void hitUntilExpired() {
+    // given
+    SegmentedLruCache<Long, String> cache = new SegmentedLruCache<>(10, 100, clock::get);
+
+    // when
+    cache.get(1L, this::load);
+    cache.get(1L, this::load);
+    clock.addAndGet(100);
+    cache.get(1L, this::load);
+
+    // then
+    assertEquals(2, loads.get());
+    assertEquals(1, cache.getHitCount());
+    assertEquals(2, cache.getMissCount());
+    assertEquals(1, cache.getExpirationCount());
+  }
+
+  @Test
+  @DisplayName("한 번만 조회된 키들이 가득 차도 두 번 이상 조회된 키는 밀려나지 않는다")
+  void scanDoesNotEvictFrequentKey() {
+    // given: 1번 상품을 두 번 조회해 protected 로 올린다
+    SegmentedLruCache<Long, String> cache = new SegmentedLruCache<>(5, 1_000, clock::get);
+    cache.get(1L, this::load);
+    cache.get(1L, this::load);
+
+    // when: 한 번씩만 조회되는 상품 100개
+    for (long productId = 2; productId <= 101; productId++) {
+      cache.get(productId, this::load);
+    }
+    cache.get(1L, this::load);
+
+    // then
+    assertEquals(101, loads.get());
+    assertEquals(5, cache.size());
+    assertEquals(96, cache.getEvictionCount());
+  }
+
+  @Test
+  @DisplayName("무효화한 키는 다시 읽고, 로딩 중에 무효화되면 읽은 값을 저장하지 않는다")
+  void invalidateDuringLoadSkipsStore() {
+    // given
+    SegmentedLruCache<Long, String> cache = new SegmentedLruCache<>(10, 1_000, clock::get);
+    cache.get(1L, this::load);
+
+    // when: 로딩 도중 다른 요청이 같은 상품을 수정한 상황
+    cache.invalidate(1L);
+    cache.get(1L, key -> {
+      cache.invalidate(key);
+      return load(key);
+    });
+    cache.get(1L, this::load);
+
+    // then
+    assertEquals(3, loads.get());
+    assertEquals(1, cache.size());
+  }
+
+  @Test
+  @DisplayName("로딩이 실패하면 아무것도 저장하지 않는다")
+  void failedLoadIsNotCached() {
+    // given
+    SegmentedLruCache<Long, String> cache = new SegmentedLruCache<>(10, 1_000, clock::get);
+
+    // when
+    assertThrows(IllegalStateException.class, () -> cache.get(1L, key -> {
+      throw new IllegalStateException();
+    }));
+
+    // then
+    assertEquals(0, cache.size());
+    assertEquals("product-1", cache.get(1L, this::load));
+  }
+
+  private String load(Long key) {
+    loads.incrementAndGet();
+    return "product-" + key;
+  }
+}
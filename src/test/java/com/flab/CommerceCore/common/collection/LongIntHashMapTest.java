@@ -0,0 +1,56 @@
+package com.flab.CommerceCore.common.collection;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LongIntHashMapTest {
+
+  @Test
+  @DisplayName("저장한 값을 조회하고, 같은 키는 덮어쓰며, 없는 키는 기본값을 반환")
+  void putAndGet() {
+    // given
+    LongIntHashMap map = new LongIntHashMap();
+
+    // when
+    map.put(1L, 10);
+    map.put(0L, 5);
+    map.put(-7L, 3);
+    map.put(1L, 11);
+
+    // then
+    assertEquals(3, map.size());
+    assertEquals(11, map.getOrDefault(1L, -1));
+    assertEquals(5, map.getOrDefault(0L, -1));
+    assertEquals(3, map.getOrDefault(-7L, -1));
+    assertEquals(-1, map.getOrDefault(2L, -1));
+    assertTrue(map.containsKey(0L));
+    assertFalse(map.containsKey(2L));
+  }
+
+  @Test
+  @DisplayName("용량을 넘겨 재해싱되어도 HashMap 과 같은 내용을 유지")
+  void rehashKeepsEntries() {
+    // given: 예상 크기보다 훨씬 많은 무작위 키
+    LongIntHashMap map = new LongIntHashMap(4);
+    Map<Long, Integer> expected = new HashMap<>();
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+
+    // when
+    for (int i = 0; i < 10_000; i++) {
+      long key = random.nextLong(20_000);
+      map.put(key, i);
+      expected.put(key, i);
+    }
+
+    // then
+    assertEquals(expected.size(), map.size());
+    expected.forEach((key, value) -> assertEquals(value, map.getOrDefault(key, -1)));
+  }
+}
@@ -0,0 +1,57 @@
+package com.flab.CommerceCore.common.collection;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LongObjectHashMapTest {
+
+  @Test
+  @DisplayName("저장한 값을 조회하고, 같은 키는 덮어쓰며, 없는 키는 null 을 반환")
+  void putAndGet() {
+    // given
+    LongObjectHashMap<String> map = new LongObjectHashMap<>();
+
+    // when
+    map.put(1L, "a");
+    map.put(0L, "zero");
+    map.put(1L, "b");
+
+    // then
+    assertEquals(2, map.size());
+    assertEquals("b", map.get(1L));
+    assertEquals("zero", map.get(0L));
+    assertNull(map.get(2L));
+    assertTrue(map.containsKey(0L));
+    assertFalse(map.containsKey(2L));
+    assertThrows(IllegalArgumentException.class, () -> map.put(3L, null));
+  }
+
+  @Test
+  @DisplayName("용량을 넘겨 재해싱되어도 HashMap 과 같은 내용을 유지")
+  void rehashKeepsEntries() {
+    // given: 예상 크기보다 훨씬 많은 무작위 키
+    LongObjectHashMap<Integer> map = new LongObjectHashMap<>(4);
+    Map<Long, Integer> expected = new HashMap<>();
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+
+    // when
+    for (int i = 0; i < 10_000; i++) {
+      long key = random.nextLong(20_000);
+      map.put(key, i);
+      expected.put(key, i);
+    }
+
+    // then
+    assertEquals(expected.size(), map.size());
+    expected.forEach((key, value) -> assertEquals(value, map.get(key)));
+  }
+}
@@ -0,0 +1,75 @@
+package com.flab.CommerceCore.common.collection;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ScalableBloomFilterTest {
+
+  @Test
+  @DisplayName("넣은 키는 용량을 넘겨도 항상 있을 수 있다고 답한다")
+  void noFalseNegativeAfterGrowth() {
+    // given
+    ScalableBloomFilter filter = new ScalableBloomFilter(1_000, 0.01);
+
+    // when: 첫 단계 용량의 20배를 넣는다
+    for (int i = 0; i < 20_000; i++) {
+      filter.put("user" + i + "@test.com");
+    }
+
+    // then
+    for (int i = 0; i < 20_000; i++) {
+      assertTrue(filter.mightContain("user" + i + "@test.com"));
+    }
+    assertTrue(filter.getStageCount() > 1);
+  }
+
+  @Test
+  @DisplayName("용량을 넘겨 단계가 늘어나도 오탐률은 목표 근처에 머문다")
+  void falsePositiveRateStaysNearTarget() {
+    // given
+    ScalableBloomFilter filter = new ScalableBloomFilter(1_000, 0.01);
+    for (int i = 0; i < 10_000; i++) {
+      filter.put("product-" + i);
+    }
+
+    // when: 넣지 않은 키로 조회한다
+    int falsePositives = 0;
+    int probes = 100_000;
+    for (int i = 0; i < probes; i++) {
+      if (filter.mightContain("absent-" + i)) {
+        falsePositives++;
+      }
+    }
+
+    // then
+    double rate = (double) falsePositives / probes;
+    assertTrue(rate < 0.02, "오탐률: " + rate);
+  }
+
+  @Test
+  @DisplayName("이미 있는 키를 다시 넣으면 개수가 늘지 않는다")
+  void duplicatePutIsIgnored() {
+    // given
+    ScalableBloomFilter filter = new ScalableBloomFilter(100, 0.01);
+
+    // when
+    filter.put("same");
+    filter.put("same");
+
+    // then
+    assertEquals(1, filter.approximateSize());
+    assertFalse(filter.mightContain("other"));
+  }
+
+  @Test
+  @DisplayName("용량이나 오탐률이 범위를 벗어나면 예외가 발생한다")
+  void invalidArguments() {
+    assertThrows(IllegalArgumentException.class, () -> new ScalableBloomFilter(0, 0.01));
+    assertThrows(IllegalArgumentException.class, () -> new ScalableBloomFilter(100, 1));
+  }
+}
@@ -0,0 +1,68 @@
+package com.flab.CommerceCore.common.pagination;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.flab.CommerceCore.common.exceptions.BusinessException;
+import com.flab.CommerceCore.common.exceptions.ErrorCode;
+import java.util.List;
+import java.util.function.Function;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CursorPaginationTest {
+
+  private final CursorPagination cursorPagination = new CursorPagination(10, 100);
+
+  @Test
+  @DisplayName("커서는 기본 키로 복원되고, 커서가 없으면 첫 페이지(0)로 본다")
+  void encodeAndDecode() {
+    // when
+    String cursor = cursorPagination.encode(123_456_789L);
+
+    // then
+    assertEquals(123_456_789L, cursorPagination.decode(cursor));
+    assertEquals(0L, cursorPagination.decode(null));
+    assertEquals(0L, cursorPagination.decode(""));
+  }
+
+  @Test
+  @DisplayName("형식이 올바르지 않은 커서는 INVALID_CURSOR 예외")
+  void decodeInvalidCursor() {
+    // when
+    BusinessException notBase64 = assertThrows(BusinessException.class, () -> cursorPagination.decode("!!"));
+    BusinessException wrongLength = assertThrows(BusinessException.class, () -> cursorPagination.decode("AAAA"));
+
+    // then
+    assertEquals(ErrorCode.INVALID_CURSOR, notBase64.getErrorCode());
+    assertEquals(ErrorCode.INVALID_CURSOR, wrongLength.getErrorCode());
+  }
+
+  @Test
+  @DisplayName("페이지 크기는 없으면 기본값, 최대값을 넘으면 최대값으로 제한")
+  void resolveLimit() {
+    assertEquals(10, cursorPagination.resolveLimit(null));
+    assertEquals(10, cursorPagination.resolveLimit(0));
+    assertEquals(30, cursorPagination.resolveLimit(30));
+    assertEquals(100, cursorPagination.resolveLimit(10_000));
+  }
+
+  @Test
+  @DisplayName("limit + 1 개를 읽었으면 마지막 행을 잘라내고 다음 커서를 만든다")
+  void toPage() {
+    // when
+    CursorPage<Long> page = cursorPagination.toPage(List.of(1L, 2L, 3L), 2, Long::longValue, Function.identity());
+    CursorPage<Long> lastPage = cursorPagination.toPage(List.of(3L), 2, Long::longValue, Function.identity());
+
+    // then
+    assertEquals(List.of(1L, 2L), page.getContent());
+    assertTrue(page.isHasNext());
+    assertEquals(2L, cursorPagination.decode(page.getNextCursor()));
+    assertEquals(List.of(3L), lastPage.getContent());
+    assertFalse(lastPage.isHasNext());
+    assertNull(lastPage.getNextCursor());
+  }
+}
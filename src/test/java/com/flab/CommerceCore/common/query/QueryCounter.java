@@ -0,0 +1,47 @@
+package com.flab.CommerceCore.common.query;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.function.Supplier;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * 테스트에서 Hibernate 가 실행하는 SQL 수를 스레드별로 세는 StatementInspector
+ * application-test.properties 의 hibernate.session_factory.statement_inspector 로 등록한다.
+ * 스레드별로 세므로 스케줄러 등 다른 스레드의 쿼리는 집계되지 않는다. (JdbcTemplate 쿼리는 대상 아님)
+ */
+public class QueryCounter implements StatementInspector {
+
+  private static final ThreadLocal<long[]> COUNT = ThreadLocal.withInitial(() -> new long[1]);
+
+  @Override
+  public String inspect(String sql) {
+    COUNT.get()[0]++;
+    return sql;
+  }
+
+  /**
+   * action 을 실행하고, 실행 중 나간 쿼리 수가 budget 을 넘으면 실패시키는 메서드
+   *
+   * @param budget 허용하는 최대 쿼리 수
+   * @param action 측정할 동작
+   * @return action 의 결과
+   */
+  public static <T> T assertQueryBudget(int budget, Supplier<T> action) {
+    long before = COUNT.get()[0];
+    T result = action.get();
+    long executed = COUNT.get()[0] - before;
+    assertTrue(executed <= budget,
+        "쿼리 예산 초과: 허용 " + budget + "회, 실행 " + executed + "회");
+    return result;
+  }
+
+  /**
+   * action 을 실행하는 동안 나간 쿼리 수를 반환하는 메서드
+   */
+  public static long countQueries(Runnable action) {
+    long before = COUNT.get()[0];
+    action.run();
+    return COUNT.get()[0] - before;
+  }
+}
@@ -0,0 +1,78 @@
+package com.flab.CommerceCore.common.timer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class HashedWheelTimerTest {
+
+  private HashedWheelTimer timer;
+
+  @AfterEach
+  void tearDown() {
+    if (timer != null) {
+      timer.stop();
+    }
+  }
+
+  @Test
+  @DisplayName("등록한 타임아웃은 휠을 여러 바퀴 돈 뒤에도 모두 만료된다")
+  void expireAllTimeouts() throws InterruptedException {
+    // given: 버킷 8개, tick 5ms 인 휠 (한 바퀴 40ms)
+    timer = new HashedWheelTimer("test-timer", 5, TimeUnit.MILLISECONDS, 8, 100_000);
+    int count = 10_000;
+    CountDownLatch latch = new CountDownLatch(count);
+
+    // when
+    for (int i = 0; i < count; i++) {
+      timer.newTimeout(latch::countDown, i % 200, TimeUnit.MILLISECONDS);
+    }
+
+    // then
+    assertTrue(latch.await(5, TimeUnit.SECONDS));
+    assertEquals(0, timer.pendingTimeouts());
+  }
+
+  @Test
+  @DisplayName("취소한 타임아웃은 실행되지 않는다")
+  void cancelledTimeoutNotExecuted() throws InterruptedException {
+    // given
+    timer = new HashedWheelTimer("test-timer", 5, TimeUnit.MILLISECONDS, 8, 100);
+    AtomicInteger executed = new AtomicInteger();
+    CountDownLatch latch = new CountDownLatch(1);
+
+    // when
+    HashedWheelTimer.Timeout cancelled = timer.newTimeout(executed::incrementAndGet, 20, TimeUnit.MILLISECONDS);
+    assertTrue(cancelled.cancel());
+    timer.newTimeout(latch::countDown, 50, TimeUnit.MILLISECONDS);
+
+    // then
+    assertTrue(latch.await(2, TimeUnit.SECONDS));
+    assertEquals(0, executed.get());
+    assertTrue(cancelled.isCancelled());
+    assertFalse(cancelled.isExpired());
+  }
+
+  @Test
+  @DisplayName("대기 중인 타임아웃이 최대치를 넘으면 등록을 거절한다")
+  void rejectWhenPendingLimitExceeded() {
+    // given
+    timer = new HashedWheelTimer("test-timer", 100, TimeUnit.MILLISECONDS, 8, 2);
+    timer.newTimeout(() -> { }, 10, TimeUnit.SECONDS);
+    timer.newTimeout(() -> { }, 10, TimeUnit.SECONDS);
+
+    // when & then
+    assertThrows(RejectedExecutionException.class,
+        () -> timer.newTimeout(() -> { }, 10, TimeUnit.SECONDS));
+    assertEquals(2, timer.pendingTimeouts());
+  }
+}
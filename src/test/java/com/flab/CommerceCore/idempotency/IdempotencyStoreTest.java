@@ -0,0 +1,169 @@
+package com.flab.CommerceCore.idempotency;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.flab.CommerceCore.common.enums.Status;
+import com.flab.CommerceCore.common.exceptions.BusinessException;
+import com.flab.CommerceCore.common.exceptions.ErrorCode;
+import com.flab.CommerceCore.order.domain.dto.OrderProductRequest;
+import com.flab.CommerceCore.order.domain.dto.OrderRequest;
+import com.flab.CommerceCore.order.domain.dto.OrderResponse;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyStoreTest {
+
+  @Mock
+  JdbcTemplate jdbcTemplate;
+
+  IdempotencyStore idempotencyStore;
+
+  private final AtomicInteger executions = new AtomicInteger();
+
+  @BeforeEach
+  void setUp() {
+    idempotencyStore = new IdempotencyStore(jdbcTemplate, 60, 100, 5_000, 10_000, 10);
+  }
+
+  @Test
+  @DisplayName("같은 키로 재시도하면 서비스를 다시 호출하지 않고 첫 응답을 돌려준다")
+  void retryReturnsStoredResponse() {
+    // given
+    OrderRequest request = createRequest(1L);
+    OrderResponse first = idempotencyStore.execute("ORDER", "key-1", request, OrderResponse.class,
+        () -> createResponse(10L));
+
+    // when
+    OrderResponse retried = idempotencyStore.execute("ORDER", "key-1", request, OrderResponse.class,
+        () -> createResponse(11L));
+
+    // then
+    assertEquals(1, executions.get());
+    assertEquals(first.getOrderId(), retried.getOrderId());
+    assertEquals(0, first.getTotalAmount().compareTo(retried.getTotalAmount()));
+  }
+
+  @Test
+  @DisplayName("같은 키로 다른 요청 본문을 보내면 예외가 발생한다")
+  void reusedKeyWithDifferentRequest() {
+    // given
+    idempotencyStore.execute("ORDER", "key-1", createRequest(1L), OrderResponse.class, () -> createResponse(10L));
+
+    // when
+    BusinessException exception = assertThrows(BusinessException.class,
+        () -> idempotencyStore.execute("ORDER", "key-1", createRequest(2L), OrderResponse.class,
+            () -> createResponse(11L)));
+
+    // then
+    assertEquals(ErrorCode.IDEMPOTENCY_KEY_REUSED, exception.getErrorCode());
+    assertEquals(1, executions.get());
+  }
+
+  @Test
+  @DisplayName("같은 키의 요청이 동시에 들어오면 첫 요청만 실행하고 나머지는 그 결과를 받는다")
+  void concurrentDuplicatesWaitForFirst() throws InterruptedException, ExecutionException {
+    // given: 첫 실행이 끝나지 않도록 막아 둔다
+    CountDownLatch release = new CountDownLatch(1);
+    OrderRequest request = createRequest(1L);
+    ExecutorService executorService = Executors.newFixedThreadPool(8);
+
+    // when
+    List<Future<OrderResponse>> futures = new ArrayList<>();
+    for (int i = 0; i < 8; i++) {
+      long orderId = 100L + i;
+      futures.add(executorService.submit(() -> idempotencyStore.execute("ORDER", "key-1", request,
+          OrderResponse.class, () -> {
+            await(release);
+            return createResponse(orderId);
+          })));
+    }
+    Thread.sleep(100);
+    release.countDown();
+
+    // then
+    Long orderId = futures.get(0).get().getOrderId();
+    for (Future<OrderResponse> future : futures) {
+      assertEquals(orderId, future.get().getOrderId());
+    }
+    assertEquals(1, executions.get());
+    executorService.shutdown();
+  }
+
+  @Test
+  @DisplayName("실패한 요청은 저장하지 않아 같은 키로 다시 실행할 수 있다")
+  void failedRequestIsNotStored() {
+    // given
+    OrderRequest request = createRequest(1L);
+    assertThrows(BusinessException.class, () -> idempotencyStore.execute("ORDER", "key-1", request,
+        OrderResponse.class, () -> {
+          throw BusinessException.create(ErrorCode.INSUFFICIENT_INVENTORY);
+        }));
+
+    // when
+    OrderResponse response = idempotencyStore.execute("ORDER", "key-1", request, OrderResponse.class,
+        () -> createResponse(10L));
+
+    // then
+    assertEquals(10L, response.getOrderId());
+  }
+
+  @Test
+  @DisplayName("키가 비어 있거나 너무 길면 예외가 발생한다")
+  void invalidKey() {
+    // when
+    BusinessException blank = assertThrows(BusinessException.class,
+        () -> idempotencyStore.execute("ORDER", " ", createRequest(1L), OrderResponse.class,
+            () -> createResponse(10L)));
+    BusinessException tooLong = assertThrows(BusinessException.class,
+        () -> idempotencyStore.execute("ORDER", "k".repeat(101), createRequest(1L), OrderResponse.class,
+            () -> createResponse(10L)));
+
+    // then
+    assertEquals(ErrorCode.INVALID_IDEMPOTENCY_KEY, blank.getErrorCode());
+    assertEquals(ErrorCode.INVALID_IDEMPOTENCY_KEY, tooLong.getErrorCode());
+    assertEquals(0, executions.get());
+  }
+
+  private OrderRequest createRequest(Long productId) {
+    return OrderRequest.builder()
+        .userId(1L)
+        .orderProductRequests(List.of(OrderProductRequest.builder().productId(productId).quantity(1).build()))
+        .build();
+  }
+
+  private OrderResponse createResponse(Long orderId) {
+    executions.incrementAndGet();
+    return OrderResponse.builder()
+        .orderId(orderId)
+        .userId(1L)
+        .status(Status.COMPLETED)
+        .totalAmount(new BigDecimal("1000.00"))
+        .orderProductResponses(List.of())
+        .build();
+  }
+
+  private void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,158 @@
+package com.flab.CommerceCore.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.flab.CommerceCore.CommerceCoreApplication;
+import com.flab.CommerceCore.product.domain.dto.ProductRequest;
+import com.flab.CommerceCore.product.domain.dto.ProductResponse;
+import com.flab.CommerceCore.product.service.ProductService;
+import com.flab.CommerceCore.user.domain.dto.UserRequest;
+import com.flab.CommerceCore.user.domain.dto.UserResponse;
+import com.flab.CommerceCore.user.repository.UserRepository;
+import com.flab.CommerceCore.user.service.UserService;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * 한 JVM 에서 같은 H2 DB 를 바라보는 애플리케이션 컨텍스트 여러 개를 노드로 띄워 캐시 무효화 전파를 확인한다.
+ */
+class CacheInvalidationMultiNodeTest {
+
+  private static final Logger log = LoggerFactory.getLogger(CacheInvalidationMultiNodeTest.class);
+
+  private static final int NODES = 3;
+  private static final long POLL_INTERVAL_MILLIS = 200;
+
+  private static final List<ConfigurableApplicationContext> nodes = new ArrayList<>();
+
+  @BeforeAll
+  static void startNodes() {
+    String database = "jdbc:h2:mem:multi-node-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000";
+    for (int i = 0; i < NODES; i++) {
+      nodes.add(new SpringApplicationBuilder(CommerceCoreApplication.class)
+          .web(WebApplicationType.NONE)
+          .profiles("test")
+          .properties(
+              "spring.datasource.url=" + database,
+              "spring.jmx.enabled=false",
+              "inventory.counter.journal-dir=build/multi-node/node-" + i + "/inventory-journal",
+              "cache.invalidation.poll-interval-ms=" + POLL_INTERVAL_MILLIS)
+          .run());
+    }
+  }
+
+  @AfterAll
+  static void stopNodes() {
+    nodes.forEach(ConfigurableApplicationContext::close);
+  }
+
+  @Test
+  @DisplayName("한 노드에서 상품을 수정하면 다른 노드의 캐시도 폴링 간격 안에 지워진다")
+  void updateOnOneNodeEvictsOtherNodes() throws InterruptedException {
+    // given: 모든 노드가 상품을 캐시해 둔 상태
+    ProductService writer = productService(0);
+    ProductResponse created = writer.createProduct(createRequest("before-" + UUID.randomUUID()));
+    for (int i = 0; i < NODES; i++) {
+      productService(i).findProductById(created.getProductId());
+    }
+
+    // when
+    String updatedName = "after-" + UUID.randomUUID();
+    long startNanos = System.nanoTime();
+    writer.updateProduct(created.getProductId(), createRequest(updatedName));
+
+    // then: 수정한 노드는 바로, 나머지 노드는 폴링 간격 안에 새 상품명을 읽는다
+    assertEquals(updatedName, writer.findProductById(created.getProductId()).getProductName());
+    for (int i = 1; i < NODES; i++) {
+      long delayMillis = awaitProductName(productService(i), created.getProductId(), updatedName, startNanos);
+      log.info("node-{} 캐시 무효화 지연: {}ms", i, delayMillis);
+      assertTrue(delayMillis < POLL_INTERVAL_MILLIS * 5, "무효화가 너무 늦게 전파되었다: " + delayMillis + "ms");
+    }
+  }
+
+  @Test
+  @DisplayName("한 노드에서 유저를 수정하면 다른 노드의 2차 캐시도 폴링 간격 안에 지워진다")
+  void updateUserOnOneNodeEvictsOtherNodes() throws InterruptedException {
+    // given: 모든 노드가 유저를 2차 캐시에 올려 둔 상태
+    UserService writer = nodes.get(0).getBean(UserService.class);
+    UserResponse created = writer.createUser(createUserRequest("before"));
+    for (int i = 0; i < NODES; i++) {
+      userRepository(i).findById(created.getUserId());
+    }
+
+    // when
+    UserRequest updateRequest = createUserRequest("after");
+    long startNanos = System.nanoTime();
+    writer.updateUser(created.getUserId(), updateRequest);
+
+    // then
+    for (int i = 1; i < NODES; i++) {
+      long delayMillis = awaitUserName(userRepository(i), created.getUserId(), "after", startNanos);
+      log.info("node-{} 유저 2차 캐시 무효화 지연: {}ms", i, delayMillis);
+      assertTrue(delayMillis < POLL_INTERVAL_MILLIS * 5, "무효화가 너무 늦게 전파되었다: " + delayMillis + "ms");
+    }
+  }
+
+  private long awaitUserName(UserRepository userRepository, Long userId, String name, long startNanos)
+      throws InterruptedException {
+    long deadline = startNanos + 10_000_000_000L;
+    while (System.nanoTime() < deadline) {
+      if (name.equals(userRepository.findById(userId).orElseThrow().getName())) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+      }
+      Thread.sleep(10);
+    }
+    return Long.MAX_VALUE;
+  }
+
+  private long awaitProductName(ProductService productService, Long productId, String productName, long startNanos)
+      throws InterruptedException {
+    long deadline = startNanos + 10_000_000_000L;
+    while (System.nanoTime() < deadline) {
+      if (productName.equals(productService.findProductById(productId).getProductName())) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+      }
+      Thread.sleep(10);
+    }
+    return Long.MAX_VALUE;
+  }
+
+  private ProductService productService(int node) {
+    return nodes.get(node).getBean(ProductService.class);
+  }
+
+  private UserRepository userRepository(int node) {
+    return nodes.get(node).getBean(UserRepository.class);
+  }
+
+  private UserRequest createUserRequest(String name) {
+    return UserRequest.builder()
+        .name(name)
+        .email("multi-node-" + UUID.randomUUID() + "@gmail.com")
+        .password("1234")
+        .phoneNum("123456789")
+        .address("main street")
+        .build();
+  }
+
+  private ProductRequest createRequest(String productName) {
+    return ProductRequest.builder()
+        .productName(productName)
+        .description("multi-node")
+        .price(new BigDecimal(1000))
+        .quantity(10)
+        .build();
+  }
+}
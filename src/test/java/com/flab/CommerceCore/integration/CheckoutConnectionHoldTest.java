@@ -0,0 +1,332 @@
+package com.flab.CommerceCore.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+
+import com.flab.CommerceCore.common.enums.Status;
+import com.flab.CommerceCore.common.exceptions.BusinessException;
+import com.flab.CommerceCore.common.exceptions.ErrorCode;
+import com.flab.CommerceCore.inventory.domain.entity.Inventory;
+import com.flab.CommerceCore.inventory.repository.InventoryRepository;
+import com.flab.CommerceCore.inventory.service.InventoryReservationService;
+import com.flab.CommerceCore.order.domain.dto.OrderProductRequest;
+import com.flab.CommerceCore.order.domain.dto.OrderRequest;
+import com.flab.CommerceCore.order.domain.dto.OrderResponse;
+import com.flab.CommerceCore.order.service.OrderService;
+import com.flab.CommerceCore.payment.gateway.PaymentGateway;
+import com.flab.CommerceCore.payment.gateway.PaymentGatewayResult;
+import com.flab.CommerceCore.payment.service.PaymentService;
+import com.flab.CommerceCore.product.domain.entity.Product;
+import com.flab.CommerceCore.product.repository.ProductRepository;
+import com.flab.CommerceCore.user.domain.entity.User;
+import com.flab.CommerceCore.user.repository.UserRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest(properties = {
+    "spring.datasource.hikari.maximum-pool-size=" + CheckoutConnectionHoldTest.POOL_SIZE,
+    "payment.gateway.stub.latency-ms=" + CheckoutConnectionHoldTest.PAYMENT_LATENCY_MILLIS})
+@ActiveProfiles("test")
+class CheckoutConnectionHoldTest {
+
+  private static final Logger log = LoggerFactory.getLogger(CheckoutConnectionHoldTest.class);
+
+  static final int POOL_SIZE = 4;
+  static final long PAYMENT_LATENCY_MILLIS = 200;
+  private static final int CONCURRENT_ORDERS = 16;
+
+  @Autowired
+  private OrderService orderService;
+
+  @SpyBean
+  private PaymentGateway paymentGateway;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private ProductRepository productRepository;
+
+  @Autowired
+  private InventoryRepository inventoryRepository;
+
+  @Autowired
+  private InventoryReservationService reservationService;
+
+  @Autowired
+  private PaymentService paymentService;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private DataSource dataSource;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @Test
+  @DisplayName("결제를 트랜잭션 밖에서 호출하면 PG 지연이 커넥션 풀 대기로 번지지 않는다 (벤치마크)")
+  void paymentLatencyDoesNotHoldConnections() throws InterruptedException {
+    // given
+    User user = saveUser();
+    Product product = saveProductWithStock(1_000);
+    OrderRequest orderRequest = createOrderRequest(user, product);
+    HikariPoolMXBean pool = dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+
+    // when: 분리 전처럼 트랜잭션 안에서 PG 를 호출하는 경우와, 분리된 주문 생성을 같은 동시성으로 실행
+    TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+    AtomicInteger completed = new AtomicInteger();
+    long holdingMillis = runConcurrently(() -> transactionTemplate.executeWithoutResult(status -> {
+      jdbcTemplate.queryForObject("select 1", Integer.class);
+      paymentGateway.approve(UUID.randomUUID().toString(), new BigDecimal(1000));
+    }));
+    int[] peakActive = new int[1];
+    long splitMillis = runConcurrently(() -> {
+      OrderResponse orderResponse = orderService.createOrder(orderRequest);
+      peakActive[0] = Math.max(peakActive[0], pool.getActiveConnections());
+      if (orderResponse.getStatus() == Status.COMPLETED) {
+        completed.incrementAndGet();
+      }
+    });
+
+    // then: 커넥션을 쥔 채 결제하면 (주문 수 / 풀 크기) 번의 PG 지연이 직렬로 쌓인다
+    long serializedMillis = CONCURRENT_ORDERS / POOL_SIZE * PAYMENT_LATENCY_MILLIS;
+    log.info("PG 지연 {}ms, 풀 {}개, 동시 주문 {}건 - 트랜잭션 안에서 결제: {}ms, 분리 후 주문 생성: {}ms (최대 활성 커넥션 {})",
+        PAYMENT_LATENCY_MILLIS, POOL_SIZE, CONCURRENT_ORDERS, holdingMillis, splitMillis, peakActive[0]);
+    assertEquals(CONCURRENT_ORDERS, completed.get());
+    assertTrue(holdingMillis >= serializedMillis);
+    assertTrue(splitMillis < serializedMillis,
+        "결제 지연이 커넥션 풀 크기에 묶이지 않아야 한다: " + splitMillis + "ms");
+    assertEquals(CONCURRENT_ORDERS, jdbcTemplate.queryForObject(
+        "select count(*) from inventory_reservation r join orders o on r.order_id = o.order_id "
+            + "where o.user_id = ? and r.status = 'CONFIRMED'", Integer.class, user.getUserId()));
+  }
+
+  @Test
+  @DisplayName("결제가 거절되면 보상 트랜잭션이 예약을 해제해 재고를 되돌리고 주문은 FAILED 로 남는다")
+  void paymentDeclinedReleasesReservation() {
+    // given
+    User user = saveUser();
+    Product product = saveProductWithStock(10);
+    doReturn(PaymentGatewayResult.declined()).when(paymentGateway).approve(any(), any());
+
+    // when
+    BusinessException exception = assertThrows(BusinessException.class,
+        () -> orderService.createOrder(createOrderRequest(user, product)));
+
+    // then
+    assertEquals(ErrorCode.PAYMENT_FAILED, exception.getErrorCode());
+    assertEquals(10, inventoryRepository.findByProductId(product.getProductId()).getQuantity());
+    assertEquals(Status.FAILED.name(), jdbcTemplate.queryForObject(
+        "select status from orders where user_id = ?", String.class, user.getUserId()));
+    assertEquals("RELEASED", jdbcTemplate.queryForObject(
+        "select r.status from inventory_reservation r join orders o on r.order_id = o.order_id "
+            + "where o.user_id = ?", String.class, user.getUserId()));
+  }
+
+  @Test
+  @DisplayName("PG 장애로 결제 결과를 알 수 없으면 주문을 결제 대기로 저장하고 예약은 확정하지 않는다")
+  void paymentErrorLeavesOrderPending() {
+    // given
+    User user = saveUser();
+    Product product = saveProductWithStock(10);
+    doThrow(new IllegalStateException("PG 장애")).when(paymentGateway).approve(any(), any());
+
+    // when
+    OrderResponse orderResponse = orderService.createOrder(createOrderRequest(user, product));
+
+    // then
+    assertEquals(Status.PENDING, orderResponse.getStatus());
+    assertEquals(9, inventoryRepository.findByProductId(product.getProductId()).getQuantity());
+    assertEquals(Status.PENDING.name(), jdbcTemplate.queryForObject(
+        "select status from orders where order_id = ?", String.class, orderResponse.getOrderId()));
+    assertEquals("RESERVED", jdbcTemplate.queryForObject(
+        "select status from inventory_reservation where order_id = ?", String.class, orderResponse.getOrderId()));
+  }
+
+  @Test
+  @DisplayName("결제 대기 주문의 예약이 만료되면 주문을 FAILED 로 바꾸고 결제는 환불 대사로 취소한다")
+  void expiredPendingOrderFails() {
+    // given
+    User user = saveUser();
+    Product product = saveProductWithStock(10);
+    doThrow(new IllegalStateException("PG 장애")).when(paymentGateway).approve(any(), any());
+    OrderResponse orderResponse = orderService.createOrder(createOrderRequest(user, product));
+    reservationService.expire(jdbcTemplate.queryForObject(
+        "select reservation_id from inventory_reservation where order_id = ?", Long.class, orderResponse.getOrderId()));
+
+    // when
+    orderService.failExpiredPendingOrders();
+    paymentService.retryRefunds();
+
+    // then
+    assertEquals(10, inventoryRepository.findByProductId(product.getProductId()).getQuantity());
+    assertEquals(Status.FAILED.name(), jdbcTemplate.queryForObject(
+        "select status from orders where order_id = ?", String.class, orderResponse.getOrderId()));
+    assertEquals(Status.CANCEL.name(), jdbcTemplate.queryForObject(
+        "select p.status from payment p join orders o on o.payment_id = p.payment_id "
+            + "where o.order_id = ?", String.class, orderResponse.getOrderId()));
+  }
+
+  @Test
+  @DisplayName("결제 대기 주문을 취소하면 예약을 해제하고 결제는 환불 대사로 취소한다")
+  void cancelPendingOrderRefundsPayment() {
+    // given
+    User user = saveUser();
+    Product product = saveProductWithStock(10);
+    doThrow(new IllegalStateException("PG 장애")).when(paymentGateway).approve(any(), any());
+    OrderResponse orderResponse = orderService.createOrder(createOrderRequest(user, product));
+
+    // when
+    orderService.cancelOrder(orderResponse.getOrderId());
+    String paymentStatus = findPaymentStatus(orderResponse.getOrderId());
+    paymentService.retryRefunds();
+
+    // then
+    assertEquals(Status.REFUND_REQUIRED.name(), paymentStatus);
+    assertEquals(Status.CANCEL.name(), findPaymentStatus(orderResponse.getOrderId()));
+    assertEquals(10, inventoryRepository.findByProductId(product.getProductId()).getQuantity());
+    assertEquals(Status.CANCEL.name(), jdbcTemplate.queryForObject(
+        "select status from orders where order_id = ?", String.class, orderResponse.getOrderId()));
+    assertEquals("RELEASED", jdbcTemplate.queryForObject(
+        "select status from inventory_reservation where order_id = ?", String.class, orderResponse.getOrderId()));
+  }
+
+  @Test
+  @DisplayName("실패한 주문은 취소할 수 없다")
+  void cancelFailedOrderIsRejected() {
+    // given
+    User user = saveUser();
+    Product product = saveProductWithStock(10);
+    doReturn(PaymentGatewayResult.declined()).when(paymentGateway).approve(any(), any());
+    assertThrows(BusinessException.class, () -> orderService.createOrder(createOrderRequest(user, product)));
+    Long orderId = jdbcTemplate.queryForObject("select order_id from orders where user_id = ?", Long.class,
+        user.getUserId());
+
+    // when
+    BusinessException exception = assertThrows(BusinessException.class, () -> orderService.cancelOrder(orderId));
+
+    // then
+    assertEquals(ErrorCode.ORDER_NOT_CANCELABLE, exception.getErrorCode());
+    assertEquals(0, jdbcTemplate.queryForObject(
+        "select count(*) from outbox_event where aggregate_type = 'ORDER' and aggregate_id = ? "
+            + "and event_type = 'ORDER_CANCELLED'",
+        Integer.class, orderId));
+  }
+
+  @Test
+  @DisplayName("결제 승인 후 예약이 만료되어 확정하지 못하면 결제를 취소하고 주문을 FAILED 로 바꾼다")
+  void confirmFailureCancelsApprovedPayment() {
+    // given: PG 응답을 기다리는 동안 만료 타이머가 예약을 만료시킨 상황
+    User user = saveUser();
+    Product product = saveProductWithStock(10);
+    doAnswer(invocation -> {
+      reservationService.expire(jdbcTemplate.queryForObject(
+          "select r.reservation_id from inventory_reservation r join orders o on r.order_id = o.order_id "
+              + "where o.user_id = ?", Long.class, user.getUserId()));
+      return PaymentGatewayResult.approved("pg-tx-1");
+    }).when(paymentGateway).approve(any(), any());
+
+    // when
+    BusinessException exception = assertThrows(BusinessException.class,
+        () -> orderService.createOrder(createOrderRequest(user, product)));
+
+    // then: 승인 기록은 남아 취소되고, 재고는 만료로 한 번만 돌아온다
+    assertEquals(ErrorCode.ORDER_CONFIRM_FAILED, exception.getErrorCode());
+    assertEquals(10, inventoryRepository.findByProductId(product.getProductId()).getQuantity());
+    assertEquals(Status.FAILED.name(), jdbcTemplate.queryForObject(
+        "select status from orders where user_id = ?", String.class, user.getUserId()));
+    assertEquals(Status.CANCEL.name(), jdbcTemplate.queryForObject(
+        "select p.status from payment p join orders o on o.payment_id = p.payment_id "
+            + "where o.user_id = ?", String.class, user.getUserId()));
+    assertEquals("pg-tx-1", jdbcTemplate.queryForObject(
+        "select p.transaction_id from payment p join orders o on o.payment_id = p.payment_id "
+            + "where o.user_id = ?", String.class, user.getUserId()));
+    verify(paymentGateway).cancel(any(), eq("pg-tx-1"), any());
+    assertEquals("EXPIRED", jdbcTemplate.queryForObject(
+        "select r.status from inventory_reservation r join orders o on r.order_id = o.order_id "
+            + "where o.user_id = ?", String.class, user.getUserId()));
+  }
+
+  private String findPaymentStatus(Long orderId) {
+    return jdbcTemplate.queryForObject("select p.status from payment p join orders o on o.payment_id = p.payment_id "
+        + "where o.order_id = ?", String.class, orderId);
+  }
+
+  private User saveUser() {
+    return userRepository.save(User.builder()
+        .name("kim")
+        .email(UUID.randomUUID() + "@gmail.com")
+        .password("1234")
+        .address("test-address")
+        .phoneNum("test-num")
+        .build());
+  }
+
+  private Product saveProductWithStock(int quantity) {
+    Product product = productRepository.save(Product.builder()
+        .productName("checkout-product-" + UUID.randomUUID())
+        .price(new BigDecimal(1000))
+        .build());
+    inventoryRepository.save(Inventory.builder().product(product).quantity(quantity).build());
+    return product;
+  }
+
+  private OrderRequest createOrderRequest(User user, Product product) {
+    return OrderRequest.builder()
+        .userId(user.getUserId())
+        .orderProductRequests(List.of(OrderProductRequest.builder()
+            .productId(product.getProductId())
+            .quantity(1)
+            .build()))
+        .build();
+  }
+
+  private long runConcurrently(Runnable task) throws InterruptedException {
+    ExecutorService executorService = Executors.newFixedThreadPool(CONCURRENT_ORDERS);
+    CountDownLatch latch = new CountDownLatch(CONCURRENT_ORDERS);
+    long start = System.nanoTime();
+    for (int i = 0; i < CONCURRENT_ORDERS; i++) {
+      executorService.submit(() -> {
+        try {
+          task.run();
+        } catch (RuntimeException e) {
+          log.error("동시 실행 실패", e);
+        } finally {
+          latch.countDown();
+        }
+      });
+    }
+    latch.await(1, TimeUnit.MINUTES);
+    executorService.shutdown();
+    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+  }
+}
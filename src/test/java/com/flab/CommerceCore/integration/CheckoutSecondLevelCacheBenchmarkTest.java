@@ -0,0 +1,162 @@
+package com.flab.CommerceCore.integration;
+
+import static com.flab.CommerceCore.common.query.QueryCounter.countQueries;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.flab.CommerceCore.inventory.domain.entity.Inventory;
+import com.flab.CommerceCore.inventory.repository.InventoryRepository;
+import com.flab.CommerceCore.order.domain.dto.OrderProductRequest;
+import com.flab.CommerceCore.order.domain.dto.OrderRequest;
+import com.flab.CommerceCore.order.service.OrderService;
+import com.flab.CommerceCore.product.domain.dto.ProductRequest;
+import com.flab.CommerceCore.product.domain.entity.Product;
+import com.flab.CommerceCore.product.repository.ProductRepository;
+import com.flab.CommerceCore.product.service.ProductService;
+import com.flab.CommerceCore.user.domain.entity.User;
+import com.flab.CommerceCore.user.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class CheckoutSecondLevelCacheBenchmarkTest {
+
+  private static final Logger log = LoggerFactory.getLogger(CheckoutSecondLevelCacheBenchmarkTest.class);
+
+  private static final int PRODUCTS = 3;
+  private static final int SAMPLES = 20;
+
+  @Autowired
+  private OrderService orderService;
+
+  @Autowired
+  private ProductService productService;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private ProductRepository productRepository;
+
+  @Autowired
+  private InventoryRepository inventoryRepository;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  @Test
+  @DisplayName("2차 캐시가 차 있으면 결제(검증 + 주문 생성)당 DB 쿼리 수가 줄어든다")
+  void checkoutQueriesDropWithWarmCache() {
+    // given: 비동기 접수 경로와 같이 검증 후 주문을 생성한다
+    User user = saveUser();
+    OrderRequest orderRequest = createOrderRequest(user, saveProducts());
+    Runnable checkout = () -> {
+      orderService.validateOrder(orderRequest);
+      orderService.createOrder(orderRequest);
+    };
+    checkout.run();
+
+    // when: 매번 2차 캐시를 비운 경우와 채워 둔 경우
+    long coldQueries = 0;
+    for (int i = 0; i < SAMPLES; i++) {
+      entityManagerFactory.getCache().evictAll();
+      coldQueries += countQueries(checkout);
+    }
+    long warmQueries = 0;
+    for (int i = 0; i < SAMPLES; i++) {
+      warmQueries += countQueries(checkout);
+    }
+
+    // then
+    double coldPerCheckout = (double) coldQueries / SAMPLES;
+    double warmPerCheckout = (double) warmQueries / SAMPLES;
+    log.info("결제당 쿼리 수 - 2차 캐시 비움: {}, 2차 캐시 사용: {}", coldPerCheckout, warmPerCheckout);
+    logRegionStatistics();
+    assertTrue(warmPerCheckout < coldPerCheckout,
+        "2차 캐시를 쓰면 쿼리가 줄어야 한다: " + coldPerCheckout + " -> " + warmPerCheckout);
+  }
+
+  @Test
+  @DisplayName("상품 ID 목록 조회는 쿼리 캐시를 쓰고, 상품이 수정되면 다시 조회한다")
+  void productQueryCacheInvalidatedOnUpdate() {
+    // given
+    List<Product> products = saveProducts();
+    List<Long> productIds = products.stream().map(Product::getProductId).toList();
+    productRepository.findAllByProductIdIn(productIds);
+
+    // when
+    long cachedQueries = countQueries(() -> productRepository.findAllByProductIdIn(productIds));
+    productService.updateProduct(productIds.get(0), ProductRequest.builder()
+        .productName("updated-" + UUID.randomUUID())
+        .description("updated")
+        .price(new BigDecimal(2000))
+        .quantity(1_000_000)
+        .build());
+    long queriesAfterUpdate = countQueries(() -> productRepository.findAllByProductIdIn(productIds));
+
+    // then
+    assertEquals(0, cachedQueries);
+    assertTrue(queriesAfterUpdate > 0);
+  }
+
+  private void logRegionStatistics() {
+    Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    for (String region : statistics.getSecondLevelCacheRegionNames()) {
+      CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+      if (regionStatistics != null) {
+        log.info("2차 캐시 영역 {} - hit: {}, miss: {}, put: {}", region, regionStatistics.getHitCount(),
+            regionStatistics.getMissCount(), regionStatistics.getPutCount());
+      }
+    }
+  }
+
+  private User saveUser() {
+    return userRepository.save(User.builder()
+        .name("kim")
+        .email(UUID.randomUUID() + "@gmail.com")
+        .password("1234")
+        .address("test-address")
+        .phoneNum("test-num")
+        .build());
+  }
+
+  private List<Product> saveProducts() {
+    List<Product> products = new ArrayList<>();
+    for (int i = 0; i < PRODUCTS; i++) {
+      Product product = productRepository.save(Product.builder()
+          .productName("cache-product-" + UUID.randomUUID())
+          .description("cache")
+          .price(new BigDecimal(1000))
+          .build());
+      inventoryRepository.save(Inventory.builder().product(product).quantity(1_000_000).build());
+      products.add(product);
+    }
+    return products;
+  }
+
+  private OrderRequest createOrderRequest(User user, List<Product> products) {
+    return OrderRequest.builder()
+        .userId(user.getUserId())
+        .orderProductRequests(products.stream()
+            .map(product -> OrderProductRequest.builder()
+                .productId(product.getProductId())
+                .quantity(1)
+                .build())
+            .toList())
+        .build();
+  }
+}
@@ -0,0 +1,178 @@
+package com.flab.CommerceCore.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.flab.CommerceCore.common.exceptions.ErrorCode;
+import com.flab.CommerceCore.inventory.domain.dto.InventoryBulkResponse;
+import com.flab.CommerceCore.inventory.domain.dto.InventoryBulkResult;
+import com.flab.CommerceCore.inventory.engine.InventoryCounterEngine;
+import com.flab.CommerceCore.inventory.ledger.InventoryLedgerRecorder;
+import com.flab.CommerceCore.inventory.service.InventoryBulkService;
+import com.flab.CommerceCore.inventory.service.InventoryService;
+import com.flab.CommerceCore.inventory.sharding.InventoryShardManager;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class InventoryBulkAdjustmentTest {
+
+  private static final Logger log = LoggerFactory.getLogger(InventoryBulkAdjustmentTest.class);
+
+  private static final int SKU_COUNT = 100_000;
+  private static final int RESTOCK_QUANTITY = 10;
+
+  @Autowired
+  private InventoryBulkService bulkService;
+
+  @Autowired
+  private InventoryService inventoryService;
+
+  @Autowired
+  private InventoryCounterEngine counterEngine;
+
+  @Autowired
+  private InventoryShardManager shardManager;
+
+  @Autowired
+  private InventoryLedgerRecorder ledgerRecorder;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  private String prefix;
+
+  @BeforeEach
+  void setUp() {
+    prefix = "bulk-" + UUID.randomUUID() + "-";
+  }
+
+  @AfterEach
+  void tearDown() {
+    jdbcTemplate.update("delete from inventory_ledger where product_id in "
+        + "(select product_id from product where product_name like ?)", prefix + "%");
+    jdbcTemplate.update("delete from inventory where product_id in "
+        + "(select product_id from product where product_name like ?)", prefix + "%");
+    jdbcTemplate.update("delete from product where product_name like ?", prefix + "%");
+  }
+
+  @Test
+  @DisplayName("10만 개 상품 재고를 한 번의 일괄 요청으로 입고 처리 (벤치마크)")
+  void restockHundredThousandSkus() {
+    // given: 재고 0 인 상품 10만 개
+    List<Long> productIds = seedInventories(SKU_COUNT, 0);
+    StringBuilder body = new StringBuilder(SKU_COUNT * 56).append('[');
+    for (int i = 0; i < productIds.size(); i++) {
+      if (i > 0) {
+        body.append(',');
+      }
+      body.append("{\"productId\":").append(productIds.get(i))
+          .append(",\"operation\":\"INCREASE\",\"quantity\":").append(RESTOCK_QUANTITY).append('}');
+    }
+    body.append(']');
+
+    // when
+    long startNanos = System.nanoTime();
+    InventoryBulkResponse response = bulkService.adjust(
+        new ByteArrayInputStream(body.toString().getBytes(StandardCharsets.UTF_8)));
+    long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+
+    // then
+    log.info("재고 일괄 입고 {}건 소요: {}ms ({}건/초)", SKU_COUNT, elapsedMillis,
+        SKU_COUNT * 1000L / Math.max(1, elapsedMillis));
+    assertNull(response.getErrorCode());
+    assertEquals(SKU_COUNT, response.getSucceeded());
+    assertEquals((long) SKU_COUNT * RESTOCK_QUANTITY, jdbcTemplate.queryForObject(
+        "select sum(quantity) from inventory where product_id in "
+            + "(select product_id from product where product_name like ?)", Long.class, prefix + "%"));
+    assertTrue(elapsedMillis < 30_000, "10만 건 일괄 입고가 30초 안에 끝나야 한다: " + elapsedMillis + "ms");
+  }
+
+  @Test
+  @DisplayName("묶음 안에서 같은 상품의 여러 행은 요청 순서대로 반영되고, 실패한 행만 결과에 실패로 남는다")
+  void adjustReportsPerRowResults() {
+    // given: 묶음 크기 2, 재고 5 인 상품 두 개
+    InventoryBulkService smallChunkService = new InventoryBulkService(inventoryService, counterEngine,
+        shardManager, ledgerRecorder, jdbcTemplate, transactionManager, 2, 3000);
+    List<Long> productIds = seedInventories(2, 5);
+    Long first = productIds.get(0);
+    Long second = productIds.get(1);
+    String body = "["
+        + "{\"productId\":" + first + ",\"operation\":\"DECREASE\",\"quantity\":3},"
+        + "{\"productId\":" + first + ",\"operation\":\"DECREASE\",\"quantity\":3},"
+        + "{\"productId\":" + second + ",\"operation\":\"UPDATE\",\"quantity\":20},"
+        + "{\"productId\":-1,\"operation\":\"INCREASE\",\"quantity\":1},"
+        + "{\"productId\":" + second + ",\"operation\":\"INCREASE\",\"quantity\":-1},"
+        + "{\"productId\":" + first + ",\"operation\":\"INCREASE\"}"
+        + "]";
+
+    // when
+    InventoryBulkResponse response = smallChunkService.adjust(
+        new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+
+    // then
+    List<InventoryBulkResult> results = response.getResults();
+    assertEquals(6, response.getTotal());
+    assertEquals(2, response.getSucceeded());
+    assertEquals(2, results.get(0).getQuantity());
+    assertEquals(ErrorCode.INSUFFICIENT_INVENTORY.name(), results.get(1).getErrorCode());
+    assertEquals(20, results.get(2).getQuantity());
+    assertEquals(ErrorCode.PRODUCT_NOT_FOUND.name(), results.get(3).getErrorCode());
+    assertEquals(ErrorCode.NEGATIVE_QUANTITY.name(), results.get(4).getErrorCode());
+    assertEquals(ErrorCode.REQUIRED_FIELD_NULL.name(), results.get(5).getErrorCode());
+    assertEquals(2, inventoryService.findQuantityByProductId(first));
+    assertEquals(20, inventoryService.findQuantityByProductId(second));
+  }
+
+  @Test
+  @DisplayName("본문이 중간에 깨지면 그 앞까지 읽은 행만 반영하고 오류를 알린다")
+  void adjustStopsAtMalformedBody() {
+    // given
+    Long productId = seedInventories(1, 5).get(0);
+    String body = "[{\"productId\":" + productId + ",\"operation\":\"INCREASE\",\"quantity\":1},"
+        + "{\"productId\":";
+
+    // when
+    InventoryBulkResponse response = bulkService.adjust(
+        new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+
+    // then
+    assertEquals(ErrorCode.INVALID_BULK_REQUEST.name(), response.getErrorCode());
+    assertEquals(1, response.getTotal());
+    assertFalse(response.getResults().isEmpty());
+    assertEquals(6, inventoryService.findQuantityByProductId(productId));
+  }
+
+  /**
+   * 상품과 재고 행을 JDBC 로 한 번에 넣고 상품 ID 를 반환 (H2 전용)
+   */
+  private List<Long> seedInventories(int count, int quantity) {
+    jdbcTemplate.update("insert into product (product_id, product_name, price, create_time) "
+        + "select next value for product_seq, concat(?, x), 1000, current_timestamp from system_range(1, ?)",
+        prefix, count);
+    jdbcTemplate.update("insert into inventory (inventory_id, product_id, quantity, version, last_update) "
+        + "select next value for inventory_seq, product_id, ?, 0, current_timestamp from product "
+        + "where product_name like ?", quantity, prefix + "%");
+    return jdbcTemplate.queryForList("select product_id from product where product_name like ? order by product_id",
+        Long.class, prefix + "%");
+  }
+}
@@ -0,0 +1,114 @@
+package com.flab.CommerceCore.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.flab.CommerceCore.common.exceptions.BusinessException;
+import com.flab.CommerceCore.common.exceptions.ErrorCode;
+import com.flab.CommerceCore.inventory.domain.entity.Inventory;
+import com.flab.CommerceCore.inventory.repository.InventoryRepository;
+import com.flab.CommerceCore.order.domain.dto.OrderProductRequest;
+import com.flab.CommerceCore.order.domain.dto.OrderRequest;
+import com.flab.CommerceCore.order.service.OrderService;
+import com.flab.CommerceCore.product.domain.entity.Product;
+import com.flab.CommerceCore.product.repository.ProductRepository;
+import com.flab.CommerceCore.user.domain.entity.User;
+import com.flab.CommerceCore.user.repository.UserRepository;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class InventoryConcurrencyTest {
+
+  private static final Logger log = LoggerFactory.getLogger(InventoryConcurrencyTest.class);
+
+  private static final int STOCK = 100;
+  private static final int ORDER_COUNT = 2000;
+  private static final int THREAD_COUNT = 32;
+
+  @Autowired
+  private OrderService orderService;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private ProductRepository productRepository;
+
+  @Autowired
+  private InventoryRepository inventoryRepository;
+
+  @Test
+  @DisplayName("한 상품에 동시 주문이 몰려도 재고 이상으로 판매되지 않는다")
+  void concurrentOrdersNeverOversell() throws InterruptedException {
+    // given: 재고 100개인 상품 하나와 주문할 유저
+    User user = userRepository.save(User.builder()
+        .name("kim")
+        .email(UUID.randomUUID() + "@gmail.com")
+        .password("1234")
+        .address("test-address")
+        .phoneNum("test-num")
+        .build());
+
+    Product product = productRepository.save(Product.builder()
+        .productName("hot-product-" + UUID.randomUUID())
+        .price(new BigDecimal(1000))
+        .build());
+    inventoryRepository.save(Inventory.builder().product(product).quantity(STOCK).build());
+
+    OrderRequest orderRequest = OrderRequest.builder()
+        .userId(user.getUserId())
+        .orderProductRequests(List.of(OrderProductRequest.builder()
+            .productId(product.getProductId())
+            .quantity(1)
+            .build()))
+        .build();
+
+    ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+    CountDownLatch latch = new CountDownLatch(ORDER_COUNT);
+    AtomicInteger successCount = new AtomicInteger();
+    AtomicInteger soldOutCount = new AtomicInteger();
+
+    // when: 2000건의 주문을 동시에 요청
+    long start = System.nanoTime();
+    for (int i = 0; i < ORDER_COUNT; i++) {
+      executorService.submit(() -> {
+        try {
+          orderService.createOrder(orderRequest);
+          successCount.incrementAndGet();
+        } catch (BusinessException e) {
+          if (e.getErrorCode() == ErrorCode.INSUFFICIENT_INVENTORY) {
+            soldOutCount.incrementAndGet();
+          }
+        } finally {
+          latch.countDown();
+        }
+      });
+    }
+    latch.await(2, TimeUnit.MINUTES);
+    long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    executorService.shutdown();
+
+    log.info("동시 주문 {}건 처리 시간 {}ms, 처리량 {} orders/s (성공 {}, 재고 부족 {})",
+        ORDER_COUNT, elapsedMillis, ORDER_COUNT * 1000L / Math.max(elapsedMillis, 1),
+        successCount.get(), soldOutCount.get());
+
+    // then: 재고만큼만 주문이 성공하고 나머지는 재고 부족으로 실패
+    assertEquals(STOCK, successCount.get());
+    assertEquals(ORDER_COUNT - STOCK, soldOutCount.get());
+    assertEquals(0, inventoryRepository.findByProductId(product.getProductId()).getQuantity());
+  }
+}
@@ -0,0 +1,158 @@
+package com.flab.CommerceCore.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.flab.CommerceCore.common.enums.InventoryLockMode;
+import com.flab.CommerceCore.common.exceptions.BusinessException;
+import com.flab.CommerceCore.inventory.domain.entity.Inventory;
+import com.flab.CommerceCore.inventory.repository.InventoryRepository;
+import com.flab.CommerceCore.inventory.service.InventoryService;
+import com.flab.CommerceCore.order.domain.dto.OrderProductRequest;
+import com.flab.CommerceCore.order.domain.dto.OrderRequest;
+import com.flab.CommerceCore.order.service.OrderService;
+import com.flab.CommerceCore.product.domain.entity.Product;
+import com.flab.CommerceCore.product.repository.ProductRepository;
+import com.flab.CommerceCore.user.domain.entity.User;
+import com.flab.CommerceCore.user.repository.UserRepository;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class InventoryLockModeStressTest {
+
+  private static final Logger log = LoggerFactory.getLogger(InventoryLockModeStressTest.class);
+
+  private static final int STOCK = 300;
+  private static final int ORDER_COUNT = 600;
+  private static final int THREAD_COUNT = 32;
+
+  @Autowired
+  private OrderService orderService;
+
+  @Autowired
+  private InventoryService inventoryService;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private ProductRepository productRepository;
+
+  @Autowired
+  private InventoryRepository inventoryRepository;
+
+  @AfterEach
+  void tearDown() {
+    setLockMode(InventoryLockMode.ATOMIC_UPDATE);
+  }
+
+  @Test
+  @DisplayName("두 상품을 서로 다른 순서로 담은 주문이 동시에 몰려도 모든 락 모드에서 재고 이상으로 판매되지 않는다")
+  void compareLockModesOnMultiItemOrders() throws InterruptedException {
+    for (InventoryLockMode lockMode : InventoryLockMode.values()) {
+      // given
+      setLockMode(lockMode);
+      User user = saveUser();
+      Product first = saveProductWithStock();
+      Product second = saveProductWithStock();
+
+      // when
+      AtomicInteger successCount = new AtomicInteger();
+      long elapsedMillis = runOrders(user, first, second, successCount);
+
+      log.info("[{}] 다중 상품 주문 {}건 처리 시간 {}ms, 처리량 {} orders/s (성공 {})",
+          lockMode, ORDER_COUNT, elapsedMillis, ORDER_COUNT * 1000L / Math.max(elapsedMillis, 1),
+          successCount.get());
+
+      // then: 낙관적 락은 재시도 예산을 넘긴 주문이 포기될 수 있으므로 판매 수와 남은 재고가 일치하는지만 확인
+      if (lockMode != InventoryLockMode.OPTIMISTIC) {
+        assertEquals(STOCK, successCount.get());
+      }
+      assertEquals(STOCK - successCount.get(),
+          inventoryRepository.findByProductId(first.getProductId()).getQuantity());
+      assertEquals(STOCK - successCount.get(),
+          inventoryRepository.findByProductId(second.getProductId()).getQuantity());
+    }
+  }
+
+  private long runOrders(User user, Product first, Product second, AtomicInteger successCount)
+      throws InterruptedException {
+    // 절반은 (first, second), 절반은 (second, first) 순서로 담아 락 순서가 엇갈리게 한다
+    OrderRequest forward = createOrderRequest(user, first, second);
+    OrderRequest reversed = createOrderRequest(user, second, first);
+
+    ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+    CountDownLatch latch = new CountDownLatch(ORDER_COUNT);
+    long start = System.nanoTime();
+    for (int i = 0; i < ORDER_COUNT; i++) {
+      OrderRequest orderRequest = i % 2 == 0 ? forward : reversed;
+      executorService.submit(() -> {
+        try {
+          orderService.createOrder(orderRequest);
+          successCount.incrementAndGet();
+        } catch (BusinessException e) {
+          // 재고 부족
+        } catch (RuntimeException e) {
+          log.error("주문 실패", e);
+        } finally {
+          latch.countDown();
+        }
+      });
+    }
+    latch.await(2, TimeUnit.MINUTES);
+    executorService.shutdown();
+    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+  }
+
+  private void setLockMode(InventoryLockMode lockMode) {
+    ReflectionTestUtils.setField(AopTestUtils.getTargetObject(inventoryService), "lockMode", lockMode);
+  }
+
+  private OrderRequest createOrderRequest(User user, Product... products) {
+    return OrderRequest.builder()
+        .userId(user.getUserId())
+        .orderProductRequests(List.of(products).stream()
+            .map(product -> OrderProductRequest.builder()
+                .productId(product.getProductId())
+                .quantity(1)
+                .build())
+            .toList())
+        .build();
+  }
+
+  private User saveUser() {
+    return userRepository.save(User.builder()
+        .name("kim")
+        .email(UUID.randomUUID() + "@gmail.com")
+        .password("1234")
+        .address("test-address")
+        .phoneNum("test-num")
+        .build());
+  }
+
+  private Product saveProductWithStock() {
+    Product product = productRepository.save(Product.builder()
+        .productName("lock-product-" + UUID.randomUUID())
+        .price(new BigDecimal(1000))
+        .build());
+    inventoryRepository.save(Inventory.builder().product(product).quantity(STOCK).build());
+    return product;
+  }
+}
@@ -0,0 +1,120 @@
+package com.flab.CommerceCore.integration;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.flab.CommerceCore.inventory.domain.entity.Inventory;
+import com.flab.CommerceCore.inventory.repository.InventoryRepository;
+import com.flab.CommerceCore.order.domain.dto.OrderProductRequest;
+import com.flab.CommerceCore.order.domain.dto.OrderRequest;
+import com.flab.CommerceCore.order.service.OrderService;
+import com.flab.CommerceCore.product.domain.entity.Product;
+import com.flab.CommerceCore.product.repository.ProductRepository;
+import com.flab.CommerceCore.user.domain.entity.User;
+import com.flab.CommerceCore.user.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class OrderBatchInsertBenchmarkTest {
+
+  private static final Logger log = LoggerFactory.getLogger(OrderBatchInsertBenchmarkTest.class);
+
+  private static final int[] LINE_COUNTS = {1, 10, 100};
+  private static final int WARMUP = 5;
+  private static final int SAMPLES = 20;
+
+  @Autowired
+  private OrderService orderService;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private ProductRepository productRepository;
+
+  @Autowired
+  private InventoryRepository inventoryRepository;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  @Test
+  @DisplayName("주문 상품 INSERT 가 JDBC 배치로 묶여 주문 상품 수만큼 문장이 늘지 않는다")
+  void createOrderStatementsDoNotGrowPerLine() {
+    // given: 주문 상품 1, 10, 100 개짜리 주문 요청
+    User user = userRepository.save(User.builder()
+        .name("kim")
+        .email(UUID.randomUUID() + "@gmail.com")
+        .password("1234")
+        .address("test-address")
+        .phoneNum("test-num")
+        .build());
+    List<Product> products = saveProducts(LINE_COUNTS[LINE_COUNTS.length - 1]);
+    Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+    // when
+    Map<Integer, Long> statementsPerOrder = new LinkedHashMap<>();
+    for (int lines : LINE_COUNTS) {
+      OrderRequest orderRequest = createOrderRequest(user, products.subList(0, lines));
+      for (int i = 0; i < WARMUP; i++) {
+        orderService.createOrder(orderRequest);
+      }
+
+      long statementsBefore = statistics.getPrepareStatementCount();
+      long startNanos = System.nanoTime();
+      for (int i = 0; i < SAMPLES; i++) {
+        orderService.createOrder(orderRequest);
+      }
+      long averageMicros = (System.nanoTime() - startNanos) / SAMPLES / 1_000;
+      long statements = (statistics.getPrepareStatementCount() - statementsBefore) / SAMPLES;
+
+      statementsPerOrder.put(lines, statements);
+      log.info("주문 상품 {}개 주문 생성 평균: {}us, 주문당 JDBC 문장 수: {}", lines, averageMicros, statements);
+    }
+
+    // then: 배치 전에는 상품 한 줄마다 재고 UPDATE, 예약 INSERT, 주문 상품 INSERT 세 문장이 늘었다
+    // 배치 후에는 재고 UPDATE 만 상품 수만큼 늘고 INSERT 는 batch_size 단위로 묶인다
+    long addedPerLine = (statementsPerOrder.get(100) - statementsPerOrder.get(1)) / 99;
+    assertTrue(addedPerLine < 2, "주문 상품 한 줄당 추가 문장 수가 2 미만이어야 한다: " + addedPerLine);
+  }
+
+  private List<Product> saveProducts(int count) {
+    List<Product> products = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      Product product = productRepository.save(Product.builder()
+          .productName("batch-product-" + UUID.randomUUID())
+          .price(new BigDecimal(1000))
+          .build());
+      inventoryRepository.save(Inventory.builder().product(product).quantity(1_000_000).build());
+      products.add(product);
+    }
+    return products;
+  }
+
+  private OrderRequest createOrderRequest(User user, List<Product> products) {
+    return OrderRequest.builder()
+        .userId(user.getUserId())
+        .orderProductRequests(products.stream()
+            .map(product -> OrderProductRequest.builder()
+                .productId(product.getProductId())
+                .quantity(1)
+                .build())
+            .toList())
+        .build();
+  }
+}
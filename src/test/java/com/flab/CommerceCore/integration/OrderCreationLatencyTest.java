@@ -0,0 +1,120 @@
+package com.flab.CommerceCore.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.flab.CommerceCore.inventory.domain.entity.Inventory;
+import com.flab.CommerceCore.inventory.repository.InventoryRepository;
+import com.flab.CommerceCore.order.domain.dto.OrderProductRequest;
+import com.flab.CommerceCore.order.domain.dto.OrderRequest;
+import com.flab.CommerceCore.order.service.OrderService;
+import com.flab.CommerceCore.product.domain.entity.Product;
+import com.flab.CommerceCore.product.repository.ProductRepository;
+import com.flab.CommerceCore.user.domain.entity.User;
+import com.flab.CommerceCore.user.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class OrderCreationLatencyTest {
+
+  private static final Logger log = LoggerFactory.getLogger(OrderCreationLatencyTest.class);
+
+  private static final int HISTORY_SIZE = 5_000;
+  private static final int WARMUP = 20;
+  private static final int SAMPLES = 100;
+
+  @Autowired
+  private OrderService orderService;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private ProductRepository productRepository;
+
+  @Autowired
+  private InventoryRepository inventoryRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  @Test
+  @DisplayName("주문 이력이 많은 유저도 주문 생성 시 주문 컬렉션을 로딩하지 않아 지연 시간이 일정하다")
+  void createOrderLatencyDoesNotDependOnOrderHistory() {
+    // given: 주문 이력이 없는 유저와 5,000 건인 유저
+    User newUser = saveUser();
+    User heavyUser = saveUser();
+    jdbcTemplate.update("insert into orders (order_id, user_id, order_date, status) "
+        + "select next value for orders_seq, ?, current_timestamp, 'COMPLETED' from system_range(1, ?)",
+        heavyUser.getUserId(), HISTORY_SIZE);
+
+    Product product = productRepository.save(Product.builder()
+        .productName("latency-product-" + UUID.randomUUID())
+        .price(new BigDecimal(1000))
+        .build());
+    inventoryRepository.save(Inventory.builder().product(product).quantity(1_000_000).build());
+
+    Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    measure(newUser, product, WARMUP);
+    measure(heavyUser, product, WARMUP);
+
+    // when
+    long newUserNanos = measure(newUser, product, SAMPLES);
+    long collectionLoadsBefore = statistics.getCollectionLoadCount();
+    long heavyUserNanos = measure(heavyUser, product, SAMPLES);
+    long collectionLoads = statistics.getCollectionLoadCount() - collectionLoadsBefore;
+
+    // then
+    log.info("주문 생성 평균 지연 - 이력 0건: {}us, 이력 {}건: {}us",
+        newUserNanos / 1_000, HISTORY_SIZE, heavyUserNanos / 1_000);
+    assertEquals(0, collectionLoads);
+    assertTrue(heavyUserNanos < newUserNanos * 3 + 5_000_000,
+        "주문 이력이 많아도 주문 생성 지연이 크게 늘지 않아야 한다");
+  }
+
+  /**
+   * count 번 주문을 생성하고 평균 소요 시간(ns)을 반환
+   */
+  private long measure(User user, Product product, int count) {
+    OrderRequest orderRequest = OrderRequest.builder()
+        .userId(user.getUserId())
+        .orderProductRequests(List.of(OrderProductRequest.builder()
+            .productId(product.getProductId())
+            .quantity(1)
+            .build()))
+        .build();
+
+    long startNanos = System.nanoTime();
+    for (int i = 0; i < count; i++) {
+      orderService.createOrder(orderRequest);
+    }
+    return (System.nanoTime() - startNanos) / count;
+  }
+
+  private User saveUser() {
+    return userRepository.save(User.builder()
+        .name("kim")
+        .email(UUID.randomUUID() + "@gmail.com")
+        .password("1234")
+        .address("test-address")
+        .phoneNum("test-num")
+        .build());
+  }
+}
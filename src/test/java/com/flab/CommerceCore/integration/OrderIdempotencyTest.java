@@ -0,0 +1,180 @@
+package com.flab.CommerceCore.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.flab.CommerceCore.idempotency.IdempotencyStore;
+import com.flab.CommerceCore.inventory.domain.entity.Inventory;
+import com.flab.CommerceCore.inventory.repository.InventoryRepository;
+import com.flab.CommerceCore.order.domain.dto.OrderProductRequest;
+import com.flab.CommerceCore.order.domain.dto.OrderRequest;
+import com.flab.CommerceCore.order.domain.dto.OrderResponse;
+import com.flab.CommerceCore.order.service.OrderService;
+import com.flab.CommerceCore.product.domain.entity.Product;
+import com.flab.CommerceCore.product.repository.ProductRepository;
+import com.flab.CommerceCore.user.domain.entity.User;
+import com.flab.CommerceCore.user.repository.UserRepository;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class OrderIdempotencyTest {
+
+  private static final int THREADS = 8;
+
+  @Autowired
+  private OrderService orderService;
+
+  @Autowired
+  private IdempotencyStore idempotencyStore;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private ProductRepository productRepository;
+
+  @Autowired
+  private InventoryRepository inventoryRepository;
+
+  @Test
+  @DisplayName("같은 Idempotency-Key 로 동시에 주문해도 주문은 한 번만 생성되고 재고도 한 번만 차감된다")
+  void concurrentRetriesCreateOneOrder() throws Exception {
+    // given
+    User user = saveUser();
+    Product product = saveProduct(100);
+    OrderRequest orderRequest = createOrderRequest(user, product);
+    String key = UUID.randomUUID().toString();
+    ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+    CountDownLatch ready = new CountDownLatch(1);
+
+    // when
+    List<Future<OrderResponse>> futures = new ArrayList<>();
+    for (int i = 0; i < THREADS; i++) {
+      futures.add(executorService.submit(() -> {
+        ready.await();
+        return idempotencyStore.execute("ORDER", key, orderRequest, OrderResponse.class,
+            () -> orderService.createOrder(orderRequest));
+      }));
+    }
+    ready.countDown();
+
+    // then
+    Long orderId = futures.get(0).get().getOrderId();
+    for (Future<OrderResponse> future : futures) {
+      assertEquals(orderId, future.get().getOrderId());
+    }
+    executorService.shutdown();
+    assertEquals(1, countOrders(user));
+    assertEquals(99, findQuantity(product));
+  }
+
+  @Test
+  @DisplayName("여러 인스턴스에 같은 Idempotency-Key 가 동시에 들어와도 DB 선점으로 주문은 한 번만 생성된다")
+  void concurrentRetriesAcrossInstancesCreateOneOrder() throws Exception {
+    // given: 메모리를 공유하지 않는 저장소를 요청마다 하나씩 둔다
+    User user = saveUser();
+    Product product = saveProduct(100);
+    OrderRequest orderRequest = createOrderRequest(user, product);
+    String key = UUID.randomUUID().toString();
+    ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+    CountDownLatch ready = new CountDownLatch(1);
+
+    // when
+    List<Future<OrderResponse>> futures = new ArrayList<>();
+    for (int i = 0; i < THREADS; i++) {
+      IdempotencyStore instance = new IdempotencyStore(jdbcTemplate, 60, 100, 5_000, 10_000, 10);
+      futures.add(executorService.submit(() -> {
+        ready.await();
+        return instance.execute("ORDER", key, orderRequest, OrderResponse.class,
+            () -> orderService.createOrder(orderRequest));
+      }));
+    }
+    ready.countDown();
+
+    // then
+    Long orderId = futures.get(0).get().getOrderId();
+    for (Future<OrderResponse> future : futures) {
+      assertEquals(orderId, future.get().getOrderId());
+    }
+    executorService.shutdown();
+    assertEquals(1, countOrders(user));
+    assertEquals(99, findQuantity(product));
+  }
+
+  @Test
+  @DisplayName("메모리에서 밀려난 키도 DB 에 남은 응답으로 재시도를 처리한다")
+  void retryAfterRestartReplaysFromDatabase() {
+    // given: 첫 요청을 처리한 뒤 메모리가 빈 새 저장소 (재시작 또는 다른 인스턴스)
+    User user = saveUser();
+    Product product = saveProduct(100);
+    OrderRequest orderRequest = createOrderRequest(user, product);
+    String key = UUID.randomUUID().toString();
+    OrderResponse first = idempotencyStore.execute("ORDER", key, orderRequest, OrderResponse.class,
+        () -> orderService.createOrder(orderRequest));
+    IdempotencyStore restarted = new IdempotencyStore(jdbcTemplate, 60, 100, 5_000, 10_000, 10);
+
+    // when
+    OrderResponse retried = restarted.execute("ORDER", key, orderRequest, OrderResponse.class,
+        () -> orderService.createOrder(orderRequest));
+
+    // then
+    assertEquals(first.getOrderId(), retried.getOrderId());
+    assertEquals(first.getStatus(), retried.getStatus());
+    assertEquals(1, countOrders(user));
+    assertEquals(99, findQuantity(product));
+  }
+
+  private User saveUser() {
+    return userRepository.save(User.builder()
+        .name("kim")
+        .email(UUID.randomUUID() + "@gmail.com")
+        .password("1234")
+        .address("test-address")
+        .phoneNum("test-num")
+        .build());
+  }
+
+  private Product saveProduct(int quantity) {
+    Product product = productRepository.save(Product.builder()
+        .productName("idempotency-product-" + UUID.randomUUID())
+        .price(new BigDecimal(1000))
+        .build());
+    inventoryRepository.save(Inventory.builder().product(product).quantity(quantity).build());
+    return product;
+  }
+
+  private OrderRequest createOrderRequest(User user, Product product) {
+    return OrderRequest.builder()
+        .userId(user.getUserId())
+        .orderProductRequests(List.of(OrderProductRequest.builder()
+            .productId(product.getProductId())
+            .quantity(1)
+            .build()))
+        .build();
+  }
+
+  private int countOrders(User user) {
+    return jdbcTemplate.queryForObject("select count(*) from orders where user_id = ?", Integer.class,
+        user.getUserId());
+  }
+
+  private int findQuantity(Product product) {
+    return inventoryRepository.findByProductId(product.getProductId()).getQuantity();
+  }
+}
@@ -148,6 +148,38 @@ class OrderIntegrationTest {
     assertEquals(ErrorCode.INVENTORY_NOT_FOUND, exception.getErrorCode());
   }
 
+  @Test
+  @DisplayName("등록되지 않은 상품에 대한 실패 테스트")
+  void testCreateOrder_ProductNotFound() {
+    // Given: 유저 생성
+    User user = User.builder()
+        .name("kim")
+        .email("kim@gmail.com")
+        .password("1234")
+        .address("test-address")
+        .phoneNum("test-num")
+        .build();
+    userRepository.save(user);
+
+    // Given: 재고가 있는 상품과 존재하지 않는 상품을 함께 주문
+    Product product1 = productRepository.save(Product.builder().productName("test-product").price(new BigDecimal(1000)).build());
+    inventoryRepository.save(Inventory.builder().product(product1).quantity(100).build());
+
+    OrderRequest orderRequest = OrderRequest.builder()
+        .userId(user.getUserId())
+        .orderProductRequests(List.of(
+            OrderProductRequest.builder().productId(product1.getProductId()).quantity(1).build(),
+            OrderProductRequest.builder().productId(-1L).quantity(1).build()))
+        .build();
+
+    // When & Then: 존재하지 않는 상품에 대해 예외 발생 확인
+    BusinessException exception = assertThrows(BusinessException.class, () -> {
+      orderService.createOrder(orderRequest);
+    });
+
+    assertEquals(ErrorCode.PRODUCT_NOT_FOUND, exception.getErrorCode());
+  }
+
   @Test
   void testCreateOrder_InsufficientInventory() {
     // Given: 유저 생성
@@ -0,0 +1,131 @@
+package com.flab.CommerceCore.integration;
+
+import static com.flab.CommerceCore.common.query.QueryCounter.assertQueryBudget;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.flab.CommerceCore.common.pagination.CursorPage;
+import com.flab.CommerceCore.common.pagination.CursorPagination;
+import com.flab.CommerceCore.order.domain.dto.OrderResponse;
+import com.flab.CommerceCore.order.service.OrderService;
+import com.flab.CommerceCore.user.domain.entity.User;
+import com.flab.CommerceCore.user.repository.UserRepository;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class OrderKeysetPaginationTest {
+
+  private static final Logger log = LoggerFactory.getLogger(OrderKeysetPaginationTest.class);
+
+  private static final int ORDER_COUNT = 100_000;
+  private static final int PAGE_SIZE = 10;
+  private static final int WARMUP = 20;
+  private static final int SAMPLES = 50;
+
+  @Autowired
+  private OrderService orderService;
+
+  @Autowired
+  private CursorPagination cursorPagination;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  private User user;
+  private List<Long> orderIds;
+
+  @BeforeEach
+  void setUp() {
+    // given: 한 유저의 주문 10만 건 (H2 전용)
+    user = userRepository.save(User.builder()
+        .name("kim")
+        .email(UUID.randomUUID() + "@gmail.com")
+        .password("1234")
+        .address("test-address")
+        .phoneNum("test-num")
+        .build());
+    jdbcTemplate.update("insert into orders (order_id, user_id, order_date, status) "
+        + "select next value for orders_seq, ?, current_timestamp, 'COMPLETED' from system_range(1, ?)",
+        user.getUserId(), ORDER_COUNT);
+    orderIds = jdbcTemplate.queryForList("select order_id from orders where user_id = ? order by order_id",
+        Long.class, user.getUserId());
+  }
+
+  @AfterEach
+  void tearDown() {
+    jdbcTemplate.update("delete from orders where user_id = ?", user.getUserId());
+    jdbcTemplate.update("delete from users where user_id = ?", user.getUserId());
+  }
+
+  @Test
+  @DisplayName("커서를 따라가면 주문이 빠짐없이 ID 순서대로 이어진다")
+  void scrollFollowsCursor() {
+    // given: 시드한 주문의 첫 번째 바로 앞에서 시작
+    String after = cursorPagination.encode(orderIds.get(0) - 1);
+
+    // when: 세 페이지를 이어서 조회
+    CursorPage<OrderResponse> first = orderService.findOrders(after, PAGE_SIZE);
+    CursorPage<OrderResponse> second = orderService.findOrders(first.getNextCursor(), PAGE_SIZE);
+    CursorPage<OrderResponse> third = orderService.findOrders(second.getNextCursor(), PAGE_SIZE);
+
+    // then
+    List<Long> scrolled = Stream.of(first, second, third)
+        .flatMap(page -> page.getContent().stream())
+        .map(OrderResponse::getOrderId)
+        .toList();
+    assertEquals(orderIds.subList(0, PAGE_SIZE * 3), scrolled);
+    assertTrue(third.isHasNext());
+  }
+
+  @Test
+  @DisplayName("깊은 페이지도 쿼리 두 번(count 없음), 첫 페이지와 비슷한 지연으로 조회한다 (벤치마크)")
+  void deepPageLatencyIsConstant() {
+    // given: 시드 주문의 앞쪽과 끝쪽 커서
+    String shallow = cursorPagination.encode(orderIds.get(0) - 1);
+    String deep = cursorPagination.encode(orderIds.get(ORDER_COUNT - PAGE_SIZE * 2));
+    int deepPage = (ORDER_COUNT - PAGE_SIZE * 2) / PAGE_SIZE;
+    measure(() -> orderService.findOrders(shallow, PAGE_SIZE), WARMUP);
+    measure(() -> orderService.findOrders(deep, PAGE_SIZE), WARMUP);
+    measure(() -> orderService.findAllOrders(deepPage), WARMUP);
+
+    // when
+    long shallowNanos = measure(() -> orderService.findOrders(shallow, PAGE_SIZE), SAMPLES);
+    long deepNanos = measure(() -> orderService.findOrders(deep, PAGE_SIZE), SAMPLES);
+    long offsetNanos = measure(() -> orderService.findAllOrders(deepPage), SAMPLES);
+
+    // then
+    log.info("주문 목록 평균 지연 - 커서 첫 페이지: {}us, 커서 {}번째 페이지: {}us, OFFSET {}번째 페이지: {}us",
+        shallowNanos / 1_000, deepPage, deepNanos / 1_000, deepPage, offsetNanos / 1_000);
+    CursorPage<OrderResponse> page = assertQueryBudget(2, () -> orderService.findOrders(deep, PAGE_SIZE));
+    assertEquals(PAGE_SIZE, page.getContent().size());
+    assertTrue(deepNanos < shallowNanos * 3 + 5_000_000,
+        "깊은 페이지도 첫 페이지와 비슷한 지연이어야 한다: " + deepNanos / 1_000 + "us");
+  }
+
+  /**
+   * count 번 실행하고 평균 소요 시간(ns)을 반환
+   */
+  private long measure(Runnable action, int count) {
+    long startNanos = System.nanoTime();
+    for (int i = 0; i < count; i++) {
+      action.run();
+    }
+    return (System.nanoTime() - startNanos) / count;
+  }
+}
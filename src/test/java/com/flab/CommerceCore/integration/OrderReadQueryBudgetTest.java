@@ -0,0 +1,114 @@
+package com.flab.CommerceCore.integration;
+
+import static com.flab.CommerceCore.common.query.QueryCounter.assertQueryBudget;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.flab.CommerceCore.inventory.domain.entity.Inventory;
+import com.flab.CommerceCore.inventory.repository.InventoryRepository;
+import com.flab.CommerceCore.order.domain.dto.OrderProductRequest;
+import com.flab.CommerceCore.order.domain.dto.OrderProductResponse;
+import com.flab.CommerceCore.order.domain.dto.OrderRequest;
+import com.flab.CommerceCore.order.domain.dto.OrderResponse;
+import com.flab.CommerceCore.order.service.OrderService;
+import com.flab.CommerceCore.product.domain.entity.Product;
+import com.flab.CommerceCore.product.repository.ProductRepository;
+import com.flab.CommerceCore.user.domain.entity.User;
+import com.flab.CommerceCore.user.repository.UserRepository;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class OrderReadQueryBudgetTest {
+
+  private static final int ORDER_COUNT = 12;
+  private static final int LINES_PER_ORDER = 3;
+
+  @Autowired
+  private OrderService orderService;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private ProductRepository productRepository;
+
+  @Autowired
+  private InventoryRepository inventoryRepository;
+
+  private List<Product> products;
+  private List<OrderResponse> createdOrders;
+
+  @BeforeEach
+  void setUp() {
+    // given: 유저 두 명이 상품 세 개짜리 주문을 번갈아 12 건 생성
+    List<User> users = List.of(saveUser(), saveUser());
+    products = new ArrayList<>();
+    for (int i = 0; i < LINES_PER_ORDER; i++) {
+      Product product = productRepository.save(Product.builder()
+          .productName("budget-product-" + UUID.randomUUID())
+          .price(new BigDecimal(1000))
+          .build());
+      inventoryRepository.save(Inventory.builder().product(product).quantity(1_000).build());
+      products.add(product);
+    }
+
+    createdOrders = new ArrayList<>();
+    for (int i = 0; i < ORDER_COUNT; i++) {
+      createdOrders.add(orderService.createOrder(OrderRequest.builder()
+          .userId(users.get(i % users.size()).getUserId())
+          .orderProductRequests(products.stream()
+              .map(product -> OrderProductRequest.builder()
+                  .productId(product.getProductId())
+                  .quantity(1)
+                  .build())
+              .toList())
+          .build()));
+    }
+  }
+
+  @Test
+  @DisplayName("주문 목록 조회는 주문 수와 관계없이 쿼리 두 번(주문 ID 페이지, fetch join)으로 끝난다")
+  void findAllOrdersWithinQueryBudget() {
+    // when
+    List<OrderResponse> page = assertQueryBudget(2, () -> orderService.findAllOrders(0));
+
+    // then
+    assertEquals(10, page.size());
+  }
+
+  @Test
+  @DisplayName("주문 단건 조회는 주문 상품과 상품 이름까지 쿼리 한 번으로 조회한다")
+  void findOrderByIdWithinQueryBudget() {
+    // given
+    OrderResponse created = createdOrders.get(ORDER_COUNT - 1);
+
+    // when
+    OrderResponse found = assertQueryBudget(1, () -> orderService.findOrderById(created.getOrderId()));
+
+    // then: 주문 상품이 주문에 연결되어 저장되었는지도 함께 확인
+    assertEquals(created.getUserId(), found.getUserId());
+    assertEquals(LINES_PER_ORDER, found.getOrderProductResponses().size());
+    assertEquals(products.stream().map(Product::getProductName).sorted().toList(),
+        found.getOrderProductResponses().stream().map(OrderProductResponse::getProductName).sorted().toList());
+    assertEquals(0, created.getTotalAmount().compareTo(found.getTotalAmount()));
+  }
+
+  private User saveUser() {
+    return userRepository.save(User.builder()
+        .name("kim")
+        .email(UUID.randomUUID() + "@gmail.com")
+        .password("1234")
+        .address("test-address")
+        .phoneNum("test-num")
+        .build());
+  }
+}
@@ -0,0 +1,189 @@
+package com.flab.CommerceCore.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.flab.CommerceCore.common.enums.OutboxEventType;
+import com.flab.CommerceCore.inventory.domain.entity.Inventory;
+import com.flab.CommerceCore.inventory.repository.InventoryRepository;
+import com.flab.CommerceCore.order.domain.dto.OrderProductRequest;
+import com.flab.CommerceCore.order.domain.dto.OrderRequest;
+import com.flab.CommerceCore.order.domain.dto.OrderResponse;
+import com.flab.CommerceCore.order.service.OrderService;
+import com.flab.CommerceCore.outbox.domain.dto.OutboxMessage;
+import com.flab.CommerceCore.outbox.relay.OutboxRelay;
+import com.flab.CommerceCore.outbox.sink.OutboxSink;
+import com.flab.CommerceCore.product.domain.entity.Product;
+import com.flab.CommerceCore.product.repository.ProductRepository;
+import com.flab.CommerceCore.user.domain.entity.User;
+import com.flab.CommerceCore.user.repository.UserRepository;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class OutboxRelayTest {
+
+  private static final Logger log = LoggerFactory.getLogger(OutboxRelayTest.class);
+
+  private static final String BENCHMARK_AGGREGATE = "BENCHMARK";
+  private static final int EVENT_COUNT = 20_000;
+  private static final int[][] WORKERS_AND_BATCH_SIZES = {{1, 50}, {1, 500}, {4, 500}};
+
+  @Autowired
+  private OrderService orderService;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private ProductRepository productRepository;
+
+  @Autowired
+  private InventoryRepository inventoryRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @AfterEach
+  void tearDown() {
+    jdbcTemplate.update("delete from outbox_event where aggregate_type = ?", BENCHMARK_AGGREGATE);
+  }
+
+  @Test
+  @DisplayName("주문 생성, 결제, 취소 이벤트가 주문과 같은 트랜잭션에서 아웃박스에 기록된다")
+  void orderLifecycleWritesOutboxEvents() {
+    // given
+    User user = userRepository.save(User.builder()
+        .name("kim")
+        .email(UUID.randomUUID() + "@gmail.com")
+        .password("1234")
+        .address("test-address")
+        .phoneNum("test-num")
+        .build());
+    Product product = productRepository.save(Product.builder()
+        .productName("outbox-product-" + UUID.randomUUID())
+        .price(new BigDecimal(1000))
+        .build());
+    inventoryRepository.save(Inventory.builder().product(product).quantity(10).build());
+
+    // when
+    OrderResponse order = orderService.createOrder(OrderRequest.builder()
+        .userId(user.getUserId())
+        .orderProductRequests(List.of(OrderProductRequest.builder()
+            .productId(product.getProductId())
+            .quantity(2)
+            .build()))
+        .build());
+    orderService.cancelOrder(order.getOrderId());
+
+    // then
+    List<String> eventTypes = jdbcTemplate.queryForList(
+        "select event_type from outbox_event where aggregate_type = 'ORDER' and aggregate_id = ? order by event_id",
+        String.class, order.getOrderId());
+    assertEquals(List.of(OutboxEventType.ORDER_CREATED.name(), OutboxEventType.PAYMENT_COMPLETED.name(),
+        OutboxEventType.ORDER_CANCELLED.name()), eventTypes);
+    String payload = jdbcTemplate.queryForObject(
+        "select payload from outbox_event where aggregate_id = ? and event_type = 'ORDER_CREATED'",
+        String.class, order.getOrderId());
+    assertTrue(payload.contains("\"productId\":" + product.getProductId()));
+  }
+
+  @Test
+  @DisplayName("싱크 전달에 실패한 묶음은 아웃박스에 남아 다음 시도에서 다시 전달된다")
+  void failedBatchIsRetried() {
+    // given: 첫 전달은 실패하는 싱크
+    seedEvents(3);
+    AtomicBoolean failed = new AtomicBoolean();
+    Map<Long, Integer> delivered = new ConcurrentHashMap<>();
+    OutboxSink flakySink = messages -> {
+      if (failed.compareAndSet(false, true)) {
+        throw new IllegalStateException("sink down");
+      }
+      messages.forEach(message -> delivered.merge(message.getEventId(), 1, Integer::sum));
+    };
+    OutboxRelay relay = new OutboxRelay(jdbcTemplate, flakySink, transactionManager, false, 1, 1_000, 10);
+
+    // when
+    assertThrows(IllegalStateException.class, relay::relayOnce);
+    int remaining = countBenchmarkEvents();
+    drain(relay);
+
+    // then
+    assertEquals(3, remaining);
+    assertEquals(0, countBenchmarkEvents());
+    assertTrue(delivered.values().stream().allMatch(count -> count == 1));
+  }
+
+  @Test
+  @DisplayName("워커들이 SKIP LOCKED 로 서로 다른 묶음을 가져가 이벤트를 한 번씩만 전달한다 (벤치마크)")
+  void relayThroughputScalesWithWorkersAndBatchSize() throws InterruptedException {
+    for (int[] config : WORKERS_AND_BATCH_SIZES) {
+      // given
+      int workers = config[0];
+      int batchSize = config[1];
+      seedEvents(EVENT_COUNT);
+      Queue<Long> delivered = new ConcurrentLinkedQueue<>();
+      OutboxSink sink = messages -> messages.stream()
+          .filter(message -> BENCHMARK_AGGREGATE.equals(message.getAggregateType()))
+          .map(OutboxMessage::getEventId)
+          .forEach(delivered::add);
+      OutboxRelay relay = new OutboxRelay(jdbcTemplate, sink, transactionManager, true, workers, batchSize, 10);
+
+      // when
+      long startNanos = System.nanoTime();
+      relay.start();
+      while (countBenchmarkEvents() > 0) {
+        Thread.sleep(20);
+      }
+      long elapsedMillis = Math.max(1, (System.nanoTime() - startNanos) / 1_000_000);
+      relay.stop();
+
+      // then
+      log.info("아웃박스 릴레이 workers: {}, batchSize: {} - {}건 {}ms ({}건/초)",
+          workers, batchSize, EVENT_COUNT, elapsedMillis, EVENT_COUNT * 1000L / elapsedMillis);
+      assertEquals(EVENT_COUNT, delivered.size());
+      assertEquals(EVENT_COUNT, delivered.stream().distinct().count());
+    }
+  }
+
+  /**
+   * 벤치마크용 이벤트를 JDBC 로 한 번에 넣는다 (H2 전용)
+   */
+  private void seedEvents(int count) {
+    jdbcTemplate.update("insert into outbox_event (aggregate_type, aggregate_id, event_type, payload, created_at) "
+        + "select ?, x, 'ORDER_CREATED', '{\"orderId\":' || x || '}', current_timestamp from system_range(1, ?)",
+        BENCHMARK_AGGREGATE, count);
+  }
+
+  private int countBenchmarkEvents() {
+    return jdbcTemplate.queryForObject("select count(*) from outbox_event where aggregate_type = ?",
+        Integer.class, BENCHMARK_AGGREGATE);
+  }
+
+  private void drain(OutboxRelay relay) {
+    while (relay.relayOnce() > 0) {
+      // 남은 이벤트가 없을 때까지 반복
+    }
+  }
+}
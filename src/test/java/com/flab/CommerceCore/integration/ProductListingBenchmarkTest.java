@@ -0,0 +1,103 @@
+package com.flab.CommerceCore.integration;
+
+import static com.flab.CommerceCore.common.query.QueryCounter.assertQueryBudget;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.flab.CommerceCore.common.pagination.CursorPage;
+import com.flab.CommerceCore.common.pagination.CursorPagination;
+import com.flab.CommerceCore.inventory.service.InventoryService;
+import com.flab.CommerceCore.product.domain.dto.ProductResponse;
+import com.flab.CommerceCore.product.service.ProductService;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest(properties = "pagination.max-limit=1000")
+@ActiveProfiles("test")
+class ProductListingBenchmarkTest {
+
+  private static final Logger log = LoggerFactory.getLogger(ProductListingBenchmarkTest.class);
+
+  private static final int[] PAGE_SIZES = {10, 100, 1000};
+  private static final int WARMUP = 5;
+  private static final int SAMPLES = 20;
+
+  @Autowired
+  private ProductService productService;
+
+  @Autowired
+  private InventoryService inventoryService;
+
+  @Autowired
+  private CursorPagination cursorPagination;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  private String prefix;
+  private String after;
+
+  @BeforeEach
+  void setUp() {
+    // given: 재고가 있는 상품 1,000 개 (H2 전용)
+    prefix = "listing-" + UUID.randomUUID() + "-";
+    jdbcTemplate.update("insert into product (product_id, product_name, price, create_time) "
+        + "select next value for product_seq, concat(?, x), 1000, current_timestamp from system_range(1, ?)",
+        prefix, PAGE_SIZES[PAGE_SIZES.length - 1]);
+    jdbcTemplate.update("insert into inventory (inventory_id, product_id, quantity, version, last_update) "
+        + "select next value for inventory_seq, product_id, 7, 0, current_timestamp from product "
+        + "where product_name like ?", prefix + "%");
+    Long firstProductId = jdbcTemplate.queryForObject(
+        "select min(product_id) from product where product_name like ?", Long.class, prefix + "%");
+    after = cursorPagination.encode(firstProductId - 1);
+  }
+
+  @AfterEach
+  void tearDown() {
+    jdbcTemplate.update("delete from inventory where product_id in "
+        + "(select product_id from product where product_name like ?)", prefix + "%");
+    jdbcTemplate.update("delete from product where product_name like ?", prefix + "%");
+  }
+
+  @Test
+  @DisplayName("상품 목록의 재고 수량을 한 번에 조회해 페이지 크기와 관계없이 쿼리 두 번으로 끝난다 (벤치마크)")
+  void listingQueriesDoNotGrowWithPageSize() {
+    for (int pageSize : PAGE_SIZES) {
+      // when
+      CursorPage<ProductResponse> page = assertQueryBudget(2, () -> productService.findProducts(after, pageSize));
+      List<Long> productIds = page.getContent().stream().map(ProductResponse::getProductId).toList();
+
+      measure(() -> productService.findProducts(after, pageSize), WARMUP);
+      measure(() -> productIds.forEach(inventoryService::findQuantityByProductId), WARMUP);
+      long batchedMicros = measure(() -> productService.findProducts(after, pageSize), SAMPLES) / 1_000;
+      long perProductMicros = measure(() -> productIds.forEach(inventoryService::findQuantityByProductId),
+          SAMPLES) / 1_000;
+
+      // then
+      log.info("상품 {}개 페이지 - 일괄 조회 목록 전체: {}us, 상품별 재고 조회만: {}us",
+          pageSize, batchedMicros, perProductMicros);
+      assertEquals(pageSize, page.getContent().size());
+      page.getContent().forEach(product -> assertEquals(7, product.getQuantity()));
+    }
+  }
+
+  /**
+   * count 번 실행하고 평균 소요 시간(ns)을 반환
+   */
+  private long measure(Runnable action, int count) {
+    long startNanos = System.nanoTime();
+    for (int i = 0; i < count; i++) {
+      action.run();
+    }
+    return (System.nanoTime() - startNanos) / count;
+  }
+}
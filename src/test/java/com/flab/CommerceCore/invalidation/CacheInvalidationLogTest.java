@@ -0,0 +1,118 @@
+package com.flab.CommerceCore.invalidation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+class CacheInvalidationLogTest {
+
+  private JdbcTemplate jdbcTemplate;
+  private CacheInvalidationLog nodeA;
+  private CacheInvalidationLog nodeB;
+  private final RecordingListener listenerA = new RecordingListener();
+  private final RecordingListener listenerB = new RecordingListener();
+
+  @BeforeEach
+  void setUp() {
+    jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+        "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", ""));
+    jdbcTemplate.execute("create table cache_invalidation ("
+        + "invalidation_id bigint generated by default as identity primary key, "
+        + "cache_name varchar(32) not null, cache_key bigint not null, "
+        + "origin_node varchar(36) not null, created_at timestamp not null)");
+    nodeA = createLog(listenerA);
+    nodeB = createLog(listenerB);
+    // 첫 폴링은 기준 ID 를 잡고 캐시를 비운다
+    nodeA.poll();
+    nodeB.poll();
+    listenerA.clear();
+    listenerB.clear();
+  }
+
+  @Test
+  @DisplayName("다른 노드가 남긴 무효화만 적용하고, 이미 읽은 로그는 다시 적용하지 않는다")
+  void appliesOnlyOtherNodesInvalidations() {
+    // given
+    nodeA.publish("product", 1L);
+    nodeA.publish("product", 2L);
+    nodeA.publish("user", 3L);
+
+    // when
+    nodeA.poll();
+    nodeB.poll();
+    nodeB.poll();
+
+    // then
+    assertEquals(List.of(), listenerA.evicted);
+    assertEquals(List.of(1L, 2L), listenerB.evicted);
+  }
+
+  @Test
+  @DisplayName("늦게 커밋되어 건너뛴 ID 의 로그도 다음 폴링에서 적용한다")
+  void appliesLateCommittedInvalidation() {
+    // given: 먼저 ID 를 받은 트랜잭션이 나중에 커밋된 상황
+    insert(2L, 20L);
+    nodeB.poll();
+
+    // when
+    insert(1L, 10L);
+    nodeB.poll();
+
+    // then
+    assertEquals(List.of(20L, 10L), listenerB.evicted);
+  }
+
+  @Test
+  @DisplayName("로그가 묶음 크기보다 많으면 여러 묶음으로 모두 읽는다")
+  void readsAllBatches() {
+    // given: 묶음 크기 2
+    for (long key = 1; key <= 5; key++) {
+      nodeA.publish("product", key);
+    }
+
+    // when
+    int count = nodeB.poll();
+
+    // then
+    assertEquals(5, count);
+    assertEquals(List.of(1L, 2L, 3L, 4L, 5L), listenerB.evicted);
+  }
+
+  private CacheInvalidationLog createLog(RecordingListener listener) {
+    CacheInvalidationLog invalidationLog = new CacheInvalidationLog(jdbcTemplate, true, 2, 10_000, 3600);
+    invalidationLog.register("product", listener);
+    return invalidationLog;
+  }
+
+  private void insert(long invalidationId, long key) {
+    jdbcTemplate.update("insert into cache_invalidation values (?, ?, ?, ?, ?)", invalidationId, "product", key,
+        "other-node", Timestamp.valueOf(LocalDateTime.now()));
+  }
+
+  private static class RecordingListener implements CacheInvalidationListener {
+
+    private final List<Long> evicted = new ArrayList<>();
+
+    @Override
+    public void evict(long key) {
+      evicted.add(key);
+    }
+
+    @Override
+    public void evictAll() {
+    }
+
+    private void clear() {
+      evicted.clear();
+    }
+  }
+}
@@ -0,0 +1,153 @@
+package com.flab.CommerceCore.inventory.coalescing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import com.flab.CommerceCore.common.exceptions.BusinessException;
+import com.flab.CommerceCore.common.exceptions.ErrorCode;
+import com.flab.CommerceCore.inventory.repository.InventoryRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class InventoryDecrementCoalescerTest {
+
+  @Mock
+  InventoryRepository inventoryRepository;
+
+  @Mock
+  PlatformTransactionManager transactionManager;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final AtomicInteger stock = new AtomicInteger();
+  private final AtomicInteger updateCount = new AtomicInteger();
+
+  private InventoryDecrementCoalescer coalescer;
+
+  @AfterEach
+  void tearDown() {
+    coalescer.stop();
+  }
+
+  @Test
+  @DisplayName("동시 차감 요청을 묶어 UPDATE 횟수를 줄이고 재고 이상으로 차감하지 않는다")
+  void coalesceConcurrentDecrements() throws InterruptedException {
+    // given: 재고 50개, 200건의 동시 차감
+    coalescer = createCoalescer(2000, 64);
+    stubInventory(50);
+    int requestCount = 200;
+    ExecutorService executorService = Executors.newFixedThreadPool(32);
+    CountDownLatch latch = new CountDownLatch(requestCount);
+    AtomicInteger successCount = new AtomicInteger();
+    AtomicInteger soldOutCount = new AtomicInteger();
+
+    // when
+    for (int i = 0; i < requestCount; i++) {
+      executorService.submit(() -> {
+        try {
+          coalescer.decrease(1L, 1);
+          successCount.incrementAndGet();
+        } catch (BusinessException e) {
+          if (e.getErrorCode() == ErrorCode.INSUFFICIENT_INVENTORY) {
+            soldOutCount.incrementAndGet();
+          }
+        } finally {
+          latch.countDown();
+        }
+      });
+    }
+    assertTrue(latch.await(10, TimeUnit.SECONDS));
+    executorService.shutdown();
+
+    // then
+    DistributionSummary batchSize = meterRegistry.get("inventory.decrement.batch.size").summary();
+    assertEquals(50, successCount.get());
+    assertEquals(requestCount - 50, soldOutCount.get());
+    assertEquals(0, stock.get());
+    assertEquals(requestCount, (long) batchSize.totalAmount());
+    assertTrue(batchSize.count() < requestCount);
+    assertTrue(updateCount.get() < requestCount);
+  }
+
+  @Test
+  @DisplayName("재고가 합계보다 적으면 도착 순서대로 들어가는 요청만 차감한다")
+  void partialAdmitInArrivalOrder() {
+    // given: 재고 6개에 3, 5, 2 개 요청이 한 묶음으로 도착
+    coalescer = createCoalescer(100_000, 64);
+    stubInventory(6);
+
+    // when
+    CompletableFuture<Boolean> first = coalescer.submit(1L, 3);
+    CompletableFuture<Boolean> second = coalescer.submit(1L, 5);
+    CompletableFuture<Boolean> third = coalescer.submit(1L, 2);
+
+    // then
+    assertTrue(first.join());
+    assertFalse(second.join());
+    assertTrue(third.join());
+    assertEquals(1, stock.get());
+    assertEquals(1.0, meterRegistry.get("inventory.decrement.batch.partial").counter().count());
+  }
+
+  @Test
+  @DisplayName("처리를 마친 상품의 큐는 지운다")
+  void removeIdleLanes() throws InterruptedException {
+    // given
+    coalescer = createCoalescer(1_000, 64);
+    stubInventory(10);
+
+    // when
+    assertTrue(coalescer.submit(1L, 1).join());
+    assertTrue(coalescer.submit(1L, 1).join());
+
+    // then: 결과를 돌려준 뒤 큐를 지우므로 잠시 기다린다
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (coalescer.laneCount() > 0 && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+    assertEquals(0, coalescer.laneCount());
+    assertEquals(8, stock.get());
+  }
+
+  private InventoryDecrementCoalescer createCoalescer(long windowMicros, int maxBatch) {
+    return new InventoryDecrementCoalescer(inventoryRepository, transactionManager, meterRegistry,
+        true, windowMicros, maxBatch, 2, 5000);
+  }
+
+  private void stubInventory(int quantity) {
+    stock.set(quantity);
+    when(inventoryRepository.decreaseQuantity(eq(1L), anyInt())).thenAnswer(invocation -> {
+      int requested = invocation.getArgument(1);
+      updateCount.incrementAndGet();
+      int current;
+      do {
+        current = stock.get();
+        if (current < requested) {
+          return 0;
+        }
+      } while (!stock.compareAndSet(current, current - requested));
+      return 1;
+    });
+    when(inventoryRepository.findQuantityByProductId(1L)).thenAnswer(invocation -> stock.get());
+  }
+}
@@ -4,7 +4,9 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -12,8 +14,16 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import com.flab.CommerceCore.common.exceptions.BusinessException;
 import com.flab.CommerceCore.common.exceptions.ErrorCode;
 import com.flab.CommerceCore.common.exceptions.GlobalExceptionHandler;
+import com.flab.CommerceCore.inventory.domain.dto.InventoryBulkResponse;
+import com.flab.CommerceCore.inventory.domain.dto.InventoryBulkResult;
+import com.flab.CommerceCore.inventory.domain.dto.InventoryLedgerQuantityResponse;
 import com.flab.CommerceCore.inventory.domain.dto.InventoryResponse;
+import com.flab.CommerceCore.inventory.ledger.InventoryLedgerService;
+import com.flab.CommerceCore.inventory.service.InventoryBulkService;
 import com.flab.CommerceCore.inventory.service.InventoryService;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -33,6 +43,12 @@ class InventoryControllerTest {
   @Mock
   private InventoryService inventoryService;
 
+  @Mock
+  private InventoryLedgerService ledgerService;
+
+  @Mock
+  private InventoryBulkService bulkService;
+
   private MockMvc mockMvc;
 
   @BeforeEach
@@ -185,10 +201,74 @@ class InventoryControllerTest {
     verify(inventoryService, times(1)).increaseQuantity(1L, -10);
   }
 
+  @Test
+  @DisplayName("시점을 지정하면 재고 원장으로 재구성한 그 시점의 재고 수량 반환")
+  void findQuantityAtSuccess() throws Exception {
+    // given
+    LocalDateTime at = LocalDateTime.of(2024, 8, 1, 12, 0);
+    InventoryLedgerQuantityResponse response = InventoryLedgerQuantityResponse.builder()
+        .productId(1L)
+        .quantity(42)
+        .build();
 
+    // when
+    when(ledgerService.quantityAt(1L, at)).thenReturn(response);
 
+    // then
+    mockMvc.perform(get("/inventory/1/ledger/quantity")
+            .param("at", "2024-08-01T12:00:00"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.productId").value(1L))
+        .andExpect(jsonPath("$.quantity").value(42));
 
-}
+    verify(ledgerService, times(1)).quantityAt(1L, at);
+  }
 
+  @Test
+  @DisplayName("일괄 재고 조정은 행 단위 결과를 반환")
+  void bulkAdjustSuccess() throws Exception {
+    // given
+    InventoryBulkResponse response = InventoryBulkResponse.builder()
+        .total(2)
+        .succeeded(1)
+        .failed(1)
+        .results(List.of(
+            InventoryBulkResult.builder().index(0).productId(1L).success(true).quantity(15).build(),
+            InventoryBulkResult.builder().index(1).productId(2L).success(false)
+                .errorCode(ErrorCode.INSUFFICIENT_INVENTORY.name()).build()))
+        .build();
 
+    // when
+    when(bulkService.adjust(any(InputStream.class))).thenReturn(response);
 
+    // then
+    mockMvc.perform(post("/inventory/bulk")
+            .content("[{\"productId\":1,\"operation\":\"INCREASE\",\"quantity\":5},"
+                + "{\"productId\":2,\"operation\":\"DECREASE\",\"quantity\":99}]")
+            .contentType(MediaType.APPLICATION_JSON))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.succeeded").value(1))
+        .andExpect(jsonPath("$.results[0].quantity").value(15))
+        .andExpect(jsonPath("$.results[1].errorCode").value("INSUFFICIENT_INVENTORY"));
+  }
+
+  @Test
+  @DisplayName("일괄 요청 본문이 깨지면 BadRequest 와 함께 그 앞까지의 결과를 반환")
+  void bulkAdjustWithMalformedBody() throws Exception {
+    // given
+    InventoryBulkResponse response = InventoryBulkResponse.builder()
+        .errorCode(ErrorCode.INVALID_BULK_REQUEST.name())
+        .results(List.of())
+        .build();
+
+    // when
+    when(bulkService.adjust(any(InputStream.class))).thenReturn(response);
+
+    // then
+    mockMvc.perform(post("/inventory/bulk")
+            .content("[{\"productId\":")
+            .contentType(MediaType.APPLICATION_JSON))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.errorCode").value("INVALID_BULK_REQUEST"));
+  }
+}
@@ -0,0 +1,188 @@
+package com.flab.CommerceCore.inventory.engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.flab.CommerceCore.common.exceptions.BusinessException;
+import com.flab.CommerceCore.common.exceptions.ErrorCode;
+import com.flab.CommerceCore.inventory.domain.entity.Inventory;
+import com.flab.CommerceCore.inventory.repository.InventoryJournalCheckpointRepository;
+import com.flab.CommerceCore.inventory.repository.InventoryRepository;
+import com.flab.CommerceCore.product.domain.entity.Product;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class InventoryCounterEngineTest {
+
+  @Mock
+  InventoryRepository inventoryRepository;
+
+  @Mock
+  InventoryJournalCheckpointRepository checkpointRepository;
+
+  @Mock
+  PlatformTransactionManager transactionManager;
+
+  @TempDir
+  Path journalDir;
+
+  private InventoryCounterEngine engine;
+
+  @BeforeEach
+  void setUp() {
+    when(checkpointRepository.findById("test")).thenReturn(Optional.empty());
+    when(inventoryRepository.findAllByProductIdForUpdate(List.of(1L))).thenReturn(List.of(createInventory(100)));
+
+    engine = createEngine();
+    engine.start();
+  }
+
+  @Test
+  @DisplayName("재고 범위 안에서 메모리 카운터로 차감")
+  void decreaseInMemory() {
+    int remaining = engine.decrease(1L, 30);
+
+    assertEquals(70, remaining);
+    assertEquals(70, engine.getQuantity(1L));
+    verify(inventoryRepository, never()).decreaseQuantity(any(), anyInt());
+  }
+
+  @Test
+  @DisplayName("재고보다 많이 차감하면 예외가 발생하고 수량은 그대로")
+  void decreaseInsufficient() {
+    BusinessException exception = assertThrows(BusinessException.class, () -> engine.decrease(1L, 101));
+
+    assertEquals(ErrorCode.INSUFFICIENT_INVENTORY, exception.getErrorCode());
+    assertEquals(100, engine.getQuantity(1L));
+  }
+
+  @Test
+  @DisplayName("동시 차감에도 재고가 음수가 되지 않는다")
+  void concurrentDecreaseNeverOversells() throws InterruptedException {
+    ExecutorService executorService = Executors.newFixedThreadPool(16);
+    CountDownLatch latch = new CountDownLatch(1000);
+    AtomicInteger successCount = new AtomicInteger();
+
+    for (int i = 0; i < 1000; i++) {
+      executorService.submit(() -> {
+        try {
+          engine.decrease(1L, 1);
+          successCount.incrementAndGet();
+        } catch (BusinessException ignored) {
+          // 재고 부족
+        } finally {
+          latch.countDown();
+        }
+      });
+    }
+    latch.await(10, TimeUnit.SECONDS);
+    executorService.shutdown();
+
+    assertEquals(100, successCount.get());
+    assertEquals(0, engine.getQuantity(1L));
+  }
+
+  @Test
+  @DisplayName("플러시하면 누적된 순 변경분만 한 번에 DB 에 반영")
+  void flushAppliesNetDelta() {
+    engine.decrease(1L, 10);
+    engine.decrease(1L, 5);
+    engine.increase(1L, 3);
+
+    engine.flush();
+
+    verify(inventoryRepository, times(1)).adjustQuantity(1L, -12);
+    verify(checkpointRepository, times(1)).save(any());
+  }
+
+  @Test
+  @DisplayName("등록 중 DB 경로로 차감된 수량은 첫 플러시에서 카운터에 반영")
+  void firstFlushReconcilesDriftFromDatabasePath() {
+    // given: 등록 전에 DB 경로를 고른 요청이 락이 풀린 뒤 10개를 차감
+    engine.decrease(1L, 30);
+    when(inventoryRepository.findAllByProductIdForUpdate(List.of(1L))).thenReturn(List.of(createInventory(90)));
+
+    // when
+    engine.flush();
+    engine.decrease(1L, 5);
+    engine.flush();
+
+    // then: 두 번째 플러시는 다시 맞추지 않는다
+    assertEquals(55, engine.getQuantity(1L));
+    verify(inventoryRepository, times(1)).adjustQuantity(1L, -30);
+    verify(inventoryRepository, times(1)).adjustQuantity(1L, -5);
+    verify(inventoryRepository, times(2)).findAllByProductIdForUpdate(List.of(1L));
+  }
+
+  @Test
+  @DisplayName("반영되지 않은 저널은 재시작 시 DB 에 다시 적용")
+  void recoverFromJournalAfterCrash() {
+    engine.decrease(1L, 20);
+    engine.update(1L, 50);
+    // 플러시 없이 종료된 상황에서 같은 저널 디렉터리로 다시 시작
+
+    InventoryCounterEngine restarted = createEngine();
+    restarted.start();
+
+    verify(inventoryRepository, times(1)).adjustQuantity(1L, -50);
+  }
+
+  @Test
+  @DisplayName("여러 스레드가 나눠 기록한 저널 스트라이프를 재시작 시 모두 합산해 적용")
+  void recoverSumsAllStripes() throws InterruptedException {
+    // given: 16개 스레드가 각자의 스트라이프에 기록
+    ExecutorService executorService = Executors.newFixedThreadPool(16);
+    CountDownLatch latch = new CountDownLatch(64);
+    for (int i = 0; i < 64; i++) {
+      executorService.submit(() -> {
+        try {
+          engine.decrease(1L, 1);
+        } finally {
+          latch.countDown();
+        }
+      });
+    }
+    latch.await(10, TimeUnit.SECONDS);
+    executorService.shutdown();
+
+    // when: 플러시 없이 종료된 뒤 다시 시작
+    InventoryCounterEngine restarted = createEngine();
+    restarted.start();
+
+    // then
+    verify(inventoryRepository, times(1)).adjustQuantity(1L, -64);
+  }
+
+  private Inventory createInventory(int quantity) {
+    return Inventory.builder().product(Product.builder().productName("hot").build()).quantity(quantity).build();
+  }
+
+  private InventoryCounterEngine createEngine() {
+    return new InventoryCounterEngine(inventoryRepository, checkpointRepository, transactionManager,
+        List.of(1L), journalDir.toString(), 4, "test");
+  }
+}
@@ -0,0 +1,166 @@
+package com.flab.CommerceCore.inventory.ledger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.flab.CommerceCore.common.enums.InventoryLedgerReason;
+import com.flab.CommerceCore.common.exceptions.BusinessException;
+import com.flab.CommerceCore.common.exceptions.ErrorCode;
+import com.flab.CommerceCore.inventory.domain.entity.InventoryLedger;
+import com.flab.CommerceCore.inventory.domain.entity.InventorySnapshot;
+import com.flab.CommerceCore.inventory.repository.InventoryLedgerRepository;
+import com.flab.CommerceCore.inventory.repository.InventorySnapshotRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class InventoryLedgerServiceTest {
+
+  private static final Long PRODUCT_ID = 1L;
+
+  @Autowired
+  private InventoryLedgerRepository ledgerRepository;
+
+  @Autowired
+  private InventorySnapshotRepository snapshotRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  private InventoryLedgerRecorder ledgerRecorder;
+  private InventoryLedgerService ledgerService;
+
+  @BeforeEach
+  void setUp() {
+    ledgerRecorder = new InventoryLedgerRecorder(jdbcTemplate, true, 500);
+    ledgerService = new InventoryLedgerService(ledgerRepository, snapshotRepository, jdbcTemplate,
+        transactionManager, true, 0, false);
+  }
+
+  @AfterEach
+  void tearDown() {
+    snapshotRepository.deleteAll();
+    ledgerRepository.deleteAll();
+  }
+
+  @Test
+  @DisplayName("스냅샷과 이후 원장을 더해 현재 수량을, 원장만으로 과거 시점 수량을 재구성")
+  void quantityAtReplaysSnapshotAndTail() throws InterruptedException {
+    // given
+    ledgerRecorder.record(PRODUCT_ID, 100, InventoryLedgerReason.INITIAL);
+    ledgerRecorder.record(PRODUCT_ID, -30, InventoryLedgerReason.ORDER);
+    LocalDateTime afterOrder = LocalDateTime.now();
+    Thread.sleep(10);
+    ledgerRecorder.record(PRODUCT_ID, -20, InventoryLedgerReason.MANUAL_DECREASE);
+
+    // when
+    int created = ledgerService.snapshot();
+    ledgerRecorder.record(PRODUCT_ID, 5, InventoryLedgerReason.ORDER_CANCEL);
+
+    // then
+    assertEquals(1, created);
+    assertEquals(70, ledgerService.quantityAt(PRODUCT_ID, afterOrder).getQuantity());
+    assertEquals(55, ledgerService.quantityAt(PRODUCT_ID, LocalDateTime.now()).getQuantity());
+  }
+
+  @Test
+  @DisplayName("마지막 스냅샷 이후 변경된 상품에 대해서만 새 스냅샷을 만든다")
+  void snapshotOnlyChangedProducts() {
+    // given
+    ledgerRecorder.record(PRODUCT_ID, 10, InventoryLedgerReason.INITIAL);
+    ledgerRecorder.record(2L, 20, InventoryLedgerReason.INITIAL);
+    ledgerService.snapshot();
+
+    // when
+    ledgerRecorder.record(2L, -5, InventoryLedgerReason.ORDER);
+    int created = ledgerService.snapshot();
+
+    // then
+    assertEquals(1, created);
+    assertEquals(0, ledgerService.snapshot());
+    assertEquals(10, ledgerService.quantityAt(PRODUCT_ID, LocalDateTime.now()).getQuantity());
+    assertEquals(15, snapshotRepository.findTopByProductIdOrderByLastLedgerIdDesc(2L).get().getQuantity());
+  }
+
+  @Test
+  @DisplayName("같은 상품, 같은 원장 위치의 스냅샷은 한 번만 기록할 수 있다")
+  void duplicateSnapshotIsRejected() {
+    // given: 다른 노드가 같은 구간의 스냅샷을 먼저 만든 상황
+    ledgerRecorder.record(PRODUCT_ID, 10, InventoryLedgerReason.INITIAL);
+    ledgerService.snapshot();
+    InventorySnapshot existing = snapshotRepository.findTopByProductIdOrderByLastLedgerIdDesc(PRODUCT_ID).get();
+
+    // when & then
+    assertThrows(DataIntegrityViolationException.class, () -> snapshotRepository.saveAndFlush(
+        InventorySnapshot.builder()
+            .productId(PRODUCT_ID)
+            .quantity(20)
+            .lastLedgerId(existing.getLastLedgerId())
+            .asOf(existing.getAsOf())
+            .build()));
+    assertEquals(10, ledgerService.quantityAt(PRODUCT_ID, LocalDateTime.now()).getQuantity());
+  }
+
+  @Test
+  @DisplayName("원장이 꺼져 있으면 스냅샷을 만들지 않고 시점 조회는 실패한다")
+  void disabledLedger() {
+    // given
+    InventoryLedgerService disabledService = new InventoryLedgerService(ledgerRepository, snapshotRepository,
+        jdbcTemplate, transactionManager, false, 0, true);
+    ledgerRecorder.record(PRODUCT_ID, 10, InventoryLedgerReason.INITIAL);
+
+    // when
+    disabledService.backfillOpeningBalances();
+    int created = disabledService.snapshot();
+
+    // then
+    assertEquals(0, created);
+    assertEquals(1, ledgerRepository.count());
+    BusinessException exception = assertThrows(BusinessException.class,
+        () -> disabledService.quantityAt(PRODUCT_ID, LocalDateTime.now()));
+    assertEquals(ErrorCode.INVENTORY_LEDGER_DISABLED, exception.getErrorCode());
+  }
+
+  @Test
+  @DisplayName("트랜잭션 안에서 기록한 원장은 커밋할 때 주문 ID 와 함께 쓰이고, 롤백하면 버려진다")
+  void recordInsideTransactionIsWrittenOnCommit() {
+    // given
+    TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+    // when
+    transactionTemplate.executeWithoutResult(status -> {
+      ledgerRecorder.record(PRODUCT_ID, -2, InventoryLedgerReason.ORDER);
+      ledgerRecorder.record(2L, -3, InventoryLedgerReason.ORDER);
+      ledgerRecorder.attachOrder(10L);
+      assertTrue(ledgerRepository.findAll().isEmpty());
+    });
+    transactionTemplate.executeWithoutResult(status -> {
+      ledgerRecorder.record(PRODUCT_ID, -4, InventoryLedgerReason.ORDER);
+      status.setRollbackOnly();
+    });
+
+    // then
+    List<InventoryLedger> ledgers = ledgerRepository.findAll();
+    assertEquals(2, ledgers.size());
+    assertTrue(ledgers.stream().allMatch(ledger -> ledger.getOrderId() == 10L));
+  }
+}
@@ -7,6 +7,7 @@ import com.flab.CommerceCore.inventory.domain.entity.Inventory;
 import com.flab.CommerceCore.product.domain.entity.Product;
 import com.flab.CommerceCore.product.repository.ProductRepository;
 import java.math.BigDecimal;
+import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -50,6 +51,35 @@ class InventoryRepositoryTest {
     assertEquals(find.getProduct().getProductId(),product.getProductId());
   }
 
+  @Test
+  @DisplayName("재고와 조인하여 재고가 있는 상품만 한 번에 조회")
+  void findProductsWithInventory() {
+    // given: 재고가 있는 상품과 없는 상품
+    Product stocked = productRepository.save(Product.builder()
+        .productName("Apple")
+        .description("Red")
+        .price(new BigDecimal(150))
+        .build());
+    Product unstocked = productRepository.save(Product.builder()
+        .productName("Banana")
+        .description("Yellow")
+        .price(new BigDecimal(100))
+        .build());
+    inventoryRepository.save(Inventory.builder()
+        .product(stocked)
+        .quantity(10)
+        .build());
+
+    // when
+    List<Product> products = inventoryRepository.findProductsWithInventory(
+        List.of(stocked.getProductId(), unstocked.getProductId(), -1L));
+
+    // then
+    assertEquals(1, products.size());
+    assertEquals(stocked.getProductId(), products.get(0).getProductId());
+    assertEquals("Apple", products.get(0).getProductName());
+  }
+
   @Test
   @DisplayName("inventory 삭제 시 product 같이 삭제")
   void deleteInventoryById() {
@@ -125,4 +155,28 @@ class InventoryRepositoryTest {
   }
 
 
+  @Test
+  @DisplayName("조건부 UPDATE 재고 차감 - 재고가 충분할 때만 차감")
+  void decreaseQuantityOnlyWhenEnough() {
+    Product product = productRepository.save(Product.builder()
+        .productName("Apple")
+        .description("Red")
+        .price(new BigDecimal(150)).
+        build());
+
+    inventoryRepository.save(Inventory.builder()
+        .product(product)
+        .quantity(10)
+        .build());
+
+    // when
+    int decreased = inventoryRepository.decreaseQuantity(product.getProductId(), 7);
+    int rejected = inventoryRepository.decreaseQuantity(product.getProductId(), 7);
+
+    // then
+    assertEquals(1, decreased);
+    assertEquals(0, rejected);
+    assertEquals(3, inventoryRepository.findByProductId(product.getProductId()).getQuantity());
+  }
+
 }
\ No newline at end of file
@@ -0,0 +1,251 @@
+package com.flab.CommerceCore.inventory.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.flab.CommerceCore.common.enums.InventoryLedgerReason;
+import com.flab.CommerceCore.common.enums.ReservationStatus;
+import com.flab.CommerceCore.common.exceptions.BusinessException;
+import com.flab.CommerceCore.common.exceptions.ErrorCode;
+import com.flab.CommerceCore.inventory.domain.entity.InventoryReservation;
+import com.flab.CommerceCore.inventory.ledger.InventoryLedgerRecorder;
+import com.flab.CommerceCore.inventory.repository.InventoryReservationRepository;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class InventoryReservationServiceTest {
+
+  @Mock
+  InventoryReservationRepository reservationRepository;
+
+  @Mock
+  InventoryService inventoryService;
+
+  @Mock
+  InventoryLedgerRecorder ledgerRecorder;
+
+  @Mock
+  PlatformTransactionManager transactionManager;
+
+  InventoryReservationService reservationService;
+
+  @BeforeEach
+  void setUp() {
+    reservationService = createService(600);
+  }
+
+  @AfterEach
+  void tearDown() {
+    reservationService.stop();
+  }
+
+  @Test
+  @DisplayName("예약 시 상품별로 재고를 차감하고 예약을 생성한다")
+  void reserveSuccess() {
+    // given
+    stubSave();
+    Map<Long, Integer> productQuantities = new LinkedHashMap<>();
+    productQuantities.put(1L, 2);
+    productQuantities.put(2L, 3);
+
+    // when
+    List<Long> reservationIds = reservationService.reserve(productQuantities);
+
+    // then
+    assertEquals(List.of(1L, 2L), reservationIds);
+    verify(inventoryService).decreaseStocks(productQuantities);
+  }
+
+  @Test
+  @DisplayName("재고가 부족하면 예약을 생성하지 않는다")
+  void reserveFailInsufficient() {
+    // given
+    doThrow(BusinessException.create(ErrorCode.INSUFFICIENT_INVENTORY))
+        .when(inventoryService).decreaseStocks(Map.of(1L, 5));
+
+    // when
+    BusinessException exception = assertThrows(BusinessException.class,
+        () -> reservationService.reserve(Map.of(1L, 5)));
+
+    // then
+    assertEquals(ErrorCode.INSUFFICIENT_INVENTORY, exception.getErrorCode());
+    verify(reservationRepository, never()).save(any(InventoryReservation.class));
+  }
+
+  @Test
+  @DisplayName("만료된 예약이 섞여 있으면 확정에 실패한다")
+  void confirmFailExpired() {
+    // given
+    when(reservationRepository.confirmAll(List.of(1L, 2L), 10L)).thenReturn(1);
+
+    // when
+    BusinessException exception = assertThrows(BusinessException.class,
+        () -> reservationService.confirm(List.of(1L, 2L), 10L));
+
+    // then
+    assertEquals(ErrorCode.RESERVATION_EXPIRED, exception.getErrorCode());
+  }
+
+  @Test
+  @DisplayName("결제 전 주문에 묶어 둔 예약은 결제 승인 후 주문 ID 로 확정한다")
+  void assignThenConfirmByOrderId() {
+    // given
+    when(reservationRepository.assignAll(List.of(1L, 2L), 10L)).thenReturn(2);
+    when(reservationRepository.findAllByOrderId(10L))
+        .thenReturn(List.of(createReservation(1L, 7L, 3), createReservation(2L, 8L, 1)));
+    when(reservationRepository.confirmAll(List.of(1L, 2L), 10L)).thenReturn(2);
+
+    // when
+    reservationService.assign(List.of(1L, 2L), 10L);
+    reservationService.confirmByOrderId(10L);
+
+    // then
+    verify(reservationRepository).confirmAll(List.of(1L, 2L), 10L);
+    verify(inventoryService, never()).increaseStock(anyLong(), anyInt(), any());
+  }
+
+  @Test
+  @DisplayName("주문 취소 시 주문에 묶인 예약의 재고를 되돌린다")
+  void releaseByOrderIdRestoresStock() {
+    // given
+    InventoryReservation reservation = createReservation(1L, 7L, 3);
+    when(reservationRepository.findAllByOrderId(10L)).thenReturn(List.of(reservation));
+    when(reservationRepository.transitionStatus(eq(1L), anyCollection(), eq(ReservationStatus.RELEASED)))
+        .thenReturn(1);
+
+    // when
+    reservationService.releaseByOrderId(10L);
+
+    // then
+    verify(inventoryService).increaseStock(7L, 3, InventoryLedgerReason.ORDER_CANCEL);
+    verify(ledgerRecorder).attachOrder(10L);
+  }
+
+  @Test
+  @DisplayName("이미 확정된 예약은 만료되어도 재고를 되돌리지 않는다")
+  void expireSkipsConfirmedReservation() {
+    // given
+    InventoryReservation reservation = createReservation(1L, 7L, 3);
+    when(reservationRepository.findById(1L)).thenReturn(Optional.of(reservation));
+    when(reservationRepository.transitionStatus(eq(1L), anyCollection(), eq(ReservationStatus.EXPIRED)))
+        .thenReturn(0);
+
+    // when
+    reservationService.expire(1L);
+
+    // then
+    verify(inventoryService, never()).increaseStock(anyLong(), anyInt(), any());
+  }
+
+  @Test
+  @DisplayName("확정되지 않은 예약은 TTL 이 지나면 타이머가 만료시키고 재고를 되돌린다")
+  void reservationExpiresAfterTtl() {
+    // given: TTL 0초
+    reservationService.stop();
+    reservationService = createService(0);
+    InventoryReservation reservation = createReservation(1L, 7L, 3);
+    when(reservationRepository.save(any(InventoryReservation.class))).thenReturn(reservation);
+    when(reservationRepository.findById(1L)).thenReturn(Optional.of(reservation));
+    when(reservationRepository.transitionStatus(eq(1L), anyCollection(), eq(ReservationStatus.EXPIRED)))
+        .thenReturn(1);
+
+    // when
+    reservationService.reserve(Map.of(7L, 3));
+
+    // then
+    verify(inventoryService, timeout(2000)).increaseStock(7L, 3, InventoryLedgerReason.RESERVATION_EXPIRED);
+  }
+
+  @Test
+  @DisplayName("재시작 시 만료 시각이 지난 예약은 바로 만료시키고, 타이머가 가득 차도 기동을 멈추지 않는다")
+  void recoveryExpiresOverdueAndSkipsWhenTimerFull() {
+    // given: 타이머에 예약 하나만 등록할 수 있는 서비스
+    reservationService.stop();
+    reservationService = createService(600, 1);
+    LocalDateTime later = LocalDateTime.now().plusMinutes(10);
+    when(reservationRepository.findReservedExpiriesAfter(eq(0L), any())).thenReturn(List.of(
+        new Object[]{1L, LocalDateTime.now().minusMinutes(1)},
+        new Object[]{2L, later},
+        new Object[]{3L, later}));
+    InventoryReservation overdue = createReservation(1L, 7L, 3);
+    when(reservationRepository.findById(1L)).thenReturn(Optional.of(overdue));
+    when(reservationRepository.transitionStatus(eq(1L), anyCollection(), eq(ReservationStatus.EXPIRED)))
+        .thenReturn(1);
+
+    // when
+    reservationService.recoverPendingReservations();
+
+    // then
+    verify(inventoryService).increaseStock(7L, 3, InventoryLedgerReason.RESERVATION_EXPIRED);
+    verify(reservationRepository, never()).findById(2L);
+  }
+
+  @Test
+  @DisplayName("만료 시각이 지난 RESERVED 예약은 주기적 스캔이 만료시킨다")
+  void sweepExpiresOverdueReservations() {
+    // given: 다른 노드가 만든 예약이라 이 노드의 타이머에는 없다
+    when(reservationRepository.findOverdueReservationIds(any(), eq(0L), any())).thenReturn(List.of(1L));
+    InventoryReservation reservation = createReservation(1L, 7L, 3);
+    when(reservationRepository.findById(1L)).thenReturn(Optional.of(reservation));
+    when(reservationRepository.transitionStatus(eq(1L), anyCollection(), eq(ReservationStatus.EXPIRED)))
+        .thenReturn(1);
+
+    // when
+    reservationService.expireOverdueReservations();
+
+    // then
+    verify(inventoryService).increaseStock(7L, 3, InventoryLedgerReason.RESERVATION_EXPIRED);
+  }
+
+  private InventoryReservationService createService(long ttlSeconds) {
+    return createService(ttlSeconds, 1000);
+  }
+
+  private InventoryReservationService createService(long ttlSeconds, long maxPending) {
+    return new InventoryReservationService(reservationRepository, inventoryService, ledgerRecorder,
+        transactionManager, ttlSeconds, 10, 64, maxPending);
+  }
+
+  private void stubSave() {
+    AtomicLong sequence = new AtomicLong();
+    when(reservationRepository.save(any(InventoryReservation.class))).thenAnswer(invocation -> {
+      InventoryReservation reservation = invocation.getArgument(0);
+      ReflectionTestUtils.setField(reservation, "reservationId", sequence.incrementAndGet());
+      return reservation;
+    });
+  }
+
+  private InventoryReservation createReservation(Long reservationId, Long productId, int quantity) {
+    InventoryReservation reservation = InventoryReservation.builder()
+        .productId(productId)
+        .quantity(quantity)
+        .expiresAt(LocalDateTime.now())
+        .build();
+    ReflectionTestUtils.setField(reservation, "reservationId", reservationId);
+    return reservation;
+  }
+}
@@ -2,20 +2,33 @@ package com.flab.CommerceCore.inventory.service;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.flab.CommerceCore.common.Mapper.InventoryMapper;
+import com.flab.CommerceCore.common.collection.LongIntHashMap;
+import com.flab.CommerceCore.common.enums.InventoryLedgerReason;
+import com.flab.CommerceCore.common.enums.InventoryLockMode;
 import com.flab.CommerceCore.common.exceptions.BusinessException;
 import com.flab.CommerceCore.common.exceptions.ErrorCode;
+import com.flab.CommerceCore.inventory.coalescing.InventoryDecrementCoalescer;
 import com.flab.CommerceCore.inventory.domain.dto.InventoryResponse;
 import com.flab.CommerceCore.inventory.domain.entity.Inventory;
+import com.flab.CommerceCore.inventory.engine.InventoryCounterEngine;
+import com.flab.CommerceCore.inventory.ledger.InventoryLedgerRecorder;
 import com.flab.CommerceCore.inventory.repository.InventoryRepository;
+import com.flab.CommerceCore.inventory.sharding.InventoryShardManager;
 import com.flab.CommerceCore.product.domain.entity.Product;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -23,6 +36,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.dao.DataAccessException;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
 class InventoryServiceTest {
@@ -36,6 +50,18 @@ class InventoryServiceTest {
   @Mock
   InventoryMapper mapper;
 
+  @Mock
+  InventoryCounterEngine counterEngine;
+
+  @Mock
+  InventoryDecrementCoalescer decrementCoalescer;
+
+  @Mock
+  InventoryShardManager shardManager;
+
+  @Mock
+  InventoryLedgerRecorder ledgerRecorder;
+
   @Test
   @DisplayName("정상적인 재고 생성 테스트")
   void createInventorySuccess() {
@@ -329,6 +355,201 @@ class InventoryServiceTest {
     assertEquals(ErrorCode.NEGATIVE_QUANTITY,exception.getErrorCode());
   }
 
+  @Test
+  @DisplayName("조건부 UPDATE 재고 차감 성공 테스트")
+  void decreaseStockSuccess() {
+    // given
+    when(inventoryRepository.decreaseQuantity(1L, 5)).thenReturn(1);
+
+    // when
+    inventoryService.decreaseStock(1L, 5);
+
+    // then
+    verify(inventoryRepository, times(1)).decreaseQuantity(1L, 5);
+  }
+
+  @Test
+  @DisplayName("조건부 UPDATE 로 차감된 행이 없으면 재고 부족 예외 발생 테스트")
+  void decreaseStockFailInsufficient() {
+    // given
+    when(inventoryRepository.decreaseQuantity(1L, 5)).thenReturn(0);
+
+    // when/then
+    BusinessException exception = assertThrows(BusinessException.class, () -> {
+      inventoryService.decreaseStock(1L, 5);
+    });
+
+    assertEquals(ErrorCode.INSUFFICIENT_INVENTORY, exception.getErrorCode());
+  }
+
+  @Test
+  @DisplayName("카운터 엔진에 등록된 상품은 메모리에서 재고를 차감")
+  void decreaseStockWithCounterEngine() {
+    // given
+    when(counterEngine.isManaged(1L)).thenReturn(true);
+
+    // when
+    inventoryService.decreaseStock(1L, 5);
+
+    // then
+    verify(counterEngine, times(1)).decrease(1L, 5);
+    verify(inventoryRepository, times(0)).decreaseQuantity(1L, 5);
+  }
+
+  @Test
+  @DisplayName("요청 결합이 켜져 있으면 결합 큐를 통해 재고를 차감")
+  void decreaseStockWithCoalescer() {
+    // given
+    when(decrementCoalescer.isEnabled()).thenReturn(true);
+
+    // when
+    inventoryService.decreaseStock(1L, 5);
+
+    // then
+    verify(decrementCoalescer, times(1)).decrease(1L, 5);
+    verify(inventoryRepository, times(0)).decreaseQuantity(1L, 5);
+  }
+
+  @Test
+  @DisplayName("샤딩된 상품의 재고 수량은 버킷 수량의 합으로 조회")
+  void findQuantityOfShardedProduct() {
+    // given
+    when(shardManager.isSharded(1L)).thenReturn(true);
+    when(inventoryRepository.findByProductId(1L)).thenReturn(createTestInventory(createTestProduct(1L), 0));
+    when(shardManager.getQuantity(1L)).thenReturn(40);
+
+    // when
+    int quantity = inventoryService.findQuantityByProductId(1L);
+
+    // then
+    assertEquals(40, quantity);
+  }
+
+  @Test
+  @DisplayName("샤딩된 상품은 버킷에서 재고를 차감")
+  void decreaseStockOfShardedProduct() {
+    // given
+    when(shardManager.isSharded(1L)).thenReturn(true);
+
+    // when
+    inventoryService.decreaseStock(1L, 5);
+
+    // then
+    verify(shardManager, times(1)).decrease(1L, 5);
+    verify(inventoryRepository, times(0)).decreaseQuantity(1L, 5);
+  }
+
+  @Test
+  @DisplayName("PESSIMISTIC 모드에서는 재고 행을 상품 ID 순서로 잠근 뒤 차감")
+  void decreaseStocksWithPessimisticLock() {
+    // given: 요청은 2번, 1번 상품 순서
+    ReflectionTestUtils.setField(inventoryService, "lockMode", InventoryLockMode.PESSIMISTIC);
+    Inventory first = createTestInventory(createTestProduct(1L), 10);
+    Inventory second = createTestInventory(createTestProduct(2L), 10);
+    Map<Long, Integer> productQuantities = new LinkedHashMap<>();
+    productQuantities.put(2L, 3);
+    productQuantities.put(1L, 2);
+
+    when(inventoryRepository.findAllByProductIdForUpdate(List.of(1L, 2L))).thenReturn(List.of(first, second));
+
+    // when
+    inventoryService.decreaseStocks(productQuantities);
+
+    // then
+    assertEquals(8, first.getQuantity());
+    assertEquals(7, second.getQuantity());
+    verify(inventoryRepository, times(0)).decreaseQuantity(any(), anyInt());
+  }
+
+  @Test
+  @DisplayName("재고 차감에 성공하면 주문 차감으로 재고 원장에 기록")
+  void decreaseStockRecordsLedger() {
+    // given
+    when(inventoryRepository.decreaseQuantity(1L, 5)).thenReturn(1);
+
+    // when
+    inventoryService.decreaseStock(1L, 5);
+
+    // then
+    verify(ledgerRecorder, times(1)).record(1L, -5L, InventoryLedgerReason.ORDER);
+  }
+
+  @Test
+  @DisplayName("재고 차감에 실패하면 재고 원장에 기록하지 않음")
+  void decreaseStockFailDoesNotRecordLedger() {
+    // given
+    when(inventoryRepository.decreaseQuantity(1L, 5)).thenReturn(0);
+
+    // when
+    assertThrows(BusinessException.class, () -> inventoryService.decreaseStock(1L, 5));
+
+    // then
+    verify(ledgerRecorder, times(0)).record(any(), anyLong(), any());
+  }
+
+  @Test
+  @DisplayName("재고 수량을 변경하면 이전 수량과의 차이를 재고 원장에 기록")
+  void updateQuantityRecordsDifference() {
+    // given
+    Inventory inventory = createTestInventory(createTestProduct(1L), 30);
+    when(inventoryRepository.findByProductId(1L)).thenReturn(inventory);
+
+    // when
+    inventoryService.updateQuantity(1L, 12);
+
+    // then
+    verify(ledgerRecorder, times(1)).record(1L, -18L, InventoryLedgerReason.MANUAL_UPDATE);
+  }
+
+  @Test
+  @DisplayName("여러 상품의 재고 수량을 한 번에 조회하고 카운터 엔진, 샤딩 상품 값으로 덮어씀")
+  void findQuantitiesByProductIds() {
+    // given: 1번은 카운터 엔진, 2번은 샤딩, 3번은 일반 재고 행
+    List<Long> productIds = List.of(1L, 2L, 3L);
+    when(inventoryRepository.findQuantitiesByProductIdIn(productIds)).thenReturn(List.of(
+        new Object[]{1L, 0}, new Object[]{2L, 0}, new Object[]{3L, 7}));
+    when(counterEngine.isManaged(1L)).thenReturn(true);
+    when(counterEngine.getQuantity(1L)).thenReturn(99);
+    when(shardManager.isSharded(2L)).thenReturn(true);
+    doAnswer(invocation -> {
+      invocation.<LongIntHashMap>getArgument(1).put(2L, 40);
+      return null;
+    }).when(shardManager).collectQuantities(eq(List.of(2L)), any(LongIntHashMap.class));
+
+    // when
+    LongIntHashMap quantities = inventoryService.findQuantitiesByProductIds(productIds);
+
+    // then
+    assertEquals(3, quantities.size());
+    assertEquals(99, quantities.getOrDefault(1L, -1));
+    assertEquals(40, quantities.getOrDefault(2L, -1));
+    assertEquals(7, quantities.getOrDefault(3L, -1));
+    verify(inventoryRepository, times(0)).findByProductId(anyLong());
+  }
+
+  @Test
+  @DisplayName("재고가 없는 상품이 섞여 있으면 한 번에 조회할 때 예외 발생")
+  void findQuantitiesByProductIdsFailNotFound() {
+    // given
+    List<Long> productIds = List.of(1L, 2L);
+    when(inventoryRepository.findQuantitiesByProductIdIn(productIds)).thenReturn(
+        List.<Object[]>of(new Object[]{1L, 5}));
+
+    // when
+    BusinessException exception = assertThrows(BusinessException.class,
+        () -> inventoryService.findQuantitiesByProductIds(productIds));
+
+    // then
+    assertEquals(ErrorCode.PRODUCT_NOT_FOUND, exception.getErrorCode());
+  }
+
+  // 공통 메서드: ID 가 있는 Product 객체 생성
+  private Product createTestProduct(Long productId) {
+    Product product = Product.builder().productName("product-" + productId).build();
+    ReflectionTestUtils.setField(product, "productId", productId);
+    return product;
+  }
+
   // 공통 메서드: 공통적인 Product 객체 생성
   private Product createTestProduct(String productName) {
     return Product.builder().productName(productName).build();
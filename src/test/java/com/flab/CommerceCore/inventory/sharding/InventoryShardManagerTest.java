@@ -0,0 +1,142 @@
+package com.flab.CommerceCore.inventory.sharding;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.flab.CommerceCore.common.exceptions.BusinessException;
+import com.flab.CommerceCore.common.exceptions.ErrorCode;
+import com.flab.CommerceCore.inventory.domain.entity.Inventory;
+import com.flab.CommerceCore.inventory.domain.entity.InventoryBucket;
+import com.flab.CommerceCore.inventory.repository.InventoryBucketRepository;
+import com.flab.CommerceCore.inventory.repository.InventoryRepository;
+import com.flab.CommerceCore.product.domain.entity.Product;
+import com.flab.CommerceCore.product.repository.ProductRepository;
+import java.math.BigDecimal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(InventoryShardManager.class)
+class InventoryShardManagerTest {
+
+  @Autowired
+  private InventoryShardManager shardManager;
+
+  @Autowired
+  private InventoryRepository inventoryRepository;
+
+  @Autowired
+  private InventoryBucketRepository bucketRepository;
+
+  @Autowired
+  private ProductRepository productRepository;
+
+  @Test
+  @DisplayName("샤딩하면 재고가 버킷에 고르게 나뉘고 조회는 합계를 반환")
+  void shardSplitsQuantityIntoBuckets() {
+    // given
+    Long productId = saveInventory(102);
+
+    // when
+    shardManager.shard(productId, 4);
+
+    // then
+    assertTrue(shardManager.isSharded(productId));
+    assertEquals(102, shardManager.getQuantity(productId));
+    assertEquals(0, inventoryRepository.findByProductId(productId).getQuantity());
+    assertEquals(4, bucketRepository.findAllByProductIdForUpdate(productId).size());
+  }
+
+  @Test
+  @DisplayName("한 버킷보다 많은 수량도 여러 버킷에서 나눠 차감하고, 전체 재고를 넘으면 실패")
+  void decreaseAcrossBuckets() {
+    // given: 버킷 4개에 25개씩
+    Long productId = saveInventory(100);
+    shardManager.shard(productId, 4);
+
+    // when
+    shardManager.decrease(productId, 10);
+    shardManager.decrease(productId, 60);
+
+    // then
+    assertEquals(30, shardManager.getQuantity(productId));
+    BusinessException exception = assertThrows(BusinessException.class,
+        () -> shardManager.decrease(productId, 31));
+    assertEquals(ErrorCode.INSUFFICIENT_INVENTORY, exception.getErrorCode());
+  }
+
+  @Test
+  @DisplayName("재배분은 버킷 간 편차를 없애고, 샤딩 해제 시 합계가 재고 행으로 돌아간다")
+  void rebalanceAndUnshard() {
+    // given: 한쪽 버킷만 비도록 차감
+    Long productId = saveInventory(40);
+    shardManager.shard(productId, 4);
+    bucketRepository.decreaseQuantity(productId, 0, 10);
+
+    // when
+    shardManager.rebalance();
+
+    // then
+    for (InventoryBucket bucket : bucketRepository.findAllByProductIdForUpdate(productId)) {
+      assertEquals(30 / 4, bucket.getQuantity(), 1);
+    }
+
+    // when
+    shardManager.unshard(productId);
+
+    // then
+    assertFalse(shardManager.isSharded(productId));
+    assertEquals(30, inventoryRepository.findByProductId(productId).getQuantity());
+  }
+
+  @Test
+  @DisplayName("다른 노드에서 샤딩을 해제해 버킷이 없으면 증가 수량을 재고 행에 더한다")
+  void increaseFallsBackToInventoryAfterUnshard() {
+    // given: 이 노드는 샤딩된 것으로 알고 있지만 버킷은 이미 지워졌다
+    Long productId = saveInventory(40);
+    shardManager.shard(productId, 4);
+    bucketRepository.deleteAllByProductId(productId);
+    inventoryRepository.adjustQuantity(productId, 40);
+
+    // when
+    boolean toBuckets = shardManager.increase(productId, 5);
+
+    // then
+    assertFalse(toBuckets);
+    assertFalse(shardManager.isSharded(productId));
+    assertEquals(45, inventoryRepository.findByProductId(productId).getQuantity());
+  }
+
+  @Test
+  @DisplayName("샤딩을 모르는 노드가 재고 행에 더한 수량은 재배분 때 버킷으로 옮긴다")
+  void rebalanceFoldsInventoryRow() {
+    // given
+    Long productId = saveInventory(40);
+    shardManager.shard(productId, 4);
+    inventoryRepository.adjustQuantity(productId, 8);
+
+    // when
+    shardManager.rebalance();
+
+    // then
+    assertEquals(48, shardManager.getQuantity(productId));
+    assertEquals(0, inventoryRepository.findByProductId(productId).getQuantity());
+  }
+
+  private Long saveInventory(int quantity) {
+    Product product = productRepository.save(Product.builder()
+        .productName("Hot")
+        .description("Sale")
+        .price(new BigDecimal(1000))
+        .build());
+    inventoryRepository.save(Inventory.builder().product(product).quantity(quantity).build());
+    return product.getProductId();
+  }
+}
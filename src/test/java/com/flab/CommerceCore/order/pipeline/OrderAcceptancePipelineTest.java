@@ -0,0 +1,112 @@
+package com.flab.CommerceCore.order.pipeline;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.flab.CommerceCore.common.enums.OrderAcceptanceStatus;
+import com.flab.CommerceCore.common.exceptions.BusinessException;
+import com.flab.CommerceCore.common.exceptions.ErrorCode;
+import com.flab.CommerceCore.order.domain.dto.OrderAcceptanceResponse;
+import com.flab.CommerceCore.order.domain.dto.OrderRequest;
+import com.flab.CommerceCore.order.domain.dto.OrderResponse;
+import com.flab.CommerceCore.order.service.OrderService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class OrderAcceptancePipelineTest {
+
+  private final OrderService orderService = mock(OrderService.class);
+  private OrderAcceptancePipeline pipeline;
+
+  @AfterEach
+  void tearDown() {
+    if (pipeline != null) {
+      pipeline.stop();
+    }
+  }
+
+  @Test
+  @DisplayName("검증 큐가 가득 차면 접수를 거절하고 토큰을 남기지 않는다")
+  void submitQueueFull() {
+    // given: 워커가 돌지 않는 용량 1 파이프라인
+    pipeline = new OrderAcceptancePipeline(orderService, false, 1, 1, 1, 600);
+    OrderAcceptanceResponse accepted = pipeline.submit(new OrderRequest());
+
+    // when
+    BusinessException exception = assertThrows(BusinessException.class,
+        () -> pipeline.submit(new OrderRequest()));
+
+    // then
+    assertEquals(ErrorCode.ORDER_QUEUE_FULL, exception.getErrorCode());
+    assertEquals(OrderAcceptanceStatus.QUEUED, pipeline.getStatus(accepted.getToken()).getStatus());
+  }
+
+  @Test
+  @DisplayName("검증과 주문 생성이 끝나면 상태가 COMPLETED 가 되고 주문 ID 를 돌려준다")
+  void submitCompleted() throws InterruptedException {
+    // given
+    when(orderService.createOrder(any())).thenReturn(OrderResponse.builder().orderId(7L).build());
+    pipeline = new OrderAcceptancePipeline(orderService, true, 10, 1, 1, 600);
+    pipeline.start();
+
+    // when
+    OrderAcceptanceResponse accepted = pipeline.submit(new OrderRequest());
+    OrderAcceptanceResponse result = awaitFinished(accepted.getToken());
+
+    // then
+    assertNotNull(accepted.getToken());
+    assertEquals(OrderAcceptanceStatus.COMPLETED, result.getStatus());
+    assertEquals(7L, result.getOrderId());
+  }
+
+  @Test
+  @DisplayName("검증에 실패하면 주문을 생성하지 않고 상태가 FAILED 가 된다")
+  void submitValidationFailed() throws InterruptedException {
+    // given
+    doThrow(BusinessException.create(ErrorCode.USERID_NOT_FOUND)).when(orderService).validateOrder(any());
+    pipeline = new OrderAcceptancePipeline(orderService, true, 10, 1, 1, 600);
+    pipeline.start();
+
+    // when
+    OrderAcceptanceResponse result = awaitFinished(pipeline.submit(new OrderRequest()).getToken());
+
+    // then
+    assertEquals(OrderAcceptanceStatus.FAILED, result.getStatus());
+    assertEquals(ErrorCode.USERID_NOT_FOUND.name(), result.getErrorCode());
+    verify(orderService, never()).createOrder(any());
+  }
+
+  @Test
+  @DisplayName("없는 토큰으로 상태를 조회하면 예외가 발생한다")
+  void getStatusTokenNotFound() {
+    // given
+    pipeline = new OrderAcceptancePipeline(orderService, false, 1, 1, 1, 600);
+
+    // when
+    BusinessException exception = assertThrows(BusinessException.class,
+        () -> pipeline.getStatus("unknown"));
+
+    // then
+    assertEquals(ErrorCode.ORDER_TOKEN_NOT_FOUND, exception.getErrorCode());
+  }
+
+  private OrderAcceptanceResponse awaitFinished(String token) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 5_000;
+    OrderAcceptanceResponse response = pipeline.getStatus(token);
+    while (response.getStatus() != OrderAcceptanceStatus.COMPLETED
+        && response.getStatus() != OrderAcceptanceStatus.FAILED
+        && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+      response = pipeline.getStatus(token);
+    }
+    return response;
+  }
+}
@@ -0,0 +1,60 @@
+package com.flab.CommerceCore.outbox.sink;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.flab.CommerceCore.common.enums.OutboxEventType;
+import com.flab.CommerceCore.outbox.domain.dto.OutboxMessage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FileOutboxSinkTest {
+
+  @TempDir
+  Path directory;
+
+  @Test
+  @DisplayName("작업자마다 다른 파일에 쓴다")
+  void writesOneFilePerWorker() throws Exception {
+    // given
+    FileOutboxSink sink = new FileOutboxSink(directory.resolve("events.jsonl").toString());
+
+    // when: 두 작업자가 동시에 묶음을 보낸다
+    Thread first = new Thread(() -> sink.publish(List.of(createMessage(1L), createMessage(2L))), "outbox-relay-1");
+    Thread second = new Thread(() -> sink.publish(List.of(createMessage(3L))), "outbox-relay-2");
+    first.start();
+    second.start();
+    first.join();
+    second.join();
+
+    // then
+    LocalDate today = LocalDate.now();
+    assertEquals(2, countLines(sink.resolveFile("outbox-relay-1", today)));
+    assertEquals(1, countLines(sink.resolveFile("outbox-relay-2", today)));
+    assertEquals("events-outbox-relay-1-" + today + ".jsonl",
+        sink.resolveFile("outbox-relay-1", today).getFileName().toString());
+  }
+
+  private long countLines(Path file) throws IOException {
+    try (var lines = Files.lines(file)) {
+      return lines.count();
+    }
+  }
+
+  private OutboxMessage createMessage(Long eventId) {
+    return OutboxMessage.builder()
+        .eventId(eventId)
+        .aggregateType("ORDER")
+        .aggregateId(eventId)
+        .eventType(OutboxEventType.ORDER_CREATED)
+        .payload("{}")
+        .createdAt(LocalDateTime.now())
+        .build();
+  }
+}
@@ -0,0 +1,105 @@
+package com.flab.CommerceCore.payment.gateway;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CircuitBreakerTest {
+
+  private final AtomicLong now = new AtomicLong();
+
+  // 최근 10번 중 최소 4번 호출, 실패율 50% 이상이면 OPEN, 1초 후 시험 호출 2번
+  private final CircuitBreaker circuitBreaker = new CircuitBreaker(10, 4, 50, 1_000, 2, now::get);
+
+  @Test
+  @DisplayName("최소 호출 수를 넘기고 실패율이 기준 이상이면 OPEN 으로 바뀌어 호출을 거절한다")
+  void opensOnFailureRate() {
+    // given
+    succeed(2);
+    fail(1);
+    assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+
+    // when: 4번 중 2번 실패 (50%)
+    fail(1);
+
+    // then
+    assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+    assertFalse(circuitBreaker.tryAcquirePermission());
+  }
+
+  @Test
+  @DisplayName("오래된 호출은 윈도우에서 밀려나 실패율 계산에서 빠진다")
+  void slidingWindowForgetsOldCalls() {
+    // given: 실패 3번 뒤 성공 10번 (윈도우 크기 10)
+    CircuitBreaker lenient = new CircuitBreaker(10, 4, 50, 1_000, 2, now::get);
+    for (int i = 0; i < 3; i++) {
+      lenient.tryAcquirePermission();
+      lenient.onFailure();
+    }
+    for (int i = 0; i < 10; i++) {
+      lenient.tryAcquirePermission();
+      lenient.onSuccess();
+    }
+
+    // when: 윈도우 안에서는 실패 1번 (10%)
+    lenient.tryAcquirePermission();
+    lenient.onFailure();
+
+    // then
+    assertEquals(CircuitBreaker.State.CLOSED, lenient.getState());
+  }
+
+  @Test
+  @DisplayName("OPEN 유지 시간이 지나면 시험 호출만 허용하고, 모두 성공하면 CLOSED 로 돌아간다")
+  void halfOpenClosesAfterSuccessfulTrials() {
+    // given
+    fail(4);
+    now.addAndGet(1_000);
+
+    // when
+    assertTrue(circuitBreaker.tryAcquirePermission());
+    assertTrue(circuitBreaker.tryAcquirePermission());
+    boolean thirdPermitted = circuitBreaker.tryAcquirePermission();
+    circuitBreaker.onSuccess();
+    circuitBreaker.onSuccess();
+
+    // then
+    assertFalse(thirdPermitted);
+    assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    assertTrue(circuitBreaker.tryAcquirePermission());
+  }
+
+  @Test
+  @DisplayName("시험 호출이 실패하면 다시 OPEN 으로 돌아간다")
+  void halfOpenReopensOnFailure() {
+    // given
+    fail(4);
+    now.addAndGet(1_000);
+    assertTrue(circuitBreaker.tryAcquirePermission());
+
+    // when
+    circuitBreaker.onFailure();
+
+    // then
+    assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+    assertFalse(circuitBreaker.tryAcquirePermission());
+  }
+
+  private void succeed(int count) {
+    for (int i = 0; i < count; i++) {
+      circuitBreaker.tryAcquirePermission();
+      circuitBreaker.onSuccess();
+    }
+  }
+
+  private void fail(int count) {
+    for (int i = 0; i < count; i++) {
+      circuitBreaker.tryAcquirePermission();
+      circuitBreaker.onFailure();
+    }
+  }
+}
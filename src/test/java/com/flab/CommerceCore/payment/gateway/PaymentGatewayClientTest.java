@@ -0,0 +1,145 @@
+package com.flab.CommerceCore.payment.gateway;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.flab.CommerceCore.common.enums.Status;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PaymentGatewayClientTest {
+
+  private static final BigDecimal AMOUNT = new BigDecimal(1000);
+  private static final String MERCHANT_UID = "merchant-1";
+
+  private final AtomicInteger calls = new AtomicInteger();
+  private final StubPaymentGateway stubGateway = new StubPaymentGateway(0, 0, 0);
+  private final PaymentGateway countingGateway = (merchantUid, amount) -> {
+    calls.incrementAndGet();
+    return stubGateway.approve(merchantUid, amount);
+  };
+
+  private PaymentGatewayClient client;
+
+  @AfterEach
+  void tearDown() {
+    client.stop();
+  }
+
+  @Test
+  @DisplayName("PG 가 승인하면 거래 ID 와 함께 COMPLETED, 거절하면 FAILED 를 반환한다")
+  void approveAndDecline() {
+    // given
+    client = createClient(1_000, 4);
+
+    // when
+    PaymentGatewayResult approved = client.approve(MERCHANT_UID, AMOUNT);
+    stubGateway.setDeclineRate(1);
+    PaymentGatewayResult declined = client.approve(MERCHANT_UID, AMOUNT);
+
+    // then
+    assertEquals(Status.COMPLETED, approved.getStatus());
+    assertEquals("stub-" + MERCHANT_UID, approved.getTransactionId());
+    assertEquals(Status.FAILED, declined.getStatus());
+    assertNull(declined.getTransactionId());
+    assertEquals(CircuitBreaker.State.CLOSED, client.getCircuitState());
+  }
+
+  @Test
+  @DisplayName("PG 가 취소를 확인하면 CANCEL, 확인하지 못하면 PENDING 을 반환한다")
+  void cancel() {
+    // given: countingGateway 는 취소를 지원하지 않는다
+    client = createClient(1_000, 4);
+    PaymentGatewayClient stubClient = new PaymentGatewayClient(stubGateway, 1_000, 4, 10, 4, 50, 60_000, 2);
+
+    // when
+    Status cancelled = stubClient.cancel(MERCHANT_UID, "stub-" + MERCHANT_UID, AMOUNT);
+    Status unconfirmed = client.cancel(MERCHANT_UID, "stub-" + MERCHANT_UID, AMOUNT);
+    stubClient.stop();
+
+    // then
+    assertEquals(Status.CANCEL, cancelled);
+    assertEquals(Status.PENDING, unconfirmed);
+  }
+
+  @Test
+  @DisplayName("PG 응답이 시간 초과되면 기다리지 않고 PENDING 을 반환한다")
+  void timeoutReturnsPending() {
+    // given
+    client = createClient(100, 4);
+    stubGateway.setLatencyMillis(2_000);
+
+    // when
+    long start = System.nanoTime();
+    Status status = client.approve(MERCHANT_UID, AMOUNT).getStatus();
+    long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+    // then
+    assertEquals(Status.PENDING, status);
+    assertTrue(elapsedMillis < 1_000, "시간 초과 후 바로 반환해야 한다: " + elapsedMillis + "ms");
+  }
+
+  @Test
+  @DisplayName("PG 오류가 이어지면 서킷이 열리고, 이후 호출은 PG 를 부르지 않고 바로 PENDING 을 반환한다")
+  void circuitOpensOnErrors() {
+    // given: 최소 호출 수 4
+    client = createClient(1_000, 4);
+    stubGateway.setErrorRate(1);
+    for (int i = 0; i < 4; i++) {
+      assertEquals(Status.PENDING, client.approve(MERCHANT_UID, AMOUNT).getStatus());
+    }
+    int callsWhenOpened = calls.get();
+
+    // when
+    Status status = client.approve(MERCHANT_UID, AMOUNT).getStatus();
+
+    // then
+    assertEquals(Status.PENDING, status);
+    assertEquals(CircuitBreaker.State.OPEN, client.getCircuitState());
+    assertEquals(callsWhenOpened, calls.get());
+  }
+
+  @Test
+  @DisplayName("동시 호출 한도를 넘은 요청은 기다리지 않고 PENDING 을 반환한다")
+  void bulkheadRejectsExcessCalls() throws InterruptedException, ExecutionException {
+    // given: 동시 호출 2개, PG 지연 300ms
+    client = createClient(2_000, 2);
+    stubGateway.setLatencyMillis(300);
+    ExecutorService executorService = Executors.newFixedThreadPool(6);
+
+    // when
+    List<Future<Status>> futures = new ArrayList<>();
+    for (int i = 0; i < 6; i++) {
+      futures.add(executorService.submit(() -> client.approve(MERCHANT_UID, AMOUNT).getStatus()));
+    }
+    int completed = 0;
+    int pending = 0;
+    for (Future<Status> future : futures) {
+      if (future.get() == Status.COMPLETED) {
+        completed++;
+      } else {
+        pending++;
+      }
+    }
+    executorService.shutdown();
+
+    // then
+    assertEquals(2, completed);
+    assertEquals(4, pending);
+    assertEquals(2, calls.get());
+  }
+
+  private PaymentGatewayClient createClient(long timeoutMillis, int maxConcurrentCalls) {
+    return new PaymentGatewayClient(countingGateway, timeoutMillis, maxConcurrentCalls, 10, 4, 50, 60_000, 2);
+  }
+}
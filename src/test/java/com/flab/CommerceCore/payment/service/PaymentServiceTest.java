@@ -2,6 +2,7 @@ package com.flab.CommerceCore.payment.service;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -10,6 +11,8 @@ import static org.mockito.Mockito.when;
 import com.flab.CommerceCore.common.enums.Status;
 import com.flab.CommerceCore.common.exceptions.BusinessException;
 import com.flab.CommerceCore.payment.domain.entity.Payment;
+import com.flab.CommerceCore.payment.gateway.PaymentGatewayClient;
+import com.flab.CommerceCore.payment.gateway.PaymentGatewayResult;
 import com.flab.CommerceCore.payment.repository.PaymentRepository;
 import java.math.BigDecimal;
 import org.junit.jupiter.api.Test;
@@ -30,6 +33,9 @@ class PaymentServiceTest {
   @Mock
   PaymentRepository paymentRepository;
 
+  @Mock
+  PaymentGatewayClient paymentGatewayClient;
+
   @Spy
   @InjectMocks
   PaymentService paymentService;
@@ -66,8 +72,8 @@ class PaymentServiceTest {
     // given : 유효한 금액이 주어졌을 때
     BigDecimal amount = new BigDecimal(100);
 
-    // callPaymentAPI 메서드가 false 를 반환하도록 Mock 설정
-    doReturn(false).when(paymentService).callPaymentAPI(any(Payment.class));
+    // callPaymentAPI 메서드가 거절(FAILED)을 반환하도록 Mock 설정
+    doReturn(Status.FAILED).when(paymentService).callPaymentAPI(any(Payment.class));
 
     // 결제가 실패할 때 BusinessException 이 발생하는지 검증
     assertThrows(BusinessException.class, () -> {
@@ -109,7 +115,8 @@ class PaymentServiceTest {
         .amount(amount)
         .build();
 
-    // save 메서드가 payment 객체를 반환하도록 Mock 설정
+    // PG 가 승인하고, save 메서드가 payment 객체를 반환하도록 Mock 설정
+    when(paymentGatewayClient.approve(any(), eq(amount))).thenReturn(PaymentGatewayResult.approved("pg-tx-1"));
     when(paymentRepository.save(any(Payment.class))).thenReturn(payment);
 
     // 결제가 성공적으로 처리되었을 때
@@ -128,6 +135,25 @@ class PaymentServiceTest {
     // 캡처된 Payment 객체의 상태가 COMPLETED 인지 확인
     Payment capturedPayment = paymentCaptor.getValue();
     assertEquals(Status.COMPLETED, capturedPayment.getStatus());
+    assertEquals("pg-tx-1", capturedPayment.getTransactionId());
+    assertNotNull(capturedPayment.getMerchantUid());
+  }
+
+  /**
+   * 승인만 받는 경우 PG 거절을 FAILED 상태로 반영하고 저장하지 않는지 테스트
+   */
+  @Test
+  void authorize_Declined_NotSaved(){
+    // given : PG 가 결제를 거절할 때
+    BigDecimal amount = new BigDecimal(100);
+    when(paymentGatewayClient.approve(any(), eq(amount))).thenReturn(PaymentGatewayResult.declined());
+
+    // when
+    Payment payment = paymentService.authorize(amount);
+
+    // then : 예외 없이 FAILED 상태로 반환되고 DB 에는 저장하지 않는다
+    assertEquals(Status.FAILED, payment.getStatus());
+    verify(paymentRepository, times(0)).save(any(Payment.class));
   }
 
 
@@ -16,8 +16,10 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.flab.CommerceCore.common.exceptions.GlobalExceptionHandler;
+import com.flab.CommerceCore.common.pagination.CursorPage;
 import com.flab.CommerceCore.product.domain.dto.ProductRequest;
 import com.flab.CommerceCore.product.domain.dto.ProductResponse;
+import com.flab.CommerceCore.product.domain.dto.ProductSearchResponse;
 import com.flab.CommerceCore.product.service.ProductService;
 import com.google.gson.Gson;
 import java.math.BigDecimal;
@@ -116,6 +118,50 @@ class ProductControllerTest {
     verify(productService, times(1)).findAllProducts(0);
   }
 
+  @Test
+  @DisplayName("커서 기반 상품 목록 조회 성공")
+  void scrollProductsSuccess() throws Exception {
+    CursorPage<ProductResponse> productPage = CursorPage.<ProductResponse>builder()
+        .content(Collections.singletonList(productResponse))
+        .nextCursor("AAAAAAAAAAo")
+        .hasNext(true)
+        .build();
+    when(productService.findProducts("AAAAAAAAAAE", 1)).thenReturn(productPage);
+
+    mockMvc.perform(get("/product/scroll?after=AAAAAAAAAAE&limit=1")
+            .contentType(MediaType.APPLICATION_JSON))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.content[0].productName").value("Test Product"))
+        .andExpect(jsonPath("$.nextCursor").value("AAAAAAAAAAo"))
+        .andExpect(jsonPath("$.hasNext").value(true));
+
+    verify(productService, times(1)).findProducts("AAAAAAAAAAE", 1);
+  }
+
+  @Test
+  @DisplayName("상품 검색 성공")
+  void searchProductsSuccess() throws Exception {
+    ProductSearchResponse searchResponse = ProductSearchResponse.builder()
+        .content(Collections.singletonList(productResponse))
+        .page(1)
+        .size(10)
+        .hasNext(false)
+        .build();
+    when(productService.searchProducts("무선 이어폰", 1, 10)).thenReturn(searchResponse);
+
+    mockMvc.perform(get("/product/search")
+            .param("q", "무선 이어폰")
+            .param("page", "1")
+            .param("size", "10")
+            .contentType(MediaType.APPLICATION_JSON))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.content[0].productName").value("Test Product"))
+        .andExpect(jsonPath("$.page").value(1))
+        .andExpect(jsonPath("$.hasNext").value(false));
+
+    verify(productService, times(1)).searchProducts("무선 이어폰", 1, 10);
+  }
+
   @Test
   @DisplayName("상품 삭제 성공")
   void deleteProductSuccess() throws Exception {
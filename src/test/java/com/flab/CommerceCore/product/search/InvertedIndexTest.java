@@ -0,0 +1,206 @@
+package com.flab.CommerceCore.product.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class InvertedIndexTest {
+
+  // InvertedIndex 와 같은 BM25 상수
+  private static final double K1 = 1.2;
+  private static final double B = 0.75;
+  // 흔한 단어의 posting 이 SEED_MAX_POSTINGS(4096) 를 넘도록 문서 수를 잡는다
+  private static final int DOC_COUNT = 6_000;
+  private static final int VOCABULARY = 300;
+  private static final String COMMON_WORD = "item";
+
+  private InvertedIndex index;
+
+  @BeforeEach
+  void setUp() {
+    index = new InvertedIndex();
+    index.index(1L, "무선 이어폰", "노이즈 캔슬링 블루투스");
+    index.index(2L, "유선이어폰", "3.5mm 단자");
+    index.index(3L, "Galaxy Buds", "wireless earphones");
+    index.index(4L, "게이밍 노트북", "고성능 그래픽");
+    index.index(5L, "iPhone 15 Case", "투명 케이스");
+  }
+
+  @Test
+  @DisplayName("띄어 쓴 단어와 붙여 쓴 복합어를 모두 찾는다")
+  void searchHangulCompound() {
+    // when
+    SearchResult result = index.search("이어폰", 0, 10);
+
+    // then
+    assertEquals(List.of(1L, 2L), result.getProductIds());
+    assertFalse(result.isHasNext());
+  }
+
+  @Test
+  @DisplayName("검색어에 붙은 조사와 영어 복수형을 떼고 찾는다")
+  void searchStem() {
+    assertEquals(List.of(4L), index.search("노트북을", 0, 10).getProductIds());
+    assertEquals(List.of(3L), index.search("earphone", 0, 10).getProductIds());
+  }
+
+  @Test
+  @DisplayName("상품명의 일부만 입력해도 n-gram 으로 찾는다")
+  void searchPartialWord() {
+    assertEquals(List.of(3L), index.search("galax", 0, 10).getProductIds());
+    assertEquals(List.of(5L), index.search("IPHONE case", 0, 10).getProductIds());
+  }
+
+  @Test
+  @DisplayName("설명보다 상품명에 검색어가 있는 상품이 먼저 나온다")
+  void nameRanksHigherThanDescription() {
+    // given
+    index.index(6L, "블루투스 스피커", "휴대용");
+
+    // when
+    SearchResult result = index.search("블루투스", 0, 10);
+
+    // then
+    assertEquals(List.of(6L, 1L), result.getProductIds());
+  }
+
+  @Test
+  @DisplayName("수정한 상품은 새 내용으로만 찾고, 삭제한 상품은 찾지 않는다")
+  void updateAndRemove() {
+    // when
+    index.index(1L, "무선 헤드폰", "노이즈 캔슬링");
+    index.remove(2L);
+
+    // then
+    assertTrue(index.search("이어폰", 0, 10).getProductIds().isEmpty());
+    assertEquals(List.of(1L), index.search("헤드폰", 0, 10).getProductIds());
+    assertEquals(4, index.size());
+    // 재색인 중 DB 스캔의 이전 값으로 되살리지 않도록 삭제한 상품도 기억한다
+    assertTrue(index.contains(2L));
+  }
+
+  @Test
+  @DisplayName("요청한 구간만 반환하고 다음 결과가 있는지 알려준다")
+  void pagination() {
+    // given
+    for (long productId = 10; productId < 35; productId++) {
+      index.index(productId, "무선 마우스 " + productId, "");
+    }
+
+    // when
+    SearchResult first = index.search("마우스", 0, 10);
+    SearchResult last = index.search("마우스", 20, 10);
+
+    // then
+    assertEquals(10, first.getProductIds().size());
+    assertTrue(first.isHasNext());
+    assertEquals(5, last.getProductIds().size());
+    assertFalse(last.isHasNext());
+  }
+
+  @Test
+  @DisplayName("문서가 많아 블록과 단어를 건너뛰어도 모든 문서를 BM25 로 채점한 순위와 같은 결과를 반환한다")
+  void searchMatchesExhaustiveScoring() {
+    // given: 흔한 단어(90% 문서)와 치우친 분포의 단어들로 만든 문서
+    Random random = new Random(42);
+    InvertedIndex large = new InvertedIndex();
+    List<Map<String, Integer>> frequencies = new ArrayList<>(DOC_COUNT);
+    int[] lengths = new int[DOC_COUNT];
+    Map<String, Integer> documentFrequencies = new HashMap<>();
+    for (int doc = 0; doc < DOC_COUNT; doc++) {
+      List<String> name = randomWords(random, 1 + random.nextInt(3));
+      List<String> description = randomWords(random, random.nextInt(8));
+      if (random.nextDouble() < 0.9) {
+        description.add(random.nextInt(description.size() + 1), COMMON_WORD);
+      }
+      large.index(doc + 1, String.join(" ", name), String.join(" ", description));
+
+      Map<String, Integer> frequency = new HashMap<>();
+      name.forEach(word -> frequency.merge(word, InvertedIndex.NAME_WEIGHT, Integer::sum));
+      description.forEach(word -> frequency.merge(word, 1, Integer::sum));
+      frequency.keySet().forEach(word -> documentFrequencies.merge(word, 1, Integer::sum));
+      frequencies.add(frequency);
+      lengths[doc] = name.size() * InvertedIndex.NAME_WEIGHT + description.size();
+    }
+
+    for (int i = 0; i < 300; i++) {
+      // 색인에 있는 단어만 고른다 (없는 단어는 n-gram 으로 찾으므로 BM25 비교 대상이 아니다)
+      Set<String> words = new LinkedHashSet<>();
+      int wordCount = 1 + random.nextInt(4);
+      while (words.size() < wordCount) {
+        String word = random.nextDouble() < 0.3 ? COMMON_WORD
+            : random.nextBoolean() ? randomWords(random, 1).get(0) : "w" + random.nextInt(VOCABULARY);
+        if (documentFrequencies.containsKey(word)) {
+          words.add(word);
+        }
+      }
+      String query = String.join(" ", words);
+      int offset = random.nextBoolean() ? 0 : random.nextInt(50);
+      int limit = 1 + random.nextInt(20);
+
+      // when
+      SearchResult result = large.search(query, offset, limit);
+
+      // then: 같은 점수끼리는 순서가 바뀔 수 있으므로 순위마다 점수를 비교한다
+      double[] scores = exhaustiveScores(words, frequencies, lengths, documentFrequencies);
+      double[] ranked = Arrays.stream(scores).filter(score -> score > 0)
+          .boxed().sorted((a, b) -> Double.compare(b, a)).mapToDouble(Double::doubleValue).toArray();
+      int expectedSize = Math.max(0, Math.min(limit, ranked.length - offset));
+      List<Long> productIds = result.getProductIds();
+      String message = "query: " + query + ", offset: " + offset + ", limit: " + limit;
+      assertEquals(expectedSize, productIds.size(), message);
+      assertEquals(expectedSize, new HashSet<>(productIds).size(), message);
+      assertEquals(ranked.length > offset + limit, result.isHasNext(), message);
+      for (int rank = 0; rank < productIds.size(); rank++) {
+        double expected = ranked[offset + rank];
+        double actual = scores[(int) (productIds.get(rank) - 1)];
+        assertEquals(expected, actual, 1e-4 * Math.max(1, expected), message + ", rank: " + (offset + rank));
+      }
+    }
+  }
+
+  /**
+   * 앞쪽 단어가 훨씬 자주 나오도록 치우친 분포로 단어를 고르는 메서드
+   */
+  private List<String> randomWords(Random random, int count) {
+    List<String> words = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      words.add("w" + (int) (VOCABULARY * Math.pow(random.nextDouble(), 3)));
+    }
+    return words;
+  }
+
+  /**
+   * 모든 문서를 BM25 로 채점하는 메서드 (맞는 단어가 없는 문서는 0)
+   */
+  private double[] exhaustiveScores(Set<String> words, List<Map<String, Integer>> frequencies, int[] lengths,
+      Map<String, Integer> documentFrequencies) {
+    double averageLength = Math.max(1, (double) Arrays.stream(lengths).asLongStream().sum() / DOC_COUNT);
+    double[] scores = new double[DOC_COUNT];
+    for (String word : words) {
+      int documentFrequency = documentFrequencies.get(word);
+      double idf = Math.max(Math.log(1 + (DOC_COUNT - documentFrequency + 0.5) / (documentFrequency + 0.5)), 0.01);
+      for (int doc = 0; doc < DOC_COUNT; doc++) {
+        Integer frequency = frequencies.get(doc).get(word);
+        if (frequency != null) {
+          double norm = K1 * (1 - B + B * lengths[doc] / averageLength);
+          scores[doc] += idf * (K1 + 1) * frequency / (frequency + norm);
+        }
+      }
+    }
+    return scores;
+  }
+}
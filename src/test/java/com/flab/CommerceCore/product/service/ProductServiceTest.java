@@ -2,31 +2,50 @@ package com.flab.CommerceCore.product.service;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.flab.CommerceCore.common.Mapper.ProductMapper;
+import com.flab.CommerceCore.common.collection.LongIntHashMap;
 import com.flab.CommerceCore.common.exceptions.BusinessException;
 import com.flab.CommerceCore.common.exceptions.ErrorCode;
+import com.flab.CommerceCore.common.pagination.CursorPagination;
+import com.flab.CommerceCore.invalidation.CacheInvalidationLog;
 import com.flab.CommerceCore.inventory.domain.dto.InventoryResponse;
 import com.flab.CommerceCore.inventory.domain.entity.Inventory;
 import com.flab.CommerceCore.inventory.repository.InventoryRepository;
 import com.flab.CommerceCore.inventory.service.InventoryService;
+import com.flab.CommerceCore.product.cache.ProductCache;
 import com.flab.CommerceCore.product.domain.dto.ProductRequest;
 import com.flab.CommerceCore.product.domain.dto.ProductResponse;
+import com.flab.CommerceCore.product.domain.dto.ProductSearchResponse;
 import com.flab.CommerceCore.product.domain.entity.Product;
+import com.flab.CommerceCore.product.filter.ProductNameFilter;
 import com.flab.CommerceCore.product.repository.ProductRepository;
+import com.flab.CommerceCore.product.search.ProductSearchIndex;
+import com.flab.CommerceCore.product.search.SearchResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
 import java.math.BigDecimal;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
 class ProductServiceTest {
@@ -46,11 +65,32 @@ class ProductServiceTest {
   @Mock
   ProductMapper mapper;
 
+  @Mock
+  ProductNameFilter productNameFilter;
+
+  @Mock
+  ProductSearchIndex productSearchIndex;
+
+  @Spy
+  CursorPagination cursorPagination = new CursorPagination(10, 100);
+
+  @Spy
+  ProductCache productCache = new ProductCache(mock(CacheInvalidationLog.class),
+      mockEntityManagerFactory(), new SimpleMeterRegistry(), 100, 600, 100, 60_000);
+
   private ProductRequest productRequest;
   private Product product;
   private ProductResponse productResponse;
 
 
+  private static EntityManagerFactory mockEntityManagerFactory() {
+    org.hibernate.Cache cache = mock(org.hibernate.Cache.class);
+    when(cache.unwrap(org.hibernate.Cache.class)).thenReturn(cache);
+    EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+    when(entityManagerFactory.getCache()).thenReturn(cache);
+    return entityManagerFactory;
+  }
+
   @BeforeEach
   void setUp() {
     productRequest = ProductRequest.builder()
@@ -78,7 +118,8 @@ class ProductServiceTest {
   @DisplayName("중복된 상품일 때 예외가 발생")
   void createProductFailDuplicated() {
     // Given
-    when(productRepository.findByProductName(productRequest.getProductName())).thenReturn(product);
+    when(productNameFilter.mightContain(productRequest.getProductName())).thenReturn(true);
+    when(productRepository.existsByProductName(productRequest.getProductName())).thenReturn(true);
     when(mapper.convertRequestToEntity(productRequest)).thenReturn(product);
 
     // When & Then
@@ -87,13 +128,32 @@ class ProductServiceTest {
     });
 
     assertEquals(ErrorCode.DUPLICATED_PRODUCT, exception.getErrorCode());
-    verify(productRepository, never()).save(any(Product.class));
+    verify(productRepository, never()).saveAndFlush(any(Product.class));
+  }
+
+  @Test
+  @DisplayName("상품명 필터가 놓친 중복 상품은 유니크 제약 위반을 중복 상품 예외로 바꾼다")
+  void createProductDuplicatedMissedByFilter() {
+    // Given: 다른 노드에서 등록되어 이 노드의 필터에는 없는 상품명
+    when(productNameFilter.mightContain(productRequest.getProductName())).thenReturn(false);
+    when(productRepository.saveAndFlush(any(Product.class)))
+        .thenThrow(new DataIntegrityViolationException("uk_product_name"));
+    when(mapper.convertRequestToEntity(productRequest)).thenReturn(product);
+
+    // When & Then
+    BusinessException exception = assertThrows(BusinessException.class, () -> {
+      productService.createProduct(productRequest);
+    });
+
+    assertEquals(ErrorCode.DUPLICATED_PRODUCT, exception.getErrorCode());
+    verify(inventoryService, never()).createInventory(any(Product.class), anyInt());
+    verify(productNameFilter, never()).put(any());
   }
 
   @Test
   @DisplayName("DB 예외 발생 시 예외 발생")
   void createProductFailRepositoryError() {
-    when(productRepository.save(any(Product.class))).thenThrow(new DataAccessException("DB ERROR") {});
+    when(productRepository.saveAndFlush(any(Product.class))).thenThrow(new DataAccessException("DB ERROR") {});
     when(mapper.convertRequestToEntity(any(ProductRequest.class))).thenReturn(product);
 
     assertThrows(DataAccessException.class,()->{
@@ -105,8 +165,8 @@ class ProductServiceTest {
   @DisplayName("중복되지 않은 상품을 성공적으로 생성")
   void createProductSuccess() {
     // Given
-    when(productRepository.findByProductName(productRequest.getProductName())).thenReturn(null);
-    when(productRepository.save(any(Product.class))).thenReturn(product);
+    when(productNameFilter.mightContain(productRequest.getProductName())).thenReturn(false);
+    when(productRepository.saveAndFlush(any(Product.class))).thenReturn(product);
     when(mapper.convertRequestToEntity(any(ProductRequest.class))).thenReturn(product);
     when(mapper.convertEntityToResponse(product,10)).thenReturn(productResponse);
     when(inventoryService.createInventory(product,10)).thenReturn(10);
@@ -119,8 +179,29 @@ class ProductServiceTest {
     assertEquals(productRequest.getDescription(), result.getDescription());
     assertEquals(productRequest.getPrice(), result.getPrice());
 
-    verify(productRepository).save(product);
+    verify(productRepository).saveAndFlush(product);
     verify(inventoryService).createInventory(product, productRequest.getQuantity());
+    verify(productRepository, never()).existsByProductName(any());
+    verify(productNameFilter).put(productRequest.getProductName());
+  }
+
+  @Test
+  @DisplayName("상품명 필터가 있을 수 있다고 해도 DB 에 없으면 상품을 생성한다")
+  void createProductFilterFalsePositive() {
+    // Given
+    when(productNameFilter.mightContain(productRequest.getProductName())).thenReturn(true);
+    when(productRepository.existsByProductName(productRequest.getProductName())).thenReturn(false);
+    when(productRepository.saveAndFlush(any(Product.class))).thenReturn(product);
+    when(mapper.convertRequestToEntity(any(ProductRequest.class))).thenReturn(product);
+    when(mapper.convertEntityToResponse(product, 10)).thenReturn(productResponse);
+    when(inventoryService.createInventory(product, 10)).thenReturn(10);
+
+    // When
+    productService.createProduct(productRequest);
+
+    // Then
+    verify(productNameFilter).recordFalsePositive();
+    verify(productRepository).saveAndFlush(product);
   }
 
   @Test
@@ -144,6 +225,29 @@ class ProductServiceTest {
   }
 
 
+  @Test
+  @DisplayName("같은 상품을 다시 조회하면 캐시에서 반환하고, 수정하면 캐시를 지운다")
+  void findProductByIdUsesCacheUntilUpdated() {
+    // given
+    InventoryResponse inventoryResponse = InventoryResponse.builder()
+        .product(product).quantity(10).build();
+    when(productRepository.findByProductId(1L)).thenReturn(product);
+    when(inventoryService.findQuantityByProductId(1L)).thenReturn(10);
+    when(inventoryService.updateQuantity(1L, 10)).thenReturn(inventoryResponse);
+    when(mapper.convertEntityToResponse(product, 10)).thenReturn(productResponse);
+
+    // when
+    productService.findProductById(1L);
+    productService.findProductById(1L);
+    productService.updateProduct(1L, productRequest);
+    productService.findProductById(1L);
+
+    // then: 첫 조회, 수정, 수정 후 조회에서만 DB 를 읽는다
+    verify(productRepository, times(3)).findByProductId(1L);
+    verify(inventoryService, times(2)).findQuantityByProductId(1L);
+    verify(productCache, times(1)).invalidate(1L);
+  }
+
   @Test
   @DisplayName("조회할 상품이 존재하지 않을 때 예외 발생")
   void findProductByIdFailNotFound(){
@@ -156,6 +260,80 @@ class ProductServiceTest {
     verify(productRepository, times(1)).findByProductId(1L);
   }
 
+  @Test
+  @DisplayName("상품 목록 조회 시 재고 수량은 상품마다가 아니라 한 번에 조회")
+  void findAllProductsLoadsQuantitiesOnce() {
+    // given
+    ReflectionTestUtils.setField(product, "productId", 1L);
+    Product other = Product.builder()
+        .productName("Other Product")
+        .price(BigDecimal.valueOf(500))
+        .build();
+    ReflectionTestUtils.setField(other, "productId", 2L);
+    LongIntHashMap quantities = new LongIntHashMap();
+    quantities.put(1L, 10);
+    quantities.put(2L, 20);
+
+    when(productRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(List.of(product, other)));
+    when(inventoryService.findQuantitiesByProductIds(List.of(1L, 2L))).thenReturn(quantities);
+    when(mapper.convertEntityToResponse(product, 10)).thenReturn(productResponse);
+    when(mapper.convertEntityToResponse(other, 20)).thenReturn(productResponse);
+
+    // when
+    List<ProductResponse> responses = productService.findAllProducts(0);
+
+    // then
+    assertEquals(2, responses.size());
+    verify(inventoryService, times(1)).findQuantitiesByProductIds(List.of(1L, 2L));
+    verify(inventoryService, never()).findQuantityByProductId(any());
+  }
+
+  @Test
+  @DisplayName("상품 검색 시 색인의 관련도 순서를 유지하고, 그 사이 삭제된 상품은 뺀다")
+  void searchProductsKeepsRankingOrder() {
+    // given
+    ReflectionTestUtils.setField(product, "productId", 1L);
+    Product other = Product.builder()
+        .productName("Other Product")
+        .price(BigDecimal.valueOf(500))
+        .build();
+    ReflectionTestUtils.setField(other, "productId", 2L);
+    ProductResponse otherResponse = ProductResponse.builder().productName("Other Product").build();
+    LongIntHashMap quantities = new LongIntHashMap();
+    quantities.put(1L, 10);
+    quantities.put(2L, 20);
+
+    when(productSearchIndex.search("product", 20, 10)).thenReturn(new SearchResult(List.of(2L, 3L, 1L), true));
+    when(productRepository.findAllByProductIdIn(List.of(2L, 3L, 1L))).thenReturn(List.of(product, other));
+    when(inventoryService.findQuantitiesByProductIds(List.of(2L, 1L))).thenReturn(quantities);
+    when(mapper.convertEntityToResponse(other, 20)).thenReturn(otherResponse);
+    when(mapper.convertEntityToResponse(product, 10)).thenReturn(productResponse);
+
+    // when
+    ProductSearchResponse response = productService.searchProducts("product", 2, null);
+
+    // then
+    assertEquals(List.of(otherResponse, productResponse), response.getContent());
+    assertEquals(2, response.getPage());
+    assertEquals(10, response.getSize());
+    assertTrue(response.isHasNext());
+  }
+
+  @Test
+  @DisplayName("검색 결과가 없으면 상품과 재고를 조회하지 않는다")
+  void searchProductsEmpty() {
+    // given
+    when(productSearchIndex.search("없는상품", 0, 10)).thenReturn(new SearchResult(List.of(), false));
+
+    // when
+    ProductSearchResponse response = productService.searchProducts("없는상품", 0, null);
+
+    // then
+    assertTrue(response.getContent().isEmpty());
+    assertFalse(response.isHasNext());
+    verify(productRepository, never()).findAllByProductIdIn(any());
+  }
+
   @Test
   @DisplayName("성공적으로 상품 삭제")
   void deleteProductSuccess() {
@@ -167,6 +345,7 @@ class ProductServiceTest {
 
     // then
     verify(productRepository, times(1)).delete(product);
+    verify(productSearchIndex, times(1)).remove(1L);
   }
 
   @Test
@@ -207,6 +386,29 @@ class ProductServiceTest {
     verify(inventoryService, times(1)).updateQuantity(1L, productRequest.getQuantity());
   }
 
+  @Test
+  @DisplayName("다른 상품의 이름으로 바꾸면 중복 상품 예외가 발생")
+  void updateProductFailDuplicatedName() {
+    // given: 필터가 놓쳐 유니크 제약에서 걸리는 상품명
+    ProductRequest renameRequest = ProductRequest.builder()
+        .productName("Other Product")
+        .description("Test Description")
+        .price(BigDecimal.valueOf(1000))
+        .quantity(10)
+        .build();
+    when(productRepository.findByProductId(1L)).thenReturn(product);
+    when(productNameFilter.mightContain("Other Product")).thenReturn(false);
+    doThrow(new DataIntegrityViolationException("uk_product_name")).when(productRepository).flush();
+
+    // when & then
+    BusinessException exception = assertThrows(BusinessException.class, () -> {
+      productService.updateProduct(1L, renameRequest);
+    });
+
+    assertEquals(ErrorCode.DUPLICATED_PRODUCT, exception.getErrorCode());
+    verify(inventoryService, never()).updateQuantity(any(), anyInt());
+  }
+
   @Test
   @DisplayName("업데이트할 상품이 존재하지 않을 때 예외 발생")
   void updateProductFailNotFound() {
@@ -219,7 +421,7 @@ class ProductServiceTest {
     });
 
     assertEquals(ErrorCode.PRODUCT_NOT_FOUND, exception.getErrorCode());
-    verify(productRepository, never()).save(any(Product.class));
+    verify(productRepository, never()).saveAndFlush(any(Product.class));
   }
 
 
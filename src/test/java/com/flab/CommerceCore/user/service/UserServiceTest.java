@@ -9,9 +9,12 @@ import static org.mockito.Mockito.when;
 
 import com.flab.CommerceCore.common.Mapper.UserMapper;
 import com.flab.CommerceCore.common.exceptions.BusinessException;
+import com.flab.CommerceCore.common.exceptions.ErrorCode;
+import com.flab.CommerceCore.user.cache.UserCache;
 import com.flab.CommerceCore.user.domain.dto.UserRequest;
 import com.flab.CommerceCore.user.domain.dto.UserResponse;
 import com.flab.CommerceCore.user.domain.entity.User;
+import com.flab.CommerceCore.user.filter.UserEmailFilter;
 import com.flab.CommerceCore.user.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -20,6 +23,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
 
 @ExtendWith(MockitoExtension.class)
 class UserServiceTest {
@@ -30,6 +34,12 @@ class UserServiceTest {
   @Mock
   UserMapper mapper;
 
+  @Mock
+  UserEmailFilter emailFilter;
+
+  @Mock
+  UserCache userCache;
+
   @InjectMocks
   UserService userService;
 
@@ -73,7 +83,8 @@ class UserServiceTest {
   @Test
   void createUser_Fail_duplicated(){
     // given: 이미 존재하는 사용자가 있을 경우
-    when(userRepository.findByEmail(EMAIL)).thenReturn(user);
+    when(emailFilter.mightContain(EMAIL)).thenReturn(true);
+    when(userRepository.existsByEmail(EMAIL)).thenReturn(true);
 
     // when & then: 중복된 이메일로 인해 예외가 발생해야 함
     assertThrows(BusinessException.class, ()->{
@@ -81,15 +92,31 @@ class UserServiceTest {
     });
 
     // then: 새로운 사용자는 저장되지 않아야 함
-    verify(userRepository, never()).save(any(User.class));
+    verify(userRepository, never()).saveAndFlush(any(User.class));
+
+  }
+
+  @Test
+  void createUser_Fail_duplicatedMissedByFilter(){
+    // given: 다른 노드에서 가입해 이 노드의 필터에는 없는 이메일
+    when(emailFilter.mightContain(EMAIL)).thenReturn(false);
+    when(userRepository.saveAndFlush(any(User.class))).thenThrow(new DataIntegrityViolationException("email"));
+    when(mapper.convertRequestToEntity(userRequest)).thenReturn(user);
+
+    // when & then: 유니크 제약 위반이 중복 이메일 예외로 바뀌어야 함
+    BusinessException exception = assertThrows(BusinessException.class, () -> {
+      userService.createUser(userRequest);
+    });
 
+    assertEquals(ErrorCode.DUPLICATED_USER_EMAIL, exception.getErrorCode());
+    verify(emailFilter, never()).put(EMAIL);
   }
 
   @Test
   void createUser_Fail_Repository_Error(){
     // given: userRepository 의 save 메서드에서 예외가 발생하도록 설정
-    when(userRepository.findByEmail(EMAIL)).thenReturn(null);
-    when(userRepository.save(any(User.class))).thenThrow(new DataAccessException("data access error") {});
+    when(emailFilter.mightContain(EMAIL)).thenReturn(false);
+    when(userRepository.saveAndFlush(any(User.class))).thenThrow(new DataAccessException("data access error") {});
     when(mapper.convertRequestToEntity(userRequest)).thenReturn(user);
 
     // when & then: createUser 메서드를 호출할 때 예외가 발생해야 함
@@ -97,14 +124,14 @@ class UserServiceTest {
       userService.createUser(userRequest);
     });
 
-    verify(userRepository, times(1)).save(any(User.class));
+    verify(userRepository, times(1)).saveAndFlush(any(User.class));
   }
 
   @Test
   void createUser_Success(){
-    // given: 이메일이 중복되지 않은 경우
-    when(userRepository.findByEmail(EMAIL)).thenReturn(null);
-    when(userRepository.save(any(User.class))).thenReturn(user);
+    // given: 이메일이 중복되지 않은 경우 (필터에 없는 이메일)
+    when(emailFilter.mightContain(EMAIL)).thenReturn(false);
+    when(userRepository.saveAndFlush(any(User.class))).thenReturn(user);
     when(mapper.convertRequestToEntity(userRequest)).thenReturn(user);
     when(mapper.convertEntityToResponse(user)).thenReturn(userResponse);
     // when: 새로운 User 를 생성
@@ -115,9 +142,10 @@ class UserServiceTest {
     assertEquals(EMAIL, userResponse.getEmail());
     assertEquals(NAME, userResponse.getName());
 
-    verify(userRepository, times(1)).findByEmail(EMAIL);
-    verify(userRepository, times(1)).save(any(User.class));
+    verify(userRepository, never()).existsByEmail(EMAIL);
+    verify(userRepository, times(1)).saveAndFlush(any(User.class));
     verify(mapper, times(1)).convertRequestToEntity(userRequest);
+    verify(emailFilter, times(1)).put(EMAIL);
 
   }
 
@@ -197,6 +225,7 @@ class UserServiceTest {
 
     verify(userRepository, times(1)).findByUserId(1L);
     verify(mapper, times(1)).convertEntityToResponse(user);
+    verify(userCache, times(1)).invalidate(1L);
   }
 
 